@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -36,7 +37,7 @@ public class AuthService {
      * 새 사용자를 등록하거나 기존 사용자를 반환
      * 
      * 처리 과정:
-     * 1. 사용자명 중복 확인
+     * 1. 사용자명으로 기존 사용자 조회 (있으면 그대로 반환)
      * 2. 역할 문자열 정규화 (대문자 변환, "ROLE_" 접두사 제거, 중복 제거)
      * 3. 비밀번호 암호화 (BCrypt)
      * 4. 데이터베이스에 저장
@@ -58,9 +59,10 @@ public class AuthService {
      */
     @Transactional
     public AuthUser registerUser(String username, String password, String... roles) {
-        // 기존 사용자가 있으면 반환 (중복 등록 방지)
-        if (authUserRepository.existsByUsername(username)) {
-            return authUserRepository.findByUsername(username).orElseThrow();
+        // 기존 사용자가 있으면 반환 (중복 등록 방지, 존재 확인과 조회를 한 번의 쿼리로 처리)
+        Optional<AuthUser> existing = authUserRepository.findByUsername(username);
+        if (existing.isPresent()) {
+            return existing.get();
         }
         
         // 역할 문자열 정규화
@@ -0,0 +1,91 @@
+package com.example.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커넥션 풀/쿼리 계획 캐시 상태 Actuator 엔드포인트
+ *
+ * - GET /actuator/dbpool : 풀별 사용 중/유휴/대기 커넥션과 포화도(사용 중 / 최대), Hibernate 쿼리 계획 캐시 적중률
+ *
+ * 쿼리 계획 캐시 적중률은 hibernate.generate_statistics=true(운영 프로필)일 때만 집계됩니다.
+ * 공통 모듈은 컴포넌트 스캔 대상이 아니므로 각 서비스의 DataSourcePoolConfig에서 빈으로 등록합니다.
+ */
+@Endpoint(id = "dbpool")
+public class DataSourcePoolEndpoint {
+
+    private final Map<String, DataSource> dataSources;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public DataSourcePoolEndpoint(Map<String, DataSource> dataSources, EntityManagerFactory entityManagerFactory) {
+        this.dataSources = dataSources;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> pools = new LinkedHashMap<>();
+        dataSources.forEach((beanName, dataSource) -> {
+            if (dataSource instanceof HikariDataSource hikari) {
+                pools.put(hikari.getPoolName(), pool(hikari));
+            } else if (dataSource instanceof ReplicaRoutingDataSource routing) {
+                routing.targets().forEach((name, target) -> {
+                    if (target instanceof HikariDataSource hikari) {
+                        pools.put(hikari.getPoolName() != null ? hikari.getPoolName() : name, pool(hikari));
+                    }
+                });
+            }
+        });
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("pools", pools);
+        status.put("queryPlanCache", queryPlanCache());
+        return status;
+    }
+
+    private static Map<String, Object> pool(HikariDataSource hikari) {
+        Map<String, Object> pool = new LinkedHashMap<>();
+        int max = hikari.getMaximumPoolSize();
+        pool.put("maximumPoolSize", max);
+        pool.put("minimumIdle", hikari.getMinimumIdle());
+        HikariPoolMXBean mxBean = hikari.getHikariPoolMXBean();
+        if (mxBean == null) {
+            pool.put("started", false);
+            return pool;
+        }
+        int active = mxBean.getActiveConnections();
+        pool.put("active", active);
+        pool.put("idle", mxBean.getIdleConnections());
+        pool.put("total", mxBean.getTotalConnections());
+        pool.put("threadsAwaitingConnection", mxBean.getThreadsAwaitingConnection());
+        pool.put("saturation", max > 0 ? (double) active / max : 0.0);
+        return pool;
+    }
+
+    private Map<String, Object> queryPlanCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> cache = new LinkedHashMap<>();
+        cache.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        if (!statistics.isStatisticsEnabled()) {
+            return cache;
+        }
+        long hits = statistics.getQueryPlanCacheHitCount();
+        long misses = statistics.getQueryPlanCacheMissCount();
+        cache.put("hits", hits);
+        cache.put("misses", misses);
+        cache.put("hitRatio", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+        cache.put("queryExecutionCount", statistics.getQueryExecutionCount());
+        cache.put("queryExecutionMaxTimeMs", statistics.getQueryExecutionMaxTime());
+        cache.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        return cache;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * Hikari 커넥션 풀 크기 자동 산정
+ *
+ * <서비스>.datasource.pool.auto-size가 true이고 spring.datasource.hikari.maximum-pool-size를 직접 지정하지 않은 경우,
+ * 다음 중 작은 값으로 풀 크기를 정합니다. (최소 유휴 커넥션도 같은 값으로 맞춰 고정 크기 풀로 운영)
+ * - CPU 코어 수 * 2 + spindles (HikariCP 권장 공식)
+ * - db-max-connections / instances (DB가 이 서비스에 허용하는 커넥션을 인스턴스 수로 나눈 값)
+ *
+ * 서비스마다 설정 접두사가 다르므로(member.datasource.pool, order.datasource.pool) 생성 시 서비스 이름을 받습니다.
+ *
+ * 설정 예시 (member-service-prod.yml):
+ *   member:
+ *     datasource:
+ *       pool:
+ *         auto-size: true
+ *         db-max-connections: 100
+ *         instances: 4
+ */
+public class HikariPoolSizer implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(HikariPoolSizer.class);
+
+    private final Environment environment;
+    private final Settings settings;
+
+    public HikariPoolSizer(Environment environment, String name) {
+        this.environment = environment;
+        this.settings = Binder.get(environment)
+                .bind(name + ".datasource.pool", Settings.class)
+                .orElseGet(Settings::new);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+            apply(hikari);
+        }
+        return bean;
+    }
+
+    /**
+     * 풀 크기 적용 (자동 산정을 끄거나 직접 지정한 경우는 그대로 둠)
+     */
+    public void apply(HikariDataSource dataSource) {
+        if (!settings.isAutoSize() || environment.containsProperty("spring.datasource.hikari.maximum-pool-size")) {
+            return;
+        }
+        int size = poolSize(Runtime.getRuntime().availableProcessors(), settings);
+        dataSource.setMaximumPoolSize(size);
+        dataSource.setMinimumIdle(size);
+        log.info("Hikari pool {} sized to {} (cores={}, dbMaxConnections={}, instances={})",
+                dataSource.getPoolName(), size, Runtime.getRuntime().availableProcessors(),
+                settings.getDbMaxConnections(), settings.getInstances());
+    }
+
+    /**
+     * 코어 수와 DB 커넥션 한도로 풀 크기 계산
+     */
+    static int poolSize(int cores, Settings settings) {
+        int size = cores * 2 + settings.getSpindles();
+        if (settings.getDbMaxConnections() > 0) {
+            size = Math.min(size, settings.getDbMaxConnections() / Math.max(1, settings.getInstances()));
+        }
+        return Math.max(1, size);
+    }
+
+    /**
+     * 풀 크기 산정 설정 (<서비스>.datasource.pool)
+     */
+    public static class Settings {
+
+        /**
+         * 자동 산정 여부
+         */
+        private boolean autoSize;
+
+        /**
+         * DB가 이 서비스에 허용하는 최대 커넥션 수 (0이면 제한 없음)
+         */
+        private int dbMaxConnections;
+
+        /**
+         * 같은 DB를 사용하는 서비스 인스턴스 수
+         */
+        private int instances = 1;
+
+        /**
+         * 동시에 처리할 수 있는 디스크 I/O 수 (SSD/캐시 적중이 대부분이면 1)
+         */
+        private int spindles = 1;
+
+        public boolean isAutoSize() {
+            return autoSize;
+        }
+
+        public void setAutoSize(boolean autoSize) {
+            this.autoSize = autoSize;
+        }
+
+        public int getDbMaxConnections() {
+            return dbMaxConnections;
+        }
+
+        public void setDbMaxConnections(int dbMaxConnections) {
+            this.dbMaxConnections = dbMaxConnections;
+        }
+
+        public int getInstances() {
+            return instances;
+        }
+
+        public void setInstances(int instances) {
+            this.instances = instances;
+        }
+
+        public int getSpindles() {
+            return spindles;
+        }
+
+        public void setSpindles(int spindles) {
+            this.spindles = spindles;
+        }
+    }
+}
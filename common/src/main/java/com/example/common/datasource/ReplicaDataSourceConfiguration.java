@@ -0,0 +1,83 @@
+package com.example.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 데이터소스 설정 (읽기 전용 복제본 라우팅) 공통 부분
+ *
+ * 각 서비스는 이 클래스를 상속한 @Configuration에 서비스 이름을 넘기고,
+ * @ConditionalOnProperty(prefix = "<서비스>.datasource", name = "replicas[0].url")로 복제본이 설정된 경우에만 적용합니다.
+ *
+ * - 주 DB: spring.datasource (+ spring.datasource.hikari 풀 설정, <서비스>.datasource.pool 자동 산정), 풀 이름 <서비스>-primary
+ * - 복제본: <서비스>.datasource.replicas, 풀 이름 <서비스>-<복제본 이름>
+ * - 클래스 단위 @Transactional(readOnly = true) 조회는 복제본으로, 쓰기 메서드는 주 DB로 갑니다.
+ */
+public abstract class ReplicaDataSourceConfiguration {
+
+    private final String name;
+
+    protected ReplicaDataSourceConfiguration(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 주 DB와 복제본을 묶은 라우팅 데이터소스
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             Environment environment) {
+        ReplicaDataSourceProperties replicaProperties = Binder.get(environment)
+                .bind(name + ".datasource", ReplicaDataSourceProperties.class)
+                .orElseGet(ReplicaDataSourceProperties::new);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(name + "-primary");
+        new HikariPoolSizer(environment, name).apply(primary);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaDataSourceProperties.Replica> configured = replicaProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = configured.get(i);
+            String replicaName = replica.getName() != null ? replica.getName() : "replica-" + (i + 1);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name + "-" + replicaName);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.put(replicaName, dataSource);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas,
+                replicaProperties.getSelection(), replicaProperties.getMaxLag(), replicaProperties.getLagQuery());
+        routing.start(replicaProperties.getHealthCheckInterval());
+        return routing;
+    }
+
+    /**
+     * JPA/트랜잭션이 사용하는 데이터소스
+     *
+     * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어야 읽기 전용 여부에 따라 라우팅할 수 있습니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
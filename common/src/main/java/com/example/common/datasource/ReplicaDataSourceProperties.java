@@ -0,0 +1,162 @@
+package com.example.common.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(Read Replica) 데이터소스 설정
+ *
+ * replicas가 하나 이상 있으면 읽기 전용 트랜잭션은 복제본으로, 나머지는 spring.datasource(주 DB)로 보냅니다.
+ * 비어 있으면 기존처럼 spring.datasource 하나만 사용합니다.
+ * 서비스마다 접두사가 다르므로(member.datasource, order.datasource) ReplicaDataSourceConfiguration이 서비스 이름으로 바인딩합니다.
+ *
+ * 설정 예시 (member-service.yml):
+ *   member:
+ *     datasource:
+ *       selection: least-connections
+ *       max-lag: 5s
+ *       lag-query: SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+ *       health-check-interval: 5s
+ *       replicas:
+ *         - url: jdbc:postgresql://member-replica-1:5432/member
+ *           username: member_ro
+ *           password: ...
+ */
+public class ReplicaDataSourceProperties {
+
+    /**
+     * 복제본 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 복제본 선택 방식
+     */
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /**
+     * 허용하는 최대 복제 지연 (초과한 복제본은 지연이 줄어들 때까지 제외)
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연(초)을 한 값으로 반환하는 쿼리 (없으면 연결 가능 여부만 확인)
+     */
+    private String lagQuery;
+
+    /**
+     * 복제본 상태 확인 간격
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public Selection getSelection() {
+        return selection;
+    }
+
+    public void setSelection(Selection selection) {
+        this.selection = selection;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    /**
+     * 복제본 선택 방식
+     */
+    public enum Selection {
+        /** 돌아가며 선택 */
+        ROUND_ROBIN,
+        /** 사용 중인 커넥션이 가장 적은 복제본 선택 */
+        LEAST_CONNECTIONS
+    }
+
+    /**
+     * 복제본 접속 정보
+     */
+    public static class Replica {
+
+        /**
+         * 로그에 표시할 이름 (없으면 replica-순번)
+         */
+        private String name;
+
+        private String url;
+        private String username;
+        private String password;
+
+        /**
+         * 커넥션 풀 최대 크기
+         */
+        private int maximumPoolSize = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스
+ *
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true)) 안이면 복제본 중 하나, 그 밖에는 주 DB의 커넥션을 반환
+ * - 복제본 선택: 라운드 로빈 또는 사용 중인 커넥션이 가장 적은 복제본
+ * - 주기적으로 복제 지연을 확인하여 허용치를 넘거나 연결할 수 없는 복제본은 제외
+ * - 사용할 수 있는 복제본이 없으면 주 DB로 대신함
+ *
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션 시작 후에 정해지므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 첫 쿼리 시점에 커넥션을 얻도록 해야 합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaDataSourceProperties.Selection selection;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * 현재 사용할 수 있는 복제본 (상태 확인 시 교체)
+     */
+    private volatile List<Replica> available;
+
+    private ScheduledExecutorService healthChecker;
+
+    /**
+     * @param primary 주 DB
+     * @param replicas 이름별 복제본 (순서 유지)
+     * @param selection 복제본 선택 방식
+     * @param maxLag 허용하는 최대 복제 지연
+     * @param lagQuery 복제 지연(초) 조회 쿼리 (없으면 연결 가능 여부만 확인)
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReplicaDataSourceProperties.Selection selection,
+                                    Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.selection = selection;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.available = this.replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    /**
+     * 현재 트랜잭션에 맞는 데이터소스 선택
+     */
+    DataSource determineTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary;
+        }
+        List<Replica> candidates = available;
+        if (candidates.isEmpty()) {
+            return primary;
+        }
+        if (selection == ReplicaDataSourceProperties.Selection.LEAST_CONNECTIONS) {
+            Replica least = candidates.get(0);
+            int leastActive = least.activeConnections();
+            for (int i = 1; i < candidates.size(); i++) {
+                int active = candidates.get(i).activeConnections();
+                if (active < leastActive) {
+                    least = candidates.get(i);
+                    leastActive = active;
+                }
+            }
+            return least.dataSource;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size())).dataSource;
+    }
+
+    /**
+     * 복제본 상태 확인을 시작 (즉시 한 번 확인한 뒤 주기적으로 반복)
+     */
+    public void start(Duration interval) {
+        checkReplicas();
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 모든 복제본의 연결 가능 여부와 복제 지연을 확인하여 사용할 복제본 목록을 갱신
+     */
+    public void checkReplicas() {
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            replica.healthy = check(replica);
+            if (replica.healthy) {
+                healthy.add(replica);
+            }
+            if (wasHealthy && !replica.healthy) {
+                log.warn("Replica {} excluded from read routing", replica.name);
+            } else if (!wasHealthy && replica.healthy) {
+                log.info("Replica {} restored to read routing", replica.name);
+            }
+        }
+        available = List.copyOf(healthy);
+    }
+
+    private boolean check(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!StringUtils.hasText(lagQuery)) {
+                return connection.isValid(1);
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                double lagSeconds = rs.next() ? rs.getDouble(1) : 0;
+                if (lagSeconds * 1000 > maxLag.toMillis()) {
+                    log.debug("Replica {} lag {}s exceeds {}", replica.name, lagSeconds, maxLag);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            log.debug("Replica {} health check failed: {}", replica.name, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 주 DB와 모든 복제본 (이름별, 풀 상태 조회용)
+     */
+    public Map<String, DataSource> targets() {
+        Map<String, DataSource> targets = new LinkedHashMap<>();
+        targets.put("primary", primary);
+        replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        return targets;
+    }
+
+    /**
+     * 현재 사용할 수 있는 복제본 이름
+     */
+    public List<String> availableReplicas() {
+        return available.stream().map(replica -> replica.name).toList();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * 사용 중인 커넥션 수 (Hikari 풀이 아니거나 아직 시작 전이면 0)
+         */
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.common.discovery;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * Eureka 등록 상태 관리 자동 설정
+ *
+ * 공통 모듈은 컴포넌트 스캔 대상이 아니므로 META-INF/spring/...AutoConfiguration.imports에 등록하여
+ * 공통 모듈을 의존하는 모든 서비스(Gateway, Member, Order, Auth)에 DiscoveryRegistrationLifecycle을 적용합니다.
+ * 설정은 discovery.registration.check-interval, discovery.registration.drain-delay 입니다.
+ */
+@AutoConfiguration
+@ConditionalOnClass({ApplicationInfoManager.class, HealthEndpoint.class})
+public class DiscoveryRegistrationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public DiscoveryRegistrationLifecycle discoveryRegistrationLifecycle(
+            ObjectProvider<ApplicationInfoManager> applicationInfoManager,
+            ObjectProvider<HealthEndpoint> healthEndpoint,
+            ApplicationAvailability applicationAvailability,
+            @Value("${discovery.registration.check-interval:2s}") Duration checkInterval,
+            @Value("${discovery.registration.drain-delay:10s}") Duration drainDelay) {
+        return new DiscoveryRegistrationLifecycle(applicationInfoManager, healthEndpoint, applicationAvailability,
+                checkInterval, drainDelay);
+    }
+}
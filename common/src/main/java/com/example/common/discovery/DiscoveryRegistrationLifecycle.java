@@ -0,0 +1,174 @@
+package com.example.common.discovery;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eureka 등록 상태 관리 (준비된 뒤에만 UP, 종료 시 먼저 DOWN으로 알리고 대기)
+ *
+ * 시작:
+ * - eureka.instance.initial-status=STARTING으로 등록 (다른 서비스의 DiscoveryClient는 UP 인스턴스만 사용)
+ * - readiness 헬스 그룹(/actuator/health/readiness)이 UP이 되면 UP으로 변경
+ *   (그룹 구성은 서비스마다 다름: Member/Order는 readinessState + DB + 워밍업, Auth는 readinessState + DB,
+ *   Gateway는 readinessState)
+ *
+ * 실행 중: check-interval마다 readiness 그룹을 확인하여 UP이 아니면 OUT_OF_SERVICE, 다시 UP이면 UP
+ * 상태를 바꾸면 Eureka 클라이언트가 바로 서버에 알립니다. (다음 하트비트를 기다리지 않음)
+ *
+ * 종료 (웹 서버 graceful shutdown보다 먼저 실행):
+ * - DOWN으로 알린 뒤 drain-delay 동안 요청을 계속 처리
+ *   (다른 서비스가 레지스트리를 다시 받아 로드밸런서 캐시를 비울 시간, registry-fetch-interval보다 길게)
+ * - 이후 진행 중인 요청은 server.shutdown=graceful이 마무리하고, 등록 해제는 Eureka 클라이언트가 처리
+ *
+ * Eureka 클라이언트가 꺼져 있으면(eureka.client.enabled=false) 아무것도 하지 않습니다.
+ * 빈 등록은 DiscoveryRegistrationAutoConfiguration이 합니다. (공통 모듈을 의존하는 서비스에 자동 적용)
+ */
+public class DiscoveryRegistrationLifecycle implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(DiscoveryRegistrationLifecycle.class);
+
+    /**
+     * 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)보다 먼저 멈추도록
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 512;
+
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final ObjectProvider<HealthEndpoint> healthEndpoint;
+    private final ApplicationAvailability applicationAvailability;
+    private final Duration checkInterval;
+    private final Duration drainDelay;
+    private volatile ScheduledExecutorService scheduler;
+    private volatile boolean running;
+    private volatile boolean registered;
+
+    public DiscoveryRegistrationLifecycle(ObjectProvider<ApplicationInfoManager> applicationInfoManager,
+                                          ObjectProvider<HealthEndpoint> healthEndpoint,
+                                          ApplicationAvailability applicationAvailability,
+                                          Duration checkInterval,
+                                          Duration drainDelay) {
+        this.applicationInfoManager = applicationInfoManager;
+        this.healthEndpoint = healthEndpoint;
+        this.applicationAvailability = applicationAvailability;
+        this.checkInterval = checkInterval;
+        this.drainDelay = drainDelay;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (applicationInfoManager.getIfAvailable() == null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("discovery-registration").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::updateStatus,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 시작 완료(ACCEPTING_TRAFFIC) 등 readiness 상태가 바뀌면 다음 주기를 기다리지 않고 확인
+     */
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        ScheduledExecutorService current = scheduler;
+        if (current != null && !current.isShutdown()) {
+            current.execute(this::updateStatus);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        ApplicationInfoManager infoManager = applicationInfoManager.getIfAvailable();
+        if (scheduler == null || infoManager == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        if (!registered) {
+            return;
+        }
+        infoManager.setInstanceStatus(InstanceStatus.DOWN);
+        log.info("Marked instance DOWN in Eureka, draining for {}ms before shutdown", drainDelay.toMillis());
+        try {
+            Thread.sleep(drainDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * UP으로 등록된 적이 있는지 (종료 시 DOWN + drain 대상)
+     */
+    boolean isRegistered() {
+        return registered;
+    }
+
+    /**
+     * readiness 상태를 Eureka 인스턴스 상태에 반영
+     */
+    private void updateStatus() {
+        try {
+            ApplicationInfoManager infoManager = applicationInfoManager.getObject();
+            boolean ready = isReady();
+            InstanceStatus current = infoManager.getInfo().getStatus();
+            if (ready && current != InstanceStatus.UP) {
+                infoManager.setInstanceStatus(InstanceStatus.UP);
+                if (!registered) {
+                    log.info("Instance ready, registered as UP in Eureka ({}ms after JVM start)",
+                            ManagementFactory.getRuntimeMXBean().getUptime());
+                } else {
+                    log.info("Instance ready again, marked UP in Eureka");
+                }
+                registered = true;
+            } else if (ready && !registered) {
+                // initial-status 없이 UP으로 등록된 경우에도 종료 시 DOWN + drain을 하도록
+                registered = true;
+                log.info("Instance ready, already UP in Eureka");
+            } else if (!ready && registered && current == InstanceStatus.UP) {
+                infoManager.setInstanceStatus(InstanceStatus.OUT_OF_SERVICE);
+                log.warn("Instance not ready, marked OUT_OF_SERVICE in Eureka");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to update Eureka instance status", e);
+        }
+    }
+
+    /**
+     * readiness 헬스 그룹 상태 (그룹이 없으면 애플리케이션 readiness 상태)
+     */
+    private boolean isReady() {
+        HealthEndpoint endpoint = healthEndpoint.getIfAvailable();
+        HealthComponent readiness = endpoint != null ? endpoint.healthForPath("readiness") : null;
+        if (readiness == null) {
+            return applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+        }
+        return Status.UP.equals(readiness.getStatus());
+    }
+}
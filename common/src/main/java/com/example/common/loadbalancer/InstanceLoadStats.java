@@ -0,0 +1,271 @@
+package com.example.common.loadbalancer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 인스턴스별 부하 통계 (LoadAwareLoadBalancer가 인스턴스를 고를 때 사용)
+ *
+ * LoadAwareLoadBalancerLifecycle이 호출 시작/완료 때마다 갱신합니다.
+ * - inflight: 지금 보내 놓고 응답을 기다리는 호출 수
+ *   (취소된 호출은 완료가 보고되지 않으므로, inflight-timeout이 지난 호출은 끝난 것으로 보고 뺌)
+ * - 응답 시간: peak EWMA (느린 응답은 바로 반영하고, 빠른 응답은 latency-decay에 걸쳐 서서히 반영)
+ *   호출이 없는 동안에도 시간에 따라 줄어들어, 느렸던 인스턴스도 다시 시도해 볼 기회를 얻음
+ * - 연속 실패: 연결 실패/타임아웃, 502/503/504 응답 (성공하면 0으로)
+ *
+ * 이상 인스턴스 제외(outlier ejection):
+ * - 연속 실패가 consecutive-failures번이 되면 base-ejection-time × 제외 횟수(최대 max-ejection-time) 동안 제외
+ * - 연결 거부는 한 번에 제외 (인스턴스가 내려간 경우)
+ * - 제외가 끝난 뒤 max-ejection-time 동안 다시 제외되지 않으면 제외 횟수 초기화
+ */
+public class InstanceLoadStats {
+
+    private static final Logger log = LoggerFactory.getLogger(InstanceLoadStats.class);
+
+    /**
+     * 응답 시간 하한 (표본이 없는 인스턴스의 비용이 0이 되지 않도록)
+     */
+    private static final double MIN_LATENCY_NANOS = 1_000;
+
+    private final double decayNanos;
+    private final int consecutiveFailuresToEject;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final long inflightTimeoutNanos;
+    private final Map<String, Instance> instances = new ConcurrentHashMap<>();
+
+    public InstanceLoadStats(Duration latencyDecay, int consecutiveFailuresToEject,
+                             Duration baseEjectionTime, Duration maxEjectionTime, Duration inflightTimeout) {
+        this.decayNanos = latencyDecay.toNanos();
+        this.consecutiveFailuresToEject = consecutiveFailuresToEject;
+        this.baseEjectionNanos = baseEjectionTime.toNanos();
+        this.maxEjectionNanos = maxEjectionTime.toNanos();
+        this.inflightTimeoutNanos = inflightTimeout.toNanos();
+    }
+
+    /**
+     * 호출 시작
+     *
+     * @param call 호출을 구분하는 객체 (완료 때 같은 객체로 보고, 같은지는 동일성으로 비교)
+     */
+    public void onStart(ServiceInstance instance, Object call) {
+        instance(instance).inflight.put(new Call(call), System.nanoTime());
+    }
+
+    /**
+     * 호출 완료 (시작부터 걸린 시간을 응답 시간에 반영)
+     *
+     * @param failure 인스턴스 상태 때문으로 보이는 실패인지
+     */
+    public void onComplete(ServiceInstance instance, Object call, boolean failure) {
+        Instance stats = instance(instance);
+        Long startedAt = stats.inflight.remove(new Call(call));
+        long now = System.nanoTime();
+        synchronized (stats) {
+            if (startedAt != null) {
+                stats.observe(now - startedAt, now, decayNanos);
+            }
+            if (!failure) {
+                stats.consecutiveFailures = 0;
+                if (stats.ejections > 0 && now - stats.ejectedUntil > maxEjectionNanos) {
+                    stats.ejections = 0;
+                }
+                return;
+            }
+            stats.consecutiveFailures++;
+            if (stats.consecutiveFailures >= consecutiveFailuresToEject) {
+                eject(instance, stats, now, consecutiveFailuresToEject + " consecutive failures");
+            }
+        }
+    }
+
+    /**
+     * 연결 실패 (연결 거부 등)
+     *
+     * 인스턴스가 내려갔거나 포트를 닫은 경우이므로 연속 실패 수를 기다리지 않고 바로 제외합니다.
+     * (Eureka에서 빠지기 전까지 요청이 계속 가지 않도록, 바로 실패한 응답 시간은 반영하지 않음)
+     */
+    public void onConnectFailure(ServiceInstance instance, Object call) {
+        Instance stats = instance(instance);
+        stats.inflight.remove(new Call(call));
+        synchronized (stats) {
+            stats.consecutiveFailures++;
+            eject(instance, stats, System.nanoTime(), "connection failure");
+        }
+    }
+
+    private void eject(ServiceInstance instance, Instance stats, long now, String reason) {
+        if (now - stats.ejectedUntil < 0) {
+            return;
+        }
+        stats.ejections++;
+        long ejection = Math.min(baseEjectionNanos * stats.ejections, maxEjectionNanos);
+        stats.ejectedUntil = now + ejection;
+        stats.consecutiveFailures = 0;
+        log.warn("Ejecting {} instance {} for {}ms after {}",
+                instance.getServiceId(), stats.address, ejection / 1_000_000, reason);
+    }
+
+    /**
+     * 호출 취소 (응답 시간과 실패 여부에 반영하지 않고 진행 중인 호출에서만 뺌)
+     */
+    public void onDiscard(ServiceInstance instance, Object call) {
+        instance(instance).inflight.remove(new Call(call));
+    }
+
+    /**
+     * 인스턴스 비용 (낮을수록 먼저 선택)
+     *
+     * 응답 시간 × (inflight + 1) × (연속 실패 + 1)
+     * 지금 몰려 있거나 느리거나 실패하기 시작한 인스턴스일수록 커집니다.
+     */
+    public double cost(ServiceInstance instance, long now) {
+        Instance stats = instance(instance);
+        double latency;
+        int failures;
+        synchronized (stats) {
+            latency = stats.latencyAt(now, decayNanos);
+            failures = stats.consecutiveFailures;
+        }
+        return Math.max(latency, MIN_LATENCY_NANOS) * (stats.inflight(now, inflightTimeoutNanos) + 1) * (failures + 1);
+    }
+
+    /**
+     * 제외 종료 시각 (System.nanoTime 기준, 제외 중이 아니면 지금보다 이전)
+     */
+    public long ejectedUntil(ServiceInstance instance) {
+        return instance(instance).ejectedUntil;
+    }
+
+    /**
+     * 목록에 없는 인스턴스의 통계 제거 (디스커버리 목록이 바뀌었을 때)
+     */
+    public void retain(String serviceId, Collection<ServiceInstance> current) {
+        Set<String> keys = current.stream().map(InstanceLoadStats::key).collect(Collectors.toSet());
+        instances.keySet().removeIf(key -> key.startsWith(serviceId + "/") && !keys.contains(key));
+    }
+
+    /**
+     * 서비스/인스턴스별 현재 통계 (Actuator 엔드포인트용)
+     */
+    public Map<String, Map<String, Map<String, Object>>> snapshot() {
+        long now = System.nanoTime();
+        Map<String, Map<String, Map<String, Object>>> services = new LinkedHashMap<>();
+        instances.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    Instance stats = entry.getValue();
+                    Map<String, Object> values = new LinkedHashMap<>();
+                    synchronized (stats) {
+                        values.put("inflight", stats.inflight(now, inflightTimeoutNanos));
+                        values.put("latencyMillis", Math.round(stats.latencyAt(now, decayNanos) / 10_000) / 100.0);
+                        values.put("consecutiveFailures", stats.consecutiveFailures);
+                        values.put("ejections", stats.ejections);
+                        values.put("ejectedForMillis", Math.max(stats.ejectedUntil - now, 0) / 1_000_000);
+                    }
+                    services.computeIfAbsent(stats.serviceId, id -> new LinkedHashMap<>()).put(stats.address, values);
+                });
+        return services;
+    }
+
+    private Instance instance(ServiceInstance instance) {
+        return instances.computeIfAbsent(key(instance), key -> newInstance(instance));
+    }
+
+    /**
+     * 새 인스턴스는 같은 서비스 인스턴스들의 평균 응답 시간에서 시작
+     * (표본이 없다고 가장 빠른 인스턴스로 보고 요청을 몰아주지 않도록)
+     */
+    private Instance newInstance(ServiceInstance instance) {
+        String prefix = instance.getServiceId() + "/";
+        long now = System.nanoTime();
+        double average = instances.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .mapToDouble(entry -> {
+                    synchronized (entry.getValue()) {
+                        return entry.getValue().latencyAt(now, decayNanos);
+                    }
+                })
+                .average()
+                .orElse(0);
+        Instance stats = new Instance(instance.getServiceId(), instance.getHost() + ":" + instance.getPort());
+        stats.latency = average;
+        stats.updatedAt = now;
+        // 제외된 적 없음: 선택 시각(now)이 이 시각보다 조금 앞서도 제외 중으로 보지 않도록 충분히 이전으로
+        stats.ejectedUntil = now - maxEjectionNanos;
+        return stats;
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "/" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static final class Instance {
+
+        private final String serviceId;
+        private final String address;
+        private final Map<Call, Long> inflight = new ConcurrentHashMap<>();
+        private double latency;
+        private long updatedAt;
+        private int consecutiveFailures;
+        private int ejections;
+        private volatile long ejectedUntil;
+        private volatile long inflightCheckedAt = System.nanoTime();
+
+        private Instance(String serviceId, String address) {
+            this.serviceId = serviceId;
+            this.address = address;
+        }
+
+        private void observe(long sample, long now, double decayNanos) {
+            double current = latencyAt(now, decayNanos);
+            if (sample > current) {
+                latency = sample;
+            } else {
+                double weight = Math.exp(-(now - updatedAt) / decayNanos);
+                latency = latency * weight + sample * (1 - weight);
+            }
+            updatedAt = now;
+        }
+
+        private double latencyAt(long now, double decayNanos) {
+            return latency * Math.exp(-(now - updatedAt) / decayNanos);
+        }
+
+        /**
+         * 진행 중인 호출 수 (1초에 한 번 timeout이 지난 호출 정리)
+         */
+        private int inflight(long now, long timeoutNanos) {
+            if (now - inflightCheckedAt > 1_000_000_000L) {
+                inflightCheckedAt = now;
+                inflight.values().removeIf(startedAt -> now - startedAt > timeoutNanos);
+            }
+            return inflight.size();
+        }
+    }
+
+    /**
+     * 진행 중인 호출 키 (요청 객체의 equals와 상관없이 같은 객체인지로 비교)
+     */
+    private record Call(Object request) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Call call && call.request == request;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(request);
+        }
+    }
+}
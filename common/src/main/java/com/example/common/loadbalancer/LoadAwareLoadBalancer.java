@@ -0,0 +1,109 @@
+package com.example.common.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 기반 로드밸런서 (power of two choices)
+ *
+ * 라운드 로빈은 인스턴스 상태와 상관없이 똑같이 나눠 보내므로, 느려지거나 요청이 몰린 인스턴스에도 같은 양을 보냅니다.
+ * 이 로드밸런서는 다음 순서로 인스턴스를 고릅니다.
+ * 1. 이상 인스턴스로 제외된 인스턴스를 뺌 (max-ejection-percent를 넘는 만큼은 제외가 먼저 끝나는 순서로 다시 포함)
+ * 2. 같은 영역(zone) 인스턴스가 있으면 그중에서만 고름 (spring.cloud.loadbalancer.zone, 인스턴스 메타데이터 zone)
+ * 3. 무작위로 두 개를 뽑아 비용(InstanceLoadStats.cost: 응답 시간 × 진행 중인 호출 수)이 낮은 쪽 선택
+ *
+ * 전체를 비교해 가장 한가한 인스턴스를 고르면 여러 클라이언트가 같은 인스턴스로 몰리므로 두 개만 비교합니다.
+ */
+public class LoadAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final InstanceLoadStats stats;
+    private final String zone;
+    private final int maxEjectionPercent;
+    private volatile List<ServiceInstance> lastInstances;
+
+    public LoadAwareLoadBalancer(String serviceId, ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                 InstanceLoadStats stats, String zone, int maxEjectionPercent) {
+        this.serviceId = serviceId;
+        this.supplierProvider = supplierProvider;
+        this.stats = stats;
+        this.zone = zone;
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (instances != lastInstances) {
+            lastInstances = instances;
+            stats.retain(serviceId, instances);
+        }
+        long now = System.nanoTime();
+        List<ServiceInstance> candidates = preferZone(withoutEjected(instances, now));
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return new DefaultResponse(stats.cost(b, now) < stats.cost(a, now) ? b : a);
+    }
+
+    private List<ServiceInstance> withoutEjected(List<ServiceInstance> instances, long now) {
+        List<ServiceInstance> available = new ArrayList<>(instances.size());
+        List<ServiceInstance> ejected = new ArrayList<>();
+        for (ServiceInstance instance : instances) {
+            if (stats.ejectedUntil(instance) - now > 0) {
+                ejected.add(instance);
+            } else {
+                available.add(instance);
+            }
+        }
+        if (ejected.isEmpty()) {
+            return instances;
+        }
+        int maxEjected = Math.min(Math.max(instances.size() * maxEjectionPercent / 100, 1), instances.size() - 1);
+        if (ejected.size() > maxEjected) {
+            ejected.sort(Comparator.comparingLong(instance -> stats.ejectedUntil(instance) - now));
+            available.addAll(ejected.subList(0, ejected.size() - maxEjected));
+        }
+        return available;
+    }
+
+    private List<ServiceInstance> preferZone(List<ServiceInstance> instances) {
+        if (!StringUtils.hasText(zone)) {
+            return instances;
+        }
+        List<ServiceInstance> sameZone = instances.stream()
+                .filter(instance -> zone.equalsIgnoreCase(instance.getMetadata().get("zone")))
+                .toList();
+        return sameZone.isEmpty() ? instances : sameZone;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.common.loadbalancer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 부하 기반 로드밸런서 설정
+ *
+ * 기본 라운드 로빈은 인스턴스 상태와 상관없이 요청을 똑같이 나누므로,
+ * 모든 서비스의 로드밸런서를 LoadAwareLoadBalancer(power of two choices)로 바꿉니다.
+ * - 진행 중인 호출 수와 응답 시간(EWMA)이 낮은 인스턴스 선택
+ * - 연속 실패한 인스턴스는 일정 시간 제외 (outlier ejection)
+ * - 같은 영역(spring.cloud.loadbalancer.zone, Eureka 메타데이터 zone) 인스턴스 우선
+ *
+ * 공통 모듈은 컴포넌트 스캔 대상이 아니므로 각 서비스의 config/LoadBalancerConfig에서 @Import합니다.
+ * (Gateway: lb:// 라우트, Order Service: OpenFeign/WebClient의 Member Service 호출)
+ * 설정은 loadbalancer.load-aware.* (LoadAwareLoadBalancerProperties)이며,
+ * loadbalancer.load-aware.enabled=false 로 기본 라운드 로빈으로 되돌릴 수 있습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "loadbalancer.load-aware.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(LoadAwareLoadBalancerProperties.class)
+@LoadBalancerClients(defaultConfiguration = LoadAwareLoadBalancerConfiguration.class)
+public class LoadAwareLoadBalancerConfig {
+
+    @Bean
+    public InstanceLoadStats instanceLoadStats(LoadAwareLoadBalancerProperties properties) {
+        LoadAwareLoadBalancerProperties.Outlier outlier = properties.getOutlier();
+        return new InstanceLoadStats(properties.getLatencyDecay(), outlier.getConsecutiveFailures(),
+                outlier.getBaseEjectionTime(), outlier.getMaxEjectionTime(), properties.getInflightTimeout());
+    }
+
+    @Bean
+    public LoadAwareLoadBalancerLifecycle loadAwareLoadBalancerLifecycle(InstanceLoadStats instanceLoadStats) {
+        return new LoadAwareLoadBalancerLifecycle(instanceLoadStats);
+    }
+
+    @Bean
+    public LoadBalancerEndpoint loadBalancerEndpoint(InstanceLoadStats instanceLoadStats) {
+        return new LoadBalancerEndpoint(instanceLoadStats);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.config.LoadBalancerZoneConfig;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 서비스별 로드밸런서 컨텍스트 설정 (@LoadBalancerClients defaultConfiguration)
+ *
+ * Spring Cloud LoadBalancer가 서비스마다 만드는 하위 컨텍스트에 등록되므로 @Configuration을 붙이지 않습니다.
+ * (컴포넌트 스캔에 잡히면 모든 서비스가 같은 로드밸런서를 공유하게 됨)
+ * 인스턴스 목록은 기본 ServiceInstanceListSupplier(디스커버리 + 캐시)를 그대로 사용합니다.
+ */
+public class LoadAwareLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> loadAwareLoadBalancer(Environment environment,
+                                                                     LoadBalancerClientFactory loadBalancerClientFactory,
+                                                                     InstanceLoadStats instanceLoadStats,
+                                                                     LoadBalancerZoneConfig zoneConfig,
+                                                                     LoadAwareLoadBalancerProperties properties) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LoadAwareLoadBalancer(serviceId,
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                instanceLoadStats, zoneConfig.getZone(), properties.getOutlier().getMaxEjectionPercent());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.Set;
+
+/**
+ * 로드밸런싱된 호출의 시작/완료를 InstanceLoadStats에 기록
+ *
+ * Spring Cloud LoadBalancer가 Gateway의 lb:// 라우트(ReactiveLoadBalancerClientFilter),
+ * OpenFeign 호출(FeignBlockingLoadBalancerClient), WebClient 호출에서 모두 호출하므로 서비스마다 같은 통계가 쌓입니다.
+ * 호출은 로드밸런서 요청 객체(Request)로 구분합니다. (시작과 완료에 같은 객체가 전달됨)
+ *
+ * 헤지 요청 취소로 중단된 호출(InterruptedIOException)은 인스턴스 실패로 세지 않습니다.
+ */
+public class LoadAwareLoadBalancerLifecycle implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    /**
+     * 인스턴스 상태 때문으로 보는 응답 코드 (그 밖의 4xx/5xx는 요청 문제로 보고 실패로 세지 않음)
+     */
+    private static final Set<Integer> FAILURE_STATUSES = Set.of(502, 503, 504);
+
+    private final InstanceLoadStats stats;
+
+    public LoadAwareLoadBalancerLifecycle(InstanceLoadStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        stats.onStart(lbResponse.getServer(), request);
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        Object call = completionContext.getLoadBalancerRequest();
+        if (completionContext.status() == CompletionContext.Status.DISCARD
+                || isCancelled(completionContext.getThrowable())) {
+            stats.onDiscard(lbResponse.getServer(), call);
+            return;
+        }
+        if (isConnectFailure(completionContext.getThrowable())) {
+            stats.onConnectFailure(lbResponse.getServer(), call);
+            return;
+        }
+        stats.onComplete(lbResponse.getServer(), call, isFailure(completionContext));
+    }
+
+    private static boolean isCancelled(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedIOException && !(cause instanceof SocketTimeoutException)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConnectFailure(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFailure(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        return completionContext.getClientResponse() instanceof ResponseData response
+                && response.getHttpStatus() != null
+                && FAILURE_STATUSES.contains(response.getHttpStatus().value());
+    }
+}
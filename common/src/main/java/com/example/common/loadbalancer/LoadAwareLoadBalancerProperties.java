@@ -0,0 +1,130 @@
+package com.example.common.loadbalancer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 부하 기반 로드밸런서 설정
+ *
+ * 설정 예시 (gateway-service.yml, order-service.yml):
+ *   loadbalancer:
+ *     load-aware:
+ *       enabled: true
+ *       latency-decay: 10s
+ *       inflight-timeout: 60s
+ *       outlier:
+ *         consecutive-failures: 5
+ *         base-ejection-time: 30s
+ *         max-ejection-time: 300s
+ *         max-ejection-percent: 50
+ */
+@ConfigurationProperties(prefix = "loadbalancer.load-aware")
+public class LoadAwareLoadBalancerProperties {
+
+    /**
+     * 부하 기반 로드밸런서 사용 여부 (false면 Spring Cloud LoadBalancer 기본 라운드 로빈)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 응답 시간 이동 평균의 감쇠 시간
+     * 짧을수록 최근 응답 시간을 빨리 반영하고, 호출이 없는 인스턴스의 응답 시간도 빨리 잊습니다.
+     */
+    private Duration latencyDecay = Duration.ofSeconds(10);
+
+    /**
+     * 완료가 보고되지 않은 호출을 진행 중으로 보는 최대 시간
+     * 클라이언트 연결 종료, Circuit Breaker 타임아웃 등으로 취소된 호출은 완료가 보고되지 않습니다.
+     */
+    private Duration inflightTimeout = Duration.ofSeconds(60);
+
+    /**
+     * 이상 인스턴스 제외 설정
+     */
+    private final Outlier outlier = new Outlier();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getLatencyDecay() {
+        return latencyDecay;
+    }
+
+    public void setLatencyDecay(Duration latencyDecay) {
+        this.latencyDecay = latencyDecay;
+    }
+
+    public Duration getInflightTimeout() {
+        return inflightTimeout;
+    }
+
+    public void setInflightTimeout(Duration inflightTimeout) {
+        this.inflightTimeout = inflightTimeout;
+    }
+
+    public Outlier getOutlier() {
+        return outlier;
+    }
+
+    public static class Outlier {
+
+        /**
+         * 제외할 연속 실패 수 (연결 실패/타임아웃, 502/503/504 응답)
+         */
+        private int consecutiveFailures = 5;
+
+        /**
+         * 첫 제외 시간 (다시 제외될 때마다 배수로 늘어남)
+         */
+        private Duration baseEjectionTime = Duration.ofSeconds(30);
+
+        /**
+         * 최대 제외 시간
+         */
+        private Duration maxEjectionTime = Duration.ofMinutes(5);
+
+        /**
+         * 한 서비스에서 동시에 제외할 수 있는 인스턴스 비율 (%)
+         * 최소 1개, 최대 전체 - 1개 (장애가 전체로 번졌을 때 남은 인스턴스로 몰리지 않도록)
+         */
+        private int maxEjectionPercent = 50;
+
+        public int getConsecutiveFailures() {
+            return consecutiveFailures;
+        }
+
+        public void setConsecutiveFailures(int consecutiveFailures) {
+            this.consecutiveFailures = consecutiveFailures;
+        }
+
+        public Duration getBaseEjectionTime() {
+            return baseEjectionTime;
+        }
+
+        public void setBaseEjectionTime(Duration baseEjectionTime) {
+            this.baseEjectionTime = baseEjectionTime;
+        }
+
+        public Duration getMaxEjectionTime() {
+            return maxEjectionTime;
+        }
+
+        public void setMaxEjectionTime(Duration maxEjectionTime) {
+            this.maxEjectionTime = maxEjectionTime;
+        }
+
+        public int getMaxEjectionPercent() {
+            return maxEjectionPercent;
+        }
+
+        public void setMaxEjectionPercent(int maxEjectionPercent) {
+            this.maxEjectionPercent = maxEjectionPercent;
+        }
+    }
+}
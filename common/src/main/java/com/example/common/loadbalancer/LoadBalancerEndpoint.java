@@ -0,0 +1,26 @@
+package com.example.common.loadbalancer;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * 로드밸런서 상태 Actuator 엔드포인트
+ *
+ * - GET /actuator/loadbalancer : 서비스/인스턴스별 진행 중인 호출 수, 응답 시간, 연속 실패, 제외 상태
+ */
+@Endpoint(id = "loadbalancer")
+public class LoadBalancerEndpoint {
+
+    private final InstanceLoadStats instanceLoadStats;
+
+    public LoadBalancerEndpoint(InstanceLoadStats instanceLoadStats) {
+        this.instanceLoadStats = instanceLoadStats;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Map<String, Object>>> instances() {
+        return instanceLoadStats.snapshot();
+    }
+}
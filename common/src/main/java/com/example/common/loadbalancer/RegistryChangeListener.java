@@ -0,0 +1,67 @@
+package com.example.common.loadbalancer;
+
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Application;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.loadbalancer.cache.LoadBalancerCacheManager;
+import org.springframework.cloud.loadbalancer.core.CachingServiceInstanceListSupplier;
+import org.springframework.context.event.EventListener;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 레지스트리 변경 시 로드밸런서 인스턴스 캐시 비우기
+ *
+ * 로드밸런서는 서비스별 인스턴스 목록을 spring.cloud.loadbalancer.cache.ttl(기본 35초) 동안 캐시하므로,
+ * Eureka 클라이언트가 내려간 인스턴스를 이미 알고 있어도 그동안 계속 그 인스턴스로 보냅니다.
+ * Eureka 클라이언트가 레지스트리를 받을 때마다(registry-fetch-interval-seconds, HeartbeatEvent)
+ * 인스턴스 구성(ID + 상태)을 비교하여 바뀌었으면 캐시를 바로 비웁니다.
+ * (Eureka 서버는 변경을 클라이언트에 밀어 주지 않으므로, 받아 온 시점에 바로 반영하는 방식)
+ * 로드밸런서 종류와 관계없이 필요하므로 각 서비스의 config/LoadBalancerConfig에서 따로 @Import합니다.
+ */
+public class RegistryChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistryChangeListener.class);
+
+    private final ObjectProvider<LoadBalancerCacheManager> cacheManager;
+    private volatile Set<String> lastInstances;
+
+    public RegistryChangeListener(ObjectProvider<LoadBalancerCacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 이벤트를 보낸 Eureka 클라이언트에서 바로 읽음
+     * (refresh scope 프록시를 거치면 종료 중에 받은 레지스트리로 클라이언트를 다시 만들려고 함)
+     */
+    @EventListener
+    public void onRegistryFetched(HeartbeatEvent event) {
+        if (!(event.getSource() instanceof EurekaClient client)) {
+            return;
+        }
+        Set<String> instances = client.getApplications().getRegisteredApplications().stream()
+                .map(Application::getInstances)
+                .flatMap(list -> list.stream().map(instance -> instance.getId() + "=" + instance.getStatus()))
+                .collect(Collectors.toSet());
+        Set<String> previous = lastInstances;
+        lastInstances = instances;
+        if (previous == null || previous.equals(instances)) {
+            return;
+        }
+        LoadBalancerCacheManager manager = cacheManager.getIfAvailable();
+        Cache cache = manager != null
+                ? manager.getCache(CachingServiceInstanceListSupplier.SERVICE_INSTANCE_CACHE_NAME)
+                : null;
+        if (cache != null) {
+            cache.clear();
+        }
+        log.info("Service registry changed (+{} -{}), cleared load balancer instance cache",
+                instances.stream().filter(id -> !previous.contains(id)).toList(),
+                previous.stream().filter(id -> !instances.contains(id)).toList());
+    }
+}
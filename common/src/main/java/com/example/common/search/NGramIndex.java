@@ -0,0 +1,345 @@
+package com.example.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 기반 n-gram 역색인
+ *
+ * 문서(ID + 텍스트)를 1-gram, 2-gram 단위로 쪼개어 gram → 문서 ID 목록(posting)을 유지합니다.
+ * 형태소 분석 없이도 "홍길동"을 "길동", "홍길"로 찾을 수 있어 한글 이름/상품명 검색에 적합하며,
+ * LIKE '%...%'처럼 전체 행을 훑지 않고 posting 교집합만 확인합니다.
+ *
+ * 검색 절차:
+ * 1. 검색어를 정규화(NFC, 소문자, 공백 정리)한 뒤 2-gram(한 글자면 1-gram)으로 분해
+ * 2. 가장 짧은 posting부터 교집합 계산 (정렬된 long[] + 이진 탐색)
+ * 3. 후보 문서의 원문에 검색어가 실제로 포함되는지 확인 (gram 순서 오탐 제거)
+ * 4. 순위(완전 일치 > 접두사 > 단어 접두사 > 부분 일치, 짧은 텍스트 우선)로 상위 offset+limit개만 선택
+ *
+ * 스레드 안전성: 읽기/쓰기 잠금으로 보호되며, 검색은 동시에 여러 스레드에서 수행할 수 있습니다.
+ */
+public final class NGramIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, String> documents = new HashMap<>();
+
+    /**
+     * 문서 추가 또는 갱신
+     *
+     * @param id   문서 ID (엔터티 ID)
+     * @param text 색인할 텍스트 (null 또는 공백이면 문서 삭제와 동일)
+     */
+    public void put(long id, String text) {
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            String previous = documents.remove(id);
+            if (previous != null) {
+                for (String gram : grams(previous)) {
+                    Postings list = postings.get(gram);
+                    if (list != null && list.remove(id) && list.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            if (normalized.isEmpty()) {
+                return;
+            }
+            documents.put(id, normalized);
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void remove(long id) {
+        put(id, null);
+    }
+
+    /**
+     * 색인된 문서의 정규화된 텍스트 (없으면 null)
+     */
+    public String get(long id) {
+        lock.readLock().lock();
+        try {
+            return documents.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 gram 수
+     */
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     *
+     * @param query  검색어
+     * @param mode   CONTAINS(부분 일치) 또는 PREFIX(접두사/단어 접두사 일치, 자동완성용)
+     * @param offset 건너뛸 결과 수 (페이지 시작 위치)
+     * @param limit  반환할 최대 결과 수
+     * @return 순위순 문서 ID와 전체 일치 건수
+     */
+    public SearchHits search(String query, SearchMode mode, int offset, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return SearchHits.EMPTY;
+        }
+        String[] queryGrams = queryGrams(normalized);
+        int wanted = offset + limit;
+
+        lock.readLock().lock();
+        try {
+            long[] candidates = intersect(queryGrams);
+            // 순위가 가장 낮은 결과가 머리에 오는 최대 힙 (상위 wanted개만 유지)
+            PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(wanted, 1024), Hit.ORDER.reversed());
+            long total = 0;
+            for (long id : candidates) {
+                String text = documents.get(id);
+                int rank = rank(text, normalized);
+                if (rank < 0 || (mode == SearchMode.PREFIX && rank > Hit.WORD_PREFIX)) {
+                    continue;
+                }
+                total++;
+                Hit hit = new Hit(id, rank, text.length());
+                if (top.size() < wanted) {
+                    top.add(hit);
+                } else if (Hit.ORDER.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+
+            List<Hit> ordered = new ArrayList<>(top);
+            ordered.sort(Hit.ORDER);
+            List<Long> ids = new ArrayList<>(Math.max(0, ordered.size() - offset));
+            for (int i = offset; i < ordered.size(); i++) {
+                ids.add(ordered.get(i).id());
+            }
+            return new SearchHits(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 텍스트 정규화 (NFC, 소문자, 연속 공백을 하나로)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+        StringBuilder builder = new StringBuilder(nfc.length());
+        boolean space = false;
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space && builder.length() > 0) {
+                builder.append(' ');
+            }
+            space = false;
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 색인용 gram 목록 (공백을 포함하지 않는 1-gram, 2-gram, 중복 제거)
+     */
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>(normalized.length() * 2);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            grams.add(String.valueOf(c));
+            if (i + 1 < normalized.length() && normalized.charAt(i + 1) != ' ') {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 gram 목록 (2글자 이상 단어는 2-gram, 한 글자 단어는 1-gram)
+     */
+    private static String[] queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : normalized.split(" ")) {
+            if (word.length() == 1) {
+                grams.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams.toArray(new String[0]);
+    }
+
+    /**
+     * posting 교집합 (가장 짧은 목록을 기준으로 나머지에서 이진 탐색)
+     */
+    private long[] intersect(String[] queryGrams) {
+        Postings[] lists = new Postings[queryGrams.length];
+        for (int i = 0; i < queryGrams.length; i++) {
+            Postings list = postings.get(queryGrams[i]);
+            if (list == null) {
+                return EMPTY;
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+
+        Postings smallest = lists[0];
+        long[] result = new long[smallest.size()];
+        int count = 0;
+        outer:
+        for (int i = 0; i < smallest.size(); i++) {
+            long id = smallest.get(i);
+            for (int j = 1; j < lists.length; j++) {
+                if (!lists[j].contains(id)) {
+                    continue outer;
+                }
+            }
+            result[count++] = id;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 순위 계산 (작을수록 상위, 일치하지 않으면 -1)
+     */
+    private static int rank(String text, String query) {
+        if (text.equals(query)) {
+            return Hit.EXACT;
+        }
+        if (text.startsWith(query)) {
+            return Hit.PREFIX;
+        }
+        int index = text.indexOf(query);
+        if (index < 0) {
+            return -1;
+        }
+        if (text.charAt(index - 1) == ' ') {
+            return Hit.WORD_PREFIX;
+        }
+        // 첫 일치 위치가 단어 중간이어도 뒤쪽에 단어 시작 일치가 있을 수 있음
+        return text.contains(" " + query) ? Hit.WORD_PREFIX : Hit.CONTAINS;
+    }
+
+    /**
+     * 검색 결과 후보
+     */
+    private record Hit(long id, int rank, int length) {
+        static final int EXACT = 0;
+        static final int PREFIX = 1;
+        static final int WORD_PREFIX = 2;
+        static final int CONTAINS = 3;
+
+        static final Comparator<Hit> ORDER = Comparator.comparingInt(Hit::rank)
+                .thenComparingInt(Hit::length)
+                .thenComparingLong(Hit::id);
+    }
+
+    /**
+     * 정렬된 문서 ID 목록 (박싱 없는 long 배열)
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long get(int index) {
+            return ids[index];
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        void add(long id) {
+            // 새 엔터티 ID는 대부분 가장 크므로 끝에 붙이는 경우를 먼저 처리
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+        }
+    }
+}
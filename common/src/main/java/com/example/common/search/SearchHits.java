@@ -0,0 +1,14 @@
+package com.example.common.search;
+
+import java.util.List;
+
+/**
+ * 색인 검색 결과
+ *
+ * @param ids   순위순 문서 ID (요청한 페이지 범위)
+ * @param total 전체 일치 건수
+ */
+public record SearchHits(List<Long> ids, long total) {
+
+    public static final SearchHits EMPTY = new SearchHits(List.of(), 0);
+}
@@ -0,0 +1,245 @@
+package com.example.common.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 엔터티 텍스트 검색 색인 (서비스별 색인의 공통 부분)
+ *
+ * NGramIndex를 감싸서 다음을 담당합니다.
+ * - 애플리케이션 시작 시 DB 전체를 읽어 색인 생성 (백그라운드, 키셋 페이징)
+ * - 엔터티 생성/수정/삭제 시 증분 갱신 (각 서비스의 JPA 엔터티 리스너에서 updateInTransaction 호출)
+ * - 재색인(rebuild) 요청 처리: 새 색인을 만든 뒤 원자적으로 교체하므로 재색인 중에도 검색 가능
+ *
+ * 하위 클래스는 색인할 행을 ID 순서로 읽는 방법(findRowsAfter)만 구현합니다.
+ * 첫 색인이 완료되기 전(isReady() == false)에는 서비스가 DB LIKE 검색으로 대체합니다.
+ */
+public abstract class SearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+    /**
+     * 재색인 시 한 번에 읽는 행 수
+     */
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    /**
+     * 로그와 재색인 스레드 이름에 쓰는 색인 이름 (예: "member", "order")
+     */
+    private final String name;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Object mutex = new Object();
+
+    /**
+     * 검색에 사용하는 색인 (첫 색인 완료 전에는 null)
+     */
+    private volatile NGramIndex active;
+
+    /**
+     * 재색인 중 발생한 변경 내역 (재색인 완료 후 새 색인에 다시 적용, mutex로 보호)
+     */
+    private Map<Long, String> pendingChanges;
+
+    protected SearchIndex(String name) {
+        this.name = name;
+    }
+
+    /**
+     * afterId보다 큰 ID의 행을 ID 오름차순으로 최대 limit개 조회 (키셋 페이징)
+     */
+    protected abstract List<? extends SearchRow> findRowsAfter(long afterId, int limit);
+
+    /**
+     * 검색 가능 여부 (첫 색인 완료 여부)
+     */
+    public boolean isReady() {
+        return active != null;
+    }
+
+    /**
+     * 텍스트 검색
+     *
+     * @return 순위순 ID와 전체 일치 건수 (색인 준비 전에는 빈 결과)
+     */
+    public SearchHits search(String query, SearchMode mode, int offset, int limit) {
+        NGramIndex index = active;
+        if (index == null) {
+            return SearchHits.EMPTY;
+        }
+        return index.search(query, mode, offset, limit);
+    }
+
+    /**
+     * 색인 갱신
+     *
+     * @param id   엔터티 ID
+     * @param text 색인할 텍스트 (null이면 색인에서 제거)
+     * @return 트랜잭션 롤백 시 되돌리기 위한 정보
+     */
+    public Revert update(long id, String text) {
+        synchronized (mutex) {
+            NGramIndex index = active;
+            Revert revert = new Revert(id, index != null ? index.get(id) : null, index != null);
+            if (index != null) {
+                index.put(id, text);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.put(id, text);
+            }
+            return revert;
+        }
+    }
+
+    /**
+     * 트랜잭션 안의 변경을 색인에 바로 반영하고, 롤백되면 트랜잭션 시작 전의 값으로 되돌림
+     *
+     * 같은 트랜잭션 안의 검색에서도 변경 내용이 보이도록 flush/remove 시점에 호출합니다.
+     * 트랜잭션 밖에서 호출하면 update와 같습니다.
+     */
+    public void updateInTransaction(Long id, String text) {
+        if (id == null) {
+            return;
+        }
+        Revert revert = update(id, text);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            undoLog().putIfAbsent(id, revert);
+        }
+    }
+
+    /**
+     * 롤백된 변경 되돌리기
+     *
+     * 첫 색인 생성 중이라 이전 값을 알 수 없었던 경우에는 재색인 대기 내역에서만 제거합니다.
+     * (DB 스냅샷에는 롤백된 값이 없으므로 스냅샷 값이 그대로 사용됨)
+     */
+    public void revert(Revert revert) {
+        if (revert.known()) {
+            update(revert.id(), revert.previous());
+            return;
+        }
+        synchronized (mutex) {
+            if (pendingChanges != null) {
+                pendingChanges.remove(revert.id());
+            }
+        }
+    }
+
+    /**
+     * 색인 변경 되돌리기 정보
+     *
+     * @param id       엔터티 ID
+     * @param previous 변경 전 색인 텍스트
+     * @param known    변경 전 값을 알고 있는지 여부 (첫 색인 완료 전에는 false)
+     */
+    public record Revert(long id, String previous, boolean known) {
+    }
+
+    /**
+     * 현재 트랜잭션의 롤백용 원래 값 기록 (ID → 트랜잭션 안에서 처음 변경하기 전 상태)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Revert> undoLog() {
+        Map<Long, Revert> undoLog = (Map<Long, Revert>) TransactionSynchronizationManager.getResource(this);
+        if (undoLog == null) {
+            Map<Long, Revert> created = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SearchIndex.this);
+                    if (status != STATUS_COMMITTED) {
+                        created.values().forEach(SearchIndex.this::revert);
+                    }
+                }
+            });
+            undoLog = created;
+        }
+        return undoLog;
+    }
+
+    /**
+     * 애플리케이션 시작 시 백그라운드로 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildAsync();
+    }
+
+    /**
+     * 백그라운드 재색인 시작
+     *
+     * @return 새로 시작했으면 true, 이미 재색인 중이면 false
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::rebuild, name + "-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * DB 전체를 읽어 새 색인을 만들고 교체
+     *
+     * 재색인 중 커밋된 변경은 pendingChanges에 기록해 두었다가, 새 색인에 다시 적용한 뒤 교체합니다.
+     * (DB 스냅샷보다 늦은 변경이 유실되지 않도록)
+     */
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            synchronized (mutex) {
+                pendingChanges = new LinkedHashMap<>();
+            }
+
+            NGramIndex index = new NGramIndex();
+            long afterId = 0;
+            List<? extends SearchRow> rows;
+            do {
+                rows = findRowsAfter(afterId, REBUILD_BATCH_SIZE);
+                for (SearchRow row : rows) {
+                    index.put(row.getId(), row.getText());
+                    afterId = row.getId();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+
+            synchronized (mutex) {
+                pendingChanges.forEach(index::put);
+                pendingChanges = null;
+                active = index;
+            }
+            log.info("{} search index rebuilt: {} documents, {} grams in {} ms",
+                    name, index.size(), index.gramCount(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            synchronized (mutex) {
+                pendingChanges = null;
+            }
+            log.error("{} search index rebuild failed", name, e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 색인 상태
+     */
+    public Map<String, Object> stats() {
+        NGramIndex index = active;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", index != null);
+        stats.put("rebuilding", rebuilding.get());
+        stats.put("documents", index != null ? index.size() : 0);
+        stats.put("grams", index != null ? index.gramCount() : 0);
+        return stats;
+    }
+}
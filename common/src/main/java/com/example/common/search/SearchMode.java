@@ -0,0 +1,17 @@
+package com.example.common.search;
+
+/**
+ * 검색 모드
+ */
+public enum SearchMode {
+
+    /**
+     * 부분 일치 (텍스트 어디에 있든 일치)
+     */
+    CONTAINS,
+
+    /**
+     * 접두사 일치 (텍스트 또는 단어의 시작 부분과 일치, 자동완성용)
+     */
+    PREFIX
+}
@@ -0,0 +1,13 @@
+package com.example.common.search;
+
+/**
+ * 검색 색인용 행 (ID, 색인할 텍스트)
+ *
+ * 각 서비스 리포지토리의 프로젝션 인터페이스가 이 인터페이스를 상속합니다.
+ */
+public interface SearchRow {
+
+    Long getId();
+
+    String getText();
+}
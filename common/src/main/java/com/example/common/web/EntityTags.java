@@ -0,0 +1,115 @@
+package com.example.common.web;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 엔터티 ETag 생성/비교 유틸리티
+ * 
+ * ETag는 엔터티 ID와 버전(@Version)으로 만들며, 응답 본문을 직렬화하지 않고도 계산할 수 있습니다.
+ * 버전은 수정할 때마다 증가하므로 같은 밀리초 안의 연속 수정도 구분됩니다.
+ * 
+ * - 강한(strong) ETag: 같은 버전이면 같은 표현인 경우 ("member-1-3", "order-1-3"), If-Match에 사용 가능
+ * - 약한(weak) ETag: 의미만 같고 바이트는 다를 수 있는 경우 (W/"..."), 캐시 재검증(If-None-Match)에만 사용
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * 강한 ETag 생성
+     */
+    public static String strong(String type, Long id, Long version) {
+        return "\"" + opaque(type, id, version) + "\"";
+    }
+
+    /**
+     * 약한 ETag 생성
+     */
+    public static String weak(String type, Long id, Long version) {
+        return "W/" + strong(type, id, version);
+    }
+
+    /**
+     * 필드 선택(?fields=) 응답의 ETag
+     * 
+     * 필드를 골라 받은 본문은 전체 본문과 바이트가 다르므로, 강한 ETag가 표현을 정확히 가리키도록
+     * 정렬한 필드 목록의 해시를 붙입니다. ("order-1-3" → "order-1-3-f1a2b3c4d5e6")
+     * 필드 순서가 달라도 같은 값이며, fields가 없으면 ETag를 그대로 반환합니다.
+     * 
+     * @param etag   전체 표현의 ETag
+     * @param fields 요청한 필드 (FieldFilterAdvice.parseFields)
+     */
+    public static String withFields(String etag, Set<String> fields) {
+        if (etag == null || fields.isEmpty()) {
+            return etag;
+        }
+        String normalized = String.join(",", new TreeSet<>(fields));
+        String hash = DigestUtils.md5DigestAsHex(normalized.getBytes(StandardCharsets.UTF_8)).substring(0, 12);
+        return etag.substring(0, etag.length() - 1) + "-f" + hash + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더 값에 ETag가 포함되는지 확인 (약한 비교)
+     * 
+     * 쉼표로 구분된 목록과 "*"를 지원하며, W/ 접두사는 무시하고 비교합니다.
+     * 캐시 재검증(304)은 바이트가 달라도 의미가 같으면 되므로 약한 비교를 사용합니다. (RFC 9110 13.1.2)
+     * 
+     * @param header If-None-Match 헤더 값
+     * @param etag   현재 엔터티의 ETag
+     */
+    public static boolean matchesIfNoneMatch(String header, String etag) {
+        if (header == null || etag == null) {
+            return false;
+        }
+        String target = stripWeak(etag);
+        for (String candidate : header.split(",")) {
+            String trimmed = candidate.trim();
+            if ("*".equals(trimmed) || stripWeak(trimmed).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 헤더 값에 ETag가 포함되는지 확인 (강한 비교)
+     * 
+     * 쉼표로 구분된 목록과 "*"를 지원합니다. 조건부 수정은 클라이언트가 본 표현과 현재 표현이
+     * 같을 때만 허용해야 하므로, 어느 한쪽이라도 약한 ETag(W/)이면 일치하지 않습니다. (RFC 9110 13.1.1)
+     * 
+     * @param header If-Match 헤더 값
+     * @param etag   현재 엔터티의 ETag
+     */
+    public static boolean matchesIfMatch(String header, String etag) {
+        if (header == null || etag == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String trimmed = candidate.trim();
+            if ("*".equals(trimmed)) {
+                return true;
+            }
+            if (!isWeak(trimmed) && !isWeak(etag) && trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String type, Long id, Long version) {
+        return type + "-" + id + "-" + (version != null ? version : 0L);
+    }
+
+    private static boolean isWeak(String etag) {
+        return etag.startsWith("W/");
+    }
+
+    private static String stripWeak(String etag) {
+        return isWeak(etag) ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.common.web;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 필드 선택 (?fields=id,username, ?fields=id,productName,status)
+ *
+ * 조회 요청에 fields 파라미터가 있으면 @JsonFilter(FieldFilterConfig.FILTER_ID)가 붙은 응답 DTO
+ * (회원, 회원 요약, 자동완성, 주문, 주문 요약)에서 지정한 필드만 직렬화합니다.
+ * - 목록/페이지 응답은 각 항목에 적용 (페이지 정보는 그대로)
+ * - 없는 필드 이름은 무시
+ * - fields가 없거나 비어 있으면 모든 필드
+ */
+@RestControllerAdvice
+public class FieldFilterAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAM = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        Set<String> fields = parseFields(servletRequest.getServletRequest());
+        SimpleBeanPropertyFilter filter = fields.isEmpty()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+        bodyContainer.setFilters(new SimpleFilterProvider().addFilter(FieldFilterConfig.FILTER_ID, filter));
+    }
+
+    /**
+     * fields 파라미터 (쉼표로 구분, 여러 번 지정 가능)
+     *
+     * 조회 응답의 ETag에도 사용합니다. (EntityTags.withFields)
+     */
+    public static Set<String> parseFields(HttpServletRequest request) {
+        String[] values = request.getParameterValues(FIELDS_PARAM);
+        if (values == null) {
+            return Set.of();
+        }
+        return Arrays.stream(values)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.common.web;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 응답 필드 선택 설정 (?fields=id,username, ?fields=id,productName,status)
+ *
+ * 응답 DTO(@JsonFilter(FILTER_ID))는 기본으로 모든 필드를 직렬화하고,
+ * 요청에 fields 파라미터가 있으면 FieldFilterAdvice가 그 필드만 직렬화하도록 필터를 바꿉니다.
+ * (요청하지 않은 필드는 JSON으로 만들지 않으므로 응답 크기와 직렬화 비용이 함께 줄어듦)
+ *
+ * 공통 모듈은 컴포넌트 스캔 대상이 아니므로 각 서비스의 config/WebConfig에서 FieldFilterAdvice와 함께 @Import합니다.
+ */
+@Configuration
+public class FieldFilterConfig {
+
+    /**
+     * 응답 DTO에 지정하는 Jackson 필터 ID
+     */
+    public static final String FILTER_ID = "fields";
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
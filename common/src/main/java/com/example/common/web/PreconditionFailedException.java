@@ -0,0 +1,20 @@
+package com.example.common.web;
+
+/**
+ * 조건부 요청(If-Match)의 ETag가 현재 리소스와 일치하지 않을 때 발생하는 예외
+ * 
+ * 클라이언트가 조회한 이후 다른 요청에 의해 리소스가 변경되었음을 의미합니다.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    private final String currentEtag;
+
+    public PreconditionFailedException(String message, String currentEtag) {
+        super(message);
+        this.currentEtag = currentEtag;
+    }
+
+    public String getCurrentEtag() {
+        return currentEtag;
+    }
+}
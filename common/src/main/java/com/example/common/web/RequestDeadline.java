@@ -0,0 +1,83 @@
+package com.example.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 기한 (deadline)
+ *
+ * 인바운드 요청의 남은 시간 예산입니다. RequestDeadlineFilter가 요청 속성에 두고,
+ * 다른 서비스를 호출할 때 X-Request-Timeout 헤더(남은 밀리초)와 호출별 타임아웃으로 전달됩니다.
+ *
+ * 서버 간 시계 차이에 영향을 받지 않도록 절대 시각 대신 남은 시간을 주고받고,
+ * 서비스 안에서는 System.nanoTime 기준 기한으로 계산합니다.
+ */
+public final class RequestDeadline {
+
+    /**
+     * 남은 시간 예산 헤더 (밀리초)
+     */
+    public static final String HEADER = "X-Request-Timeout";
+
+    private static final String ATTRIBUTE = RequestDeadline.class.getName();
+
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 지금부터 timeout 후를 기한으로 생성
+     */
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 요청에 저장된 기한 (없으면 null)
+     */
+    public static RequestDeadline of(HttpServletRequest request) {
+        return (RequestDeadline) request.getAttribute(ATTRIBUTE);
+    }
+
+    /**
+     * 헤더 값 파싱 (남은 밀리초, 형식이 올바르지 않으면 null)
+     */
+    public static Long parseHeader(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 요청 속성으로 저장
+     */
+    public void bind(HttpServletRequest request) {
+        request.setAttribute(ATTRIBUTE, this);
+    }
+
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestDeadline[remaining=" + remainingMillis() + "ms]";
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 처리 기한 필터
+ *
+ * 인바운드 요청마다 처리 기한(RequestDeadline)을 정해 요청 속성에 둡니다.
+ * 다른 서비스를 호출할 때는 이 기한의 남은 시간을 헤더로 전달하고 타임아웃도 그 안으로 줄입니다.
+ *
+ * - X-Request-Timeout 헤더(남은 밀리초)가 있으면 그 값, 없으면 defaultTimeout
+ * - maxTimeout보다 긴 값은 maxTimeout으로 제한
+ * - 이미 기한이 지난 요청(0 이하)은 호출한 쪽이 응답을 기다리지 않으므로 처리하지 않고 504 응답 (보안 필터보다 먼저 실행)
+ *
+ * 공통 모듈은 컴포넌트 스캔 대상이 아니므로 각 서비스의 RequestDeadlineConfig에서 빈으로 등록합니다.
+ * 504 응답 본문은 각 서비스 GlobalExceptionHandler의 ErrorResponse와 같은 형태입니다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestDeadlineFilter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public RequestDeadlineFilter(ObjectMapper objectMapper, Duration defaultTimeout, Duration maxTimeout) {
+        this.objectMapper = objectMapper;
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Long remaining = RequestDeadline.parseHeader(request.getHeader(RequestDeadline.HEADER));
+        if (remaining != null && remaining <= 0) {
+            log.info("Rejecting {} {}: request deadline already exceeded", request.getMethod(), request.getRequestURI());
+            reject(response);
+            return;
+        }
+        Duration timeout = remaining != null ? Duration.ofMillis(remaining) : defaultTimeout;
+        RequestDeadline.after(timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout).bind(request);
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("status", HttpStatus.GATEWAY_TIMEOUT.value());
+        errorResponse.put("error", "Deadline Exceeded");
+        errorResponse.put("message", "요청 처리 기한이 지났습니다");
+        errorResponse.put("details", null);
+        errorResponse.put("timestamp", LocalDateTime.now());
+        response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HikariPoolSizer 유닛 테스트
+ *
+ * 풀 크기 공식과 서비스별 설정 접두사, 직접 지정한 풀 크기의 우선을 검증합니다.
+ */
+@DisplayName("HikariPoolSizer 테스트")
+class HikariPoolSizerTest {
+
+    @Test
+    @DisplayName("코어 수 * 2 + spindles와 DB 한도 / 인스턴스 수 중 작은 값")
+    void poolSizeIsMinOfCoresAndDbLimit() {
+        HikariPoolSizer.Settings settings = new HikariPoolSizer.Settings();
+        assertThat(HikariPoolSizer.poolSize(4, settings)).isEqualTo(9);
+
+        settings.setDbMaxConnections(100);
+        settings.setInstances(4);
+        assertThat(HikariPoolSizer.poolSize(16, settings)).isEqualTo(25);
+        assertThat(HikariPoolSizer.poolSize(4, settings)).isEqualTo(9);
+
+        settings.setDbMaxConnections(2);
+        assertThat(HikariPoolSizer.poolSize(4, settings)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서비스 이름의 접두사(<서비스>.datasource.pool)로 설정을 읽음")
+    void bindsServicePrefix() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("order.datasource.pool.auto-size", "true")
+                .withProperty("order.datasource.pool.db-max-connections", "3");
+
+        try (HikariDataSource order = new HikariDataSource(); HikariDataSource member = new HikariDataSource()) {
+            member.setMaximumPoolSize(10);
+            new HikariPoolSizer(environment, "order").apply(order);
+            new HikariPoolSizer(environment, "member").apply(member);
+
+            assertThat(order.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(order.getMinimumIdle()).isEqualTo(3);
+            assertThat(member.getMaximumPoolSize()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("spring.datasource.hikari.maximum-pool-size를 직접 지정하면 그대로 둠")
+    void explicitPoolSizeWins() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("member.datasource.pool.auto-size", "true")
+                .withProperty("member.datasource.pool.db-max-connections", "3")
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "20");
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(20);
+            new HikariPoolSizer(environment, "member").apply(dataSource);
+
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(20);
+        }
+    }
+}
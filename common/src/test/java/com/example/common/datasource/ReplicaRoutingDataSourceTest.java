@@ -0,0 +1,143 @@
+package com.example.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReplicaRoutingDataSource 테스트
+ *
+ * H2 메모리 DB 3개(주 DB 1, 복제본 2)를 두고, 각 DB의 node 테이블에 자기 이름을 넣어
+ * 어느 DB로 라우팅됐는지 확인합니다. replica_lag 테이블 값으로 복제 지연을 흉내 냅니다.
+ */
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica1;
+    private HikariDataSource replica2;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica1 = database("replica-1");
+        replica2 = database("replica-2");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routing.close();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖이나 쓰기 트랜잭션은 주 DB, 읽기 전용 트랜잭션은 복제본을 번갈아 사용")
+    void routesReadOnlyTransactionsToReplicasRoundRobin() {
+        Client client = client(ReplicaDataSourceProperties.Selection.ROUND_ROBIN);
+
+        assertThat(client.nodeWithoutTransaction()).isEqualTo("primary");
+        assertThat(client.node(false)).isEqualTo("primary");
+        assertThat(IntStream.range(0, 4).mapToObj(i -> client.node(true)).toList())
+                .containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+    }
+
+    @Test
+    @DisplayName("least-connections: 사용 중인 커넥션이 적은 복제본 선택")
+    void leastConnectionsPrefersIdleReplica() throws Exception {
+        Client client = client(ReplicaDataSourceProperties.Selection.LEAST_CONNECTIONS);
+
+        try (Connection busy = replica1.getConnection()) {
+            assertThat(client.node(true)).isEqualTo("replica-2");
+            assertThat(client.node(true)).isEqualTo("replica-2");
+        }
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘은 복제본은 제외하고, 지연이 줄면 다시 사용")
+    void excludesLaggingReplica() {
+        Client client = client(ReplicaDataSourceProperties.Selection.ROUND_ROBIN);
+
+        setLag(replica2, 30);
+        routing.checkReplicas();
+        assertThat(routing.availableReplicas()).containsExactly("replica-1");
+        assertThat(client.node(true)).isEqualTo("replica-1");
+        assertThat(client.node(true)).isEqualTo("replica-1");
+
+        setLag(replica2, 0);
+        routing.checkReplicas();
+        assertThat(routing.availableReplicas()).containsExactly("replica-1", "replica-2");
+    }
+
+    @Test
+    @DisplayName("사용할 수 있는 복제본이 없으면 주 DB로 대신함")
+    void fallsBackToPrimaryWhenNoReplicaAvailable() {
+        Client client = client(ReplicaDataSourceProperties.Selection.ROUND_ROBIN);
+
+        setLag(replica1, 30);
+        replica2.close();
+        routing.checkReplicas();
+
+        assertThat(routing.availableReplicas()).isEmpty();
+        assertThat(client.node(true)).isEqualTo("primary");
+    }
+
+    private Client client(ReplicaDataSourceProperties.Selection selection) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        routing = new ReplicaRoutingDataSource(primary, replicas, selection,
+                Duration.ofSeconds(5), "SELECT seconds FROM replica_lag");
+        routing.checkReplicas();
+        return new Client(new LazyConnectionDataSourceProxy(routing));
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(4);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        jdbc.execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        jdbc.update("INSERT INTO replica_lag VALUES (0)");
+        return dataSource;
+    }
+
+    private static void setLag(DataSource dataSource, double seconds) {
+        new JdbcTemplate(dataSource).update("UPDATE replica_lag SET seconds = ?", seconds);
+    }
+
+    /**
+     * 서비스처럼 트랜잭션 안에서 조회하는 클라이언트
+     */
+    private record Client(DataSource dataSource) {
+
+        String node(boolean readOnly) {
+            TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            transaction.setReadOnly(readOnly);
+            return transaction.execute(status -> nodeWithoutTransaction());
+        }
+
+        String nodeWithoutTransaction() {
+            List<String> names = new JdbcTemplate(dataSource).queryForList("SELECT name FROM node", String.class);
+            return names.get(0);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.common.discovery;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.EurekaInstanceConfig;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * DiscoveryRegistrationLifecycle 유닛 테스트
+ *
+ * STARTING으로 등록된 인스턴스가 readiness 그룹이 UP이 된 뒤에만 UP으로 바뀌는지 검증합니다.
+ * - readiness 그룹이 UP이 아니면 readiness 이벤트가 와도 STARTING 유지
+ * - 실행 중 readiness가 내려가면 OUT_OF_SERVICE, 다시 올라오면 UP
+ * - 종료 시 UP으로 등록된 적이 있을 때만 DOWN으로 알림 (initial-status 없이 처음부터 UP인 인스턴스 포함)
+ * 확인 주기는 길게 두고 readiness 이벤트로 바로 확인하게 합니다.
+ */
+@DisplayName("DiscoveryRegistrationLifecycle 테스트")
+class DiscoveryRegistrationLifecycleTest {
+
+    private static final Duration CHECK_INTERVAL = Duration.ofHours(1);
+
+    private final ApplicationInfoManager infoManager = new ApplicationInfoManager(mock(EurekaInstanceConfig.class),
+            InstanceInfo.Builder.newBuilder()
+                    .setAppName("test-service")
+                    .setHostName("localhost")
+                    .setStatus(InstanceStatus.STARTING)
+                    .build());
+    private final HealthEndpoint healthEndpoint = mock(HealthEndpoint.class);
+    private final ApplicationAvailability availability = mock(ApplicationAvailability.class);
+
+    private DiscoveryRegistrationLifecycle lifecycle;
+
+    @AfterEach
+    void tearDown() {
+        if (lifecycle != null && lifecycle.isRunning()) {
+            lifecycle.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("readiness 그룹이 UP이 아니면 STARTING 유지, UP이 되면 다음 readiness 이벤트에서 UP으로 변경")
+    void flipsToUpOnlyWhenReady() throws InterruptedException {
+        readiness(Health.outOfService().build());
+        lifecycle = start(infoManager, healthEndpoint, Duration.ZERO);
+
+        readinessChanged();
+        Thread.sleep(100);
+        assertThat(status()).isEqualTo(InstanceStatus.STARTING);
+
+        readiness(Health.up().build());
+        readinessChanged();
+
+        assertThat(awaitStatus(InstanceStatus.UP)).isEqualTo(InstanceStatus.UP);
+    }
+
+    @Test
+    @DisplayName("실행 중 readiness 그룹이 내려가면 OUT_OF_SERVICE, 다시 UP이면 UP")
+    void marksOutOfServiceWhileNotReady() throws InterruptedException {
+        readiness(Health.up().build());
+        lifecycle = start(infoManager, healthEndpoint, Duration.ZERO);
+        readinessChanged();
+        awaitStatus(InstanceStatus.UP);
+
+        readiness(Health.down().build());
+        readinessChanged();
+        assertThat(awaitStatus(InstanceStatus.OUT_OF_SERVICE)).isEqualTo(InstanceStatus.OUT_OF_SERVICE);
+
+        readiness(Health.up().build());
+        readinessChanged();
+        assertThat(awaitStatus(InstanceStatus.UP)).isEqualTo(InstanceStatus.UP);
+    }
+
+    @Test
+    @DisplayName("헬스 엔드포인트가 없으면 애플리케이션 readiness 상태(ACCEPTING_TRAFFIC)로 판단")
+    void fallsBackToApplicationReadiness() throws InterruptedException {
+        given(availability.getReadinessState()).willReturn(ReadinessState.REFUSING_TRAFFIC);
+        lifecycle = start(infoManager, null, Duration.ZERO);
+
+        readinessChanged();
+        Thread.sleep(100);
+        assertThat(status()).isEqualTo(InstanceStatus.STARTING);
+
+        given(availability.getReadinessState()).willReturn(ReadinessState.ACCEPTING_TRAFFIC);
+        readinessChanged();
+        assertThat(awaitStatus(InstanceStatus.UP)).isEqualTo(InstanceStatus.UP);
+    }
+
+    @Test
+    @DisplayName("종료 시 UP으로 등록됐으면 DOWN으로 알리고 drain-delay 동안 대기")
+    void marksDownAndDrainsOnStop() throws InterruptedException {
+        readiness(Health.up().build());
+        lifecycle = start(infoManager, healthEndpoint, Duration.ofMillis(200));
+        readinessChanged();
+        awaitStatus(InstanceStatus.UP);
+
+        long started = System.nanoTime();
+        lifecycle.stop();
+
+        assertThat(status()).isEqualTo(InstanceStatus.DOWN);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+        assertThat(lifecycle.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("처음부터 UP으로 등록된 인스턴스(initial-status 없음)도 준비되면 종료 시 DOWN으로 알림")
+    void marksDownWhenInitiallyUp() throws InterruptedException {
+        infoManager.setInstanceStatus(InstanceStatus.UP);
+        readiness(Health.up().build());
+        lifecycle = start(infoManager, healthEndpoint, Duration.ofMillis(10));
+
+        readinessChanged();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!lifecycle.isRegistered() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        lifecycle.stop();
+
+        assertThat(status()).isEqualTo(InstanceStatus.DOWN);
+    }
+
+    @Test
+    @DisplayName("UP으로 등록되기 전에 종료하면 상태를 바꾸지 않고 바로 종료")
+    void stopBeforeReadyKeepsStatus() {
+        readiness(Health.outOfService().build());
+        lifecycle = start(infoManager, healthEndpoint, Duration.ofMinutes(1));
+
+        lifecycle.stop();
+
+        assertThat(status()).isEqualTo(InstanceStatus.STARTING);
+    }
+
+    @Test
+    @DisplayName("Eureka 클라이언트가 꺼져 있으면(ApplicationInfoManager 없음) 아무것도 하지 않음")
+    void noopWithoutEurekaClient() {
+        lifecycle = start(null, healthEndpoint, Duration.ofMinutes(1));
+
+        readinessChanged();
+        lifecycle.stop();
+
+        assertThat(lifecycle.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("자동 설정 목록(AutoConfiguration.imports)에 등록되어 빈이 생성됨")
+    void registeredAsAutoConfiguration() {
+        assertThat(ImportCandidates.load(AutoConfiguration.class, getClass().getClassLoader()))
+                .contains(DiscoveryRegistrationAutoConfiguration.class.getName());
+
+        new ApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withConfiguration(AutoConfigurations.of(DiscoveryRegistrationAutoConfiguration.class))
+                .withBean(ApplicationAvailabilityBean.class)
+                .withPropertyValues("discovery.registration.drain-delay=1ms")
+                .run(context -> assertThat(context).hasSingleBean(DiscoveryRegistrationLifecycle.class));
+    }
+
+    private DiscoveryRegistrationLifecycle start(ApplicationInfoManager manager, HealthEndpoint endpoint,
+                                                 Duration drainDelay) {
+        DiscoveryRegistrationLifecycle started = new DiscoveryRegistrationLifecycle(provider(manager,
+                ApplicationInfoManager.class), provider(endpoint, HealthEndpoint.class), availability,
+                CHECK_INTERVAL, drainDelay);
+        started.start();
+        return started;
+    }
+
+    private void readiness(Health health) {
+        given(healthEndpoint.healthForPath("readiness")).willReturn(health);
+    }
+
+    private void readinessChanged() {
+        lifecycle.onReadinessChange(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+    }
+
+    private InstanceStatus status() {
+        return infoManager.getInfo().getStatus();
+    }
+
+    private InstanceStatus awaitStatus(InstanceStatus expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (status() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return status();
+    }
+
+    private static <T> ObjectProvider<T> provider(T bean, Class<T> type) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        if (bean != null) {
+            beanFactory.registerSingleton("bean", bean);
+        }
+        return beanFactory.getBeanProvider(type);
+    }
+}
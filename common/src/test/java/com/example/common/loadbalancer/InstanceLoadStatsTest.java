@@ -0,0 +1,122 @@
+package com.example.common.loadbalancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * InstanceLoadStats 유닛 테스트
+ *
+ * 비용 계산(응답 시간 × 진행 중인 호출 × 연속 실패)과 시간에 따른 변화를 검증합니다.
+ * 시간 경과는 cost(instance, now)에 미래 시각을 넘겨 확인합니다.
+ */
+@DisplayName("InstanceLoadStats 테스트")
+class InstanceLoadStatsTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final InstanceLoadStats stats = new InstanceLoadStats(Duration.ofSeconds(1), 3,
+            Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(5));
+
+    private final ServiceInstance a = instance("a");
+    private final ServiceInstance b = instance("b");
+
+    @Test
+    @DisplayName("느린 응답은 바로 반영하고, 호출이 없으면 latency-decay에 따라 줄어듦")
+    void staleLatencyDecays() throws InterruptedException {
+        call(a, 30);
+        long now = System.nanoTime();
+        double slow = stats.cost(a, now);
+
+        assertThat(slow).isGreaterThanOrEqualTo(30_000_000);
+        assertThat(stats.cost(a, now + SECOND)).isCloseTo(slow / Math.E, within(slow * 0.01));
+        assertThat(stats.cost(a, now + 10 * SECOND)).isLessThan(slow / 1000);
+    }
+
+    @Test
+    @DisplayName("진행 중인 호출과 연속 실패는 비용을 배로 늘리고, 성공하면 연속 실패 초기화")
+    void inflightAndFailuresMultiplyCost() throws InterruptedException {
+        call(a, 10);
+        long now = System.nanoTime();
+        double idle = stats.cost(a, now);
+
+        Object first = new Object();
+        stats.onStart(a, first);
+        stats.onStart(a, new Object());
+        assertThat(stats.cost(a, now)).isCloseTo(idle * 3, within(idle * 0.01));
+
+        stats.onComplete(a, first, true);
+        assertThat(stats.cost(a, now)).isGreaterThan(idle * 2 * 2 * 0.99);
+
+        Object next = new Object();
+        stats.onStart(a, next);
+        stats.onComplete(a, next, false);
+        assertThat(stats.snapshot().get("member-service").get("a.local:8081"))
+                .containsEntry("consecutiveFailures", 0)
+                .containsEntry("inflight", 1);
+    }
+
+    @Test
+    @DisplayName("완료가 보고되지 않은 호출은 inflight-timeout이 지나면 진행 중에서 뺌")
+    void expiresAbandonedInflight() {
+        stats.onStart(a, new Object());
+        long now = System.nanoTime();
+        double busy = stats.cost(a, now + 2 * SECOND);
+
+        double later = stats.cost(a, now + 10 * SECOND);
+
+        assertThat(later).isLessThan(busy);
+        assertThat(stats.snapshot().get("member-service").get("a.local:8081")).containsEntry("inflight", 0);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 consecutive-failures번이면 제외, 연결 거부는 바로 제외")
+    void ejectsAfterConsecutiveFailures() {
+        long now = System.nanoTime();
+        for (int i = 0; i < 2; i++) {
+            Object call = new Object();
+            stats.onStart(a, call);
+            stats.onComplete(a, call, true);
+        }
+        assertThat(stats.ejectedUntil(a) - now).isNotPositive();
+
+        Object third = new Object();
+        stats.onStart(a, third);
+        stats.onComplete(a, third, true);
+        stats.onConnectFailure(b, new Object());
+
+        assertThat(stats.ejectedUntil(a) - now).isGreaterThan(29 * SECOND);
+        assertThat(stats.ejectedUntil(b) - now).isGreaterThan(29 * SECOND);
+    }
+
+    @Test
+    @DisplayName("새 인스턴스는 같은 서비스 인스턴스들의 평균 응답 시간에서 시작, 목록에서 빠지면 통계 제거")
+    void newInstanceStartsAtAverage() throws InterruptedException {
+        call(a, 20);
+        long now = System.nanoTime();
+
+        assertThat(stats.cost(b, now)).isCloseTo(stats.cost(a, now), within(stats.cost(a, now) * 0.05));
+
+        stats.retain("member-service", List.of(b));
+        assertThat(stats.snapshot().get("member-service")).containsOnlyKeys("b.local:8081");
+    }
+
+    private void call(ServiceInstance instance, long millis) throws InterruptedException {
+        Object call = new Object();
+        stats.onStart(instance, call);
+        Thread.sleep(millis);
+        stats.onComplete(instance, call, false);
+    }
+
+    private static ServiceInstance instance(String id) {
+        return new DefaultServiceInstance(id, "member-service", id + ".local", 8081, false, Map.of());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.common.loadbalancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LoadAwareLoadBalancer 유닛 테스트
+ *
+ * 고정된 인스턴스 목록으로 여러 번 골라 선택 분포를 검증합니다.
+ * - 두 인스턴스 중에서는 항상 비용이 낮은 쪽, 셋 이상이면 가장 비싼 인스턴스는 고르지 않음 (power of two choices)
+ * - 비용이 같으면 고르게 나눔
+ * - 제외된 인스턴스는 빼되 max-ejection-percent를 넘지 않음
+ * - 같은 영역 인스턴스 우선
+ */
+@DisplayName("LoadAwareLoadBalancer 테스트")
+class LoadAwareLoadBalancerTest {
+
+    private static final int PICKS = 1000;
+
+    private final InstanceLoadStats stats = new InstanceLoadStats(Duration.ofSeconds(10), 5,
+            Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(60));
+
+    private final ServiceInstance a = instance("a", null);
+    private final ServiceInstance b = instance("b", null);
+    private final ServiceInstance c = instance("c", null);
+
+    @Test
+    @DisplayName("두 인스턴스 중에서는 항상 진행 중인 호출이 적은 쪽 선택")
+    void picksLeastLoadedOfTwo() {
+        busy(a, 3);
+
+        Map<String, Integer> picks = pick(balancer(null, 50, a, b));
+
+        assertThat(picks).containsOnlyKeys("b");
+    }
+
+    @Test
+    @DisplayName("세 인스턴스면 무작위 두 개 중 한가한 쪽: 가장 바쁜 인스턴스는 선택되지 않고 나머지는 모두 선택됨")
+    void powerOfTwoChoicesNeverPicksWorst() {
+        busy(a, 1);
+        busy(c, 5);
+
+        Map<String, Integer> picks = pick(balancer(null, 50, a, b, c));
+
+        assertThat(picks).containsOnlyKeys("a", "b");
+        assertThat(picks.get("b")).isGreaterThan(picks.get("a"));
+    }
+
+    @Test
+    @DisplayName("비용이 같으면 고르게 나눔")
+    void spreadsTies() {
+        Map<String, Integer> picks = pick(balancer(null, 50, a, b, c));
+
+        assertThat(picks).containsOnlyKeys("a", "b", "c");
+        assertThat(picks.values()).allSatisfy(count -> assertThat(count).isBetween(PICKS / 5, PICKS / 2));
+    }
+
+    @Test
+    @DisplayName("연결이 거부된 인스턴스는 제외하되, 제외 비율(max-ejection-percent)을 넘는 인스턴스는 다시 포함")
+    void skipsEjectedWithinLimit() {
+        stats.onConnectFailure(a, new Object());
+        assertThat(pick(balancer(null, 50, a, b, c))).containsOnlyKeys("b", "c");
+
+        // 3개 중 50%는 1개까지만 제외: 제외가 먼저 끝나는 a를 다시 포함
+        stats.onConnectFailure(b, new Object());
+        assertThat(pick(balancer(null, 50, a, b, c))).containsOnlyKeys("a", "c");
+
+        // 모두 제외되어도 최소 1개는 남김
+        stats.onConnectFailure(c, new Object());
+        assertThat(pick(balancer(null, 100, a, b, c))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 영역 인스턴스가 있으면 그중에서만, 없으면 전체에서 선택")
+    void prefersSameZone() {
+        ServiceInstance local = instance("local", "zone-a");
+        ServiceInstance remote = instance("remote", "zone-b");
+
+        assertThat(pick(balancer("zone-a", 50, local, remote))).containsOnlyKeys("local");
+        assertThat(pick(balancer("zone-c", 50, local, remote))).containsOnlyKeys("local", "remote");
+    }
+
+    @Test
+    @DisplayName("인스턴스가 없으면 빈 응답")
+    void emptyWithoutInstances() {
+        Response<ServiceInstance> response = balancer(null, 50).choose(new DefaultRequest<>()).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.hasServer()).isFalse();
+    }
+
+    private void busy(ServiceInstance instance, int calls) {
+        for (int i = 0; i < calls; i++) {
+            stats.onStart(instance, new Object());
+        }
+    }
+
+    private Map<String, Integer> pick(LoadAwareLoadBalancer balancer) {
+        Map<String, Integer> picks = new HashMap<>();
+        for (int i = 0; i < PICKS; i++) {
+            Response<ServiceInstance> response = balancer.choose(new DefaultRequest<>()).block();
+            picks.merge(response.getServer().getInstanceId(), 1, Integer::sum);
+        }
+        return picks;
+    }
+
+    private LoadAwareLoadBalancer balancer(String zone, int maxEjectionPercent, ServiceInstance... instances) {
+        ServiceInstanceListSupplier supplier = ServiceInstanceListSuppliers.from("member-service", instances);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("supplier", supplier));
+        return new LoadAwareLoadBalancer("member-service", beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+                stats, zone, maxEjectionPercent);
+    }
+
+    private static ServiceInstance instance(String id, String zone) {
+        Map<String, String> metadata = zone != null ? Map.of("zone", zone) : Map.of();
+        return new DefaultServiceInstance(id, "member-service", id + ".local", 8081, false, metadata);
+    }
+}
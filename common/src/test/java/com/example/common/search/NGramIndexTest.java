@@ -0,0 +1,76 @@
+package com.example.common.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NGramIndex 유닛 테스트
+ *
+ * 한글 이름 부분/접두사 검색, 순위, 페이징, 갱신/삭제를 검증합니다.
+ */
+@DisplayName("NGramIndex 테스트")
+class NGramIndexTest {
+
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex();
+        index.put(1L, "홍길동");
+        index.put(2L, "김길동");
+        index.put(3L, "홍길");
+        index.put(4L, "길동 홍");
+        index.put(5L, "Admin User");
+    }
+
+    @Test
+    @DisplayName("부분 일치 검색은 완전 일치 > 접두사 > 단어 접두사 > 부분 일치 순, 같은 순위는 짧은 이름 순")
+    void containsSearchIsRanked() {
+        SearchHits hits = index.search("길동", SearchMode.CONTAINS, 0, 10);
+
+        assertThat(hits.ids()).containsExactly(4L, 1L, 2L);
+        assertThat(hits.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("접두사 검색은 이름 또는 단어가 검색어로 시작하는 문서만 반환")
+    void prefixSearchMatchesWordStarts() {
+        assertThat(index.search("홍길", SearchMode.PREFIX, 0, 10).ids()).containsExactly(3L, 1L);
+        assertThat(index.search("홍", SearchMode.PREFIX, 0, 10).ids()).containsExactly(3L, 1L, 4L);
+        assertThat(index.search("user", SearchMode.PREFIX, 0, 10).ids()).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("gram이 모두 포함되어도 연속하지 않으면 일치하지 않음")
+    void rejectsOutOfOrderGrams() {
+        index.put(6L, "길동홍길");
+
+        assertThat(index.search("홍길동", SearchMode.CONTAINS, 0, 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("offset/limit로 페이지를 나누어도 전체 건수는 유지")
+    void pagesResults() {
+        SearchHits firstPage = index.search("길", SearchMode.CONTAINS, 0, 2);
+        SearchHits secondPage = index.search("길", SearchMode.CONTAINS, 2, 2);
+
+        assertThat(firstPage.ids()).containsExactly(4L, 3L);
+        assertThat(secondPage.ids()).containsExactly(1L, 2L);
+        assertThat(firstPage.total()).isEqualTo(4);
+        assertThat(secondPage.total()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("갱신과 삭제가 검색 결과에 반영")
+    void reflectsUpdatesAndRemovals() {
+        index.put(1L, "홍수정");
+        index.remove(2L);
+
+        assertThat(index.search("길동", SearchMode.CONTAINS, 0, 10).ids()).containsExactly(4L);
+        assertThat(index.search("수정", SearchMode.CONTAINS, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.common.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SearchIndex 유닛 테스트
+ *
+ * 재색인, 재색인 중 변경의 재적용, 트랜잭션 롤백 시 되돌리기를 검증합니다.
+ */
+@DisplayName("SearchIndex 테스트")
+class SearchIndexTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("재색인이 끝나기 전에는 빈 결과, 끝나면 DB 행으로 검색")
+    void rebuildIndexesRows() {
+        TestIndex index = new TestIndex(List.of(row(1, "홍길동"), row(2, "김철수")), self -> { });
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search("길동", SearchMode.CONTAINS, 0, 10)).isEqualTo(SearchHits.EMPTY);
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("길동", SearchMode.CONTAINS, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.stats()).containsEntry("documents", 2);
+    }
+
+    @Test
+    @DisplayName("재색인 중 커밋된 변경은 DB 스냅샷보다 우선하여 새 색인에 반영")
+    void rebuildReappliesPendingChanges() {
+        TestIndex index = new TestIndex(List.of(row(1, "홍길동"), row(2, "김철수")),
+                self -> {
+                    self.update(1, "홍길순");
+                    self.update(3, "이영희");
+                });
+
+        index.rebuild();
+
+        assertThat(index.search("길동", SearchMode.CONTAINS, 0, 10).total()).isZero();
+        assertThat(index.search("길순", SearchMode.CONTAINS, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("영희", SearchMode.CONTAINS, 0, 10).ids()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 트랜잭션 시작 전 값으로 되돌림 (여러 번 변경해도 처음 값)")
+    void rollbackRevertsToValueBeforeTransaction() {
+        TestIndex index = new TestIndex(List.of(row(1, "홍길동")), self -> { });
+        index.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.updateInTransaction(1L, "홍길순");
+        index.updateInTransaction(1L, "홍길영");
+        index.updateInTransaction(2L, "김철수");
+        assertThat(index.search("길영", SearchMode.CONTAINS, 0, 10).ids()).containsExactly(1L);
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.search("길동", SearchMode.CONTAINS, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("길영", SearchMode.CONTAINS, 0, 10).total()).isZero();
+        assertThat(index.search("철수", SearchMode.CONTAINS, 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 커밋되면 변경 유지")
+    void commitKeepsChanges() {
+        TestIndex index = new TestIndex(List.of(row(1, "홍길동")), self -> { });
+        index.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.updateInTransaction(1L, null);
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(index.search("길동", SearchMode.CONTAINS, 0, 10).total()).isZero();
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static SearchRow row(long id, String text) {
+        return new SearchRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getText() {
+                return text;
+            }
+        };
+    }
+
+    /**
+     * 고정된 행 목록을 읽는 색인 (첫 조회 후 onFirstRead 실행: 재색인 중 커밋된 변경 흉내)
+     */
+    private static class TestIndex extends SearchIndex {
+
+        private final List<SearchRow> rows;
+        private final Consumer<SearchIndex> onFirstRead;
+
+        TestIndex(List<SearchRow> rows, Consumer<SearchIndex> onFirstRead) {
+            super("test");
+            this.rows = rows;
+            this.onFirstRead = onFirstRead;
+        }
+
+        @Override
+        protected List<? extends SearchRow> findRowsAfter(long afterId, int limit) {
+            List<SearchRow> page = rows.stream()
+                    .filter(row -> row.getId() > afterId)
+                    .limit(limit)
+                    .toList();
+            if (afterId == 0) {
+                onFirstRead.accept(this);
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.common.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EntityTags 유닛 테스트
+ *
+ * If-None-Match는 약한 비교, If-Match는 강한 비교를 사용하는지 검증합니다. (RFC 9110 13.1)
+ */
+@DisplayName("EntityTags 테스트")
+class EntityTagsTest {
+
+    private static final String STRONG = EntityTags.strong("order", 1L, 3L);
+    private static final String WEAK = EntityTags.weak("order", 1L, 3L);
+
+    @Test
+    @DisplayName("ETag 형식: 강한 ETag는 따옴표, 약한 ETag는 W/ 접두사")
+    void formats() {
+        assertThat(STRONG).isEqualTo("\"order-1-3\"");
+        assertThat(WEAK).isEqualTo("W/\"order-1-3\"");
+        assertThat(EntityTags.strong("member", 2L, null)).isEqualTo("\"member-2-0\"");
+    }
+
+    @Test
+    @DisplayName("필드 선택 ETag는 정렬한 필드 목록의 해시를 붙인 강한 ETag (순서 무관, 필드가 없으면 그대로)")
+    void fieldsEtag() {
+        String idOnly = EntityTags.withFields(STRONG, Set.of("id"));
+        String twoFields = EntityTags.withFields(STRONG, Set.of("id", "status"));
+
+        assertThat(EntityTags.withFields(STRONG, Set.of())).isEqualTo(STRONG);
+        assertThat(idOnly).matches("\"order-1-3-f[0-9a-f]{12}\"").isNotEqualTo(twoFields);
+        assertThat(EntityTags.withFields(STRONG, new LinkedHashSet<>(List.of("status", "id")))).isEqualTo(twoFields);
+        assertThat(EntityTags.matchesIfNoneMatch(STRONG, idOnly)).isFalse();
+        assertThat(EntityTags.matchesIfMatch(idOnly, idOnly)).isTrue();
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 W/ 접두사를 무시하고 비교 (약한 비교)")
+    void ifNoneMatchUsesWeakComparison() {
+        assertThat(EntityTags.matchesIfNoneMatch(WEAK, STRONG)).isTrue();
+        assertThat(EntityTags.matchesIfNoneMatch(STRONG, WEAK)).isTrue();
+        assertThat(EntityTags.matchesIfNoneMatch("\"order-1-2\", " + WEAK, STRONG)).isTrue();
+        assertThat(EntityTags.matchesIfNoneMatch("*", STRONG)).isTrue();
+        assertThat(EntityTags.matchesIfNoneMatch("\"order-1-2\"", STRONG)).isFalse();
+        assertThat(EntityTags.matchesIfNoneMatch(null, STRONG)).isFalse();
+    }
+
+    @Test
+    @DisplayName("If-Match는 양쪽 모두 강한 ETag이고 같을 때만 일치 (강한 비교)")
+    void ifMatchUsesStrongComparison() {
+        assertThat(EntityTags.matchesIfMatch(STRONG, STRONG)).isTrue();
+        assertThat(EntityTags.matchesIfMatch("\"order-1-2\", " + STRONG, STRONG)).isTrue();
+        assertThat(EntityTags.matchesIfMatch("*", STRONG)).isTrue();
+        assertThat(EntityTags.matchesIfMatch(WEAK, STRONG)).isFalse();
+        assertThat(EntityTags.matchesIfMatch(STRONG, WEAK)).isFalse();
+        assertThat(EntityTags.matchesIfMatch("\"order-1-2\"", STRONG)).isFalse();
+        assertThat(EntityTags.matchesIfMatch(null, STRONG)).isFalse();
+    }
+}
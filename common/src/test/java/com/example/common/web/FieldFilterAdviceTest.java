@@ -0,0 +1,78 @@
+package com.example.common.web;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FieldFilterAdvice / FieldFilterConfig 유닛 테스트
+ *
+ * fields 파라미터 해석과, 그 결과로 @JsonFilter(FILTER_ID) DTO가 지정한 필드만 직렬화되는지 검증합니다.
+ * 기본 필터(FieldFilterConfig)로 만든 ObjectMapper는 요청별 필터 없이 모든 필드를 직렬화합니다.
+ */
+@DisplayName("FieldFilterAdvice 테스트")
+class FieldFilterAdviceTest {
+
+    private final ObjectMapper objectMapper = objectMapper();
+    private final FieldFilterAdvice advice = new FieldFilterAdvice();
+
+    @Test
+    @DisplayName("fields는 쉼표로 나누고 여러 번 지정 가능, 공백과 빈 값은 무시")
+    void parsesFields() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("fields", " id, name,", "status");
+
+        assertThat(FieldFilterAdvice.parseFields(request)).containsExactlyInAnyOrder("id", "name", "status");
+        assertThat(FieldFilterAdvice.parseFields(new MockHttpServletRequest())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지정한 필드만 목록의 각 항목에 직렬화 (없는 필드 이름은 무시)")
+    void serializesSelectedFields() throws Exception {
+        String json = write(List.of(new Item(1L, "노트북", "PENDING")), "id,status,unknown");
+
+        assertThat(json).isEqualTo("[{\"id\":1,\"status\":\"PENDING\"}]");
+    }
+
+    @Test
+    @DisplayName("fields가 없거나 비어 있으면 모든 필드")
+    void serializesAllFieldsWithoutParameter() throws Exception {
+        Item item = new Item(1L, "노트북", "PENDING");
+        String all = "{\"id\":1,\"name\":\"노트북\",\"status\":\"PENDING\"}";
+
+        assertThat(write(item, null)).isEqualTo(all);
+        assertThat(write(item, " , ")).isEqualTo(all);
+        assertThat(objectMapper.writeValueAsString(item)).isEqualTo(all);
+    }
+
+    private String write(Object body, String fields) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (fields != null) {
+            request.addParameter("fields", fields);
+        }
+        MappingJacksonValue container = new MappingJacksonValue(body);
+        advice.beforeBodyWriteInternal(container, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), null);
+        return objectMapper.writer(container.getFilters()).writeValueAsString(container.getValue());
+    }
+
+    private static ObjectMapper objectMapper() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new FieldFilterConfig().fieldFilterCustomizer().customize(builder);
+        return builder.build();
+    }
+
+    @JsonFilter(FieldFilterConfig.FILTER_ID)
+    record Item(Long id, String name, String status) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.common.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestDeadlineFilter 유닛 테스트
+ *
+ * X-Request-Timeout 헤더로 정한 처리 기한이 요청 속성에 들어가는지,
+ * 이미 지난 기한은 다음 필터로 넘기지 않고 504로 응답하는지 검증합니다.
+ */
+@DisplayName("RequestDeadlineFilter 테스트")
+class RequestDeadlineFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final RequestDeadlineFilter filter =
+            new RequestDeadlineFilter(objectMapper, Duration.ofSeconds(3), Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("헤더의 남은 밀리초로 기한을 정하고 다음 필터로 넘김")
+    void bindsHeaderDeadline() throws Exception {
+        MockHttpServletRequest request = request("500");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(RequestDeadline.of(request).remainingMillis()).isBetween(1L, 500L);
+    }
+
+    @Test
+    @DisplayName("최대 기한보다 긴 헤더 값은 최대 기한으로 제한")
+    void clampsToMaxTimeout() throws Exception {
+        MockHttpServletRequest request = request("60000");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(RequestDeadline.of(request).remainingMillis()).isBetween(9_000L, 10_000L);
+    }
+
+    @ParameterizedTest(name = "\"{0}\"")
+    @ValueSource(strings = {"", "abc", "1.5"})
+    @DisplayName("헤더가 없거나 숫자가 아니면 기본 기한")
+    void defaultsWithoutValidHeader(String header) throws Exception {
+        MockHttpServletRequest missing = request(null);
+        MockHttpServletRequest invalid = request(header);
+
+        filter.doFilter(missing, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(invalid, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(RequestDeadline.of(missing).remainingMillis()).isBetween(2_000L, 3_000L);
+        assertThat(RequestDeadline.of(invalid).remainingMillis()).isBetween(2_000L, 3_000L);
+    }
+
+    @ParameterizedTest(name = "\"{0}\"")
+    @ValueSource(strings = {"0", "-1"})
+    @DisplayName("이미 지난 기한은 다음 필터로 넘기지 않고 ErrorResponse 형태의 504 응답")
+    void rejectsExpiredDeadline(String header) throws Exception {
+        MockHttpServletRequest request = request(header);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(504);
+        assertThat(response.getContentType()).startsWith("application/json");
+        Map<String, Object> body = objectMapper.readValue(response.getContentAsByteArray(), new TypeReference<>() {
+        });
+        assertThat(body.keySet()).containsExactly("status", "error", "message", "details", "timestamp");
+        assertThat(body.get("status")).isEqualTo(504);
+        assertThat(body.get("error")).isEqualTo("Deadline Exceeded");
+        assertThat(body.get("message")).isEqualTo("요청 처리 기한이 지났습니다");
+    }
+
+    private static MockHttpServletRequest request(String timeout) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        if (timeout != null) {
+            request.addHeader(RequestDeadline.HEADER, timeout);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.gateway.accesslog;
+
+import java.net.InetSocketAddress;
+
+/**
+ * 접근 로그 항목
+ * 
+ * 이벤트 루프 스레드에서는 요청/응답에 이미 존재하는 값만 담아 링 버퍼에 넣고,
+ * 클라이언트 IP 판별과 JSON 직렬화는 writer 스레드에서 수행합니다.
+ * 
+ * @param timestamp      요청 수신 시각 (epoch millis)
+ * @param method         HTTP 메서드
+ * @param path           요청 경로
+ * @param routeId        매칭된 Gateway 라우트 ID (없으면 null)
+ * @param status         응답 상태 코드 (없으면 0)
+ * @param latencyMicros  요청 수신부터 응답 완료까지 걸린 시간 (마이크로초)
+ * @param bytes          응답 본문 바이트 수
+ * @param user           인증된 사용자명 (없으면 null)
+ * @param forwardedFor   X-Forwarded-For 헤더 원본 값
+ * @param realIp         X-Real-IP 헤더 원본 값
+ * @param remoteAddress  직접 연결된 클라이언트 주소
+ */
+public record AccessLogEntry(
+        long timestamp,
+        String method,
+        String path,
+        String routeId,
+        int status,
+        long latencyMicros,
+        long bytes,
+        String user,
+        String forwardedFor,
+        String realIp,
+        InetSocketAddress remoteAddress) {
+}
@@ -0,0 +1,117 @@
+package com.example.gateway.accesslog;
+
+import com.example.gateway.filter.AuthenticationFilter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접근 로그 수집 Global Filter
+ * 
+ * 응답이 완료된 시점(post-response)에 라우트 ID, 상태 코드, 지연 시간, 응답 바이트 수,
+ * 인증 사용자 정보를 AccessLogEntry로 만들어 AccessLogWriter의 링 버퍼에 넣습니다.
+ * 
+ * 이벤트 루프에서는 문자열 포맷팅이나 I/O를 전혀 하지 않으며,
+ * 샘플링에서 제외된 요청은 추가 작업 없이 그대로 통과시킵니다.
+ * 
+ * 응답 바이트 수를 세기 위해 NettyWriteResponseFilter보다 먼저 실행되어야 합니다.
+ */
+public class AccessLogGlobalFilter implements GlobalFilter, Ordered {
+
+    private final AccessLogWriter writer;
+    private final double sampleRate;
+
+    public AccessLogGlobalFilter(AccessLogWriter writer, AccessLogProperties properties) {
+        this.writer = writer;
+        this.sampleRate = properties.getSampleRate();
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!isSampled()) {
+            return chain.filter(exchange);
+        }
+
+        long timestamp = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        ByteCountingResponse response = new ByteCountingResponse(exchange.getResponse());
+
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> record(exchange, response, signal, timestamp, startNanos));
+    }
+
+    private boolean isSampled() {
+        if (sampleRate >= 1.0) {
+            return true;
+        }
+        return sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void record(ServerWebExchange exchange, ByteCountingResponse response,
+                        SignalType signal, long timestamp, long startNanos) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        HttpStatusCode statusCode = response.getStatusCode();
+        int status = statusCode != null ? statusCode.value() : (signal == SignalType.ON_ERROR ? 500 : 0);
+
+        writer.submit(new AccessLogEntry(
+                timestamp,
+                request.getMethod().name(),
+                request.getPath().value(),
+                route != null ? route.getId() : null,
+                status,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos),
+                response.bytes,
+                exchange.getAttribute(AuthenticationFilter.AUTHENTICATED_USER_ATTR),
+                request.getHeaders().getFirst("X-Forwarded-For"),
+                request.getHeaders().getFirst("X-Real-IP"),
+                request.getRemoteAddress()));
+    }
+
+    /**
+     * 응답 본문 바이트 수를 세는 Response 데코레이터
+     */
+    private static final class ByteCountingResponse extends ServerHttpResponseDecorator {
+
+        private long bytes;
+
+        private ByteCountingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(this::count));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(chunk -> Flux.from(chunk).doOnNext(this::count)));
+        }
+
+        private void count(DataBuffer buffer) {
+            bytes += buffer.readableByteCount();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.gateway.accesslog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 접근 로그(Access Log) 설정
+ * 
+ * 설정 예시 (gateway-service.yml):
+ *   gateway:
+ *     access-log:
+ *       enabled: true
+ *       sample-rate: 1.0
+ *       buffer-size: 8192
+ *       batch-size: 256
+ *       flush-interval: 200ms
+ */
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+
+    /**
+     * 접근 로그 기록 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 샘플링 비율 (0.0 ~ 1.0)
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * 링 버퍼 크기 (2의 거듭제곱으로 올림)
+     * 버퍼가 가득 차면 새 항목은 버려지고 drop 카운터가 증가합니다.
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * 한 번에 출력하는 최대 로그 건수
+     */
+    private int batchSize = 256;
+
+    /**
+     * 버퍼가 비어 있을 때 writer 스레드의 대기 간격
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * 접근 로그를 출력할 로거 이름
+     */
+    private String loggerName = "ACCESS_LOG";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public String getLoggerName() {
+        return loggerName;
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.gateway.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 Lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ * 
+ * 이벤트 루프 스레드(생산자)는 offer()로 항목을 넣고, writer 스레드(소비자)가 drain()으로 꺼냅니다.
+ * 
+ * 동작 방식:
+ * - 생산자는 tail 시퀀스를 CAS로 선점한 뒤 해당 슬롯에 항목을 기록
+ * - 버퍼가 가득 차면 대기하지 않고 즉시 false를 반환 (호출 측에서 drop 처리)
+ * - 소비자는 head 위치의 슬롯이 채워진 경우에만 꺼내고 슬롯을 비움
+ * 
+ * 어떤 경우에도 생산자는 블로킹되지 않으므로 이벤트 루프에서 안전하게 호출할 수 있습니다.
+ */
+public class AccessLogRingBuffer {
+
+    private final AtomicReferenceArray<AccessLogEntry> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();  // 다음에 소비할 시퀀스
+    private final AtomicLong tail = new AtomicLong();  // 다음에 생산할 시퀀스
+
+    /**
+     * @param requestedCapacity 요청 용량 (2의 거듭제곱으로 올림)
+     */
+    public AccessLogRingBuffer(int requestedCapacity) {
+        int capacity = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(2, requestedCapacity) - 1));
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 항목 추가 (논블로킹)
+     * 
+     * @param entry 추가할 항목
+     * @return 추가 성공 시 true, 버퍼가 가득 찬 경우 false
+     */
+    public boolean offer(AccessLogEntry entry) {
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.lazySet((int) (currentTail & mask), entry);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 최대 maxItems개의 항목을 꺼내 consumer에 전달 (단일 소비자 전용)
+     * 
+     * 생산자가 시퀀스를 선점했지만 아직 기록하지 않은 슬롯을 만나면 거기서 멈춥니다.
+     * 
+     * @return 꺼낸 항목 수
+     */
+    public int drain(Consumer<AccessLogEntry> consumer, int maxItems) {
+        long currentHead = head.get();
+        int drained = 0;
+        while (drained < maxItems) {
+            int index = (int) (currentHead & mask);
+            AccessLogEntry entry = slots.get(index);
+            if (entry == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            currentHead++;
+            head.lazySet(currentHead);
+            consumer.accept(entry);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 현재 버퍼에 남아 있는 항목 수 (근사값)
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
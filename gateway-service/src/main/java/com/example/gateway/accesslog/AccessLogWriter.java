@@ -0,0 +1,153 @@
+package com.example.gateway.accesslog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접근 로그 Writer
+ * 
+ * 링 버퍼에 쌓인 접근 로그를 전용 백그라운드 스레드에서 꺼내
+ * 한 줄에 하나씩 JSON 형식으로 직렬화하고, batch-size 단위로 묶어 한 번에 출력합니다.
+ * 
+ * 이벤트 루프 스레드는 submit()으로 버퍼에 넣기만 하며,
+ * 버퍼가 가득 찬 경우 기다리지 않고 항목을 버린 뒤 drop 카운터를 증가시킵니다.
+ * 
+ * 노출 메트릭:
+ * - gateway.access-log.written: 출력된 로그 수
+ * - gateway.access-log.dropped: 버퍼 포화로 버려진 로그 수
+ * - gateway.access-log.buffered: 현재 버퍼에 대기 중인 로그 수
+ */
+public class AccessLogWriter implements SmartLifecycle {
+
+    private final AccessLogRingBuffer buffer;
+    private final AccessLogProperties properties;
+    private final Logger accessLog;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final StringBuilder batch = new StringBuilder(16 * 1024);
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AccessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new AccessLogRingBuffer(properties.getBufferSize());
+        this.accessLog = LoggerFactory.getLogger(properties.getLoggerName());
+        this.writtenCounter = Counter.builder("gateway.access-log.written")
+                .description("출력된 접근 로그 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("gateway.access-log.dropped")
+                .description("버퍼 포화로 버려진 접근 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("gateway.access-log.buffered", buffer, AccessLogRingBuffer::size)
+                .description("버퍼에 대기 중인 접근 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 접근 로그 제출 (이벤트 루프에서 호출, 논블로킹)
+     */
+    public void submit(AccessLogEntry entry) {
+        if (!buffer.offer(entry)) {
+            droppedCounter.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "access-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long idleNanos = properties.getFlushInterval().toNanos();
+        while (running) {
+            if (flushBatch() == 0) {
+                LockSupport.parkNanos(this, idleNanos);
+            }
+        }
+        // 종료 시 남은 로그 모두 출력
+        while (flushBatch() > 0) {
+            // drain
+        }
+    }
+
+    private int flushBatch() {
+        batch.setLength(0);
+        int count = buffer.drain(this::appendJson, properties.getBatchSize());
+        if (count > 0) {
+            batch.setLength(batch.length() - 1);  // 마지막 줄바꿈 제거
+            accessLog.info(batch.toString());
+            writtenCounter.increment(count);
+        }
+        return count;
+    }
+
+    private void appendJson(AccessLogEntry entry) {
+        batch.append("{\"ts\":\"").append(Instant.ofEpochMilli(entry.timestamp())).append('"');
+        appendField("method", entry.method());
+        appendField("path", entry.path());
+        appendField("route", entry.routeId());
+        batch.append(",\"status\":").append(entry.status());
+        batch.append(",\"latencyUs\":").append(entry.latencyMicros());
+        batch.append(",\"bytes\":").append(entry.bytes());
+        appendField("user", entry.user());
+        appendField("clientIp", ClientIpResolver.resolve(entry.forwardedFor(), entry.realIp(), entry.remoteAddress()));
+        batch.append("}\n");
+    }
+
+    private void appendField(String name, String value) {
+        batch.append(",\"").append(name).append("\":");
+        if (value == null) {
+            batch.append("null");
+            return;
+        }
+        batch.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> batch.append("\\\"");
+                case '\\' -> batch.append("\\\\");
+                case '\n' -> batch.append("\\n");
+                case '\r' -> batch.append("\\r");
+                case '\t' -> batch.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        batch.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        batch.append(c);
+                    }
+                }
+            }
+        }
+        batch.append('"');
+    }
+}
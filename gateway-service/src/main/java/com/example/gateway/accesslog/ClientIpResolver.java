@@ -0,0 +1,71 @@
+package com.example.gateway.accesslog;
+
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import java.net.InetSocketAddress;
+
+/**
+ * 클라이언트 IP 주소 판별
+ * 
+ * 우선순위:
+ * 1. X-Forwarded-For 헤더 (프록시/로드밸런서 환경, 첫 번째 IP만 사용)
+ * 2. X-Real-IP 헤더 (Nginx 등)
+ * 3. RemoteAddress (직접 연결)
+ * 
+ * IPv6 localhost는 IPv4로 변환 (::1 또는 0:0:0:0:0:0:0:1 → 127.0.0.1)
+ * 
+ * 접근 로그(writer 스레드)와 요청 로깅 필터가 같은 규칙으로 IP를 판별하도록 이 클래스만 사용합니다.
+ */
+public final class ClientIpResolver {
+
+    private ClientIpResolver() {
+    }
+
+    /**
+     * 요청 헤더와 연결 주소로 클라이언트 IP 판별
+     */
+    public static String resolve(ServerHttpRequest request) {
+        return resolve(request.getHeaders().getFirst("X-Forwarded-For"),
+                request.getHeaders().getFirst("X-Real-IP"),
+                request.getRemoteAddress());
+    }
+
+    /**
+     * 접근 로그 항목에 담아 둔 원본 값으로 클라이언트 IP 판별
+     */
+    public static String resolve(String forwardedFor, String realIp, InetSocketAddress remoteAddress) {
+        // 1. X-Forwarded-For 헤더 확인 (첫 번째 IP만 추출)
+        if (forwardedFor != null && !forwardedFor.isEmpty()) {
+            // split()은 정규식 처리와 배열 생성이 발생하므로 첫 번째 쉼표 위치만 찾습니다.
+            int comma = forwardedFor.indexOf(',');
+            String firstIp = comma < 0 ? forwardedFor : forwardedFor.substring(0, comma);
+            return normalizeIp(firstIp.trim());
+        }
+
+        // 2. X-Real-IP 헤더 확인
+        if (realIp != null && !realIp.isEmpty()) {
+            return normalizeIp(realIp);
+        }
+
+        // 3. RemoteAddress 사용
+        if (remoteAddress != null && remoteAddress.getAddress() != null) {
+            return normalizeIp(remoteAddress.getAddress().getHostAddress());
+        }
+
+        return "unknown";
+    }
+
+    /**
+     * IP 주소 정규화
+     * - IPv6 localhost를 IPv4로 변환
+     */
+    private static String normalizeIp(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return "unknown";
+        }
+        if ("::1".equals(ip) || "0:0:0:0:0:0:0:1".equals(ip)) {
+            return "127.0.0.1";
+        }
+        return ip;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 캐시에 저장된 응답
+ *
+ * 본문은 byte[]로 한 번만 복사해 두고, 캐시 히트 시에는
+ * DataBufferFactory#wrap(byte[])으로 감싸기만 하여 복사 없이 재사용합니다.
+ *
+ * @param status      응답 상태 코드 (현재는 200만 저장)
+ * @param headers     저장 시점의 응답 헤더 (읽기 전용)
+ * @param body        응답 본문
+ * @param etag        응답 ETag (하위 서비스가 준 값 또는 본문 해시)
+ * @param storedAtNanos 저장 시각 (System.nanoTime 기준, Age 헤더 계산용)
+ * @param ttlNanos    항목 유효 시간
+ */
+public record CachedResponse(
+        int status,
+        HttpHeaders headers,
+        byte[] body,
+        String etag,
+        long storedAtNanos,
+        long ttlNanos
+) {
+
+    /**
+     * 저장 후 경과 시간 (초)
+     */
+    public long ageSeconds() {
+        return (System.nanoTime() - storedAtNanos) / 1_000_000_000L;
+    }
+}
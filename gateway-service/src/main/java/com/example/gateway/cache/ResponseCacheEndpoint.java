@@ -0,0 +1,44 @@
+package com.example.gateway.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 응답 캐시 관리 Actuator 엔드포인트
+ *
+ * - GET    /actuator/responsecache          : 영역별 캐시 통계
+ * - DELETE /actuator/responsecache          : 전체 캐시 무효화
+ * - DELETE /actuator/responsecache/{region} : 특정 영역 무효화
+ *
+ * 하위 서비스에서 Gateway를 거치지 않고 데이터가 변경된 경우(배치 작업 등) 호출합니다.
+ */
+@Component
+@Endpoint(id = "responsecache")
+public class ResponseCacheEndpoint {
+
+    private final ResponseCacheManager cacheManager;
+
+    public ResponseCacheEndpoint(ResponseCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> stats() {
+        return cacheManager.stats();
+    }
+
+    @DeleteOperation
+    public void invalidateAll() {
+        cacheManager.invalidateAll();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> invalidate(@Selector String region) {
+        return Map.of("region", region, "invalidated", cacheManager.invalidate(region));
+    }
+}
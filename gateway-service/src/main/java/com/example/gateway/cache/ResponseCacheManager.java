@@ -0,0 +1,145 @@
+package com.example.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gateway 응답 캐시 저장소
+ *
+ * 캐시는 영역(region) 단위로 관리됩니다. 같은 하위 서비스를 가리키는 여러 라우트가
+ * 같은 영역 이름을 사용하면 캐시와 무효화 범위를 공유합니다. (예: members, orders)
+ *
+ * - 영역별 최대 항목 수는 처음 등록한 라우트 설정을 따릅니다.
+ * - 항목별 TTL은 CachedResponse#ttlNanos 값을 사용합니다. (라우트 TTL과 Cache-Control max-age 중 작은 값)
+ * - 무효화는 ResponseCache 필터(변경 요청 성공 시)와 /actuator/responsecache 엔드포인트에서 호출합니다.
+ *
+ * 영역마다 세대(generation) 번호를 두고 무효화할 때마다 올립니다.
+ * 캐시 미스 요청은 하위 서비스 호출 전 세대를 기억했다가, 저장한 뒤 세대가 바뀌었으면 자기 항목을 지웁니다.
+ * (무효화 전에 시작한 요청이 무효화 후에 옛 본문을 다시 저장하지 않도록)
+ */
+@Slf4j
+@Component
+public class ResponseCacheManager {
+
+    private final ConcurrentMap<String, Cache<String, CachedResponse>> regions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * 영역 캐시 조회 (없으면 생성)
+     *
+     * @param region     영역 이름
+     * @param maxEntries 영역의 최대 항목 수
+     */
+    public Cache<String, CachedResponse> region(String region, long maxEntries) {
+        return regions.computeIfAbsent(region, name -> Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new PerEntryTtl())
+                .recordStats()
+                .build());
+    }
+
+    /**
+     * 영역의 현재 세대 번호 (무효화할 때마다 증가)
+     */
+    public long generation(String region) {
+        return generations.computeIfAbsent(region, name -> new AtomicLong()).get();
+    }
+
+    /**
+     * 항목 저장 (저장하는 동안 영역이 무효화되었으면 저장한 항목을 지움)
+     *
+     * 세대를 올린 뒤 항목을 지우는 무효화 순서와 맞물려, 어느 시점에 무효화가 끼어들어도
+     * expectedGeneration 세대에 받은 응답은 캐시에 남지 않습니다.
+     *
+     * @param expectedGeneration 하위 서비스 호출 전에 읽은 세대 번호
+     * @return 저장된 채로 남았으면 true
+     */
+    public boolean put(String region, String key, CachedResponse response, long expectedGeneration) {
+        Cache<String, CachedResponse> cache = regions.get(region);
+        if (cache == null || generation(region) != expectedGeneration) {
+            return false;
+        }
+        cache.put(key, response);
+        if (generation(region) != expectedGeneration) {
+            cache.asMap().remove(key, response);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 영역의 모든 항목 삭제
+     *
+     * @return 영역이 존재했으면 true
+     */
+    public boolean invalidate(String region) {
+        generations.computeIfAbsent(region, name -> new AtomicLong()).incrementAndGet();
+        Cache<String, CachedResponse> cache = regions.get(region);
+        if (cache == null) {
+            return false;
+        }
+        cache.invalidateAll();
+        log.debug("Response cache region invalidated: {}", region);
+        return true;
+    }
+
+    /**
+     * 모든 영역의 항목 삭제
+     */
+    public void invalidateAll() {
+        regions.keySet().forEach(region -> generations.computeIfAbsent(region, name -> new AtomicLong())
+                .incrementAndGet());
+        regions.values().forEach(Cache::invalidateAll);
+        log.info("All response cache regions invalidated");
+    }
+
+    /**
+     * 영역별 통계 (actuator 엔드포인트용)
+     */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        regions.forEach((name, cache) -> {
+            CacheStats stats = cache.stats();
+            Map<String, Object> region = new LinkedHashMap<>();
+            region.put("size", cache.estimatedSize());
+            region.put("hitCount", stats.hitCount());
+            region.put("missCount", stats.missCount());
+            region.put("hitRate", stats.hitRate());
+            region.put("evictionCount", stats.evictionCount());
+            result.put(name, region);
+        });
+        return result;
+    }
+
+    /**
+     * 항목마다 저장 시 계산한 TTL을 적용하는 Expiry
+     */
+    private static final class PerEntryTtl implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
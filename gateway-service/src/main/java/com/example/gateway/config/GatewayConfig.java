@@ -1,20 +1,62 @@
 package com.example.gateway.config;
 
+import com.example.gateway.accesslog.AccessLogGlobalFilter;
+import com.example.gateway.accesslog.AccessLogProperties;
+import com.example.gateway.accesslog.AccessLogWriter;
+import com.example.gateway.accesslog.ClientIpResolver;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Gateway 설정 및 커스텀 필터
+ * 
+ * 접근 로그(Access Log):
+ * - AccessLogGlobalFilter가 응답 완료 시점의 정보를 링 버퍼에 넣고,
+ *   AccessLogWriter의 백그라운드 스레드가 JSON으로 직렬화하여 배치 단위로 출력합니다.
+ * - 이벤트 루프 스레드에서는 로그 I/O가 발생하지 않습니다.
+ * - gateway.access-log.enabled=false 로 비활성화할 수 있습니다.
  */
 @Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
 public class GatewayConfig {
 
+    @Bean
+    @ConditionalOnProperty(name = "gateway.access-log.enabled", havingValue = "true", matchIfMissing = true)
+    public AccessLogWriter accessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        return new AccessLogWriter(properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "gateway.access-log.enabled", havingValue = "true", matchIfMissing = true)
+    public AccessLogGlobalFilter accessLogGlobalFilter(AccessLogWriter accessLogWriter, AccessLogProperties properties) {
+        return new AccessLogGlobalFilter(accessLogWriter, properties);
+    }
+
     /**
      * 요청 로깅 필터
+     * 
+     * 이벤트 루프 스레드에서 동기로 로그를 출력하므로 default-filters에서는 제외되었고,
+     * 전체 요청 기록은 접근 로그(AccessLogGlobalFilter)가 담당합니다.
+     * 특정 라우트를 디버깅할 때만 라우트 필터로 추가하여 사용합니다.
+     * 
+     * sampleRate 비율만큼만 샘플링하여 기록합니다. (기본값: 1.0 = 전체 기록)
+     * 로그 레벨이 INFO 미만으로 꺼져 있으면 IP 추출 등 준비 작업도 수행하지 않습니다.
+     * 
+     * 설정 예시:
+     *   filters:
+     *     - name: RequestLogging
+     *       args:
+     *         sampleRate: 0.01
      */
     @Slf4j
     @Component
@@ -27,73 +69,41 @@ public class GatewayConfig {
 
         @Override
         public GatewayFilter apply(Config config) {
+            double sampleRate = config.getSampleRate();
             return (exchange, chain) -> {
-                ServerHttpRequest request = exchange.getRequest();
-                String clientIp = extractClientIp(request);
-                
-                log.info("[GATEWAY] {} {} -> Client IP: {}", 
-                    request.getMethod(), 
-                    request.getURI(), 
-                    clientIp);
+                if (log.isInfoEnabled() && isSampled(sampleRate)) {
+                    ServerHttpRequest request = exchange.getRequest();
+                    log.info("[GATEWAY] {} {} -> Client IP: {}", 
+                        request.getMethod(), 
+                        request.getURI(), 
+                        ClientIpResolver.resolve(request));
+                }
                 
                 return chain.filter(exchange);
             };
         }
 
-        /**
-         * 클라이언트 IP 주소 추출
-         * 
-         * 우선순위:
-         * 1. X-Forwarded-For 헤더 (프록시/로드밸런서 환경)
-         * 2. X-Real-IP 헤더 (Nginx 등)
-         * 3. RemoteAddress (직접 연결)
-         * 
-         * IPv6 localhost는 IPv4로 변환 (::1 또는 0:0:0:0:0:0:0:1 → 127.0.0.1)
-         */
-        private String extractClientIp(ServerHttpRequest request) {
-            // 1. X-Forwarded-For 헤더 확인 (첫 번째 IP만 추출)
-            String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
-            if (forwardedFor != null && !forwardedFor.isEmpty()) {
-                String firstIp = forwardedFor.split(",")[0].trim();
-                return normalizeIp(firstIp);
-            }
-
-            // 2. X-Real-IP 헤더 확인
-            String realIp = request.getHeaders().getFirst("X-Real-IP");
-            if (realIp != null && !realIp.isEmpty()) {
-                return normalizeIp(realIp);
+        private boolean isSampled(double sampleRate) {
+            if (sampleRate >= 1.0) {
+                return true;
             }
+            return sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
 
-            // 3. RemoteAddress 사용
-            var remoteAddress = request.getRemoteAddress();
-            if (remoteAddress != null && remoteAddress.getAddress() != null) {
-                String remoteIp = remoteAddress.getAddress().getHostAddress();
-                return normalizeIp(remoteIp);
-            }
+        public static class Config {
 
-            return "unknown";
-        }
+            /**
+             * 로그 샘플링 비율 (0.0 ~ 1.0)
+             */
+            private double sampleRate = 1.0;
 
-        /**
-         * IP 주소 정규화
-         * - IPv6 localhost를 IPv4로 변환
-         * - ::1 또는 0:0:0:0:0:0:0:1 → 127.0.0.1
-         */
-        private String normalizeIp(String ip) {
-            if (ip == null || ip.isEmpty()) {
-                return "unknown";
+            public double getSampleRate() {
+                return sampleRate;
             }
 
-            // IPv6 localhost를 IPv4로 변환
-            if ("::1".equals(ip) || "0:0:0:0:0:0:0:1".equals(ip)) {
-                return "127.0.0.1";
+            public void setSampleRate(double sampleRate) {
+                this.sampleRate = sampleRate;
             }
-
-            return ip;
-        }
-
-        public static class Config {
-            // 필터 설정이 필요한 경우 여기에 추가
         }
     }
 }
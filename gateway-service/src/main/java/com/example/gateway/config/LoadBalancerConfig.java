@@ -0,0 +1,18 @@
+package com.example.gateway.config;
+
+import com.example.common.loadbalancer.LoadAwareLoadBalancerConfig;
+import com.example.common.loadbalancer.RegistryChangeListener;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 부하 기반 로드밸런서 설정 (lb:// 라우트)
+ *
+ * lb:// 라우트의 인스턴스 선택을 공통 모듈의 LoadAwareLoadBalancer(power of two choices)로 바꿉니다.
+ * 레지스트리가 바뀌면 로드밸런서 인스턴스 캐시를 바로 비웁니다. (RegistryChangeListener)
+ * 설정은 loadbalancer.load-aware.* (config-repo/gateway-service.yml)
+ */
+@Configuration
+@Import({LoadAwareLoadBalancerConfig.class, RegistryChangeListener.class})
+public class LoadBalancerConfig {
+}
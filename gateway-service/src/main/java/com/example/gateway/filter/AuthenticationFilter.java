@@ -15,9 +15,10 @@ import org.springframework.web.server.ServerWebExchange;
 
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Gateway에서 JWT 토큰 검증을 수행하는 필터
@@ -37,6 +38,12 @@ import java.util.stream.Collectors;
  * 하위 서비스로 전달되는 헤더:
  * - X-Authenticated-User: 인증된 사용자명
  * - X-User-Roles: 사용자 역할 목록 (쉼표로 구분)
+ * 
+ * 성능 고려사항 (요청마다 실행되는 필터):
+ * - 화이트리스트는 미리 컴파일된 접두사 트라이(PathPrefixMatcher)로 판단
+ * - Bearer 접두사는 헤더 전체를 소문자로 변환하지 않고 regionMatches로 비교
+ * - 역할 헤더 문자열은 역할 조합별로 캐시하여 재사용
+ * - 요청 단위 로그는 DEBUG 레벨에서만 출력
  */
 @Slf4j
 @Component
@@ -59,6 +66,25 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             "/auth/health"   // 인증 서비스 헬스 체크
     );
 
+    /**
+     * 인증된 사용자명을 저장하는 Exchange 속성 키 (접근 로그 등에서 사용)
+     */
+    public static final String AUTHENTICATED_USER_ATTR = AuthenticationFilter.class.getName() + ".authenticatedUser";
+
+    private static final PathPrefixMatcher WHITELIST = PathPrefixMatcher.of(WHITELIST_PATH_PREFIXES);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * 역할 조합별 X-User-Roles 헤더 값 캐시
+     * 
+     * 역할 조합은 소수(예: [ROLE_ADMIN, ROLE_USER], [ROLE_USER])이므로
+     * 요청마다 문자열을 새로 조립하지 않고 캐시된 값을 재사용합니다.
+     * 비정상적으로 많은 조합이 들어오는 경우를 대비해 크기를 제한합니다.
+     */
+    private static final int ROLE_HEADER_CACHE_LIMIT = 256;
+    private final ConcurrentMap<List<?>, String> roleHeaderCache = new ConcurrentHashMap<>();
+
     private final JwtTokenValidator jwtTokenValidator;
 
     public AuthenticationFilter(JwtTokenValidator jwtTokenValidator) {
@@ -90,37 +116,40 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             String path = request.getURI().getPath();
 
             // 1단계: 화이트리스트 경로 확인 (인증 불필요)
-            boolean whitelisted = isWhitelisted(path);
-            log.info("AuthenticationFilter - Path: {}, Whitelisted: {}, Method: {}", path, whitelisted, request.getMethod());
-            
-            if (whitelisted || isOptionsRequest(request)) {
-                log.info("AuthenticationFilter - Path {} is whitelisted or OPTIONS request, skipping authentication", path);
+            if (isWhitelisted(path) || isOptionsRequest(request)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("AuthenticationFilter - Path {} is whitelisted or OPTIONS request, skipping authentication", path);
+                }
                 return chain.filter(exchange);
             }
 
             // 2단계: Authorization 헤더 확인
             String authorizationHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-            if (authorizationHeader == null || !authorizationHeader.toLowerCase(Locale.ENGLISH).startsWith("bearer ")) {
-                log.warn("Missing or invalid Authorization header for path: {}", path);
+            if (!hasBearerPrefix(authorizationHeader)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Missing or invalid Authorization header for path: {}", path);
+                }
                 return handleUnauthorized(exchange);
             }
 
             // 3단계: JWT 토큰 추출 (Bearer 접두사 제거)
-            String token = authorizationHeader.substring(7);
+            String token = authorizationHeader.substring(BEARER_PREFIX.length());
             
-            // 4단계: JWT 토큰 유효성 검증
-            if (!jwtTokenValidator.isValid(token)) {
-                log.warn("Invalid JWT token for path: {}", path);
+            // 4단계: JWT 토큰 검증 및 사용자 정보 추출
+            // 검증과 파싱을 한 번에 수행하여 서명 검증이 두 번 일어나지 않도록 합니다.
+            Claims claims = jwtTokenValidator.parseClaimsOrNull(token);
+            if (claims == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Invalid JWT token for path: {}", path);
+                }
                 return handleUnauthorized(exchange);
             }
 
-            // 5단계: 토큰에서 사용자 정보 추출
-            Claims claims = jwtTokenValidator.parseClaims(token);
-            List<?> roleClaims = claims.get("roles", List.class);
-            String roles = roleClaims == null
-                    ? ""
-                    : roleClaims.stream().map(Object::toString).collect(Collectors.joining(","));
+            // 5단계: 역할 헤더 값 조회 (역할 조합별 캐시)
+            String roles = toRoleHeader(claims.get("roles", List.class));
             
+            exchange.getAttributes().put(AUTHENTICATED_USER_ATTR, claims.getSubject());
+
             // 6단계: 사용자 정보를 헤더에 추가하여 하위 서비스로 전달
             // 하위 서비스(member-service, order-service)는 이 헤더를 통해
             // 인증된 사용자 정보를 확인할 수 있습니다.
@@ -134,7 +163,48 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
     }
 
     private boolean isWhitelisted(String path) {
-        return WHITELIST_PATH_PREFIXES.stream().anyMatch(path::startsWith);
+        return WHITELIST.matches(path);
+    }
+
+    /**
+     * "Bearer " 접두사 확인 (대소문자 무시)
+     * 
+     * 헤더 전체를 소문자로 변환하는 대신 접두사 영역만 비교하여 문자열 생성을 피합니다.
+     */
+    static boolean hasBearerPrefix(String authorizationHeader) {
+        return authorizationHeader != null
+                && authorizationHeader.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length());
+    }
+
+    /**
+     * roles 클레임을 X-User-Roles 헤더 값으로 변환
+     * 
+     * 동일한 역할 조합은 캐시된 문자열을 그대로 반환합니다.
+     */
+    private String toRoleHeader(List<?> roleClaims) {
+        if (roleClaims == null || roleClaims.isEmpty()) {
+            return "";
+        }
+        String cached = roleHeaderCache.get(roleClaims);
+        if (cached != null) {
+            return cached;
+        }
+        String joined = joinRoles(roleClaims);
+        if (roleHeaderCache.size() < ROLE_HEADER_CACHE_LIMIT) {
+            roleHeaderCache.putIfAbsent(new ArrayList<>(roleClaims), joined);
+        }
+        return joined;
+    }
+
+    private static String joinRoles(List<?> roleClaims) {
+        StringBuilder builder = new StringBuilder(roleClaims.size() * 12);
+        for (int i = 0; i < roleClaims.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(roleClaims.get(i));
+        }
+        return builder.toString();
     }
 
     private boolean isOptionsRequest(ServerHttpRequest request) {
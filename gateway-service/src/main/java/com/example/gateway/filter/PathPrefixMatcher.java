@@ -0,0 +1,113 @@
+package com.example.gateway.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 미리 컴파일된 경로 접두사 트라이(Trie)
+ *
+ * 요청 경로가 등록된 접두사 중 하나로 시작하는지를 판단합니다.
+ * String#startsWith와 동일한 의미(문자 단위 접두사 비교)를 가지며,
+ * 조회 시 객체를 생성하지 않으므로 요청마다 호출되는 필터에서 사용하기 적합합니다.
+ *
+ * 동작 방식:
+ * - 생성 시 접두사 목록으로 문자 단위 트라이를 구성 (이후 불변)
+ * - 각 노드는 정렬된 char 배열과 자식 노드 배열을 가지며 이진 탐색으로 다음 노드를 찾음
+ * - 경로를 한 글자씩 따라가다 접두사의 끝(terminal) 노드를 만나면 즉시 true 반환
+ *
+ * 스레드 안전성: 생성 이후 변경되지 않으므로 여러 이벤트 루프 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class PathPrefixMatcher {
+
+    private final Node root;
+
+    private PathPrefixMatcher(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * 접두사 목록으로 매처를 생성
+     *
+     * @param prefixes 등록할 경로 접두사 목록 (빈 문자열은 모든 경로와 일치)
+     * @return 불변 PathPrefixMatcher
+     */
+    public static PathPrefixMatcher of(Collection<String> prefixes) {
+        MutableNode root = new MutableNode();
+        for (String prefix : prefixes) {
+            MutableNode node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            node.terminal = true;
+        }
+        return new PathPrefixMatcher(root.compile());
+    }
+
+    /**
+     * 경로가 등록된 접두사 중 하나로 시작하는지 확인
+     *
+     * @param path 요청 경로
+     * @return 일치하는 접두사가 있으면 true
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        Node node = root;
+        int length = path.length();
+        for (int i = 0; ; i++) {
+            if (node.terminal) {
+                return true;
+            }
+            if (i == length) {
+                return false;
+            }
+            int index = Arrays.binarySearch(node.keys, path.charAt(i));
+            if (index < 0) {
+                return false;
+            }
+            node = node.children[index];
+        }
+    }
+
+    /**
+     * 조회 전용 노드 (정렬된 키 배열 + 자식 배열)
+     */
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final boolean terminal;
+
+        private Node(char[] keys, Node[] children, boolean terminal) {
+            this.keys = keys;
+            this.children = children;
+            this.terminal = terminal;
+        }
+    }
+
+    /**
+     * 트라이 구성 단계에서만 사용하는 가변 노드
+     */
+    private static final class MutableNode {
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private boolean terminal;
+
+        private MutableNode child(char c) {
+            return children.computeIfAbsent(c, key -> new MutableNode());
+        }
+
+        private Node compile() {
+            char[] keys = new char[children.size()];
+            Node[] compiled = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                compiled[i] = entry.getValue().compile();
+                i++;
+            }
+            return new Node(keys, compiled, terminal);
+        }
+    }
+}
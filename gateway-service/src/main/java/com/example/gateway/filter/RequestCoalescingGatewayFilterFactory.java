@@ -0,0 +1,358 @@
+package com.example.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gateway 동일 요청 병합 필터 (request coalescing)
+ *
+ * 트래픽이 몰릴 때 같은 자원(통계, 인기 회원 조회 등)에 대한 GET 요청이 거의 동시에 여러 개 들어오면
+ * 처음 요청(leader)만 하위 서비스로 보내고, 그 응답을 기다리던 나머지 요청(follower)에 그대로 나눠 줍니다.
+ * 키마다 응답 시간(RTT) 동안 하위 서비스 호출이 한 번으로 줄어듭니다.
+ *
+ * 주요 기능:
+ * - 병합 키: 라우트 + 경로 + 쿼리 + 사용자(X-Authenticated-User) + 역할(X-User-Roles) + Accept + Accept-Encoding
+ *   (다른 사용자나 다른 표현의 응답을 나눠 주지 않도록, 사용자와 무관한 API는 key-by-user: false)
+ * - GET 요청만 병합, Cache-Control no-cache/no-store 요청과 Range 요청은 병합하지 않음
+ * - 응답 본문이 max-body-size보다 크거나 Set-Cookie가 있으면 나눠 주지 않고, 기다리던 요청은 각자 호출
+ * - leader 요청이 실패하거나 취소되면(클라이언트 연결 종료 등) 기다리던 요청은 각자 호출
+ * - 조건부 요청 헤더는 하위 서비스로 전달하지 않고, 요청마다 응답 ETag와 비교하여 304 응답
+ *
+ * 응답이 완료되면 바로 목록에서 빠지므로 캐시가 아닙니다. (완료 후 들어온 요청은 새로 호출,
+ * 결과를 재사용하려면 ResponseCache 필터와 함께 사용)
+ *
+ * 설정 예시 (gateway-service.yml):
+ *   filters:
+ *     - name: ResponseCache
+ *       args: ...
+ *     - name: RequestCoalescing
+ *       args:
+ *         max-body-size: 256KB
+ *         key-by-user: true
+ *     - name: CircuitBreaker
+ *       args: ...
+ *
+ * ResponseCache 필터 뒤(캐시 미스만 병합), CircuitBreaker 필터 앞(leader 호출 한 번만 Circuit Breaker를 거침)에
+ * 선언합니다.
+ *
+ * 지표 (Micrometer, /actuator/metrics, route 태그):
+ * - gateway.coalescing.requests{result=leader|follower|bypass}: leader(하위 서비스 호출),
+ *   follower(leader 응답을 받음), bypass(병합 대상 아님 또는 응답을 나눠 받지 못해 각자 호출)
+ */
+@Component
+public class RequestCoalescingGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    static final String COALESCED_HEADER = "X-Coalesced";
+
+    /**
+     * follower에게 나눠 주지 않는 응답 헤더 (연결 단위 헤더, 길이는 본문으로 다시 계산)
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase()
+    );
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescingGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String route = config.getRouteId() != null ? config.getRouteId() : "-";
+        long maxBodySize = config.getMaxBodySize().toBytes();
+        ConcurrentMap<String, Sinks.One<SharedResponse>> inflight = new ConcurrentHashMap<>();
+        Counter leaders = counter(route, "leader");
+        Counter followers = counter(route, "follower");
+        Counter bypassed = counter(route, "bypass");
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!isCoalescible(request)) {
+                bypassed.increment();
+                return chain.filter(exchange);
+            }
+
+            String key = coalescingKey(route, request, config.isKeyByUser());
+            Sinks.One<SharedResponse> sink = Sinks.one();
+            Sinks.One<SharedResponse> existing = inflight.putIfAbsent(key, sink);
+            String ifNoneMatch = request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+
+            if (existing != null) {
+                // follower: leader 응답을 받아 그대로 쓰고, 나눠 받지 못하면 직접 호출
+                return existing.asMono()
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(shared -> {
+                            if (shared.isEmpty()) {
+                                bypassed.increment();
+                                return chain.filter(exchange);
+                            }
+                            followers.increment();
+                            return writeShared(exchange.getResponse(), shared.get(), ifNoneMatch);
+                        });
+            }
+
+            // leader: 조건부 요청 헤더 없이 전체 응답을 받아 기다리는 요청과 나눔
+            leaders.increment();
+            ServerHttpRequest forwarded = request.mutate()
+                    .headers(headers -> {
+                        headers.remove(HttpHeaders.IF_NONE_MATCH);
+                        headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                        ResponseCacheGatewayFilterFactory.normalizeAcceptEncoding(headers);
+                    })
+                    .build();
+            SharingResponse response = new SharingResponse(exchange.getResponse(), sink, maxBodySize, ifNoneMatch);
+
+            return chain.filter(exchange.mutate().request(forwarded).response(response).build())
+                    .doFinally(signal -> {
+                        inflight.remove(key, sink);
+                        // 응답을 쓰기 전에 실패/취소됨: 기다리던 요청은 각자 호출
+                        sink.tryEmitEmpty();
+                    });
+        };
+    }
+
+    private Counter counter(String route, String result) {
+        return Counter.builder("gateway.coalescing.requests")
+                .description("요청 병합 필터를 거친 요청 수")
+                .tag("route", route)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 병합 대상 요청 여부 (본문 없는 GET, 새 응답을 요구하지 않음, 부분 요청 아님)
+     */
+    static boolean isCoalescible(ServerHttpRequest request) {
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return false;
+        }
+        HttpHeaders headers = request.getHeaders();
+        String cacheControl = headers.getCacheControl();
+        if (ResponseCacheGatewayFilterFactory.hasDirective(cacheControl, "no-cache")
+                || ResponseCacheGatewayFilterFactory.hasDirective(cacheControl, "no-store")) {
+            return false;
+        }
+        return !headers.containsKey(HttpHeaders.RANGE) && headers.getContentLength() <= 0;
+    }
+
+    /**
+     * 병합 키 생성
+     *
+     * 형식: {route}|{path}?{query}|{user}|{roles}|{gzip 또는 identity}|{accept}
+     */
+    static String coalescingKey(String route, ServerHttpRequest request, boolean keyByUser) {
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+
+        StringBuilder key = new StringBuilder(96);
+        key.append(route).append('|');
+        key.append(ResponseCacheGatewayFilterFactory.cacheKey(request, keyByUser));
+        key.append('|').append(accept != null ? accept : "-");
+        return key.toString();
+    }
+
+    private Mono<Void> writeShared(ServerHttpResponse response, SharedResponse shared, String ifNoneMatch) {
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(shared.headers());
+        headers.set(COALESCED_HEADER, "true");
+
+        if (shared.status() == HttpStatus.OK.value()
+                && ResponseCacheGatewayFilterFactory.etagMatches(ifNoneMatch, shared.headers().getETag())) {
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatusCode.valueOf(shared.status()));
+        headers.setContentLength(shared.body().length);
+        if (shared.body().length == 0) {
+            return response.setComplete();
+        }
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(shared.body())));
+    }
+
+    /**
+     * leader 응답 (follower에게 나눠 줄 상태 코드, 헤더, 본문)
+     *
+     * 본문은 byte[]로 한 번만 복사해 두고 follower마다 DataBuffer로 감싸기만 합니다.
+     */
+    record SharedResponse(int status, HttpHeaders headers, byte[] body) {
+    }
+
+    /**
+     * leader 응답을 기다리는 요청과 나누는 Response 데코레이터
+     *
+     * 본문을 모두 받은 뒤 나눠 줄 수 있으면 sink에 전달하고, 그다음 leader 클라이언트에 씁니다.
+     * 받은 본문이 max-body-size를 넘는 순간 더 모으지 않고, 모은 앞부분과 나머지 본문을 leader 클라이언트에 그대로 씁니다.
+     * 하위 서비스의 DataBuffer는 연결에 묶인 풀 버퍼이므로 한 번만 byte[]로 복사합니다.
+     */
+    private static final class SharingResponse extends ServerHttpResponseDecorator {
+
+        private final Sinks.One<SharedResponse> sink;
+        private final long maxBodySize;
+        private final String ifNoneMatch;
+
+        private SharingResponse(ServerHttpResponse delegate, Sinks.One<SharedResponse> sink,
+                                long maxBodySize, String ifNoneMatch) {
+            super(delegate);
+            this.sink = sink;
+            this.maxBodySize = maxBodySize;
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isShareable() || getHeaders().getContentLength() > maxBodySize) {
+                sink.tryEmitEmpty();
+                return super.writeWith(body);
+            }
+
+            // Content-Length 없는(chunked) 응답은 max-body-size까지만 모으고, 넘으면 모은 앞부분과 나머지를 그대로 씀
+            AtomicLong received = new AtomicLong();
+            return Flux.from(body)
+                    .bufferUntil(chunk -> received.addAndGet(chunk.readableByteCount()) > maxBodySize)
+                    .switchOnFirst((first, batches) -> {
+                        if (first.isOnError() || received.get() > maxBodySize) {
+                            sink.tryEmitEmpty();
+                            return super.writeWith(batches.concatMapIterable(chunks -> chunks));
+                        }
+                        byte[] bytes = first.hasValue() ? copy(first.get()) : new byte[0];
+                        sink.tryEmitValue(new SharedResponse(statusValue(), copyHeaders(getHeaders()), bytes));
+                        return batches.then(Mono.defer(() -> writeLeader(bytes)));
+                    })
+                    .then();
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(chunk -> chunk));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            if (isShareable()) {
+                sink.tryEmitValue(new SharedResponse(statusValue(), copyHeaders(getHeaders()), new byte[0]));
+            } else {
+                sink.tryEmitEmpty();
+            }
+            return super.setComplete();
+        }
+
+        private Mono<Void> writeLeader(byte[] bytes) {
+            HttpHeaders headers = getHeaders();
+            if (statusValue() == HttpStatus.OK.value()
+                    && ResponseCacheGatewayFilterFactory.etagMatches(ifNoneMatch, headers.getETag())) {
+                headers.remove(HttpHeaders.CONTENT_TYPE);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                return super.setComplete();
+            }
+            headers.setContentLength(bytes.length);
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+
+        private static byte[] copy(List<? extends DataBuffer> chunks) {
+            byte[] bytes = new byte[chunks.stream().mapToInt(DataBuffer::readableByteCount).sum()];
+            int offset = 0;
+            for (DataBuffer chunk : chunks) {
+                int length = chunk.readableByteCount();
+                chunk.read(bytes, offset, length);
+                offset += length;
+                DataBufferUtils.release(chunk);
+            }
+            return bytes;
+        }
+
+        private boolean isShareable() {
+            return getStatusCode() != null && !getHeaders().containsKey(HttpHeaders.SET_COOKIE);
+        }
+
+        private int statusValue() {
+            HttpStatusCode status = getStatusCode();
+            return status != null ? status.value() : HttpStatus.OK.value();
+        }
+
+        private static HttpHeaders copyHeaders(HttpHeaders source) {
+            HttpHeaders copy = new HttpHeaders();
+            source.forEach((name, values) -> {
+                if (!EXCLUDED_HEADERS.contains(name.toLowerCase())) {
+                    copy.put(name, List.copyOf(values));
+                }
+            });
+            return HttpHeaders.readOnlyHttpHeaders(copy);
+        }
+    }
+
+    public static class Config implements HasRouteId {
+
+        /**
+         * 나눠 줄 최대 응답 본문 크기 (넘으면 기다리던 요청은 각자 호출)
+         */
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+        /**
+         * 병합 키에 사용자명을 포함할지 여부
+         * 사용자와 무관한 결과(통계 등)는 false로 설정하여 역할 단위로 병합합니다.
+         */
+        private boolean keyByUser = true;
+
+        private String routeId;
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+
+        public boolean isKeyByUser() {
+            return keyByUser;
+        }
+
+        public void setKeyByUser(boolean keyByUser) {
+            this.keyByUser = keyByUser;
+        }
+
+        @Override
+        public String getRouteId() {
+            return routeId;
+        }
+
+        @Override
+        public void setRouteId(String routeId) {
+            this.routeId = routeId;
+        }
+    }
+}
@@ -0,0 +1,474 @@
+package com.example.gateway.filter;
+
+import com.example.gateway.cache.CachedResponse;
+import com.example.gateway.cache.ResponseCacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gateway 응답 캐시 필터
+ *
+ * 같은 결과를 반복해서 돌려주는 조회 API(회원 단건 조회, 통계 등)를 Gateway 메모리에서 바로 응답하여
+ * 로드밸런서, 하위 서비스, JPA 조회를 거치지 않도록 합니다.
+ *
+ * 주요 기능:
+ * - 캐시 키: 경로 + 쿼리 + 사용자(X-Authenticated-User) + 역할(X-User-Roles) + Accept-Encoding
+ * - 라우트별 TTL, 최대 항목 수, 최대 본문 크기 설정
+ * - Cache-Control 처리: 요청 no-store(캐시 미사용), no-cache(조회 생략 후 갱신),
+ *   응답 no-store/no-cache/Set-Cookie(저장 안 함), max-age/s-maxage(TTL 상한)
+ * - ETag 부여 및 If-None-Match 일치 시 304 Not Modified 응답
+ * - 같은 영역으로 들어온 변경 요청(POST/PUT/PATCH/DELETE)이 성공하면 영역 전체 무효화
+ *   (무효화 전에 시작한 캐시 미스 요청의 응답은 저장하지 않음, ResponseCacheManager 세대 번호)
+ *
+ * 캐시 히트 시 본문은 저장된 byte[]를 DataBuffer로 감싸기만 하므로 복사가 발생하지 않습니다.
+ *
+ * 설정 예시 (gateway-service.yml):
+ *   filters:
+ *     - name: ResponseCache
+ *       args:
+ *         region: members
+ *         ttl: 10s
+ *         max-entries: 1000
+ *         max-body-size: 256KB
+ *         key-by-user: true
+ *
+ * CircuitBreaker 필터보다 앞에 선언해야 캐시 히트가 하위 서비스 호출로 이어지지 않습니다.
+ */
+@Slf4j
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    /**
+     * 압축하지 않은 응답의 키 인코딩 (Accept-Encoding에 gzip이 없을 때)
+     */
+    static final String IDENTITY = "identity";
+
+    /**
+     * 캐시에 저장하지 않는 응답 헤더 (연결 단위 헤더, 길이는 본문으로 다시 계산)
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase(),
+            CACHE_STATUS_HEADER.toLowerCase()
+    );
+
+    private final ResponseCacheManager cacheManager;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheManager cacheManager) {
+        super(Config.class);
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String region = config.getRegion() != null ? config.getRegion() : config.getRouteId();
+        Cache<String, CachedResponse> cache = cacheManager.region(region, config.getMaxEntries());
+        long ttlNanos = config.getTtl().toNanos();
+        long maxBodySize = config.getMaxBodySize().toBytes();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            HttpMethod method = request.getMethod();
+
+            // 변경 요청: 하위 서비스 처리 성공 후 영역 무효화
+            if (!HttpMethod.GET.equals(method)) {
+                if (HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+                    return chain.filter(exchange);
+                }
+                return chain.filter(exchange).doOnSuccess(done -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (status != null && status.is2xxSuccessful()) {
+                        cacheManager.invalidate(region);
+                    }
+                });
+            }
+
+            String requestCacheControl = request.getHeaders().getCacheControl();
+            if (hasDirective(requestCacheControl, "no-store")) {
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(request, config.isKeyByUser());
+            String ifNoneMatch = request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+
+            if (!hasDirective(requestCacheControl, "no-cache")) {
+                CachedResponse cached = cache.getIfPresent(key);
+                if (cached != null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Response cache hit: region={}, key={}", region, key);
+                    }
+                    return writeCached(exchange.getResponse(), cached, ifNoneMatch);
+                }
+            }
+
+            // 캐시 미스: 전체 응답을 받아 저장해야 하므로 조건부 요청 헤더는 하위 서비스로 전달하지 않음
+            ServerHttpRequest forwarded = request.mutate()
+                    .headers(headers -> {
+                        headers.remove(HttpHeaders.IF_NONE_MATCH);
+                        headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                        normalizeAcceptEncoding(headers);
+                    })
+                    .build();
+            // 하위 서비스 호출 중에 영역이 무효화되면 받은 응답을 저장하지 않도록 호출 전 세대를 기억
+            long generation = cacheManager.generation(region);
+            CachingResponse response = new CachingResponse(exchange.getResponse(), cacheManager, region, key,
+                    generation, ttlNanos, maxBodySize, config.isKeyByUser(), ifNoneMatch);
+
+            return chain.filter(exchange.mutate().request(forwarded).response(response).build());
+        };
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * 형식: {path}?{query}|{user}|{roles}|{gzip 또는 identity}
+     * 사용자별로 결과가 달라지지 않는 API(통계 등)는 key-by-user: false로 역할만 키에 포함합니다.
+     * 하위 서비스가 Accept-Encoding에 따라 압축한 본문을 저장하므로, 압축을 받지 않는 클라이언트에
+     * 압축된 본문을 주지 않도록 협상된 인코딩도 키에 포함합니다.
+     * (헤더 문자열을 그대로 쓰면 "gzip, deflate, br", "gzip, deflate" 등 클라이언트마다 키가 달라짐)
+     */
+    static String cacheKey(ServerHttpRequest request, boolean keyByUser) {
+        HttpHeaders headers = request.getHeaders();
+        String query = request.getURI().getRawQuery();
+        String user = keyByUser ? headers.getFirst("X-Authenticated-User") : null;
+        String roles = headers.getFirst("X-User-Roles");
+        String encoding = negotiatedEncoding(headers.getFirst(HttpHeaders.ACCEPT_ENCODING));
+
+        StringBuilder key = new StringBuilder(64);
+        key.append(request.getPath().value());
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        key.append('|').append(user != null ? user : "-");
+        key.append('|').append(roles != null ? roles : "-");
+        key.append('|').append(encoding);
+        return key.toString();
+    }
+
+    /**
+     * 하위 서비스가 쓸 수 있는 응답 인코딩 (하위 서비스는 gzip만 지원)
+     */
+    static String negotiatedEncoding(String acceptEncoding) {
+        return ResponseCompressionGatewayFilterFactory.acceptsGzip(acceptEncoding)
+                ? ResponseCompressionGatewayFilterFactory.GZIP : IDENTITY;
+    }
+
+    /**
+     * 하위 서비스로 보내는 Accept-Encoding을 키와 같은 값으로 바꿈
+     * (같은 키로 저장/공유한 본문이 키의 인코딩과 항상 일치하도록)
+     */
+    static void normalizeAcceptEncoding(HttpHeaders headers) {
+        if (IDENTITY.equals(negotiatedEncoding(headers.getFirst(HttpHeaders.ACCEPT_ENCODING)))) {
+            headers.remove(HttpHeaders.ACCEPT_ENCODING);
+        } else {
+            headers.set(HttpHeaders.ACCEPT_ENCODING, ResponseCompressionGatewayFilterFactory.GZIP);
+        }
+    }
+
+    private Mono<Void> writeCached(ServerHttpResponse response, CachedResponse cached, String ifNoneMatch) {
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        headers.set(HttpHeaders.AGE, Long.toString(cached.ageSeconds()));
+
+        if (etagMatches(ifNoneMatch, cached.etag())) {
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * If-None-Match 헤더와 ETag 비교 (약한 비교, 쉼표로 구분된 목록과 * 지원)
+     */
+    static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String target = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if ("*".equals(trimmed) || stripWeak(trimmed).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    /**
+     * Cache-Control 지시자 포함 여부
+     */
+    static boolean hasDirective(String cacheControl, String directive) {
+        if (cacheControl == null || cacheControl.isEmpty()) {
+            return false;
+        }
+        for (String token : cacheControl.split(",")) {
+            String trimmed = token.trim();
+            if (trimmed.regionMatches(true, 0, directive, 0, directive.length())
+                    && (trimmed.length() == directive.length() || trimmed.charAt(directive.length()) == '=')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cache-Control의 s-maxage 또는 max-age 값 (초), 없으면 -1
+     */
+    static long maxAgeSeconds(String cacheControl) {
+        if (cacheControl == null || cacheControl.isEmpty()) {
+            return -1;
+        }
+        long maxAge = -1;
+        for (String token : cacheControl.split(",")) {
+            String trimmed = token.trim().toLowerCase();
+            try {
+                if (trimmed.startsWith("s-maxage=")) {
+                    return Long.parseLong(trimmed.substring("s-maxage=".length()));
+                }
+                if (trimmed.startsWith("max-age=")) {
+                    maxAge = Long.parseLong(trimmed.substring("max-age=".length()));
+                }
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return maxAge;
+    }
+
+    /**
+     * 하위 서비스 응답을 캐시에 저장하는 Response 데코레이터
+     *
+     * 200 응답이고 Cache-Control이 저장을 허용할 때만 본문을 모아 저장합니다.
+     * 하위 서비스의 DataBuffer는 연결에 묶인 풀 버퍼이므로 저장 시 한 번만 byte[]로 복사합니다.
+     */
+    private static final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ResponseCacheManager cacheManager;
+        private final String region;
+        private final String key;
+        private final long generation;
+        private final long ttlNanos;
+        private final long maxBodySize;
+        private final boolean keyByUser;
+        private final String ifNoneMatch;
+
+        private CachingResponse(ServerHttpResponse delegate, ResponseCacheManager cacheManager, String region,
+                                String key, long generation, long ttlNanos, long maxBodySize, boolean keyByUser,
+                                String ifNoneMatch) {
+            super(delegate);
+            this.cacheManager = cacheManager;
+            this.region = region;
+            this.key = key;
+            this.generation = generation;
+            this.ttlNanos = ttlNanos;
+            this.maxBodySize = maxBodySize;
+            this.keyByUser = keyByUser;
+            this.ifNoneMatch = ifNoneMatch;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long entryTtl = storableTtlNanos();
+            if (entryTtl <= 0) {
+                getHeaders().set(CACHE_STATUS_HEADER, "BYPASS");
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body)
+                    .map(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        return bytes;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(bytes -> {
+                        HttpHeaders headers = getHeaders();
+                        headers.set(CACHE_STATUS_HEADER, "MISS");
+                        if (bytes.length > maxBodySize) {
+                            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                        }
+
+                        String etag = headers.getETag();
+                        if (etag == null) {
+                            etag = "\"0" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+                            headers.setETag(etag);
+                        }
+                        cacheManager.put(region, key, new CachedResponse(
+                                HttpStatus.OK.value(), copyHeaders(headers), bytes, etag, System.nanoTime(), entryTtl),
+                                generation);
+
+                        if (etagMatches(ifNoneMatch, etag)) {
+                            headers.remove(HttpHeaders.CONTENT_TYPE);
+                            headers.remove(HttpHeaders.CONTENT_LENGTH);
+                            setStatusCode(HttpStatus.NOT_MODIFIED);
+                            return setComplete();
+                        }
+                        headers.setContentLength(bytes.length);
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(chunk -> chunk));
+        }
+
+        /**
+         * 저장 가능한 응답이면 항목 TTL(나노초), 아니면 0
+         */
+        private long storableTtlNanos() {
+            HttpStatusCode status = getStatusCode();
+            if (status == null || status.value() != HttpStatus.OK.value()) {
+                return 0;
+            }
+            HttpHeaders headers = getHeaders();
+            if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+                return 0;
+            }
+            long contentLength = headers.getContentLength();
+            if (contentLength > maxBodySize) {
+                return 0;
+            }
+            String cacheControl = headers.getCacheControl();
+            if (hasDirective(cacheControl, "no-store") || hasDirective(cacheControl, "no-cache")) {
+                return 0;
+            }
+            if (!keyByUser && hasDirective(cacheControl, "private")) {
+                return 0;
+            }
+            long maxAge = maxAgeSeconds(cacheControl);
+            return maxAge < 0 ? ttlNanos : Math.min(ttlNanos, TimeUnit.SECONDS.toNanos(maxAge));
+        }
+
+        private static HttpHeaders copyHeaders(HttpHeaders source) {
+            HttpHeaders copy = new HttpHeaders();
+            source.forEach((name, values) -> {
+                if (!EXCLUDED_HEADERS.contains(name.toLowerCase())) {
+                    copy.put(name, List.copyOf(values));
+                }
+            });
+            return HttpHeaders.readOnlyHttpHeaders(copy);
+        }
+    }
+
+    public static class Config implements HasRouteId {
+
+        /**
+         * 캐시 영역 이름 (미지정 시 라우트 ID)
+         * 같은 영역을 쓰는 라우트끼리 캐시와 무효화 범위를 공유합니다.
+         */
+        private String region;
+
+        /**
+         * 항목 유효 시간 (응답의 max-age가 더 짧으면 그 값을 사용)
+         */
+        private Duration ttl = Duration.ofSeconds(10);
+
+        /**
+         * 영역의 최대 항목 수
+         */
+        private long maxEntries = 1000;
+
+        /**
+         * 저장할 최대 응답 본문 크기
+         */
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+        /**
+         * 캐시 키에 사용자명을 포함할지 여부
+         * 사용자와 무관한 결과(통계 등)는 false로 설정하여 역할 단위로 공유합니다.
+         */
+        private boolean keyByUser = true;
+
+        private String routeId;
+
+        public String getRegion() {
+            return region;
+        }
+
+        public void setRegion(String region) {
+            this.region = region;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+
+        public boolean isKeyByUser() {
+            return keyByUser;
+        }
+
+        public void setKeyByUser(boolean keyByUser) {
+            this.keyByUser = keyByUser;
+        }
+
+        @Override
+        public String getRouteId() {
+            return routeId;
+        }
+
+        @Override
+        public void setRouteId(String routeId) {
+            this.routeId = routeId;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.example.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gateway 응답 압축 필터 (gzip)
+ *
+ * 클라이언트가 Accept-Encoding: gzip을 보낸 요청의 응답 본문을 Gateway에서 압축합니다.
+ * 하위 서비스는 압축하지 않아도 되고, 클라이언트 구간(모바일, 외부망)으로 나가는 바이트가 줄어듭니다.
+ *
+ * 압축하지 않는 경우:
+ * - 하위 서비스가 이미 압축한 응답 (Content-Encoding이 있으면 그대로 전달, 다시 압축하지 않음)
+ * - mime-types에 없는 Content-Type (이미지 등 이미 압축된 형식, text/event-stream 같은 스트리밍 응답)
+ * - Content-Length가 min-response-size보다 작은 응답 (헤더와 CPU 비용이 줄어드는 바이트보다 큼)
+ * - 본문이 없는 응답 (HEAD, 204, 304), Content-Range가 있는 부분 응답
+ *
+ * Content-Length를 모르는 응답(chunked)은 크다고 보고 압축하며, 본문은 받은 순서대로 나눠 압축하므로
+ * 전체를 모으지 않습니다. 압축하면 Content-Length를 지우고 Vary: Accept-Encoding을 붙이며,
+ * 강한 ETag는 바이트가 달라지므로 약한 ETag(W/)로 바꿉니다.
+ *
+ * brotli/zstd는 JDK에 구현이 없고 네이티브 라이브러리가 필요하므로 지원하지 않습니다. (gzip만)
+ *
+ * 설정 예시 (gateway-service.yml):
+ *   default-filters:
+ *     - name: ResponseCompression
+ *       args:
+ *         min-response-size: 1KB
+ *         mime-types: application/json,application/problem+json,text/plain
+ *         level: 6
+ *
+ * 다른 필터가 쓰는 응답(ResponseCache 히트, RequestCoalescing follower 등)도 압축하도록 가장 앞에 선언합니다.
+ *
+ * 지표 (Micrometer, /actuator/metrics, route 태그):
+ * - gateway.compression.responses{result=compressed|passthrough|skip}: compressed(Gateway에서 압축),
+ *   passthrough(하위 서비스가 압축한 응답을 그대로 전달), skip(압축 대상 아님)
+ * - gateway.compression.bytes{stage=in|out}: Gateway에서 압축한 응답의 압축 전/후 바이트 (out/in = 압축률)
+ * - gateway.compression.time: 응답 하나를 압축하는 데 쓴 이벤트 루프 시간 (CPU 비용)
+ */
+@Component
+public class ResponseCompressionGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCompressionGatewayFilterFactory.Config> {
+
+    static final String GZIP = "gzip";
+
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCompressionGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String route = config.getRouteId() != null ? config.getRouteId() : "-";
+        List<MediaType> mimeTypes = config.getMimeTypes().stream().map(MediaType::parseMediaType).toList();
+        long minResponseSize = config.getMinResponseSize().toBytes();
+        int level = config.getLevel();
+        Metrics metrics = new Metrics(
+                counter(route, "compressed"),
+                counter(route, "passthrough"),
+                counter(route, "skip"),
+                bytes(route, "in"),
+                bytes(route, "out"),
+                Timer.builder("gateway.compression.time")
+                        .description("Gateway 응답 압축에 쓴 시간")
+                        .tag("route", route)
+                        .register(meterRegistry));
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (HttpMethod.HEAD.equals(request.getMethod())
+                    || !acceptsGzip(request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING))) {
+                metrics.skipped().increment();
+                return chain.filter(exchange);
+            }
+            CompressingResponse response = new CompressingResponse(
+                    exchange.getResponse(), mimeTypes, minResponseSize, level, metrics);
+            return chain.filter(exchange.mutate().response(response).build());
+        };
+    }
+
+    private Counter counter(String route, String result) {
+        return Counter.builder("gateway.compression.responses")
+                .description("Gateway 응답 압축 처리 결과별 응답 수")
+                .tag("route", route)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter bytes(String route, String stage) {
+        return Counter.builder("gateway.compression.bytes")
+                .description("Gateway에서 압축한 응답의 압축 전(in)/후(out) 바이트")
+                .baseUnit("bytes")
+                .tag("route", route)
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Accept-Encoding에 gzip(또는 *)이 있고 q=0이 아닌지 확인
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase(GZIP) && !coding.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private record Metrics(Counter compressed, Counter passthrough, Counter skipped,
+                           Counter bytesIn, Counter bytesOut, Timer time) {
+    }
+
+    /**
+     * 응답 헤더를 보고 압축 여부를 정한 뒤 본문을 gzip으로 바꿔 쓰는 Response 데코레이터
+     */
+    private static final class CompressingResponse extends ServerHttpResponseDecorator {
+
+        private final List<MediaType> mimeTypes;
+        private final long minResponseSize;
+        private final int level;
+        private final Metrics metrics;
+
+        private CompressingResponse(ServerHttpResponse delegate, List<MediaType> mimeTypes,
+                                    long minResponseSize, int level, Metrics metrics) {
+            super(delegate);
+            this.mimeTypes = mimeTypes;
+            this.minResponseSize = minResponseSize;
+            this.level = level;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+                metrics.passthrough().increment();
+                return super.writeWith(body);
+            }
+            if (!compressible(headers)) {
+                metrics.skipped().increment();
+                return super.writeWith(body);
+            }
+
+            metrics.compressed().increment();
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            if (!headers.getVary().contains(HttpHeaders.ACCEPT_ENCODING)) {
+                headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            String etag = headers.getETag();
+            if (etag != null && !etag.startsWith("W/")) {
+                headers.setETag("W/" + etag);
+            }
+
+            DataBufferFactory bufferFactory = bufferFactory();
+            GzipEncoder encoder = new GzipEncoder(level);
+            Flux<DataBuffer> compressed = Flux.<DataBuffer>from(body)
+                    .<DataBuffer>handle((buffer, sink) -> {
+                        byte[] out = encoder.encode(buffer);
+                        if (out.length > 0) {
+                            sink.next(bufferFactory.wrap(out));
+                        }
+                    })
+                    .concatWith(Mono.fromSupplier(() -> {
+                        byte[] out = encoder.finish();
+                        metrics.bytesIn().increment(encoder.bytesIn());
+                        metrics.bytesOut().increment(encoder.bytesOut());
+                        metrics.time().record(encoder.nanos(), TimeUnit.NANOSECONDS);
+                        return bufferFactory.wrap(out);
+                    }))
+                    .doFinally(signal -> encoder.end());
+            return super.writeWith(compressed);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).flatMapSequential(chunk -> chunk));
+        }
+
+        private boolean compressible(HttpHeaders headers) {
+            HttpStatusCode status = getStatusCode();
+            if (status != null && (status.is1xxInformational()
+                    || status.value() == HttpStatus.NO_CONTENT.value()
+                    || status.value() == HttpStatus.NOT_MODIFIED.value())) {
+                return false;
+            }
+            if (headers.containsKey(HttpHeaders.CONTENT_RANGE)) {
+                return false;
+            }
+            long contentLength = headers.getContentLength();
+            if (contentLength >= 0 && contentLength < minResponseSize) {
+                return false;
+            }
+            MediaType contentType = headers.getContentType();
+            return contentType != null && mimeTypes.stream().anyMatch(type -> type.isCompatibleWith(contentType));
+        }
+    }
+
+    /**
+     * 받은 순서대로 본문을 압축하는 gzip 인코더 (RFC 1952 헤더 + deflate + CRC32/길이 트레일러)
+     *
+     * 청크마다 flush하지 않으므로 작은 청크는 다음 청크와 함께 출력됩니다.
+     * 이벤트 루프 한 스레드에서만 호출됩니다.
+     */
+    static final class GzipEncoder {
+
+        private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+        private final Deflater deflater;
+        private final CRC32 crc = new CRC32();
+        private final byte[] chunk = new byte[8192];
+        private boolean headerWritten;
+        private long bytesIn;
+        private long bytesOut;
+        private long nanos;
+
+        GzipEncoder(int level) {
+            this.deflater = new Deflater(level, true);
+        }
+
+        /**
+         * 본문 청크를 압축 (입력 버퍼는 해제)
+         */
+        byte[] encode(DataBuffer buffer) {
+            long start = System.nanoTime();
+            try {
+                byte[] input = new byte[buffer.readableByteCount()];
+                buffer.read(input);
+                crc.update(input);
+                bytesIn += input.length;
+                deflater.setInput(input);
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4 + HEADER.length);
+                writeHeader(out);
+                while (!deflater.needsInput()) {
+                    out.write(chunk, 0, deflater.deflate(chunk));
+                }
+                return written(out);
+            } finally {
+                DataBufferUtils.release(buffer);
+                nanos += System.nanoTime() - start;
+            }
+        }
+
+        /**
+         * 남은 압축 데이터와 트레일러 (CRC32, 원본 길이 mod 2^32, 리틀 엔디언)
+         */
+        byte[] finish() {
+            long start = System.nanoTime();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+            writeHeader(out);
+            deflater.finish();
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            writeIntLe(out, (int) crc.getValue());
+            writeIntLe(out, (int) bytesIn);
+            byte[] result = written(out);
+            nanos += System.nanoTime() - start;
+            return result;
+        }
+
+        void end() {
+            deflater.end();
+        }
+
+        long bytesIn() {
+            return bytesIn;
+        }
+
+        long bytesOut() {
+            return bytesOut;
+        }
+
+        long nanos() {
+            return nanos;
+        }
+
+        private void writeHeader(ByteArrayOutputStream out) {
+            if (!headerWritten) {
+                out.write(HEADER, 0, HEADER.length);
+                headerWritten = true;
+            }
+        }
+
+        private byte[] written(ByteArrayOutputStream out) {
+            byte[] bytes = out.toByteArray();
+            bytesOut += bytes.length;
+            return bytes;
+        }
+
+        private static void writeIntLe(ByteArrayOutputStream out, int value) {
+            out.write(value);
+            out.write(value >>> 8);
+            out.write(value >>> 16);
+            out.write(value >>> 24);
+        }
+    }
+
+    public static class Config implements HasRouteId {
+
+        /**
+         * 압축할 Content-Type (쉼표로 구분, 호환되는 타입이면 압축 예: application/json;charset=UTF-8)
+         */
+        private List<String> mimeTypes = List.of(
+                MediaType.APPLICATION_JSON_VALUE,
+                MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                MediaType.TEXT_PLAIN_VALUE,
+                MediaType.TEXT_HTML_VALUE);
+
+        /**
+         * 압축할 최소 응답 크기 (Content-Length 기준, 모르면 압축)
+         */
+        private DataSize minResponseSize = DataSize.ofKilobytes(1);
+
+        /**
+         * gzip 압축 수준 (1: 빠름 ~ 9: 작음, 6: 기본)
+         */
+        private int level = 6;
+
+        private String routeId;
+
+        public List<String> getMimeTypes() {
+            return mimeTypes;
+        }
+
+        public void setMimeTypes(List<String> mimeTypes) {
+            this.mimeTypes = mimeTypes;
+        }
+
+        public DataSize getMinResponseSize() {
+            return minResponseSize;
+        }
+
+        public void setMinResponseSize(DataSize minResponseSize) {
+            this.minResponseSize = minResponseSize;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        @Override
+        public void setRouteId(String routeId) {
+            this.routeId = routeId;
+        }
+    }
+}
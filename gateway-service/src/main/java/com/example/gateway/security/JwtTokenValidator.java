@@ -1,6 +1,7 @@
 package com.example.gateway.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,7 +28,7 @@ import java.nio.charset.StandardCharsets;
 @Component
 public class JwtTokenValidator {
 
-    private final SecretKey secretKey;  // JWT 서명 검증에 사용되는 비밀키
+    private final JwtParser jwtParser;  // 서명 검증용 파서 (불변 객체이므로 재사용)
 
     /**
      * 설정 파일에서 JWT secret을 읽어 SecretKey 생성
@@ -39,7 +40,11 @@ public class JwtTokenValidator {
      */
     public JwtTokenValidator(@Value("${security.jwt.secret}") String secret) {
         // 설정 파일의 secret 문자열을 HMAC SHA-256 알고리즘용 SecretKey로 변환
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // JwtParser는 스레드 안전하므로 요청마다 새로 만들지 않고 한 번만 생성합니다.
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)                    // SecretKey로 서명 검증
+                .build();
     }
 
     /**
@@ -81,10 +86,25 @@ public class JwtTokenValidator {
      * @throws Exception 토큰이 유효하지 않거나 만료된 경우
      */
     public Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)                    // SecretKey로 서명 검증
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)                // 서명된 토큰 파싱
                 .getPayload();                            // Payload(Claims) 추출
     }
+
+    /**
+     * JWT 토큰을 검증하고 Claims를 반환 (실패 시 null)
+     * 
+     * isValid() 후 parseClaims()를 호출하면 서명 검증이 두 번 수행되므로,
+     * 필터처럼 요청마다 실행되는 경로에서는 이 메서드로 한 번에 처리합니다.
+     * 
+     * @param token 파싱할 JWT 토큰 문자열
+     * @return 유효한 토큰이면 Claims, 그렇지 않으면 null
+     */
+    public Claims parseClaimsOrNull(String token) {
+        try {
+            return parseClaims(token);
+        } catch (Exception ex) {
+            return null;
+        }
+    }
 }
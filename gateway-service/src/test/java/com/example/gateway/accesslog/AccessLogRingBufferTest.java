@@ -0,0 +1,105 @@
+package com.example.gateway.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AccessLogRingBuffer 유닛 테스트
+ */
+@DisplayName("접근 로그 링 버퍼 테스트")
+class AccessLogRingBufferTest {
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림")
+    void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new AccessLogRingBuffer(5).capacity()).isEqualTo(8);
+        assertThat(new AccessLogRingBuffer(8).capacity()).isEqualTo(8);
+        assertThat(new AccessLogRingBuffer(0).capacity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가득 차면 offer가 false를 반환하고, 꺼낸 만큼 다시 넣을 수 있음")
+    void rejectsWhenFullAndReusesDrainedSlots() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(entry(i))).isTrue();
+        }
+        assertThat(buffer.offer(entry(4))).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(e -> drained.add(e.status()), 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(entry(5))).isTrue();
+        assertThat(buffer.offer(entry(6))).isTrue();
+        assertThat(buffer.offer(entry(7))).isFalse();
+
+        buffer.drain(e -> drained.add(e.status()), 10);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 5, 6);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 받아들인 항목은 빠짐없이 한 번씩 꺼냄")
+    void multipleProducersLoseNothingAccepted() throws Exception {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1024);
+        int producers = 4;
+        int perProducer = 5_000;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    if (buffer.offer(entry(base + i))) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        AtomicInteger duplicates = new AtomicInteger();
+        start.countDown();
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            buffer.drain(e -> {
+                if (!seen.add(e.status())) {
+                    duplicates.incrementAndGet();
+                }
+            }, 256);
+        }
+        buffer.drain(e -> {
+            if (!seen.add(e.status())) {
+                duplicates.incrementAndGet();
+            }
+        }, Integer.MAX_VALUE);
+
+        assertThat(duplicates.get()).isZero();
+        assertThat(seen).hasSize(accepted.get());
+    }
+
+    static AccessLogEntry entry(int id) {
+        return new AccessLogEntry(0L, "GET", "/members/" + id, "member-service-api-exact",
+                id, 1L, 0L, null, null, null, null);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.gateway.accesslog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AccessLogWriter 유닛 테스트
+ *
+ * 버퍼 포화 시 drop 카운터와, 종료 시 버퍼에 남은 로그를 모두 출력하는지 검증합니다.
+ */
+@DisplayName("접근 로그 Writer 테스트")
+class AccessLogWriterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 버린 건수를 dropped 카운터에 기록")
+    void countsDroppedEntries() {
+        AccessLogWriter writer = new AccessLogWriter(properties(4), meterRegistry);
+
+        for (int i = 0; i < 10; i++) {
+            writer.submit(AccessLogRingBufferTest.entry(i));
+        }
+
+        assertThat(count("gateway.access-log.dropped")).isEqualTo(6);
+        assertThat(meterRegistry.get("gateway.access-log.buffered").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 로그를 모두 출력")
+    void drainsRemainingEntriesOnStop() {
+        AccessLogProperties properties = properties(1024);
+        properties.setBatchSize(16);
+        properties.setFlushInterval(Duration.ofSeconds(10));
+        AccessLogWriter writer = new AccessLogWriter(properties, meterRegistry);
+
+        writer.start();
+        for (int i = 0; i < 500; i++) {
+            writer.submit(AccessLogRingBufferTest.entry(i));
+        }
+        writer.stop();
+
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(count("gateway.access-log.written")).isEqualTo(500);
+        assertThat(count("gateway.access-log.dropped")).isZero();
+        assertThat(meterRegistry.get("gateway.access-log.buffered").gauge().value()).isZero();
+    }
+
+    private static AccessLogProperties properties(int bufferSize) {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setBufferSize(bufferSize);
+        properties.setLoggerName("ACCESS_LOG_TEST");
+        return properties;
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
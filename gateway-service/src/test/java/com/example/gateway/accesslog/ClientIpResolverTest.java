@@ -0,0 +1,49 @@
+package com.example.gateway.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ClientIpResolver 유닛 테스트
+ */
+@DisplayName("클라이언트 IP 판별 테스트")
+class ClientIpResolverTest {
+
+    @Test
+    @DisplayName("X-Forwarded-For의 첫 번째 IP > X-Real-IP > 연결 주소 순서로 사용")
+    void resolvesInPriorityOrder() {
+        InetSocketAddress remote = new InetSocketAddress("10.0.0.9", 50000);
+
+        assertThat(ClientIpResolver.resolve(" 203.0.113.7 , 10.0.0.1", "198.51.100.2", remote))
+                .isEqualTo("203.0.113.7");
+        assertThat(ClientIpResolver.resolve(null, "198.51.100.2", remote)).isEqualTo("198.51.100.2");
+        assertThat(ClientIpResolver.resolve("", null, remote)).isEqualTo("10.0.0.9");
+        assertThat(ClientIpResolver.resolve(null, null, null)).isEqualTo("unknown");
+    }
+
+    @Test
+    @DisplayName("IPv6 localhost는 127.0.0.1로 변환")
+    void normalizesIpv6Localhost() {
+        assertThat(ClientIpResolver.resolve("::1", null, null)).isEqualTo("127.0.0.1");
+        assertThat(ClientIpResolver.resolve(null, "0:0:0:0:0:0:0:1", null)).isEqualTo("127.0.0.1");
+    }
+
+    @Test
+    @DisplayName("요청으로 판별한 값과 접근 로그 항목 값으로 판별한 값이 같음")
+    void requestAndEntryResolveTheSame() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/members/1")
+                .header("X-Forwarded-For", "203.0.113.7, 10.0.0.1")
+                .remoteAddress(new InetSocketAddress("10.0.0.9", 50000))
+                .build();
+
+        assertThat(ClientIpResolver.resolve(request)).isEqualTo(ClientIpResolver.resolve(
+                request.getHeaders().getFirst("X-Forwarded-For"),
+                request.getHeaders().getFirst("X-Real-IP"),
+                request.getRemoteAddress()));
+    }
+}
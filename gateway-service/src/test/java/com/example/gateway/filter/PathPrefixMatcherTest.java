@@ -0,0 +1,50 @@
+package com.example.gateway.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PathPrefixMatcher 유닛 테스트
+ * 
+ * 트라이 기반 매칭 결과가 String#startsWith와 동일한지 검증합니다.
+ */
+@DisplayName("PathPrefixMatcher 테스트")
+class PathPrefixMatcherTest {
+
+    private static final List<String> PREFIXES = List.of("/api/auth", "/auth", "/auth-service", "/actuator", "/auth/health");
+
+    private final PathPrefixMatcher matcher = PathPrefixMatcher.of(PREFIXES);
+
+    @Test
+    @DisplayName("등록된 접두사로 시작하는 경로는 일치")
+    void matchesRegisteredPrefixes() {
+        assertThat(matcher.matches("/api/auth/login")).isTrue();
+        assertThat(matcher.matches("/auth")).isTrue();
+        assertThat(matcher.matches("/auth-service/auth/login")).isTrue();
+        assertThat(matcher.matches("/actuator/health")).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 경로는 불일치")
+    void doesNotMatchOtherPaths() {
+        assertThat(matcher.matches("/api/members/1")).isFalse();
+        assertThat(matcher.matches("/au")).isFalse();
+        assertThat(matcher.matches("/")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("String#startsWith와 동일한 결과")
+    void behavesLikeStartsWith() {
+        List<String> paths = List.of("/api/auth", "/api/authx", "/authorize", "/actuator", "/act", "/api/orders", "/auth-service");
+        for (String path : paths) {
+            boolean expected = PREFIXES.stream().anyMatch(path::startsWith);
+            assertThat(matcher.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+}
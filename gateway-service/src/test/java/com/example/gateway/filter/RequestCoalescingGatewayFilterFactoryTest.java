@@ -0,0 +1,208 @@
+package com.example.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestCoalescing 필터 유닛 테스트
+ *
+ * 하위 서비스 응답을 직접 완료시키는 체인을 사용하여, leader 요청이 진행 중일 때 들어온 같은 요청이
+ * 하위 서비스를 호출하지 않고 leader 응답을 받는지 검증합니다.
+ */
+@DisplayName("RequestCoalescing 필터 테스트")
+class RequestCoalescingGatewayFilterFactoryTest {
+
+    private static final String BODY = "{\"activeCount\":42}";
+
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> release = Sinks.empty();
+    private RequestCoalescingGatewayFilterFactory.Config config;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        config = new RequestCoalescingGatewayFilterFactory.Config();
+        config.setRouteId("member-service-api-stats");
+        filter = new RequestCoalescingGatewayFilterFactory(new SimpleMeterRegistry()).apply(config);
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 GET 요청은 하위 서비스를 한 번만 호출하고 응답을 나눠 받음")
+    void coalescesConcurrentIdenticalRequests() {
+        List<MockServerWebExchange> exchanges = List.of(
+                get("/members/stats/active-count", "hong"),
+                get("/members/stats/active-count", "hong"),
+                get("/members/stats/active-count", "hong"));
+        List<Mono<Void>> results = exchanges.stream()
+                .map(exchange -> filter.filter(exchange, heldDownstream()).cache())
+                .toList();
+        results.forEach(Mono::subscribe);
+
+        release.tryEmitEmpty();
+        results.forEach(Mono::block);
+
+        assertThat(downstreamCalls.get()).isEqualTo(1);
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+        }
+        assertThat(exchanges.get(0).getResponse().getHeaders().getFirst("X-Coalesced")).isNull();
+        assertThat(exchanges.get(1).getResponse().getHeaders().getFirst("X-Coalesced")).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("사용자가 다른 요청은 병합하지 않음")
+    void doesNotCoalesceAcrossUsers() {
+        Mono<Void> hong = filter.filter(get("/members/1", "hong"), heldDownstream()).cache();
+        Mono<Void> kim = filter.filter(get("/members/1", "kim"), heldDownstream()).cache();
+        hong.subscribe();
+        kim.subscribe();
+
+        release.tryEmitEmpty();
+        hong.block();
+        kim.block();
+
+        assertThat(downstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답이 끝난 뒤 들어온 요청은 새로 호출 (캐시가 아님)")
+    void doesNotReuseCompletedResponses() {
+        release.tryEmitEmpty();
+        filter.filter(get("/members/1", "hong"), heldDownstream()).block();
+        filter.filter(get("/members/1", "hong"), heldDownstream()).block();
+
+        assertThat(downstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답 본문이 max-body-size보다 크면 기다리던 요청은 각자 호출")
+    void followersCallDownstreamWhenBodyTooLarge() {
+        config.setMaxBodySize(DataSize.ofBytes(4));
+        filter = new RequestCoalescingGatewayFilterFactory(new SimpleMeterRegistry()).apply(config);
+
+        MockServerWebExchange leader = get("/members/1", "hong");
+        MockServerWebExchange follower = get("/members/1", "hong");
+        Mono<Void> first = filter.filter(leader, heldDownstream()).cache();
+        Mono<Void> second = filter.filter(follower, heldDownstream()).cache();
+        first.subscribe();
+        second.subscribe();
+
+        release.tryEmitEmpty();
+        first.block();
+        second.block();
+
+        assertThat(downstreamCalls.get()).isEqualTo(2);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Content-Length 없는 응답은 max-body-size를 넘는 순간 기다리던 요청을 보내고 leader에는 끝까지 스트리밍")
+    void streamsChunkedBodyLargerThanMaxBodySize() {
+        config.setMaxBodySize(DataSize.ofBytes(4));
+        filter = new RequestCoalescingGatewayFilterFactory(new SimpleMeterRegistry()).apply(config);
+        Sinks.Many<String> rest = Sinks.many().unicast().onBackpressureBuffer();
+        GatewayFilterChain chunked = exchange -> {
+            downstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            return response.writeWith(Flux.concat(Flux.just("{\"active", "Count\":"), rest.asFlux())
+                    .map(chunk -> response.bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        };
+
+        MockServerWebExchange leader = get("/members/1", "hong");
+        MockServerWebExchange follower = get("/members/1", "hong");
+        Mono<Void> first = filter.filter(leader, chunked).cache();
+        Mono<Void> second = filter.filter(follower, heldDownstream()).cache();
+        first.subscribe();
+        second.subscribe();
+
+        // leader 본문이 끝나지 않았어도 follower는 각자 호출
+        release.tryEmitEmpty();
+        second.block();
+        assertThat(downstreamCalls.get()).isEqualTo(2);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+
+        rest.tryEmitNext("42}");
+        rest.tryEmitComplete();
+        first.block();
+        assertThat(leader.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("leader 호출이 실패하면 기다리던 요청은 각자 호출")
+    void followersCallDownstreamWhenLeaderFails() {
+        Sinks.Empty<Void> failure = Sinks.empty();
+        GatewayFilterChain failing = exchange -> {
+            downstreamCalls.incrementAndGet();
+            return failure.asMono();
+        };
+        MockServerWebExchange follower = get("/members/1", "hong");
+        Mono<Void> first = filter.filter(get("/members/1", "hong"), failing).onErrorComplete().cache();
+        Mono<Void> second = filter.filter(follower, heldDownstream()).cache();
+        first.subscribe();
+        second.subscribe();
+
+        failure.tryEmitError(new IllegalStateException("connection reset"));
+        release.tryEmitEmpty();
+        first.block();
+        second.block();
+
+        assertThat(downstreamCalls.get()).isEqualTo(2);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Cache-Control no-cache 요청과 GET이 아닌 요청은 병합하지 않음")
+    void bypassesNoCacheAndNonGetRequests() {
+        MockServerWebExchange noCache = MockServerWebExchange.from(MockServerHttpRequest.get("/members/1")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        MockServerWebExchange post = MockServerWebExchange.from(MockServerHttpRequest.post("/members/1"));
+
+        assertThat(RequestCoalescingGatewayFilterFactory.isCoalescible(noCache.getRequest())).isFalse();
+        assertThat(RequestCoalescingGatewayFilterFactory.isCoalescible(post.getRequest())).isFalse();
+        assertThat(RequestCoalescingGatewayFilterFactory.isCoalescible(get("/members/1", "hong").getRequest()))
+                .isTrue();
+    }
+
+    private MockServerWebExchange get(String path, String user) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .header("X-Authenticated-User", user)
+                .header("X-User-Roles", "ROLE_USER"));
+    }
+
+    /**
+     * release가 완료될 때까지 응답하지 않는 하위 서비스
+     */
+    private GatewayFilterChain heldDownstream() {
+        return exchange -> {
+            downstreamCalls.incrementAndGet();
+            return release.asMono().then(Mono.defer(() -> write(exchange.getResponse())));
+        };
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.OK);
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.gateway.filter;
+
+import com.example.gateway.cache.CachedResponse;
+import com.example.gateway.cache.ResponseCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ResponseCache 필터 유닛 테스트
+ *
+ * 하위 서비스 호출을 흉내내는 체인을 사용하여 캐시 히트/미스, 304 응답, 무효화, TTL을 검증합니다.
+ */
+@DisplayName("ResponseCache 필터 테스트")
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final String BODY = "{\"id\":1,\"name\":\"홍길동\"}";
+
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private final ResponseCacheManager cacheManager = new ResponseCacheManager();
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+        config.setRegion("members");
+        filter = new ResponseCacheGatewayFilterFactory(cacheManager).apply(config);
+    }
+
+    @Test
+    @DisplayName("두 번째 GET 요청은 하위 서비스를 호출하지 않고 캐시에서 응답")
+    void servesSecondRequestFromCache() {
+        MockServerWebExchange first = get("/members/1", null);
+        filter.filter(first, downstream()).block();
+
+        MockServerWebExchange second = get("/members/1", null);
+        filter.filter(second, downstream()).block();
+
+        assertThat(downstreamCalls.get()).isEqualTo(1);
+        assertThat(first.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 ETag와 일치하면 304 응답")
+    void returnsNotModifiedWhenEtagMatches() {
+        MockServerWebExchange first = get("/members/1", null);
+        filter.filter(first, downstream()).block();
+        String etag = first.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange conditional = get("/members/1", etag);
+        filter.filter(conditional, downstream()).block();
+
+        assertThat(etag).isNotNull();
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(downstreamCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경 요청이 성공하면 같은 영역의 캐시를 무효화")
+    void invalidatesRegionOnSuccessfulWrite() {
+        filter.filter(get("/members/1", null), downstream()).block();
+
+        MockServerWebExchange update = MockServerWebExchange.from(MockServerHttpRequest.put("/members/1"));
+        filter.filter(update, downstream()).block();
+
+        filter.filter(get("/members/1", null), downstream()).block();
+
+        assertThat(downstreamCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Cache-Control no-store 응답은 저장하지 않음")
+    void doesNotStoreNoStoreResponses() {
+        GatewayFilterChain noStore = exchange -> {
+            downstreamCalls.incrementAndGet();
+            exchange.getResponse().getHeaders().setCacheControl("no-store");
+            return write(exchange.getResponse());
+        };
+
+        filter.filter(get("/members/1", null), noStore).block();
+        filter.filter(get("/members/1", null), noStore).block();
+
+        assertThat(downstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화 전에 시작한 캐시 미스 요청은 무효화 후에 응답을 저장하지 않음")
+    void doesNotStoreResponseStartedBeforeInvalidation() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        GatewayFilterChain slow = exchange -> {
+            downstreamCalls.incrementAndGet();
+            return release.asMono().then(Mono.defer(() -> write(exchange.getResponse())));
+        };
+        Mono<Void> staleRead = filter.filter(get("/members/1", null), slow).cache();
+        staleRead.subscribe();
+
+        MockServerWebExchange update = MockServerWebExchange.from(MockServerHttpRequest.put("/members/1"));
+        filter.filter(update, downstream()).block();
+        release.tryEmitEmpty();
+        staleRead.block();
+
+        MockServerWebExchange next = get("/members/1", null);
+        filter.filter(next, downstream()).block();
+
+        assertThat(next.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(downstreamCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("세대가 바뀐 뒤의 저장은 거부하고, 새 세대에서는 저장")
+    void putChecksGeneration() {
+        cacheManager.region("orders", 10);
+        long generation = cacheManager.generation("orders");
+        CachedResponse response = new CachedResponse(200, new HttpHeaders(), new byte[0], "\"0\"",
+                System.nanoTime(), TimeUnit.SECONDS.toNanos(10));
+
+        cacheManager.invalidate("orders");
+
+        assertThat(cacheManager.put("orders", "/orders/1", response, generation)).isFalse();
+        assertThat(cacheManager.put("orders", "/orders/1", response, cacheManager.generation("orders"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 하위 서비스를 호출")
+    void expiresAfterTtl() throws InterruptedException {
+        ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+        config.setRegion("short-lived");
+        config.setTtl(Duration.ofMillis(50));
+        GatewayFilter shortLived = new ResponseCacheGatewayFilterFactory(cacheManager).apply(config);
+
+        shortLived.filter(get("/members/1", null), downstream()).block();
+        shortLived.filter(get("/members/1", null), downstream()).block();
+        assertThat(downstreamCalls.get()).isEqualTo(1);
+
+        Thread.sleep(120);
+        shortLived.filter(get("/members/1", null), downstream()).block();
+
+        assertThat(downstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답 max-age가 0이면 저장하지 않음 (TTL은 라우트 TTL과 max-age 중 작은 값)")
+    void responseMaxAgeCapsTtl() {
+        GatewayFilterChain maxAgeZero = exchange -> {
+            downstreamCalls.incrementAndGet();
+            exchange.getResponse().getHeaders().setCacheControl("max-age=0");
+            return write(exchange.getResponse());
+        };
+
+        MockServerWebExchange first = get("/members/1", null);
+        filter.filter(first, maxAgeZero).block();
+        filter.filter(get("/members/1", null), maxAgeZero).block();
+
+        assertThat(first.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("BYPASS");
+        assertThat(downstreamCalls.get()).isEqualTo(2);
+    }
+    @Test
+    @DisplayName("Accept-Encoding은 협상된 인코딩(gzip/identity)으로 키에 포함하고 하위 서비스에도 그 값으로 전달")
+    void keysByNegotiatedEncoding() {
+        List<String> forwarded = new ArrayList<>();
+        GatewayFilterChain chain = exchange -> {
+            forwarded.add(exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+            return downstream().filter(exchange);
+        };
+
+        filter.filter(withEncoding("gzip, deflate, br"), chain).block();
+        filter.filter(withEncoding("br;q=1, gzip;q=0.8"), chain).block();
+        filter.filter(withEncoding("gzip"), chain).block();
+        filter.filter(withEncoding("br"), chain).block();
+        filter.filter(withEncoding(null), chain).block();
+
+        assertThat(downstreamCalls.get()).isEqualTo(2);
+        assertThat(forwarded).containsExactly("gzip", null);
+        assertThat(ResponseCacheGatewayFilterFactory.cacheKey(withEncoding("gzip;q=0, deflate").getRequest(), true))
+                .isEqualTo(ResponseCacheGatewayFilterFactory.cacheKey(withEncoding(null).getRequest(), true))
+                .endsWith("|identity");
+    }
+
+    private MockServerWebExchange withEncoding(String acceptEncoding) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/members/1")
+                .header("X-Authenticated-User", "hong")
+                .header("X-User-Roles", "ROLE_USER");
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private MockServerWebExchange get(String path, String ifNoneMatch) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(path)
+                .header("X-Authenticated-User", "hong")
+                .header("X-User-Roles", "ROLE_USER");
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private GatewayFilterChain downstream() {
+        return exchange -> {
+            downstreamCalls.incrementAndGet();
+            return write(exchange.getResponse());
+        };
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.OK);
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    }
+}
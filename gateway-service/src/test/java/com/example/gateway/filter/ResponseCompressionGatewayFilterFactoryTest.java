@@ -0,0 +1,170 @@
+package com.example.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ResponseCompression 필터 유닛 테스트
+ *
+ * 하위 서비스 응답을 직접 쓰는 체인을 사용하여, 압축 대상 응답은 gzip으로 바뀌고
+ * 이미 압축된 응답, 작은 응답, 압축을 받지 않는 클라이언트의 응답은 그대로 전달되는지 검증합니다.
+ */
+@DisplayName("ResponseCompression 필터 테스트")
+class ResponseCompressionGatewayFilterFactoryTest {
+
+    private static final String BODY = "{\"id\":1,\"username\":\"hong\",\"status\":\"ACTIVE\"},".repeat(100);
+
+    private SimpleMeterRegistry meterRegistry;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ResponseCompressionGatewayFilterFactory.Config config = new ResponseCompressionGatewayFilterFactory.Config();
+        config.setRouteId("member-service-api-exact");
+        filter = new ResponseCompressionGatewayFilterFactory(meterRegistry).apply(config);
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 클라이언트의 JSON 응답은 압축하고 풀면 원래 본문")
+    void compressesJsonResponse() {
+        MockServerWebExchange exchange = get("gzip, deflate, br");
+
+        filter.filter(exchange, downstream(headers -> headers.setETag("\"v1\""), BODY)).block();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        byte[] body = body(exchange);
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(headers.getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(headers.getETag()).isEqualTo("W/\"v1\"");
+        assertThat(headers.containsKey(HttpHeaders.CONTENT_LENGTH)).isFalse();
+        assertThat(body.length).isLessThan(BODY.length() / 5);
+        assertThat(gunzip(body)).isEqualTo(BODY);
+        assertThat(meterRegistry.get("gateway.compression.bytes").tag("stage", "in").counter().count())
+                .isEqualTo(BODY.length());
+        assertThat(meterRegistry.get("gateway.compression.bytes").tag("stage", "out").counter().count())
+                .isEqualTo(body.length);
+    }
+
+    @Test
+    @DisplayName("여러 청크로 나뉜 응답도 이어서 압축")
+    void compressesChunkedResponse() {
+        MockServerWebExchange exchange = get("gzip");
+        GatewayFilterChain chunked = ex -> {
+            ServerHttpResponse response = ex.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response.writeWith(Flux.fromArray(BODY.split("(?<=,)"))
+                    .map(part -> response.bufferFactory().wrap(part.getBytes(StandardCharsets.UTF_8))));
+        };
+
+        filter.filter(exchange, chunked).block();
+
+        assertThat(gunzip(body(exchange))).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("하위 서비스가 이미 압축한 응답은 다시 압축하지 않고 그대로 전달")
+    void passesThroughEncodedResponse() {
+        MockServerWebExchange exchange = get("gzip");
+
+        filter.filter(exchange, downstream(headers -> headers.set(HttpHeaders.CONTENT_ENCODING, "gzip"), BODY))
+                .block();
+
+        assertThat(new String(body(exchange), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(meterRegistry.get("gateway.compression.responses").tag("result", "passthrough").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("min-response-size보다 작은 응답과 대상이 아닌 Content-Type은 압축하지 않음")
+    void skipsSmallAndNonTextResponses() {
+        MockServerWebExchange small = get("gzip");
+        filter.filter(small, downstream(headers -> headers.setContentLength(13), "{\"id\":1,\"a\":2}")).block();
+
+        MockServerWebExchange image = get("gzip");
+        filter.filter(image, downstream(headers -> headers.setContentType(MediaType.IMAGE_PNG), BODY)).block();
+
+        assertThat(small.getResponse().getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(image.getResponse().getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(new String(body(image), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에 gzip이 없거나 q=0이면 압축하지 않음")
+    void respectsAcceptEncoding() {
+        MockServerWebExchange identity = get(null);
+        filter.filter(identity, downstream(headers -> { }, BODY)).block();
+
+        assertThat(new String(body(identity), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(ResponseCompressionGatewayFilterFactory.acceptsGzip("gzip;q=0.5, br")).isTrue();
+        assertThat(ResponseCompressionGatewayFilterFactory.acceptsGzip("*")).isTrue();
+        assertThat(ResponseCompressionGatewayFilterFactory.acceptsGzip("gzip;q=0, identity")).isFalse();
+        assertThat(ResponseCompressionGatewayFilterFactory.acceptsGzip("br, zstd")).isFalse();
+    }
+
+    private static MockServerWebExchange get(String acceptEncoding) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/members/all");
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    /**
+     * JSON 응답을 한 번에 쓰는 하위 서비스 (헤더는 customizer로 변경)
+     */
+    private static GatewayFilterChain downstream(Consumer<HttpHeaders> customizer, String body) {
+        return exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            customizer.accept(response.getHeaders());
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+        };
+    }
+
+    private static byte[] body(MockServerWebExchange exchange) {
+        return DataBufferUtils.join(exchange.getResponse().getBody())
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .block();
+    }
+
+    private static String gunzip(byte[] bytes) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.member.config;
+
+import com.example.member.MemberServiceApplication;
+import com.example.member.dto.MemberDto;
+import com.example.member.entity.Member;
+import com.example.member.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개발 설정(application.yml) vs 운영 프로필(prod) 벤치마크
+ *
+ * 같은 작업(목록 페이지 조회 + IN 절 다건 조회 + 회원 1명 수정)을 두 설정으로 실행합니다.
+ * 개발 설정은 SQL 출력(show-sql, org.hibernate.SQL DEBUG)이 켜져 있으므로 실행 로그가 많이 나옵니다.
+ *
+ * 실행: ./gradlew :member-service:jmh -PjmhIncludes=DataSourceProfileBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataSourceProfileBenchmark {
+
+    @Param({"dev", "prod"})
+    private String profile;
+
+    @Param({"5000"})
+    private int members;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate write;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(MemberServiceApplication.class);
+        if (!"dev".equals(profile)) {
+            builder.profiles(profile);
+        }
+        // application.yml보다 우선하도록 명령행 인자로 전달 (SQL 출력 등 프로필 설정은 그대로 둠)
+        context = builder.run(
+                "--server.port=0",
+                "--spring.cloud.bootstrap.enabled=false",
+                "--spring.cloud.config.enabled=false",
+                "--eureka.client.enabled=false",
+                "--security.jwt.secret=benchmark-secret-benchmark-secret-32");
+        memberRepository = context.getBean(MemberRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        write = new TransactionTemplate(transactionManager);
+
+        for (int start = 0; start < members; start += 1000) {
+            int from = start;
+            write.executeWithoutResult(status -> {
+                List<Member> batch = new ArrayList<>(1000);
+                for (int i = from; i < Math.min(from + 1000, members); i++) {
+                    batch.add(Member.builder()
+                            .username("profile" + i)
+                            .password("$2a$10$" + "x".repeat(53))
+                            .email("profile" + i + "@example.com")
+                            .fullName("프로필 사용자 " + i)
+                            .status(Member.MemberStatus.ACTIVE)
+                            .build());
+                }
+                memberRepository.saveAll(batch);
+            });
+        }
+        ids = memberRepository.findAll().stream().map(Member::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int workload() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        PageRequest page = PageRequest.of(random.nextInt(ids.size() / 20), 20);
+        List<Long> some = new ArrayList<>();
+        for (int i = random.nextInt(1, 13); i > 0; i--) {
+            some.add(ids.get(random.nextInt(ids.size())));
+        }
+        Long target = ids.get(random.nextInt(ids.size()));
+
+        int read = readOnly.execute(status -> {
+            List<MemberDto.Summary> summaries = memberRepository.findSummaries(page).getContent();
+            return summaries.size() + memberRepository.findSummariesByIdIn(some).size();
+        });
+        write.executeWithoutResult(status -> memberRepository.findById(target)
+                .ifPresent(member -> member.setPhoneNumber("010-1234-" + random.nextInt(1000, 10000))));
+        return read;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.member.repository;
+
+import com.example.member.MemberServiceApplication;
+import com.example.member.dto.MemberDto;
+import com.example.member.entity.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 목록 조회 벤치마크 (엔터티 로딩 후 변환 vs 생성자 표현식 DTO 쿼리)
+ *
+ * H2 메모리 DB에 회원 members명을 넣고 임의의 페이지를 조회합니다.
+ * 서비스와 같이 읽기 전용 트랜잭션 안에서 실행하며, 페이지당 할당량은 -PjmhProfilers=gc로 확인합니다.
+ *
+ * 실행: ./gradlew :member-service:jmh -PjmhIncludes=MemberListQueryBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberListQueryBenchmark {
+
+    @Param({"10000"})
+    private int members;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private TransactionTemplate readOnly;
+    private int pages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MemberServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.cloud.bootstrap.enabled=false",
+                        "spring.cloud.config.enabled=false",
+                        "eureka.client.enabled=false",
+                        "security.jwt.secret=benchmark-secret-benchmark-secret-32",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.member=WARN",
+                        "logging.level.org.hibernate.SQL=OFF")
+                .run();
+        memberRepository = context.getBean(MemberRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        TransactionTemplate write = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        for (int start = 0; start < members; start += 1000) {
+            int from = start;
+            write.executeWithoutResult(status -> {
+                List<Member> batch = new ArrayList<>(1000);
+                for (int i = from; i < Math.min(from + 1000, members); i++) {
+                    batch.add(Member.builder()
+                            .username("bench" + i)
+                            .password("$2a$10$" + "x".repeat(53))
+                            .email("bench" + i + "@example.com")
+                            .fullName("벤치마크 사용자 " + i)
+                            .phoneNumber("010-0000-" + String.format("%04d", i % 10000))
+                            .status(Member.MemberStatus.ACTIVE)
+                            .build());
+                }
+                memberRepository.saveAll(batch);
+            });
+        }
+        pages = (int) (memberRepository.count() / pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 기존 방식: 엔터티 페이지 조회 후 Summary로 변환
+     */
+    @Benchmark
+    public List<MemberDto.Summary> entityPage() {
+        PageRequest page = randomPage();
+        return readOnly.execute(status -> memberRepository.findAll(page).map(MemberDto.Summary::from).getContent());
+    }
+
+    /**
+     * 생성자 표현식으로 Summary를 바로 조회
+     */
+    @Benchmark
+    public List<MemberDto.Summary> summaryPage() {
+        PageRequest page = randomPage();
+        return readOnly.execute(status -> {
+            Page<MemberDto.Summary> result = memberRepository.findSummaries(page);
+            return result.getContent();
+        });
+    }
+
+    private PageRequest randomPage() {
+        return PageRequest.of(ThreadLocalRandom.current().nextInt(pages), pageSize);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.member.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자명 자동완성 색인 벤치마크
+ * 
+ * 회원 수(members)만큼 base를 만든 뒤 접두사 조회(상위 10개) 지연 시간을 측정합니다.
+ * Setup 단계에서 색인이 차지하는 힙 크기(회원당 바이트)를 함께 출력합니다.
+ * (GC 후 사용 중인 힙 차이로 계산하므로 근사값)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UsernameSuggestIndexBenchmark {
+
+    @Param({"1000000"})
+    private int members;
+
+    private UsernameSuggestIndex index;
+    private String[] prefixes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+
+        List<UsernameSuggestIndex.Suggestion> suggestions = new ArrayList<>(members);
+        for (int id = 1; id <= members; id++) {
+            String username = "user" + Integer.toString(id, 36);
+            suggestions.add(new UsernameSuggestIndex.Suggestion(id, username, username + "@example.com"));
+        }
+        index = new UsernameSuggestIndex(null);
+        index.replaceBase(suggestions);
+        suggestions = null;
+
+        long retained = usedHeap() - before;
+        System.out.printf("%nUsernameSuggestIndex: %d members, %.1f MB retained, %d bytes/member%n",
+                members, retained / (1024.0 * 1024.0), retained / members);
+
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String username = "user" + Integer.toString(ThreadLocalRandom.current().nextInt(1, members + 1), 36);
+            prefixes[i] = username.substring(0, Math.min(username.length(), 6));
+        }
+        // delta 경로도 함께 측정되도록 일부 회원을 추가
+        for (int id = members + 1; id <= members + 1000; id++) {
+            index.add(id, "user" + Integer.toString(id, 36), null);
+        }
+    }
+
+    @Benchmark
+    public int suggestTop10() {
+        String prefix = prefixes[ThreadLocalRandom.current().nextInt(prefixes.length)];
+        return index.suggest(prefix, 10).size();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
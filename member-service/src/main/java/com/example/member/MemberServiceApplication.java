@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Member Service Application
@@ -16,6 +17,7 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
  * - Config Server에서 설정 관리
  * - H2 인메모리 데이터베이스 사용
  * - Caffeine Cache를 활용한 캐싱 전략
+ * - 상태별 회원 수 카운터 주기 보정 (스케줄링)
  * 
  * 접속 URL: http://localhost:8081
  * H2 Console: http://localhost:8081/h2-console
@@ -23,6 +25,7 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableCaching
+@EnableScheduling
 public class MemberServiceApplication {
 
     public static void main(String[] args) {
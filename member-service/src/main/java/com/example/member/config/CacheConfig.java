@@ -18,6 +18,8 @@ import java.util.concurrent.TimeUnit;
  * - Cache-Aside 패턴 사용
  * - TTL (Time To Live): 5분
  * - 최대 캐시 크기: 1000개
+ *
+ * 상태별 회원 수는 캐시 대신 MemberStatusCounter가 관리합니다.
  */
 @Configuration
 @EnableCaching
@@ -32,8 +34,7 @@ public class CacheConfig {
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
             "members",           // 회원 정보 캐시
-            "memberByUsername",  // 사용자명으로 조회한 회원 캐시
-            "activeMemberCount"  // 활성 회원 수 캐시
+            "memberByUsername"   // 사용자명으로 조회한 회원 캐시
         );
         
         cacheManager.setCaffeine(Caffeine.newBuilder()
@@ -0,0 +1,35 @@
+package com.example.member.config;
+
+import com.example.common.datasource.DataSourcePoolEndpoint;
+import com.example.common.datasource.HikariPoolSizer;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 커넥션 풀 설정
+ *
+ * 공통 모듈의 Hikari 풀 크기 자동 산정(HikariPoolSizer)과 풀 상태 엔드포인트(/actuator/dbpool)를 등록합니다.
+ * 운영 프로필(prod)에서 member.datasource.pool.auto-size=true로 켭니다.
+ */
+@Configuration
+public class DataSourcePoolConfig {
+
+    /**
+     * BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static으로 등록
+     */
+    @Bean
+    public static HikariPoolSizer hikariPoolSizer(Environment environment) {
+        return new HikariPoolSizer(environment, "member");
+    }
+
+    @Bean
+    public DataSourcePoolEndpoint dataSourcePoolEndpoint(Map<String, DataSource> dataSources,
+                                                         EntityManagerFactory entityManagerFactory) {
+        return new DataSourcePoolEndpoint(dataSources, entityManagerFactory);
+    }
+}
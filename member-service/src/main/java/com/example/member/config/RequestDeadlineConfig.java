@@ -0,0 +1,28 @@
+package com.example.member.config;
+
+import com.example.common.web.RequestDeadlineFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 기한 설정
+ *
+ * 공통 모듈의 RequestDeadlineFilter를 등록합니다.
+ * 호출한 서비스(Order Service)가 보낸 남은 시간 예산(X-Request-Timeout)이 0 이하이면 바로 504로 응답합니다.
+ * - member.deadline.default-timeout: X-Request-Timeout 헤더가 없을 때의 기한 (기본 3초)
+ * - member.deadline.max-timeout: 헤더 값으로 인정하는 최대 기한 (기본 10초)
+ */
+@Configuration
+public class RequestDeadlineConfig {
+
+    @Bean
+    public RequestDeadlineFilter requestDeadlineFilter(ObjectMapper objectMapper,
+                                                       @Value("${member.deadline.default-timeout:3s}") Duration defaultTimeout,
+                                                       @Value("${member.deadline.max-timeout:10s}") Duration maxTimeout) {
+        return new RequestDeadlineFilter(objectMapper, defaultTimeout, maxTimeout);
+    }
+}
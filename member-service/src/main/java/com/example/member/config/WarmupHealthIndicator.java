@@ -0,0 +1,51 @@
+package com.example.member.config;
+
+import com.example.member.search.MemberSearchIndex;
+import com.example.member.search.UsernameSuggestIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * 워밍업 상태 헬스 체크 (readiness 그룹에 포함, /actuator/health/readiness)
+ *
+ * 시작 후 백그라운드로 만드는 이름 검색 색인(MemberSearchIndex)과 사용자명 자동완성 색인(UsernameSuggestIndex)이
+ * 준비되기 전에는 OUT_OF_SERVICE로 응답하여 Eureka에 UP으로 등록되지 않게 합니다. (DiscoveryRegistrationLifecycle)
+ *
+ * 준비 전에도 DB 조회로 대체하여 응답할 수 있으므로, 시작 후 timeout이 지나면 준비되지 않았어도 UP으로 봅니다.
+ * (색인 생성이 실패해도 인스턴스가 계속 등록되지 않는 일이 없도록, 상세 정보에 표시)
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final MemberSearchIndex memberSearchIndex;
+    private final UsernameSuggestIndex usernameSuggestIndex;
+    private final Duration timeout;
+
+    public WarmupHealthIndicator(MemberSearchIndex memberSearchIndex, UsernameSuggestIndex usernameSuggestIndex,
+                                 @Value("${discovery.registration.warmup-timeout:60s}") Duration timeout) {
+        this.memberSearchIndex = memberSearchIndex;
+        this.usernameSuggestIndex = usernameSuggestIndex;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Health health() {
+        boolean searchReady = memberSearchIndex.isReady();
+        boolean suggestReady = usernameSuggestIndex.isReady();
+        Health.Builder builder = searchReady && suggestReady ? Health.up() : Health.outOfService();
+        if (!searchReady || !suggestReady) {
+            if (ManagementFactory.getRuntimeMXBean().getUptime() > timeout.toMillis()) {
+                builder = Health.up().withDetail("timedOut", true);
+            }
+        }
+        return builder
+                .withDetail("search", searchReady)
+                .withDetail("suggest", suggestReady)
+                .build();
+    }
+}
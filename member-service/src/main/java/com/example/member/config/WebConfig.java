@@ -0,0 +1,17 @@
+package com.example.member.config;
+
+import com.example.common.web.FieldFilterAdvice;
+import com.example.common.web.FieldFilterConfig;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Spring MVC 설정
+ *
+ * 조회 응답은 fields 파라미터로 필요한 필드만 받을 수 있습니다. (?fields=id,username)
+ * 공통 모듈의 FieldFilterConfig(기본 필터), FieldFilterAdvice(요청별 필터)를 등록합니다.
+ */
+@Configuration
+@Import({FieldFilterConfig.class, FieldFilterAdvice.class})
+public class WebConfig {
+}
@@ -1,19 +1,28 @@
 package com.example.member.controller;
 
+import com.example.common.search.SearchMode;
+import com.example.common.web.EntityTags;
+import com.example.common.web.FieldFilterAdvice;
 import com.example.member.dto.MemberDto;
 import com.example.member.entity.Member;
+import com.example.member.service.MemberBulkImportService;
 import com.example.member.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,9 +37,11 @@ public class MemberController {
 
     private static final Logger log = LoggerFactory.getLogger(MemberController.class);
     private final MemberService memberService;
+    private final MemberBulkImportService memberBulkImportService;
 
-    public MemberController(MemberService memberService) {
+    public MemberController(MemberService memberService, MemberBulkImportService memberBulkImportService) {
         this.memberService = memberService;
+        this.memberBulkImportService = memberBulkImportService;
     }
 
     /**
@@ -76,18 +87,68 @@ public class MemberController {
         return ResponseEntity.ok(members);
     }
 
+    /**
+     * 회원 일괄 등록 (JSON 배열)
+     * 
+     * POST /members/bulk
+     * Content-Type: application/json
+     * 
+     * 요청 본문을 스트리밍으로 읽어 500건 단위로 검증/중복 검사/배치 INSERT 후 커밋하고, 행별 결과를 반환합니다.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole(T(com.example.member.security.SecurityRoles).ADMIN)")
+    public ResponseEntity<MemberDto.BulkImportResult> importMembersJson(InputStream body) {
+        log.info("Bulk member import (JSON) request received");
+
+        return bulkImportResponse(memberBulkImportService.importJson(body));
+    }
+
+    /**
+     * 회원 일괄 등록 (CSV)
+     * 
+     * POST /members/bulk
+     * Content-Type: text/csv
+     * 
+     * 첫 줄은 헤더(username,password,email,fullName,phoneNumber)이며 한 줄씩 스트리밍으로 처리합니다.
+     */
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @PreAuthorize("hasRole(T(com.example.member.security.SecurityRoles).ADMIN)")
+    public ResponseEntity<MemberDto.BulkImportResult> importMembersCsv(InputStream body) {
+        log.info("Bulk member import (CSV) request received");
+
+        return bulkImportResponse(memberBulkImportService.importCsv(body));
+    }
+
+    /**
+     * 일괄 등록 응답 (한 행도 읽지 못했으면 400, 그 외에는 행별 결과와 함께 200)
+     */
+    private ResponseEntity<MemberDto.BulkImportResult> bulkImportResponse(MemberDto.BulkImportResult result) {
+        if (result.getError() != null && result.getTotal() == 0) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * ID로 회원 조회
      * 
      * GET /members/{id}
+     * 
+     * 응답에 강한 ETag를 포함합니다. 회원 DTO는 캐시("members")에서 조회되므로
+     * If-None-Match가 일치하면 DB 조회와 직렬화 없이 304 Not Modified가 반환됩니다.
+     * (304 판단은 ResponseEntity의 ETag로 Spring MVC가 수행)
+     * ?fields=로 일부 필드만 받으면 본문이 다르므로 필드 목록의 해시를 붙인 ETag를 사용합니다.
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole(T(com.example.member.security.SecurityRoles).ADMIN, T(com.example.member.security.SecurityRoles).USER)")
-    public ResponseEntity<MemberDto.Response> getMemberById(@PathVariable Long id) {
+    public ResponseEntity<MemberDto.Response> getMemberById(@PathVariable Long id, HttpServletRequest request) {
         log.debug("Get member by ID request received: {}", id);
         
         MemberDto.Response member = memberService.getMemberById(id);
-        return ResponseEntity.ok(member);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.withFields(MemberService.etagOf(member.getId(), member.getVersion()),
+                        FieldFilterAdvice.parseFields(request)))
+                .body(member);
     }
 
     /**
@@ -119,33 +180,83 @@ public class MemberController {
     }
 
     /**
-     * 이름으로 회원 검색
+     * 이름으로 회원 검색 (페이징, 순위순)
+     * 
+     * GET /members/search?name=홍길동&mode=CONTAINS&page=0&size=20
      * 
-     * GET /members/search?name=홍길동
+     * mode=PREFIX이면 이름 또는 이름 안의 단어가 검색어로 시작하는 회원만 반환합니다. (자동완성용)
      */
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole(T(com.example.member.security.SecurityRoles).ADMIN, T(com.example.member.security.SecurityRoles).USER)")
-    public ResponseEntity<List<MemberDto.Summary>> searchMembersByName(@RequestParam String name) {
-        log.debug("Search members by name request received: {}", name);
+    public ResponseEntity<Page<MemberDto.Summary>> searchMembersByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "CONTAINS") SearchMode mode,
+            @PageableDefault(size = 20) Pageable pageable) {
+        log.debug("Search members by name request received: {}, mode: {}", name, mode);
         
-        List<MemberDto.Summary> members = memberService.searchMembersByName(name);
+        Page<MemberDto.Summary> members = memberService.searchMembers(name, mode, pageable);
         return ResponseEntity.ok(members);
     }
 
+    /**
+     * 사용자명/이메일 자동완성
+     * 
+     * GET /members/suggest?prefix=hong&limit=10
+     * 
+     * 메모리 접두사 색인에서 응답하므로 DB를 조회하지 않습니다.
+     */
+    @GetMapping("/suggest")
+    @PreAuthorize("hasAnyRole(T(com.example.member.security.SecurityRoles).ADMIN, T(com.example.member.security.SecurityRoles).USER)")
+    public ResponseEntity<List<MemberDto.Suggestion>> suggestMembers(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Suggest members request received: {}", prefix);
+
+        List<MemberDto.Suggestion> suggestions = memberService.suggestMembers(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * 이름 검색 색인 재생성
+     * 
+     * POST /members/search/rebuild
+     * 
+     * 백그라운드로 DB 전체를 다시 읽어 색인을 만든 뒤 교체하며, 재색인 중에도 기존 색인으로 검색됩니다.
+     */
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasRole(T(com.example.member.security.SecurityRoles).ADMIN)")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        log.info("Member search index rebuild request received");
+
+        boolean started = memberService.rebuildSearchIndex();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("started", started);
+        response.put("index", memberService.getSearchIndexStats());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
     /**
      * 회원 정보 수정
      * 
      * PUT /members/{id}
+     * 
+     * If-Match 헤더가 있으면 조회 시 받은 ETag와 현재 ETag가 일치할 때만 수정하고,
+     * 일치하지 않으면 412 Precondition Failed를 반환합니다.
      */
     @PutMapping("/{id}")
     @PreAuthorize("hasRole(T(com.example.member.security.SecurityRoles).ADMIN)")
     public ResponseEntity<MemberDto.Response> updateMember(
             @PathVariable Long id, 
-            @Valid @RequestBody MemberDto.UpdateRequest request) {
+            @Valid @RequestBody MemberDto.UpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Update member request received for ID: {}", id);
         
-        MemberDto.Response response = memberService.updateMember(id, request);
-        return ResponseEntity.ok(response);
+        MemberDto.Response response = ifMatch != null
+                ? memberService.updateMember(id, request, ifMatch)
+                : memberService.updateMember(id, request);
+        return ResponseEntity.ok()
+                .eTag(MemberService.etagOf(response.getId(), response.getVersion()))
+                .body(response);
     }
 
     /**
@@ -182,6 +293,24 @@ public class MemberController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 상태별 회원 수 조회
+     *
+     * GET /members/stats/status-counts
+     * GET /members/stats/status-counts?exact=true (카운터 대신 DB 집계)
+     *
+     * 기본 응답은 요청을 받은 인스턴스의 카운터 값이며, 다른 인스턴스의 변경은
+     * 다음 DB 맞춤(member.stats.reconcile-interval) 때 반영됩니다.
+     */
+    @GetMapping("/stats/status-counts")
+    @PreAuthorize("hasAnyRole(T(com.example.member.security.SecurityRoles).ADMIN, T(com.example.member.security.SecurityRoles).USER)")
+    public ResponseEntity<Map<Member.MemberStatus, Long>> getStatusCounts(
+            @RequestParam(defaultValue = "false") boolean exact) {
+        log.debug("Get member status counts request received: exact={}", exact);
+
+        return ResponseEntity.ok(memberService.getStatusCounts(exact));
+    }
+
     /**
      * 헬스 체크
      * 
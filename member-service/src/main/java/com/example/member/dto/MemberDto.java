@@ -1,13 +1,18 @@
 package com.example.member.dto;
 
+import com.example.common.web.FieldFilterConfig;
 import com.example.member.entity.Member;
+import com.example.member.search.UsernameSuggestIndex;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 회원 DTO 클래스들
@@ -80,12 +85,15 @@ public class MemberDto {
 
     /**
      * 회원 응답 DTO
+     *
+     * 조회 요청의 fields 파라미터로 필요한 필드만 받을 수 있습니다. (FieldFilterAdvice)
      */
     @Getter
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @JsonFilter(FieldFilterConfig.FILTER_ID)
     public static class Response {
         
         private Long id;
@@ -102,6 +110,8 @@ public class MemberDto {
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
         private LocalDateTime updatedAt;
 
+        private Long version;
+
         /**
          * Entity를 DTO로 변환
          */
@@ -116,18 +126,22 @@ public class MemberDto {
                     .statusDescription(member.getStatus().getDescription())
                     .createdAt(member.getCreatedAt())
                     .updatedAt(member.getUpdatedAt())
+                    .version(member.getVersion())
                     .build();
         }
     }
 
     /**
      * 회원 요약 DTO (목록 조회용)
+     * 
+     * 목록 쿼리가 생성자 표현식으로 바로 생성하므로 필드 순서를 바꾸면 MemberRepository.SUMMARY도 함께 바꿔야 합니다.
      */
     @Getter
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @JsonFilter(FieldFilterConfig.FILTER_ID)
     public static class Summary {
         
         private Long id;
@@ -153,6 +167,82 @@ public class MemberDto {
                     .build();
         }
     }
-}
 
+    /**
+     * 회원 자동완성 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonFilter(FieldFilterConfig.FILTER_ID)
+    public static class Suggestion {
+
+        private Long id;
+        private String username;
+        private String email;
+
+        /**
+         * 자동완성 색인 항목을 DTO로 변환
+         */
+        public static Suggestion from(UsernameSuggestIndex.Suggestion suggestion) {
+            return new Suggestion(suggestion.id(), suggestion.username(), suggestion.email());
+        }
+    }
+
+    /**
+     * 회원 일괄 등록 결과 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkImportResult {
+
+        private int total;
+        private int created;
+        private int failed;
+        private int chunks;
+        private long elapsedMillis;
+
+        /**
+         * 입력을 끝까지 읽지 못한 경우의 오류 메시지 (이전 청크까지는 이미 등록됨)
+         */
+        private String error;
+
+        private List<BulkRowResult> rows;
+    }
 
+    /**
+     * 회원 일괄 등록 행별 결과 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class BulkRowResult {
+
+        /**
+         * 입력 행 번호 (1부터 시작, CSV 헤더 제외)
+         */
+        private int row;
+        private String username;
+        private BulkRowStatus status;
+        private Long id;
+        private String message;
+    }
+
+    /**
+     * 회원 일괄 등록 행별 처리 상태
+     */
+    public enum BulkRowStatus {
+        CREATED,
+        INVALID,
+        DUPLICATE,
+        FAILED
+    }
+}
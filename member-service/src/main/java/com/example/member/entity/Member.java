@@ -1,10 +1,13 @@
 package com.example.member.entity;
 
+import com.example.member.search.MemberSearchIndexListener;
+import com.example.member.service.MemberStatusListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,6 +20,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "members")
+@EntityListeners({MemberSearchIndexListener.class, MemberStatusListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,8 +29,18 @@ import java.time.LocalDateTime;
 @ToString
 public class Member {
 
+    /**
+     * 시퀀스 기반 ID (allocationSize만큼 미리 할당받아 INSERT를 JDBC 배치로 묶을 수 있음)
+     * 
+     * IDENTITY 방식은 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 배치 INSERT를 사용하지 못합니다.
+     * ID 없이 직접 INSERT하는 경우를 위해 컬럼 기본값도 같은 시퀀스를 사용합니다.
+     * (pooled 최적화는 시퀀스 값을 할당 범위의 상한으로 사용하므로 직접 INSERT와 ID가 겹치지 않음)
+     * 직접 INSERT한 행은 시퀀스 값 하나씩(50 간격)을 쓰므로, data.sql은 ID를 직접 지정하고 시퀀스를 재시작합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_seq")
+    @SequenceGenerator(name = "members_seq", sequenceName = "members_seq", allocationSize = 50)
+    @ColumnDefault("next value for members_seq")
     private Long id;
 
     @Column(unique = true, nullable = false, length = 50)
@@ -64,6 +78,27 @@ public class Member {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    /**
+     * 낙관적 잠금(Optimistic Locking) 버전
+     * 
+     * 수정할 때마다 1씩 증가하며, 동시에 같은 회원을 수정하면 나중에 커밋한 쪽이
+     * OptimisticLockException으로 실패합니다. (last-write-wins 방지)
+     * 초기 데이터(data.sql)는 컬럼 기본값 0으로 저장됩니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * DB에 마지막으로 저장된(또는 조회된) 상태 (컬럼 아님)
+     * 
+     * 상태 변경 시 이전 상태를 알아야 상태별 회원 수를 옮길 수 있으므로 MemberStatusListener가 관리합니다.
+     */
+    @Transient
+    @ToString.Exclude
+    private MemberStatus persistedStatus;
+
     /**
      * 회원 상태 열거형
      */
@@ -1,9 +1,11 @@
 package com.example.member.exception;
 
+import com.example.common.web.PreconditionFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -58,6 +60,48 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * 조건부 수정 실패 (If-Match 불일치)
+     * 
+     * 현재 ETag를 응답 헤더로 돌려주어 클라이언트가 다시 조회 후 재시도할 수 있도록 합니다.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .error("Precondition Failed")
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(ex.getCurrentEtag())
+                .body(errorResponse);
+    }
+
+    /**
+     * 낙관적 잠금 충돌 (동시 수정)
+     * 
+     * 다른 요청이 먼저 커밋하여 버전이 바뀐 경우입니다.
+     * 최신 데이터를 다시 조회한 후 재시도하면 되므로 retryable=true로 응답합니다.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.info("Optimistic locking conflict: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .error("Concurrent Modification")
+                .message("회원 정보가 다른 요청에 의해 동시에 수정되었습니다. 최신 정보를 조회한 후 다시 시도해주세요")
+                .details(Map.of("retryable", "true"))
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * 권한 부족 (Access Denied)
      */
@@ -1,5 +1,7 @@
 package com.example.member.repository;
 
+import com.example.common.search.SearchRow;
+import com.example.member.dto.MemberDto;
 import com.example.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,12 @@ import java.util.Optional;
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
+    /**
+     * Summary DTO 생성자 표현식 (MemberDto.Summary 필드 순서와 같아야 함)
+     */
+    String SUMMARY = "new com.example.member.dto.MemberDto$Summary(" +
+            "m.id, m.username, m.email, m.fullName, m.status, m.createdAt)";
+
     /**
      * 사용자명으로 회원 조회
      */
@@ -50,10 +59,82 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Page<Member> findByStatus(Member.MemberStatus status, Pageable pageable);
 
     /**
-     * 이름으로 회원 검색 (부분 일치)
+     * 전체 회원 요약 조회
+     *
+     * 목록 조회용 쿼리는 엔터티 대신 생성자 표현식으로 Summary DTO를 바로 만듭니다.
+     * 필요한 컬럼만 SELECT하고(비밀번호, 전화번호 제외) 영속성 컨텍스트에 엔터티와 스냅샷이 쌓이지 않습니다.
+     */
+    @Query("SELECT " + SUMMARY + " FROM Member m")
+    List<MemberDto.Summary> findAllSummaries();
+
+    /**
+     * 회원 요약 페이징 조회
+     */
+    @Query(value = "SELECT " + SUMMARY + " FROM Member m",
+           countQuery = "SELECT COUNT(m) FROM Member m")
+    Page<MemberDto.Summary> findSummaries(Pageable pageable);
+
+    /**
+     * 상태별 회원 요약 조회
+     */
+    @Query("SELECT " + SUMMARY + " FROM Member m WHERE m.status = :status")
+    List<MemberDto.Summary> findSummariesByStatus(@Param("status") Member.MemberStatus status);
+
+    /**
+     * ID 목록으로 회원 요약 조회 (검색 색인 결과 페이지, 순서는 보장하지 않음)
      */
-    @Query("SELECT m FROM Member m WHERE m.fullName LIKE %:name%")
-    List<Member> findByFullNameContaining(@Param("name") String name);
+    @Query("SELECT " + SUMMARY + " FROM Member m WHERE m.id IN :ids")
+    List<MemberDto.Summary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 이름으로 회원 요약 검색 (부분 일치)
+     *
+     * 검색 색인이 준비되기 전에만 사용하는 대체 경로입니다. (LIKE '%...%'는 인덱스를 사용할 수 없음)
+     */
+    @Query(value = "SELECT " + SUMMARY + " FROM Member m WHERE m.fullName LIKE %:name%",
+           countQuery = "SELECT COUNT(m) FROM Member m WHERE m.fullName LIKE %:name%")
+    Page<MemberDto.Summary> findSummariesByFullNameContaining(@Param("name") String name, Pageable pageable);
+
+    /**
+     * 이름으로 회원 요약 검색 (접두사 일치, 검색 색인 준비 전 대체 경로)
+     */
+    @Query(value = "SELECT " + SUMMARY + " FROM Member m WHERE m.fullName LIKE :name%",
+           countQuery = "SELECT COUNT(m) FROM Member m WHERE m.fullName LIKE :name%")
+    Page<MemberDto.Summary> findSummariesByFullNameStartingWith(@Param("name") String name, Pageable pageable);
+
+    /**
+     * 검색 색인 생성용 회원 이름 조회 (ID 기준 키셋 페이징)
+     */
+    @Query("SELECT m.id AS id, m.fullName AS text FROM Member m WHERE m.id > :afterId ORDER BY m.id")
+    List<SearchRow> findSearchRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 사용자명/이메일 조회 (자동완성 색인, 중복 검사 필터 생성용, ID 기준 키셋 페이징)
+     */
+    @Query("SELECT m.id AS id, m.username AS username, m.email AS email FROM Member m WHERE m.id > :afterId ORDER BY m.id")
+    List<IdentityRow> findIdentityRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 사용자명 접두사로 회원 조회 (자동완성 색인 준비 전 대체 경로, 사용자명 유니크 인덱스 사용)
+     */
+    @Query("SELECT m.id AS id, m.username AS username, m.email AS email FROM Member m " +
+           "WHERE m.username LIKE :prefix% ORDER BY m.username")
+    List<IdentityRow> findIdentityRowsByUsernamePrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    /**
+     * 사용자명 또는 이메일이 일치하는 회원 조회 (중복 검사용 단일 쿼리)
+     */
+    @Query("SELECT m.id AS id, m.username AS username, m.email AS email FROM Member m " +
+           "WHERE m.username = :username OR m.email = :email")
+    List<IdentityRow> findIdentityConflicts(@Param("username") String username, @Param("email") String email);
+
+    /**
+     * 사용자명 또는 이메일이 목록에 포함된 회원 조회 (일괄 등록 시 청크 단위 중복 검사)
+     */
+    @Query("SELECT m.id AS id, m.username AS username, m.email AS email FROM Member m " +
+           "WHERE m.username IN :usernames OR m.email IN :emails")
+    List<IdentityRow> findIdentityConflictsIn(@Param("usernames") Collection<String> usernames,
+                                              @Param("emails") Collection<String> emails);
 
     /**
      * 사용자명 또는 이메일로 회원 검색
@@ -66,6 +147,30 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     @Query("SELECT COUNT(m) FROM Member m WHERE m.status = 'ACTIVE'")
     long countActiveMembers();
-}
 
+    /**
+     * 상태별 회원 수 조회 (상태 카운터 초기화/보정용)
+     */
+    @Query("SELECT m.status AS status, COUNT(m) AS total FROM Member m GROUP BY m.status")
+    List<StatusCount> countByStatus();
+
+    /**
+     * 상태별 회원 수 프로젝션
+     */
+    interface StatusCount {
+        Member.MemberStatus getStatus();
+
+        long getTotal();
+    }
 
+    /**
+     * 사용자명/이메일 프로젝션 (ID, 사용자명, 이메일)
+     */
+    interface IdentityRow {
+        Long getId();
+
+        String getUsername();
+
+        String getEmail();
+    }
+}
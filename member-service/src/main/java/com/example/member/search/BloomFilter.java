@@ -0,0 +1,121 @@
+package com.example.member.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter
+ *
+ * "확실히 없음" 또는 "있을 수도 있음"만 판단하는 확률적 집합입니다.
+ * mightContain()이 false이면 해당 값은 추가된 적이 없으므로 DB 조회를 생략할 수 있고,
+ * true이면 오탐(false positive)일 수 있으므로 DB에서 다시 확인해야 합니다.
+ *
+ * - 비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = (m/n)·ln 2 (n: 예상 원소 수, p: 목표 오탐률)
+ * - 64비트 해시 하나를 두 개의 32비트 해시로 나누어 k개의 위치를 계산 (double hashing)
+ * - 비트 배열은 AtomicLongArray이므로 잠금 없이 동시에 추가/조회할 수 있음
+ * - 원소 삭제는 지원하지 않음 (삭제된 값은 오탐으로만 남고 정확성에는 영향 없음)
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 오탐률 (예: 0.01)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.expectedInsertions = n;
+    }
+
+    /**
+     * 값 추가
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+            setBit(index);
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * 값이 추가되었을 가능성 여부 (false이면 확실히 없음)
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 추가된 원소 수가 예상 원소 수를 넘었는지 여부 (넘으면 오탐률이 목표보다 높아짐)
+     */
+    public boolean isSaturated() {
+        return insertions.get() > expectedInsertions;
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * 비트 배열 크기 (바이트)
+     */
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * UTF-8 바이트에 대한 FNV-1a 64비트 해시 + splitmix64 마무리 (비트 분포 개선)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash;
+    }
+}
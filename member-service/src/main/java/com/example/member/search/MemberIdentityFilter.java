@@ -0,0 +1,187 @@
+package com.example.member.search;
+
+import com.example.member.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자명/이메일 중복 검사용 Bloom filter
+ *
+ * 회원 생성 시 "사용자명/이메일이 확실히 없음"을 DB 조회 없이 판단하기 위해 사용합니다.
+ * - 둘 다 확실히 없으면 중복 검사 쿼리를 생략하고 바로 INSERT (DB 유니크 제약이 최종 판단)
+ * - 하나라도 있을 수 있으면 단일 쿼리(username = ? OR email = ?)로 확인
+ *
+ * 시작 시 DB의 사용자명/이메일을 읽어 채우고, 회원 생성 시 추가합니다.
+ * 삭제된 회원은 제거하지 않으며 오탐으로만 남습니다. (DB에서 다시 확인하므로 정확성에는 영향 없음)
+ * 첫 생성이 끝나기 전에는 항상 "있을 수도 있음"으로 응답하여 DB 확인 경로를 사용합니다.
+ */
+@Component
+public class MemberIdentityFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberIdentityFilter.class);
+
+    /**
+     * 생성 시 한 번에 읽는 행 수
+     */
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    /**
+     * 목표 오탐률 (1%: 원소당 약 9.6비트)
+     */
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    /**
+     * 최소 예상 원소 수 (회원 수가 적어도 재생성 없이 여유 있게 추가할 수 있도록)
+     */
+    private static final long MIN_EXPECTED_INSERTIONS = 100_000;
+
+    private final MemberRepository memberRepository;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * 중복 검사에 사용하는 필터 (첫 생성 완료 전에는 null)
+     */
+    private volatile BloomFilter active;
+
+    /**
+     * 생성 중인 필터 (생성 중 추가되는 값도 함께 기록)
+     */
+    private volatile BloomFilter building;
+
+    public MemberIdentityFilter(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * 사용자명이 이미 존재할 가능성 여부 (false이면 확실히 없음)
+     */
+    public boolean mightContainUsername(String username) {
+        BloomFilter filter = active;
+        return filter == null || filter.mightContain(usernameKey(username));
+    }
+
+    /**
+     * 이메일이 이미 존재할 가능성 여부 (false이면 확실히 없음)
+     */
+    public boolean mightContainEmail(String email) {
+        BloomFilter filter = active;
+        return filter == null || filter.mightContain(emailKey(email));
+    }
+
+    /**
+     * 회원 사용자명/이메일 추가 (회원 INSERT 직후 호출)
+     *
+     * 트랜잭션이 롤백되어도 오탐만 늘어날 뿐이므로 커밋 전에 추가합니다.
+     * (커밋 후에 추가하면 커밋과 추가 사이에 들어온 같은 값이 DB 확인 없이 통과할 수 있음)
+     */
+    public void add(String username, String email) {
+        BloomFilter filter = active;
+        if (filter != null) {
+            put(filter, username, email);
+            if (filter.isSaturated()) {
+                rebuildAsync();
+            }
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            put(next, username, email);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 백그라운드로 필터 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildAsync();
+    }
+
+    /**
+     * 백그라운드 재생성 시작 (예상 원소 수를 넘어 오탐률이 높아진 경우에도 호출)
+     *
+     * @return 새로 시작했으면 true, 이미 생성 중이면 false
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::rebuild, "member-identity-filter-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * DB 전체를 읽어 새 필터를 만들고 교체
+     *
+     * 현재 회원 수의 2배(사용자명 + 이메일이므로 원소 수는 4배)를 예상 원소 수로 잡아
+     * 신규 가입이 늘어도 한동안 목표 오탐률을 유지합니다.
+     */
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            long members = memberRepository.count();
+            BloomFilter filter = new BloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, members * 4), FALSE_POSITIVE_RATE);
+            building = filter;
+
+            long afterId = 0;
+            List<MemberRepository.IdentityRow> rows;
+            do {
+                rows = memberRepository.findIdentityRowsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (MemberRepository.IdentityRow row : rows) {
+                    put(filter, row.getUsername(), row.getEmail());
+                    afterId = row.getId();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+
+            active = filter;
+            log.info("Member identity filter built: {} entries, {} KB in {} ms",
+                    filter.insertions(), filter.sizeInBytes() / 1024, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Member identity filter build failed", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 필터 상태
+     */
+    public Map<String, Object> stats() {
+        BloomFilter filter = active;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", filter != null);
+        stats.put("rebuilding", rebuilding.get());
+        stats.put("entries", filter != null ? filter.insertions() : 0);
+        stats.put("capacity", filter != null ? filter.expectedInsertions() : 0);
+        stats.put("sizeBytes", filter != null ? filter.sizeInBytes() : 0);
+        return stats;
+    }
+
+    private static void put(BloomFilter filter, String username, String email) {
+        if (username != null) {
+            filter.put(usernameKey(username));
+        }
+        if (email != null) {
+            filter.put(emailKey(email));
+        }
+    }
+
+    private static String usernameKey(String username) {
+        return "u:" + username;
+    }
+
+    private static String emailKey(String email) {
+        return "e:" + email;
+    }
+}
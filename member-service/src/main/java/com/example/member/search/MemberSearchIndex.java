@@ -0,0 +1,31 @@
+package com.example.member.search;
+
+import com.example.common.search.SearchIndex;
+import com.example.common.search.SearchRow;
+import com.example.member.repository.MemberRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 회원 이름(fullName) 검색 색인
+ *
+ * 색인 생성/증분 갱신/재색인은 SearchIndex가 담당하며, 여기서는 색인할 행을 읽는 방법만 정합니다.
+ * 증분 갱신은 MemberSearchIndexListener에서 호출합니다.
+ */
+@Component
+public class MemberSearchIndex extends SearchIndex {
+
+    private final MemberRepository memberRepository;
+
+    public MemberSearchIndex(MemberRepository memberRepository) {
+        super("member");
+        this.memberRepository = memberRepository;
+    }
+
+    @Override
+    protected List<? extends SearchRow> findRowsAfter(long afterId, int limit) {
+        return memberRepository.findSearchRowsAfter(afterId, PageRequest.of(0, limit));
+    }
+}
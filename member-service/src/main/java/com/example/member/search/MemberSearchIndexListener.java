@@ -0,0 +1,51 @@
+package com.example.member.search;
+
+import com.example.member.entity.Member;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 엔터티 변경을 검색 색인에 반영하는 JPA 엔터티 리스너
+ *
+ * 저장 요청 시점(persist, 시퀀스 ID는 이때 이미 할당됨), INSERT/UPDATE가 실행되는 시점(flush),
+ * 삭제 요청 시점(remove)에 바로 색인을 갱신하여
+ * 같은 트랜잭션 안의 검색에서도 변경 내용이 보이도록 합니다.
+ * 트랜잭션이 롤백되면 트랜잭션 시작 전의 색인 값으로 되돌립니다.
+ *
+ * 검색 결과는 항상 DB에서 다시 조회하므로, 커밋 전 변경이 다른 트랜잭션의 검색 후보에
+ * 잠시 포함되더라도 응답에는 커밋된 데이터만 반환됩니다.
+ *
+ * Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 생성자 주입을 사용할 수 있습니다.
+ */
+@Component
+public class MemberSearchIndexListener {
+
+    private final ObjectProvider<MemberSearchIndex> searchIndex;
+
+    public MemberSearchIndexListener(ObjectProvider<MemberSearchIndex> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PrePersist
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Member member) {
+        apply(member.getId(), member.getFullName());
+    }
+
+    @PreRemove
+    public void onRemoved(Member member) {
+        apply(member.getId(), null);
+    }
+
+    private void apply(Long id, String fullName) {
+        MemberSearchIndex index = searchIndex.getIfAvailable();
+        if (index != null) {
+            index.updateInTransaction(id, fullName);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package com.example.member.search;
+
+import com.example.member.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자명/이메일 자동완성(typeahead) 색인
+ *
+ * 사용자명과 이메일을 소문자 키로 정렬한 배열(String[])에 담아 이진 탐색으로 접두사 범위를 찾습니다.
+ * DB를 조회하지 않으며, 검색은 잠금 없이 수행됩니다. (상위 k개 조회는 O(log n + k))
+ *
+ * 구조:
+ * - base: 정렬된 키 배열 + 같은 위치의 회원 정보 배열 (불변, 노드 객체가 없어 메모리 효율적)
+ * - delta: base 생성 이후 추가된 회원 (ConcurrentSkipListMap)
+ * - removed: base 생성 이후 삭제된 회원 ID (tombstone)
+ * delta와 removed가 COMPACT_THRESHOLD를 넘으면 base와 병합하여 새 배열을 만듭니다. (선형 병합)
+ * 재색인 중에는 병합하지 않고, 새 base로 교체한 뒤 병합합니다.
+ *
+ * 사용자명과 이메일은 생성 후 변경되지 않으므로 회원 생성/삭제만 반영합니다.
+ * (MemberService가 트랜잭션 커밋 후 호출)
+ *
+ * 메모리 사용량은 회원당 약 160바이트(100만 명 기준 약 150MB)이며, 조회는 100만 명 기준 수 마이크로초입니다.
+ * (UsernameSuggestIndexBenchmark로 측정, MEMBER-SERVICE-GUIDE.md 참고)
+ */
+@Component
+public class UsernameSuggestIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameSuggestIndex.class);
+
+    /**
+     * 색인 생성 시 한 번에 읽는 행 수
+     */
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    /**
+     * delta/tombstone이 이 크기를 넘으면 base와 병합
+     */
+    private static final int COMPACT_THRESHOLD = 4096;
+
+    private final MemberRepository memberRepository;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Object writeLock = new Object();
+
+    /**
+     * 현재 색인 상태 (base 교체 시 통째로 바뀜)
+     */
+    private volatile State state = State.empty();
+
+    /**
+     * 첫 색인 생성 완료 여부
+     */
+    private volatile boolean ready;
+
+    public UsernameSuggestIndex(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * 자동완성 가능 여부 (첫 색인 완료 여부)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 접두사로 시작하는 사용자명/이메일을 가진 회원 조회
+     *
+     * 키(소문자 사용자명/이메일) 사전순으로 최대 limit명을 반환하며,
+     * 사용자명과 이메일이 모두 일치하는 회원은 한 번만 포함됩니다.
+     *
+     * @param prefix 접두사 (대소문자 구분 없음)
+     * @param limit  최대 결과 수
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        State current = state;
+        String[] keys = current.keys;
+        Suggestion[] values = current.values;
+        Iterator<Map.Entry<String, Suggestion>> delta = current.delta
+                .subMap(key, true, key + Character.MAX_VALUE, false)
+                .entrySet().iterator();
+
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, 16));
+        Set<Long> seen = new HashSet<>();
+        int i = lowerBound(keys, key);
+        Map.Entry<String, Suggestion> next = delta.hasNext() ? delta.next() : null;
+
+        while (result.size() < limit) {
+            boolean baseHas = i < keys.length && keys[i].startsWith(key);
+            if (!baseHas && next == null) {
+                break;
+            }
+            Suggestion candidate;
+            if (baseHas && (next == null || keys[i].compareTo(next.getKey()) <= 0)) {
+                candidate = values[i++];
+                if (current.removed.contains(candidate.id())) {
+                    continue;
+                }
+            } else {
+                candidate = next.getValue();
+                next = delta.hasNext() ? delta.next() : null;
+            }
+            if (seen.add(candidate.id())) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 회원 추가 (회원 생성 커밋 후 호출)
+     */
+    public void add(long id, String username, String email) {
+        Suggestion suggestion = new Suggestion(id, username, email);
+        synchronized (writeLock) {
+            State current = state;
+            current.delta.put(key(username, id), suggestion);
+            if (email != null) {
+                current.delta.put(key(email, id), suggestion);
+            }
+            compactIfNeeded(current);
+        }
+    }
+
+    /**
+     * 회원 제거 (회원 삭제 커밋 후 호출)
+     */
+    public void remove(long id, String username, String email) {
+        synchronized (writeLock) {
+            State current = state;
+            current.delta.remove(key(username, id));
+            if (email != null) {
+                current.delta.remove(key(email, id));
+            }
+            current.removed.add(id);
+            compactIfNeeded(current);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 백그라운드로 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildAsync();
+    }
+
+    /**
+     * 백그라운드 재색인 시작
+     *
+     * @return 새로 시작했으면 true, 이미 재색인 중이면 false
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::rebuild, "member-suggest-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * DB 전체를 읽어 새 base를 만들고 교체
+     *
+     * 읽는 동안 발생한 추가/삭제는 기존 delta/removed에 쌓이므로 새 base와 함께 그대로 유지합니다.
+     * (같은 회원이 base와 delta에 모두 있어도 검색 시 ID로 중복 제거)
+     * 읽는 동안 병합하면 그때까지의 추가/삭제가 이전 base에만 반영되고 새 base에서는 사라지므로
+     * (삭제된 회원이 다시 조회됨) 재색인이 끝날 때까지 병합하지 않습니다.
+     */
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            List<Suggestion> loaded = new ArrayList<>();
+            long afterId = 0;
+            List<MemberRepository.IdentityRow> rows;
+            do {
+                rows = memberRepository.findIdentityRowsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (MemberRepository.IdentityRow row : rows) {
+                    loaded.add(new Suggestion(row.getId(), row.getUsername(), row.getEmail()));
+                    afterId = row.getId();
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+
+            int keys = replaceBase(loaded);
+            log.info("Member suggest index rebuilt: {} members, {} keys in {} ms",
+                    loaded.size(), keys, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Member suggest index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 회원 목록으로 새 base를 만들어 교체 (기존 delta/removed는 유지하고, 커졌으면 새 base와 병합)
+     *
+     * @return 새 base의 키 수
+     */
+    int replaceBase(List<Suggestion> members) {
+        State built = State.of(members);
+        synchronized (writeLock) {
+            State current = state;
+            State replaced = new State(built.keys, built.values, current.delta, current.removed);
+            state = replaced.needsCompaction() ? replaced.compact() : replaced;
+            ready = true;
+        }
+        return built.keys.length;
+    }
+
+    /**
+     * delta/tombstone이 커지면 base와 병합 (writeLock 안에서 호출, 재색인 중에는 replaceBase에서 병합)
+     */
+    private void compactIfNeeded(State current) {
+        if (rebuilding.get() || !current.needsCompaction()) {
+            return;
+        }
+        state = current.compact();
+    }
+
+    /**
+     * 색인 상태
+     */
+    public Map<String, Object> stats() {
+        State current = state;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("rebuilding", rebuilding.get());
+        stats.put("baseKeys", current.keys.length);
+        stats.put("deltaKeys", current.delta.size());
+        stats.put("tombstones", current.removed.size());
+        return stats;
+    }
+
+    /**
+     * 정렬 키 (소문자 텍스트 + 회원 ID)
+     *
+     * 사용자명과 다른 회원의 이메일이 같은 문자열일 수 있으므로 delta 키에 ID를 붙여 구분합니다.
+     * 구분자 '\0'은 어떤 문자보다 작으므로 접두사 범위와 정렬 순서에 영향이 없습니다.
+     */
+    private static String key(String text, long id) {
+        return normalize(text) + '\0' + id;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * key 이상인 첫 위치
+     */
+    private static int lowerBound(String[] keys, String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 자동완성 결과 항목
+     */
+    public record Suggestion(long id, String username, String email) {
+    }
+
+    /**
+     * 색인 상태 스냅샷 (base 배열 + delta + tombstone)
+     */
+    private static final class State {
+
+        private static final Comparator<Object[]> BY_KEY = Comparator.comparing(pair -> (String) pair[0]);
+
+        final String[] keys;
+        final Suggestion[] values;
+        final ConcurrentSkipListMap<String, Suggestion> delta;
+        final Set<Long> removed;
+
+        State(String[] keys, Suggestion[] values,
+              ConcurrentSkipListMap<String, Suggestion> delta, Set<Long> removed) {
+            this.keys = keys;
+            this.values = values;
+            this.delta = delta;
+            this.removed = removed;
+        }
+
+        static State empty() {
+            return new State(new String[0], new Suggestion[0], new ConcurrentSkipListMap<>(), ConcurrentHashMap.newKeySet());
+        }
+
+        /**
+         * 회원 목록으로 base 생성 (회원당 사용자명, 이메일 2개 키)
+         */
+        static State of(List<Suggestion> suggestions) {
+            Object[][] pairs = new Object[suggestions.size() * 2][];
+            int count = 0;
+            for (Suggestion suggestion : suggestions) {
+                pairs[count++] = new Object[]{lowerCaseKey(suggestion.username()), suggestion};
+                if (suggestion.email() != null) {
+                    pairs[count++] = new Object[]{lowerCaseKey(suggestion.email()), suggestion};
+                }
+            }
+            Arrays.sort(pairs, 0, count, BY_KEY);
+            String[] keys = new String[count];
+            Suggestion[] values = new Suggestion[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = (String) pairs[i][0];
+                values[i] = (Suggestion) pairs[i][1];
+            }
+            return new State(keys, values, new ConcurrentSkipListMap<>(), ConcurrentHashMap.newKeySet());
+        }
+
+        boolean needsCompaction() {
+            return delta.size() + removed.size() >= COMPACT_THRESHOLD;
+        }
+
+        /**
+         * base(삭제된 회원 제외)와 delta를 선형 병합하여 새 base 생성
+         */
+        State compact() {
+            String[] mergedKeys = new String[keys.length + delta.size()];
+            Suggestion[] mergedValues = new Suggestion[mergedKeys.length];
+            Set<Long> inDelta = new HashSet<>();
+            for (Suggestion suggestion : delta.values()) {
+                inDelta.add(suggestion.id());
+            }
+            Iterator<Map.Entry<String, Suggestion>> deltaEntries = delta.entrySet().iterator();
+            Map.Entry<String, Suggestion> next = deltaEntries.hasNext() ? deltaEntries.next() : null;
+            int count = 0;
+            int i = 0;
+            while (i < keys.length || next != null) {
+                if (i < keys.length && (next == null || keys[i].compareTo(next.getKey()) <= 0)) {
+                    Suggestion value = values[i];
+                    // 재색인 중 추가되어 base와 delta에 모두 있는 회원은 delta 쪽만 유지
+                    if (!removed.contains(value.id()) && !inDelta.contains(value.id())) {
+                        mergedKeys[count] = keys[i];
+                        mergedValues[count++] = value;
+                    }
+                    i++;
+                } else {
+                    String deltaKey = next.getKey();
+                    mergedKeys[count] = deltaKey.substring(0, deltaKey.indexOf('\0'));
+                    mergedValues[count++] = next.getValue();
+                    next = deltaEntries.hasNext() ? deltaEntries.next() : null;
+                }
+            }
+            return new State(Arrays.copyOf(mergedKeys, count), Arrays.copyOf(mergedValues, count),
+                    new ConcurrentSkipListMap<>(), ConcurrentHashMap.newKeySet());
+        }
+
+        /**
+         * 소문자 키 (이미 소문자면 원본 문자열을 그대로 공유하여 중복 저장 방지)
+         */
+        private static String lowerCaseKey(String text) {
+            String key = normalize(text);
+            return key.equals(text) ? text : key;
+        }
+    }
+}
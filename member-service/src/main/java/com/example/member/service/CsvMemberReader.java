@@ -0,0 +1,165 @@
+package com.example.member.service;
+
+import com.example.member.dto.MemberDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 회원 일괄 등록용 CSV 스트리밍 리더
+ *
+ * 전체 파일을 메모리에 올리지 않고 한 줄씩 읽어 CreateRequest로 변환합니다.
+ * - 첫 줄은 헤더 (username, password, email, fullName, phoneNumber / 순서 무관, full_name 형식도 허용)
+ * - 큰따옴표로 감싼 필드 안의 쉼표와 "" 이스케이프 지원 (필드 안 줄바꿈은 지원하지 않음)
+ * - 형식이 잘못된 행은 예외 대신 오류 메시지가 담긴 행으로 반환하여 행별 결과에 INVALID로 기록
+ */
+class CsvMemberReader implements Iterator<MemberBulkImportService.BulkRow> {
+
+    private static final List<String> COLUMNS = List.of("username", "password", "email", "fullname", "phonenumber");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+    private int headerSize;
+    private int row;
+    private String nextLine;
+
+    CsvMemberReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        readHeader();
+        this.nextLine = readDataLine();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextLine != null;
+    }
+
+    @Override
+    public MemberBulkImportService.BulkRow next() {
+        if (nextLine == null) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        int current = ++row;
+        nextLine = readDataLine();
+
+        List<String> fields;
+        try {
+            fields = parse(line);
+        } catch (IllegalArgumentException e) {
+            return MemberBulkImportService.BulkRow.invalid(current, e.getMessage());
+        }
+        if (fields.size() != headerSize) {
+            return MemberBulkImportService.BulkRow.invalid(current,
+                    "컬럼 수가 헤더와 다릅니다: " + fields.size() + " (헤더 " + headerSize + ")");
+        }
+        MemberDto.CreateRequest request = MemberDto.CreateRequest.builder()
+                .username(field(fields, "username"))
+                .password(field(fields, "password"))
+                .email(field(fields, "email"))
+                .fullName(field(fields, "fullname"))
+                .phoneNumber(field(fields, "phonenumber"))
+                .build();
+        return MemberBulkImportService.BulkRow.of(current, request);
+    }
+
+    private void readHeader() {
+        String header = readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다");
+        }
+        // UTF-8 BOM 제거 (엑셀에서 저장한 CSV)
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> names = parse(header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            if (COLUMNS.contains(name)) {
+                columnIndex.put(name, i);
+            }
+        }
+        if (!columnIndex.containsKey("username") || !columnIndex.containsKey("password")
+                || !columnIndex.containsKey("email")) {
+            throw new IllegalArgumentException("CSV 헤더에 username, password, email 컬럼이 필요합니다");
+        }
+        headerSize = names.size();
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columnIndex.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 다음 데이터 행 (빈 줄은 건너뜀)
+     */
+    private String readDataLine() {
+        String line;
+        while ((line = readLine()) != null) {
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * CSV 한 줄을 필드 목록으로 분리
+     */
+    static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 큰따옴표가 있습니다");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.member.service;
+
+import com.example.member.dto.MemberDto;
+import com.example.member.entity.Member;
+import com.example.member.repository.MemberRepository;
+import com.example.member.search.MemberIdentityFilter;
+import com.example.member.search.UsernameSuggestIndex;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 일괄 등록 서비스
+ *
+ * 파트너사 회원 이관처럼 수십만 건을 등록할 때 사용합니다. 입력을 스트리밍으로 읽어 CHUNK_SIZE 단위로 처리하며,
+ * 청크마다 다음 순서로 처리하고 커밋합니다.
+ * 1. Bean Validation 검사 (실패 행은 INVALID)
+ * 2. 요청 안에서 사용자명/이메일 중복 검사 (앞선 행과 겹치면 DUPLICATE)
+ * 3. Bloom filter에서 "있을 수도 있음"인 행만 모아 IN 조건 쿼리 한 번으로 DB 중복 검사
+ * 4. 남은 행을 saveAll + flush로 등록 (시퀀스 ID + hibernate.jdbc.batch_size로 배치 INSERT)
+ *
+ * 청크 INSERT 중 유니크 제약 위반(동시 가입 등)이 발생하면 해당 청크만 롤백하고 행별로 다시 등록하여
+ * 어느 행이 중복인지 결과에 남깁니다. 이전 청크는 이미 커밋되어 있으므로 같은 파일을 다시 올리면
+ * 등록된 행은 DUPLICATE로 건너뜁니다.
+ */
+@Service
+public class MemberBulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberBulkImportService.class);
+
+    /**
+     * 한 트랜잭션에서 처리하는 행 수
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private final MemberRepository memberRepository;
+    private final MemberIdentityFilter memberIdentityFilter;
+    private final UsernameSuggestIndex usernameSuggestIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public MemberBulkImportService(MemberRepository memberRepository,
+                                   MemberIdentityFilter memberIdentityFilter,
+                                   UsernameSuggestIndex usernameSuggestIndex,
+                                   TransactionTemplate transactionTemplate,
+                                   EntityManager entityManager,
+                                   Validator validator,
+                                   ObjectMapper objectMapper) {
+        this.memberRepository = memberRepository;
+        this.memberIdentityFilter = memberIdentityFilter;
+        this.usernameSuggestIndex = usernameSuggestIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * JSON 배열 일괄 등록 ([{"username": ..., "password": ..., "email": ...}, ...])
+     *
+     * 배열 전체를 메모리에 올리지 않고 원소 단위로 읽습니다.
+     */
+    public MemberDto.BulkImportResult importJson(InputStream input) {
+        MappingIterator<MemberDto.CreateRequest> requests;
+        try {
+            requests = objectMapper.readerFor(MemberDto.CreateRequest.class).readValues(input);
+        } catch (IOException e) {
+            return failedBeforeStart("JSON을 읽을 수 없습니다: " + e.getMessage());
+        }
+        Iterator<BulkRow> rows = new Iterator<>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return requests.hasNext();
+            }
+
+            @Override
+            public BulkRow next() {
+                MemberDto.CreateRequest request = requests.next();
+                return request != null ? BulkRow.of(++row, request) : BulkRow.invalid(++row, "빈 항목입니다");
+            }
+        };
+        return importRows(rows);
+    }
+
+    /**
+     * CSV 일괄 등록 (첫 줄 헤더: username,password,email,fullName,phoneNumber)
+     */
+    public MemberDto.BulkImportResult importCsv(InputStream input) {
+        CsvMemberReader rows;
+        try {
+            rows = new CsvMemberReader(input);
+        } catch (IllegalArgumentException e) {
+            return failedBeforeStart(e.getMessage());
+        }
+        return importRows(rows);
+    }
+
+    private MemberDto.BulkImportResult importRows(Iterator<BulkRow> rows) {
+        long started = System.currentTimeMillis();
+        ImportState state = new ImportState();
+        List<BulkRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        String error = null;
+
+        try {
+            while (rows.hasNext()) {
+                chunk.add(rows.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    processChunk(chunk, state);
+                    chunk.clear();
+                }
+            }
+        } catch (RuntimeException e) {
+            // 입력 형식 오류 등으로 더 읽을 수 없는 경우: 읽은 행까지만 처리하고 결과에 오류 기록
+            log.warn("Bulk member import stopped at row {}: {}", state.results.size() + chunk.size() + 1, e.getMessage());
+            error = (e instanceof UncheckedIOException ? "입력을 읽는 중 오류가 발생했습니다: " : "입력 형식 오류: ")
+                    + e.getMessage();
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, state);
+        }
+
+        // 청크 안에서는 검증 실패/중복 행이 먼저 기록되므로 입력 순서로 정렬
+        state.results.sort(Comparator.comparingInt(MemberDto.BulkRowResult::getRow));
+        int created = (int) state.results.stream()
+                .filter(result -> result.getStatus() == MemberDto.BulkRowStatus.CREATED)
+                .count();
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("Bulk member import finished: {} rows, {} created, {} chunks in {} ms",
+                state.results.size(), created, state.chunks, elapsed);
+
+        return MemberDto.BulkImportResult.builder()
+                .total(state.results.size())
+                .created(created)
+                .failed(state.results.size() - created)
+                .chunks(state.chunks)
+                .elapsedMillis(elapsed)
+                .error(error)
+                .rows(state.results)
+                .build();
+    }
+
+    /**
+     * 한 청크 처리 (검증 → 중복 검사 → 배치 INSERT)
+     */
+    private void processChunk(List<BulkRow> chunk, ImportState state) {
+        state.chunks++;
+        List<BulkRow> candidates = new ArrayList<>(chunk.size());
+        for (BulkRow row : chunk) {
+            String invalid = row.error() != null ? row.error() : validate(row.request());
+            if (invalid != null) {
+                state.results.add(result(row, MemberDto.BulkRowStatus.INVALID, null, invalid));
+            } else if (state.usernames.contains(row.request().getUsername())) {
+                state.results.add(result(row, MemberDto.BulkRowStatus.DUPLICATE, null, "요청 안에서 중복된 사용자명입니다"));
+            } else if (state.emails.contains(row.request().getEmail())) {
+                state.results.add(result(row, MemberDto.BulkRowStatus.DUPLICATE, null, "요청 안에서 중복된 이메일입니다"));
+            } else {
+                state.usernames.add(row.request().getUsername());
+                state.emails.add(row.request().getEmail());
+                candidates.add(row);
+            }
+        }
+
+        List<BulkRow> inserts = excludeExisting(candidates, state);
+        if (inserts.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Member> saved = transactionTemplate.execute(status -> insert(inserts));
+            saved.forEach(this::addToSuggestIndex);
+            for (int i = 0; i < inserts.size(); i++) {
+                state.results.add(result(inserts.get(i), MemberDto.BulkRowStatus.CREATED, saved.get(i).getId(), null));
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Bulk member import chunk {} hit a unique constraint, retrying row by row", state.chunks);
+            for (BulkRow row : inserts) {
+                state.results.add(insertOne(row));
+            }
+        }
+    }
+
+    /**
+     * DB에 이미 있는 사용자명/이메일 제외 (Bloom filter에서 걸러지지 않은 행만 IN 쿼리 한 번으로 확인)
+     */
+    private List<BulkRow> excludeExisting(List<BulkRow> candidates, ImportState state) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (BulkRow row : candidates) {
+            if (memberIdentityFilter.mightContainUsername(row.request().getUsername())
+                    || memberIdentityFilter.mightContainEmail(row.request().getEmail())) {
+                usernames.add(row.request().getUsername());
+                emails.add(row.request().getEmail());
+            }
+        }
+        if (usernames.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> existingUsernames = new HashSet<>();
+        Set<String> existingEmails = new HashSet<>();
+        for (MemberRepository.IdentityRow existing : memberRepository.findIdentityConflictsIn(usernames, emails)) {
+            existingUsernames.add(existing.getUsername());
+            existingEmails.add(existing.getEmail());
+        }
+
+        List<BulkRow> inserts = new ArrayList<>(candidates.size());
+        for (BulkRow row : candidates) {
+            if (existingUsernames.contains(row.request().getUsername())) {
+                state.results.add(result(row, MemberDto.BulkRowStatus.DUPLICATE, null, "이미 존재하는 사용자명입니다"));
+            } else if (existingEmails.contains(row.request().getEmail())) {
+                state.results.add(result(row, MemberDto.BulkRowStatus.DUPLICATE, null, "이미 존재하는 이메일입니다"));
+            } else {
+                inserts.add(row);
+            }
+        }
+        return inserts;
+    }
+
+    /**
+     * 청크 INSERT (트랜잭션 안에서 호출)
+     *
+     * flush 후 영속성 컨텍스트를 비워 청크가 쌓여도 메모리가 늘지 않도록 합니다. (OSIV로 요청 동안 유지되므로)
+     */
+    private List<Member> insert(List<BulkRow> rows) {
+        List<Member> members = rows.stream()
+                .map(row -> row.request().toEntity())
+                .collect(Collectors.toList());
+        List<Member> saved = memberRepository.saveAll(members);
+        memberRepository.flush();
+        entityManager.clear();
+        for (Member member : saved) {
+            memberIdentityFilter.add(member.getUsername(), member.getEmail());
+        }
+        return saved;
+    }
+
+    /**
+     * 한 행 INSERT (청크 INSERT가 유니크 제약 위반으로 실패한 경우)
+     */
+    private MemberDto.BulkRowResult insertOne(BulkRow row) {
+        try {
+            Member saved = transactionTemplate.execute(status -> insert(List.of(row)).get(0));
+            addToSuggestIndex(saved);
+            return result(row, MemberDto.BulkRowStatus.CREATED, saved.getId(), null);
+        } catch (DataIntegrityViolationException e) {
+            return result(row, MemberDto.BulkRowStatus.DUPLICATE, null, "이미 존재하는 사용자명 또는 이메일입니다");
+        } catch (RuntimeException e) {
+            log.error("Bulk member import failed at row {}", row.row(), e);
+            return result(row, MemberDto.BulkRowStatus.FAILED, null, e.getMessage());
+        }
+    }
+
+    /**
+     * 자동완성 색인 추가 (커밋 후 호출)
+     */
+    private void addToSuggestIndex(Member member) {
+        usernameSuggestIndex.add(member.getId(), member.getUsername(), member.getEmail());
+    }
+
+    private String validate(MemberDto.CreateRequest request) {
+        Set<ConstraintViolation<MemberDto.CreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static MemberDto.BulkRowResult result(BulkRow row, MemberDto.BulkRowStatus status, Long id, String message) {
+        return MemberDto.BulkRowResult.builder()
+                .row(row.row())
+                .username(row.request() != null ? row.request().getUsername() : null)
+                .status(status)
+                .id(id)
+                .message(message)
+                .build();
+    }
+
+    private static MemberDto.BulkImportResult failedBeforeStart(String error) {
+        return MemberDto.BulkImportResult.builder()
+                .error(error)
+                .rows(List.of())
+                .build();
+    }
+
+    /**
+     * 입력 한 행 (형식 오류가 있으면 request 대신 error)
+     */
+    record BulkRow(int row, MemberDto.CreateRequest request, String error) {
+
+        static BulkRow of(int row, MemberDto.CreateRequest request) {
+            return new BulkRow(row, request, null);
+        }
+
+        static BulkRow invalid(int row, String error) {
+            return new BulkRow(row, null, error);
+        }
+    }
+
+    /**
+     * 일괄 등록 진행 상태 (요청 안 중복 검사용 사용자명/이메일 포함)
+     */
+    private static final class ImportState {
+        final List<MemberDto.BulkRowResult> results = new ArrayList<>();
+        final Set<String> usernames = new HashSet<>();
+        final Set<String> emails = new HashSet<>();
+        int chunks;
+    }
+}
@@ -1,21 +1,36 @@
 package com.example.member.service;
 
+import com.example.common.search.SearchHits;
+import com.example.common.search.SearchMode;
+import com.example.common.web.EntityTags;
+import com.example.common.web.PreconditionFailedException;
 import com.example.member.dto.MemberDto;
 import com.example.member.entity.Member;
 import com.example.member.exception.MemberNotFoundException;
 import com.example.member.exception.DuplicateMemberException;
 import com.example.member.repository.MemberRepository;
+import com.example.member.search.MemberIdentityFilter;
+import com.example.member.search.MemberSearchIndex;
+import com.example.member.search.UsernameSuggestIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,34 +45,65 @@ public class MemberService {
     private static final Logger log = LoggerFactory.getLogger(MemberService.class);
     private final MemberRepository memberRepository;
     private final CacheManager cacheManager;
+    private final MemberSearchIndex memberSearchIndex;
+    private final UsernameSuggestIndex usernameSuggestIndex;
+    private final MemberIdentityFilter memberIdentityFilter;
+    private final MemberStatusCounter memberStatusCounter;
 
-    public MemberService(MemberRepository memberRepository, CacheManager cacheManager) {
+    /**
+     * 자동완성 최대 결과 수
+     */
+    private static final int MAX_SUGGESTIONS = 50;
+
+    public MemberService(MemberRepository memberRepository, CacheManager cacheManager,
+                         MemberSearchIndex memberSearchIndex, UsernameSuggestIndex usernameSuggestIndex,
+                         MemberIdentityFilter memberIdentityFilter, MemberStatusCounter memberStatusCounter) {
         this.memberRepository = memberRepository;
         this.cacheManager = cacheManager;
+        this.memberSearchIndex = memberSearchIndex;
+        this.usernameSuggestIndex = usernameSuggestIndex;
+        this.memberIdentityFilter = memberIdentityFilter;
+        this.memberStatusCounter = memberStatusCounter;
     }
 
     /**
      * 회원 생성
      * 
-     * 새 회원 생성 시 활성 회원 수 캐시를 무효화합니다.
+     * 새 회원은 커밋 시 상태별 회원 수 카운터에 반영됩니다.
+     * 신규 사용자명/이메일은 대부분 Bloom filter에서 바로 걸러지므로 INSERT 한 번으로 처리됩니다.
      */
     @Transactional
-    @CacheEvict(value = "activeMemberCount", allEntries = true)
     public MemberDto.Response createMember(MemberDto.CreateRequest request) {
         log.info("Creating new member with username: {}", request.getUsername());
 
-        // 중복 검사
-        if (memberRepository.existsByUsername(request.getUsername())) {
-            throw new DuplicateMemberException("이미 존재하는 사용자명입니다: " + request.getUsername());
+        // 중복 검사: Bloom filter로 확실히 없는 경우 DB 조회 생략, 있을 수도 있으면 단일 쿼리로 확인
+        String username = request.getUsername();
+        String email = request.getEmail();
+        if (memberIdentityFilter.mightContainUsername(username) || memberIdentityFilter.mightContainEmail(email)) {
+            List<MemberRepository.IdentityRow> conflicts = memberRepository.findIdentityConflicts(username, email);
+            if (conflicts.stream().anyMatch(row -> username.equals(row.getUsername()))) {
+                throw new DuplicateMemberException("이미 존재하는 사용자명입니다: " + username);
+            }
+            if (!conflicts.isEmpty()) {
+                throw new DuplicateMemberException("이미 존재하는 이메일입니다: " + email);
+            }
         }
 
-        if (memberRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateMemberException("이미 존재하는 이메일입니다: " + request.getEmail());
+        // 엔터티 생성 및 저장 (동시 가입 등으로 검사를 통과한 중복은 DB 유니크 제약이 최종 판단)
+        Member member = request.toEntity();
+        Member savedMember;
+        try {
+            savedMember = memberRepository.save(member);
+            // 시퀀스 ID는 INSERT를 flush 시점까지 미루므로, 유니크 제약 위반을 여기서 감지하도록 즉시 flush
+            memberRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateMemberException("이미 존재하는 사용자명 또는 이메일입니다: " + username + ", " + email);
         }
+        memberIdentityFilter.add(username, email);
 
-        // 엔터티 생성 및 저장
-        Member member = request.toEntity();
-        Member savedMember = memberRepository.save(member);
+        // 자동완성 색인은 커밋된 회원만 반영
+        afterCommit(() -> usernameSuggestIndex.add(
+                savedMember.getId(), savedMember.getUsername(), savedMember.getEmail()));
 
         log.info("Member created successfully with ID: {}", savedMember.getId());
         return MemberDto.Response.from(savedMember);
@@ -79,6 +125,15 @@ public class MemberService {
         return MemberDto.Response.from(member);
     }
 
+    /**
+     * 회원 ETag 생성 (조회 응답과 조건부 수정에서 공통 사용)
+     * 
+     * 회원 응답은 회원 엔터티만으로 결정되므로 강한(strong) ETag를 사용합니다.
+     */
+    public static String etagOf(Long id, Long version) {
+        return EntityTags.strong("member", id, version);
+    }
+
     /**
      * 사용자명으로 회원 조회
      * 
@@ -101,10 +156,7 @@ public class MemberService {
     public List<MemberDto.Summary> getAllMembers() {
         log.debug("Retrieving all members");
 
-        List<Member> members = memberRepository.findAll();
-        return members.stream()
-                .map(MemberDto.Summary::from)
-                .collect(Collectors.toList());
+        return memberRepository.findAllSummaries();
     }
 
     /**
@@ -113,8 +165,7 @@ public class MemberService {
     public Page<MemberDto.Summary> getMembers(Pageable pageable) {
         log.debug("Retrieving members with pagination: {}", pageable);
 
-        Page<Member> memberPage = memberRepository.findAll(pageable);
-        return memberPage.map(MemberDto.Summary::from);
+        return memberRepository.findSummaries(pageable);
     }
 
     /**
@@ -123,10 +174,7 @@ public class MemberService {
     public List<MemberDto.Summary> getMembersByStatus(Member.MemberStatus status) {
         log.debug("Retrieving members by status: {}", status);
 
-        List<Member> members = memberRepository.findByStatus(status);
-        return members.stream()
-                .map(MemberDto.Summary::from)
-                .collect(Collectors.toList());
+        return memberRepository.findSummariesByStatus(status);
     }
 
     /**
@@ -135,18 +183,38 @@ public class MemberService {
      * 회원 정보 수정 시 관련 캐시를 무효화합니다:
      * - ID로 조회한 캐시
      * - 사용자명으로 조회한 캐시
-     * - 활성 회원 수 캐시 (상태 변경 시)
+     *
+     * 상태가 바뀌면 커밋 시 상태별 회원 수 카운터에 반영됩니다.
      */
     @Transactional
     public MemberDto.Response updateMember(Long id, MemberDto.UpdateRequest request) {
+        return updateMember(id, request, null);
+    }
+
+    /**
+     * 회원 정보 수정 (조건부)
+     * 
+     * ifMatch가 주어지면 현재 회원의 ETag와 비교하여 일치할 때만 수정합니다.
+     * 다른 요청이 먼저 수정했다면 PreconditionFailedException(412)이 발생합니다.
+     * 
+     * @param ifMatch If-Match 헤더 값 (null이면 조건 없이 수정)
+     */
+    @Transactional
+    public MemberDto.Response updateMember(Long id, MemberDto.UpdateRequest request, String ifMatch) {
         log.info("Updating member with ID: {}", id);
 
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다. ID: " + id));
 
+        if (ifMatch != null) {
+            String currentEtag = etagOf(member.getId(), member.getVersion());
+            if (!EntityTags.matchesIfMatch(ifMatch, currentEtag)) {
+                throw new PreconditionFailedException("회원 정보가 다른 요청에 의해 변경되었습니다. ID: " + id, currentEtag);
+            }
+        }
+
         // 수정 전 사용자명 저장 (캐시 무효화용)
         String username = member.getUsername();
-        boolean statusChanged = request.getStatus() != null && !request.getStatus().equals(member.getStatus());
 
         // 수정 가능한 필드 업데이트
         if (request.getFullName() != null) {
@@ -160,12 +228,11 @@ public class MemberService {
         }
 
         Member updatedMember = memberRepository.save(member);
+        // 즉시 flush하여 버전 충돌을 이 메서드 안에서 감지하고, 응답에 증가된 버전을 반영합니다.
+        memberRepository.flush();
         
         // 캐시 무효화
         evictMemberCaches(id, username);
-        if (statusChanged) {
-            evictActiveMemberCountCache();
-        }
         
         log.info("Member updated successfully with ID: {}", updatedMember.getId());
 
@@ -191,21 +258,14 @@ public class MemberService {
         }
     }
     
-    /**
-     * 활성 회원 수 캐시 무효화
-     */
-    @CacheEvict(value = "activeMemberCount", allEntries = true)
-    public void evictActiveMemberCountCache() {
-        // 캐시 무효화를 위한 메서드 (AOP 프록시를 통한 호출 필요)
-    }
-
     /**
      * 회원 삭제
      * 
      * 회원 삭제 시 관련 캐시를 무효화합니다:
      * - ID로 조회한 캐시
      * - 사용자명으로 조회한 캐시
-     * - 활성 회원 수 캐시
+     *
+     * 커밋 시 상태별 회원 수 카운터에서 제외됩니다.
      */
     @Transactional
     public void deleteMember(Long id) {
@@ -216,37 +276,152 @@ public class MemberService {
                 .orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다. ID: " + id));
         
         String username = member.getUsername();
+        String email = member.getEmail();
 
         memberRepository.deleteById(id);
+        afterCommit(() -> usernameSuggestIndex.remove(id, username, email));
         
         // 캐시 무효화
         evictMemberCaches(id, username);
-        evictActiveMemberCountCache();
         
         log.info("Member deleted successfully with ID: {}", id);
     }
 
     /**
      * 이름으로 회원 검색
+     *
+     * 검색 색인(n-gram)에서 순위순 ID를 구한 뒤 해당 페이지의 회원만 DB에서 조회합니다.
+     * 순위: 완전 일치 > 접두사 일치 > 단어 접두사 일치 > 부분 일치 (같은 순위면 짧은 이름 우선)
+     * 색인이 아직 준비되지 않았으면 DB LIKE 검색으로 대체하며, 이때는 이름순으로 정렬됩니다.
+     *
+     * @param mode CONTAINS(부분 일치) 또는 PREFIX(자동완성용 접두사 일치)
+     */
+    public Page<MemberDto.Summary> searchMembers(String name, SearchMode mode, Pageable pageable) {
+        log.debug("Searching members by name: {}, mode: {}", name, mode);
+
+        if (!memberSearchIndex.isReady()) {
+            log.debug("Member search index not ready, falling back to database search");
+            return mode == SearchMode.PREFIX
+                    ? memberRepository.findSummariesByFullNameStartingWith(name, pageable)
+                    : memberRepository.findSummariesByFullNameContaining(name, pageable);
+        }
+
+        SearchHits hits = memberSearchIndex.search(name, mode, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+
+        // findAllById는 순서를 보장하지 않으므로 색인 순위대로 다시 정렬
+        Map<Long, MemberDto.Summary> found = memberRepository.findSummariesByIdIn(hits.ids()).stream()
+                .collect(Collectors.toMap(MemberDto.Summary::getId, Function.identity()));
+        List<MemberDto.Summary> content = hits.ids().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    /**
+     * 이름 검색 색인 재생성 (백그라운드)
+     *
+     * @return 새로 시작했으면 true, 이미 재색인 중이면 false
+     */
+    public boolean rebuildSearchIndex() {
+        log.info("Member search index rebuild requested");
+        return memberSearchIndex.rebuildAsync();
+    }
+
+    /**
+     * 이름 검색 색인 상태
+     */
+    public Map<String, Object> getSearchIndexStats() {
+        return memberSearchIndex.stats();
+    }
+
+    /**
+     * 사용자명/이메일 자동완성
+     * 
+     * 메모리 접두사 색인에서 바로 응답하며 DB를 조회하지 않습니다.
+     * 색인이 아직 준비되지 않았으면 사용자명 접두사 DB 조회로 대체합니다.
+     * 
+     * @param limit 최대 결과 수 (최대 50)
      */
-    public List<MemberDto.Summary> searchMembersByName(String name) {
-        log.debug("Searching members by name: {}", name);
+    public List<MemberDto.Suggestion> suggestMembers(String prefix, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+
+        if (!usernameSuggestIndex.isReady()) {
+            log.debug("Member suggest index not ready, falling back to database search");
+            return memberRepository.findIdentityRowsByUsernamePrefix(prefix, PageRequest.of(0, size)).stream()
+                    .map(row -> new MemberDto.Suggestion(row.getId(), row.getUsername(), row.getEmail()))
+                    .collect(Collectors.toList());
+        }
 
-        List<Member> members = memberRepository.findByFullNameContaining(name);
-        return members.stream()
-                .map(MemberDto.Summary::from)
+        return usernameSuggestIndex.suggest(prefix, size).stream()
+                .map(MemberDto.Suggestion::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시 실행)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     /**
      * 활성 회원 수 조회
      * 
-     * 캐시 키: 없음 (단일 값)
-     * 캐시 이름: "activeMemberCount"
+     * 상태별 회원 수 카운터에서 O(1)로 조회합니다. (카운터 초기화 전에는 COUNT 쿼리)
      */
-    @Cacheable(value = "activeMemberCount", unless = "#result == null")
     public long getActiveMemberCount() {
-        log.debug("Retrieving active member count (cache miss)");
-        return memberRepository.countActiveMembers();
+        return memberStatusCounter.count(Member.MemberStatus.ACTIVE).orElseGet(() -> {
+            log.debug("Member status counter not ready, counting active members from DB");
+            return memberRepository.countActiveMembers();
+        });
+    }
+
+    /**
+     * 상태별 회원 수 조회
+     *
+     * 모든 상태를 포함하며 회원이 없는 상태는 0입니다. (카운터 초기화 전에는 GROUP BY 쿼리)
+     */
+    public Map<Member.MemberStatus, Long> getStatusCounts() {
+        return getStatusCounts(false);
+    }
+
+    /**
+     * 상태별 회원 수 조회
+     *
+     * 기본은 이 인스턴스의 카운터 값이며, 다른 인스턴스의 변경은 다음 DB 맞춤 때 반영됩니다.
+     * exact가 true이면 카운터 대신 DB의 GROUP BY 결과를 반환합니다. (모든 인스턴스의 커밋 포함)
+     */
+    public Map<Member.MemberStatus, Long> getStatusCounts(boolean exact) {
+        if (exact) {
+            return countByStatusFromDatabase();
+        }
+        return memberStatusCounter.counts().orElseGet(() -> {
+            log.debug("Member status counter not ready, counting members by status from DB");
+            return countByStatusFromDatabase();
+        });
+    }
+
+    private Map<Member.MemberStatus, Long> countByStatusFromDatabase() {
+        Map<Member.MemberStatus, Long> counts = new EnumMap<>(Member.MemberStatus.class);
+        for (Member.MemberStatus status : Member.MemberStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (MemberRepository.StatusCount row : memberRepository.countByStatus()) {
+            counts.put(row.getStatus(), row.getTotal());
+        }
+        return counts;
     }
 }
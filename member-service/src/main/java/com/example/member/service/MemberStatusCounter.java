@@ -0,0 +1,328 @@
+package com.example.member.service;
+
+import com.example.member.entity.Member;
+import com.example.member.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회원 상태별 수 카운터
+ *
+ * 상태별 회원 수(ACTIVE, INACTIVE, SUSPENDED)를 메모리에 유지하여 COUNT 쿼리 없이 O(1)로 조회합니다.
+ * - 회원 생성/상태 변경/삭제 시(MemberStatusListener) 증감을 트랜잭션에 기록했다가 커밋된 경우에만 반영 (롤백 시 버림)
+ * - 같은 트랜잭션 안의 조회에는 아직 커밋되지 않은 자기 변경분을 더해서 반환
+ * - 시작 시 DB의 GROUP BY 결과로 초기화하고, 주기적으로 DB와 다시 맞춤 (서비스를 거치지 않은 변경 보정)
+ *
+ * 카운터는 인스턴스마다 따로 유지됩니다. 이 인스턴스를 거친 커밋은 바로 반영되지만,
+ * 다른 인스턴스나 SQL로 직접 바꾼 데이터는 다음 DB 맞춤(member.stats.reconcile-interval) 때 반영됩니다.
+ *
+ * 초기화 전에는 빈 값을 반환하므로 호출하는 쪽에서 DB 조회로 대신합니다.
+ */
+@Component
+public class MemberStatusCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberStatusCounter.class);
+
+    private final MemberRepository memberRepository;
+    private final Map<Member.MemberStatus, LongAdder> counts = new EnumMap<>(Member.MemberStatus.class);
+
+    /**
+     * 커밋 직전에 들어간 변경 트랜잭션 수 (DB 맞춤 중 변경이 있었는지 판단용)
+     */
+    private final AtomicLong commits = new AtomicLong();
+
+    /**
+     * 커밋 관문: 변경 트랜잭션은 커밋 직전부터 카운터 반영까지 읽기 잠금을, DB 맞춤은 보정할 때 쓰기 잠금을 잡음
+     * (읽기 잠금 수 = 커밋 중이지만 아직 카운터에 반영하지 않은 트랜잭션 수)
+     */
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    /**
+     * 연속으로 건너뛸 수 있는 DB 맞춤 횟수 (넘으면 커밋을 잠시 막고 맞춤)
+     */
+    private final int maxSkippedReconciles;
+
+    /**
+     * 커밋을 막고 맞출 때 진행 중인 커밋이 끝나기를 기다리는 최대 시간
+     */
+    private final Duration fenceTimeout;
+
+    /**
+     * 연속으로 건너뛴 DB 맞춤 횟수 (reconcile은 synchronized)
+     */
+    private int skippedReconciles;
+
+    private volatile boolean ready;
+
+    public MemberStatusCounter(MemberRepository memberRepository,
+                               @Value("${member.stats.max-skipped-reconciles:3}") int maxSkippedReconciles,
+                               @Value("${member.stats.reconcile-fence-timeout:1s}") Duration fenceTimeout) {
+        this.memberRepository = memberRepository;
+        this.maxSkippedReconciles = maxSkippedReconciles;
+        this.fenceTimeout = fenceTimeout;
+        for (Member.MemberStatus status : Member.MemberStatus.values()) {
+            counts.put(status, new LongAdder());
+        }
+    }
+
+    /**
+     * 상태별 회원 수 (초기화 전이면 빈 값)
+     */
+    public OptionalLong count(Member.MemberStatus status) {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(counts.get(status).sum() + pending().getOrDefault(status, 0L));
+    }
+
+    /**
+     * 전체 상태별 회원 수 (초기화 전이면 빈 값)
+     */
+    public Optional<Map<Member.MemberStatus, Long>> counts() {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Map<Member.MemberStatus, Long> pending = pending();
+        Map<Member.MemberStatus, Long> snapshot = new EnumMap<>(Member.MemberStatus.class);
+        counts.forEach((status, adder) -> snapshot.put(status, adder.sum() + pending.getOrDefault(status, 0L)));
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * 회원 생성 반영
+     */
+    public void created(Member.MemberStatus status) {
+        adjust(status, 1);
+    }
+
+    /**
+     * 회원 상태 변경 반영
+     */
+    public void changed(Member.MemberStatus from, Member.MemberStatus to) {
+        if (from != to) {
+            adjust(from, -1);
+            adjust(to, 1);
+        }
+    }
+
+    /**
+     * 회원 삭제 반영
+     */
+    public void deleted(Member.MemberStatus status) {
+        adjust(status, -1);
+    }
+
+    /**
+     * 증감 기록 (트랜잭션 안이면 커밋 후 반영, 밖이면 즉시 반영)
+     */
+    private void adjust(Member.MemberStatus status, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitGate.readLock().lock();
+            try {
+                commits.incrementAndGet();
+                apply(Map.of(status, delta));
+            } finally {
+                commitGate.readLock().unlock();
+            }
+            return;
+        }
+        pendingForUpdate().merge(status, delta, Long::sum);
+    }
+
+    private void apply(Map<Member.MemberStatus, Long> deltas) {
+        deltas.forEach((status, delta) -> counts.get(status).add(delta));
+    }
+
+    /**
+     * 현재 트랜잭션에서 아직 커밋되지 않은 증감 (트랜잭션 밖이면 빈 맵)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Member.MemberStatus, Long> pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Map.of();
+        }
+        Map<Member.MemberStatus, Long> pending =
+                (Map<Member.MemberStatus, Long>) TransactionSynchronizationManager.getResource(this);
+        return pending != null ? pending : Map.of();
+    }
+
+    /**
+     * 현재 트랜잭션의 증감 기록 (처음 기록할 때 커밋/완료 콜백 등록)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Member.MemberStatus, Long> pendingForUpdate() {
+        Map<Member.MemberStatus, Long> pending =
+                (Map<Member.MemberStatus, Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<Member.MemberStatus, Long> created = new EnumMap<>(Member.MemberStatus.class);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean counted;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 커밋을 막고 DB와 맞추는 중이면 끝날 때까지 대기 (GROUP BY 한 번)
+                commitGate.readLock().lock();
+                counted = true;
+                commits.incrementAndGet();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(MemberStatusCounter.this);
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(created);
+                    }
+                } finally {
+                    if (counted) {
+                        commitGate.readLock().unlock();
+                    }
+                }
+            }
+        });
+        return created;
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB 기준으로 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        try {
+            if (reconcile()) {
+                log.info("Member status counts seeded: {}", counts().orElse(Map.of()));
+            }
+        } catch (RuntimeException e) {
+            log.error("Member status count seeding failed, falling back to COUNT queries until next reconcile", e);
+        }
+    }
+
+    /**
+     * 주기적으로 DB와 맞춤
+     */
+    @Scheduled(initialDelayString = "${member.stats.reconcile-interval:PT5M}",
+            fixedDelayString = "${member.stats.reconcile-interval:PT5M}")
+    public void reconcilePeriodically() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Member status count reconcile failed", e);
+        }
+    }
+
+    /**
+     * DB의 상태별 회원 수로 카운터를 맞춤
+     *
+     * 먼저 커밋을 막지 않고 시도합니다. 조회 중 커밋된 변경이 있으면 조회 결과에 포함됐는지 알 수 없으므로 건너뜁니다.
+     * 쓰기가 계속 들어오면 매번 건너뛰게 되므로, 연속으로 maxSkippedReconciles번 건너뛰면
+     * 새 커밋을 잠시 막고(진행 중인 커밋은 반영까지 대기) 그 사이에 조회한 값으로 맞춥니다.
+     * 커밋이 막히는 시간은 GROUP BY 조회 한 번입니다.
+     *
+     * @return 맞췄으면 true, 동시 변경으로 건너뛰었으면 false
+     */
+    public synchronized boolean reconcile() {
+        boolean reconciled = skippedReconciles >= maxSkippedReconciles ? reconcileFenced() : reconcileOptimistically();
+        skippedReconciles = reconciled ? 0 : skippedReconciles + 1;
+        return reconciled;
+    }
+
+    /**
+     * 커밋을 막지 않고 맞춤 (조회 전후로 커밋이 없었을 때만 보정)
+     */
+    private boolean reconcileOptimistically() {
+        long before = commits.get();
+        if (commitGate.getReadLockCount() > 0) {
+            log.debug("Member status count reconcile skipped: commit in progress");
+            return false;
+        }
+
+        Map<Member.MemberStatus, Long> actual = countFromDatabase();
+
+        if (!commitGate.writeLock().tryLock()) {
+            log.debug("Member status count reconcile skipped: commit in progress");
+            return false;
+        }
+        try {
+            if (commits.get() != before) {
+                log.debug("Member status count reconcile skipped: concurrent changes");
+                return false;
+            }
+            correct(actual);
+            return true;
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋을 막고 맞춤 (진행 중인 커밋이 모두 반영된 뒤 조회하므로 조회 결과와 카운터가 같은 시점)
+     */
+    private boolean reconcileFenced() {
+        boolean locked;
+        try {
+            locked = commitGate.writeLock().tryLock(fenceTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (!locked) {
+            log.warn("Member status count reconcile skipped: commits did not drain within {}", fenceTimeout);
+            return false;
+        }
+        try {
+            log.debug("Member status count reconcile fenced after {} skipped attempts", skippedReconciles);
+            correct(countFromDatabase());
+            return true;
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    private Map<Member.MemberStatus, Long> countFromDatabase() {
+        Map<Member.MemberStatus, Long> actual = new EnumMap<>(Member.MemberStatus.class);
+        for (Member.MemberStatus status : Member.MemberStatus.values()) {
+            actual.put(status, 0L);
+        }
+        for (MemberRepository.StatusCount row : memberRepository.countByStatus()) {
+            actual.put(row.getStatus(), row.getTotal());
+        }
+        return actual;
+    }
+
+    /**
+     * 카운터를 DB 값으로 보정 (커밋 관문의 쓰기 잠금 안에서 호출)
+     */
+    private void correct(Map<Member.MemberStatus, Long> actual) {
+        actual.forEach((status, total) -> {
+            LongAdder adder = counts.get(status);
+            long current = adder.sum();
+            if (current != total) {
+                if (ready) {
+                    log.warn("Member status count drift corrected: {} {} -> {}", status, current, total);
+                }
+                adder.add(total - current);
+            }
+        });
+        ready = true;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.member.service;
+
+import com.example.member.entity.Member;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 엔터티 생성/상태 변경/삭제를 상태별 회원 수 카운터에 반영하는 JPA 엔터티 리스너
+ *
+ * 서비스 메서드뿐 아니라 리포지토리를 직접 사용하는 저장/삭제(일괄 등록, deleteAll 등)도 모두 반영됩니다.
+ * 카운터는 증감을 트랜잭션에 기록했다가 커밋된 경우에만 반영합니다.
+ *
+ * 상태 변경은 조회/저장 시점의 상태(Member.persistedStatus)와 비교하여 판단합니다.
+ */
+@Component
+public class MemberStatusListener {
+
+    private final ObjectProvider<MemberStatusCounter> statusCounter;
+
+    public MemberStatusListener(ObjectProvider<MemberStatusCounter> statusCounter) {
+        this.statusCounter = statusCounter;
+    }
+
+    @PostLoad
+    public void onLoaded(Member member) {
+        member.setPersistedStatus(member.getStatus());
+    }
+
+    @PrePersist
+    public void onCreated(Member member) {
+        MemberStatusCounter counter = statusCounter.getIfAvailable();
+        if (counter != null) {
+            counter.created(member.getStatus());
+        }
+        member.setPersistedStatus(member.getStatus());
+    }
+
+    @PostUpdate
+    public void onUpdated(Member member) {
+        MemberStatusCounter counter = statusCounter.getIfAvailable();
+        if (counter != null && member.getPersistedStatus() != null) {
+            counter.changed(member.getPersistedStatus(), member.getStatus());
+        }
+        member.setPersistedStatus(member.getStatus());
+    }
+
+    @PreRemove
+    public void onRemoved(Member member) {
+        MemberStatusCounter counter = statusCounter.getIfAvailable();
+        if (counter != null) {
+            counter.deleted(member.getPersistedStatus() != null ? member.getPersistedStatus() : member.getStatus());
+        }
+    }
+}
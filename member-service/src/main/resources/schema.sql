@@ -1,8 +1,11 @@
 -- Members 테이블 생성 스크립트
 -- Hibernate가 테이블을 생성하지 못할 경우를 대비한 백업 스키마
 
+-- 회원 ID 시퀀스 (Hibernate가 50개씩 미리 할당받아 배치 INSERT에 사용)
+CREATE SEQUENCE IF NOT EXISTS members_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS members (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR members_seq PRIMARY KEY,
     username VARCHAR(50) NOT NULL UNIQUE,
     password VARCHAR(100) NOT NULL,
     email VARCHAR(100) NOT NULL UNIQUE,
@@ -10,7 +13,8 @@ CREATE TABLE IF NOT EXISTS members (
     phone_number VARCHAR(20),
     status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 -- 인덱스 생성
@@ -1,9 +1,11 @@
 package com.example.member.controller;
 
+import com.example.common.search.SearchMode;
 import com.example.member.dto.MemberDto;
 import com.example.member.entity.Member;
 import com.example.member.exception.MemberNotFoundException;
 import com.example.member.exception.DuplicateMemberException;
+import com.example.member.service.MemberBulkImportService;
 import com.example.member.service.MemberService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -47,6 +50,9 @@ class MemberControllerTest {
     @MockBean
     private MemberService memberService;
 
+    @MockBean
+    private MemberBulkImportService memberBulkImportService;
+
     private MemberDto.CreateRequest createRequest;
     private MemberDto.UpdateRequest updateRequest;
     private MemberDto.Response memberResponse;
@@ -236,17 +242,18 @@ class MemberControllerTest {
     void searchMembersByName_Success() throws Exception {
         // Given
         String name = "테스트";
-        List<MemberDto.Summary> members = Arrays.asList(memberSummary);
-        when(memberService.searchMembersByName(name)).thenReturn(members);
+        Page<MemberDto.Summary> members = new PageImpl<>(Arrays.asList(memberSummary), PageRequest.of(0, 20), 1);
+        when(memberService.searchMembers(eq(name), eq(SearchMode.CONTAINS), any(Pageable.class))).thenReturn(members);
 
         // When & Then
         mockMvc.perform(get("/members/search")
                         .param("name", name))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.totalElements").value(1));
 
-        verify(memberService).searchMembersByName(name);
+        verify(memberService).searchMembers(eq(name), eq(SearchMode.CONTAINS), any(Pageable.class));
     }
 
     @Test
@@ -3,6 +3,7 @@ package com.example.member.integration;
 import com.example.member.dto.MemberDto;
 import com.example.member.entity.Member;
 import com.example.member.repository.MemberRepository;
+import com.example.member.search.MemberIdentityFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +46,9 @@ class MemberIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MemberIdentityFilter memberIdentityFilter;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -131,8 +135,8 @@ class MemberIntegrationTest {
         mockMvc.perform(get("/members/search")
                         .param("name", "기존"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].fullName").value("기존 사용자"));
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].fullName").value("기존 사용자"));
 
         // 2. 상태별 조회
         mockMvc.perform(get("/members/status/ACTIVE"))
@@ -229,6 +233,39 @@ class MemberIntegrationTest {
                 .andExpect(jsonPath("$.content.length()").value(3));
     }
 
+    @Test
+    @DisplayName("CSV 일괄 등록 시 행별 결과 반환 테스트")
+    void bulkImportCsvFlow() throws Exception {
+        // setUp은 리포지토리로 직접 저장하므로 중복 검사 필터에 기존 회원을 등록
+        memberIdentityFilter.add("existinguser", "existing@example.com");
+
+        String csv = """
+                username,password,email,full_name,phoneNumber
+                bulkuser1,password123,bulk1@example.com,일괄 사용자,010-1111-2222
+                bulkuser2,password123,not-an-email,잘못된 이메일,
+                existinguser,password123,other@example.com,중복 사용자,
+                bulkuser1,password123,bulk1b@example.com,요청 내 중복,
+                "bulkuser3",password123,bulk3@example.com,"홍, 길동",
+                """;
+
+        mockMvc.perform(post("/members/bulk")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.rows[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.rows[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.rows[2].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.rows[3].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.rows[4].status").value("CREATED"));
+
+        mockMvc.perform(get("/members/username/bulkuser3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fullName").value("홍, 길동"));
+    }
+
     @Test
     @DisplayName("헬스 체크 테스트")
     void healthCheckFlow() throws Exception {
@@ -0,0 +1,61 @@
+package com.example.member.repository;
+
+import com.example.member.entity.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 초기 데이터(data.sql) ID 테스트
+ *
+ * Order Service의 초기 주문과 문서의 예시(/api/members/2 등)가 회원 ID 1~5를 참조하므로,
+ * pooled 시퀀스(50씩 증가)와 관계없이 초기 회원 ID가 1부터 이어지는지 검증합니다.
+ * 다른 테스트가 초기 데이터를 지우지 않도록 별도의 DB를 사용합니다.
+ */
+@SpringBootTest(properties = {
+    "spring.cloud.config.enabled=false",
+    "spring.cloud.config.fail-fast=false",
+    "eureka.client.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:seeddb"
+})
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("초기 회원 데이터 테스트")
+class MemberSeedDataTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("초기 회원 ID는 1~8로 이어짐 (ID 2는 user1)")
+    void seededMembersHaveConsecutiveIds() {
+        List<Long> ids = memberRepository.findAll().stream()
+                .map(Member::getId)
+                .sorted()
+                .toList();
+
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(memberRepository.findById(2L)).map(Member::getUsername).contains("user1");
+    }
+
+    @Test
+    @DisplayName("새 회원 ID는 초기 데이터 이후(51부터)로 할당되어 겹치지 않음")
+    void newMembersDoNotCollideWithSeed() {
+        Member saved = memberRepository.saveAndFlush(Member.builder()
+                .username("seedcheck")
+                .password("password123")
+                .email("seedcheck@example.com")
+                .fullName("시드 확인")
+                .status(Member.MemberStatus.ACTIVE)
+                .build());
+
+        assertThat(saved.getId()).isEqualTo(51L);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.member.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BloomFilter 유닛 테스트
+ */
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수도 있음으로 판단 (거짓 음성 없음)")
+    void hasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+        assertThat(filter.isSaturated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 목표치 근처")
+    void keepsFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.member.search;
+
+import com.example.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * UsernameSuggestIndex 유닛 테스트
+ *
+ * 접두사 조회, 대소문자 무시, 중복 제거, base 병합(compaction) 후 조회/삭제를 검증합니다.
+ * 재색인 중 삭제/추가는 DB 조회를 흉내 낸 리포지토리(mock) 안에서 실행하여 읽는 도중에 일어나게 합니다.
+ */
+@DisplayName("UsernameSuggestIndex 테스트")
+class UsernameSuggestIndexTest {
+
+    private UsernameSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UsernameSuggestIndex(null);
+        index.add(1L, "hong", "hong@example.com");
+        index.add(2L, "hongkildong", "gildong@example.com");
+        index.add(3L, "Kim", "kim@example.com");
+    }
+
+    @Test
+    @DisplayName("사용자명과 이메일 접두사로 조회하고 같은 회원은 한 번만 반환")
+    void suggestsByUsernameAndEmail() {
+        assertThat(ids(index.suggest("hong", 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.suggest("gil", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("KI", 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("limit 개수까지만 반환")
+    void respectsLimit() {
+        assertThat(index.suggest("h", 1)).hasSize(1);
+        assertThat(index.suggest("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 회원은 조회되지 않음")
+    void excludesRemovedMembers() {
+        index.remove(1L, "hong", "hong@example.com");
+
+        assertThat(ids(index.suggest("hong", 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("delta가 임계값을 넘어 base와 병합된 후에도 조회/삭제가 반영")
+    void compactsDeltaIntoBase() {
+        for (long id = 10; id < 5010; id++) {
+            index.add(id, "user" + id, "user" + id + "@example.com");
+        }
+        index.remove(2L, "hongkildong", "gildong@example.com");
+
+        assertThat((Integer) index.stats().get("baseKeys")).isPositive();
+        assertThat(ids(index.suggest("user100", 20))).containsExactly(100L, 1000L, 1001L, 1002L, 1003L,
+                1004L, 1005L, 1006L, 1007L, 1008L, 1009L);
+        assertThat(ids(index.suggest("hong", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재색인 중 삭제된 회원은 병합 임계값을 넘는 추가가 함께 있어도 새 base에서 조회되지 않음")
+    void keepsRemovalsDuringRebuild() throws InterruptedException {
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        UsernameSuggestIndex rebuilt = new UsernameSuggestIndex(memberRepository);
+        given(memberRepository.findIdentityRowsAfter(anyLong(), any())).willAnswer(invocation -> {
+            // 읽기가 끝나기 전에 커밋된 삭제와 (병합 임계값을 넘는) 추가
+            rebuilt.remove(1L, "hong", "hong@example.com");
+            for (long id = 10; id < 5010; id++) {
+                rebuilt.add(id, "user" + id, "user" + id + "@example.com");
+            }
+            return List.of(row(1L, "hong", "hong@example.com"), row(2L, "hongkildong", "gildong@example.com"));
+        });
+
+        assertThat(rebuilt.rebuildAsync()).isTrue();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while ((!rebuilt.isReady() || (Boolean) rebuilt.stats().get("rebuilding"))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(rebuilt.isReady()).isTrue();
+        assertThat(ids(rebuilt.suggest("hong", 10))).containsExactly(2L);
+        assertThat(ids(rebuilt.suggest("user5009", 10))).containsExactly(5009L);
+        assertThat((Integer) rebuilt.stats().get("tombstones")).isZero();
+    }
+
+    private static MemberRepository.IdentityRow row(long id, String username, String email) {
+        return new MemberRepository.IdentityRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+
+    private static List<Long> ids(List<UsernameSuggestIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(UsernameSuggestIndex.Suggestion::id).toList();
+    }
+}
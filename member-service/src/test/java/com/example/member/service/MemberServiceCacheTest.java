@@ -124,27 +124,24 @@ class MemberServiceCacheTest {
     }
 
     @Test
-    @DisplayName("활성 회원 수 조회 - 캐시 히트 확인")
-    void getActiveMemberCount_CacheHit() {
-        log.debug("=== 캐시 테스트 시작: 활성 회원 수 조회 ===");
+    @DisplayName("활성 회원 수 조회 - 상태 카운터에서 조회")
+    void getActiveMemberCount_FromCounter() {
+        log.debug("=== 카운터 테스트 시작: 활성 회원 수 조회 ===");
         
-        // 첫 번째 조회 (캐시 미스)
-        log.debug("1. 첫 번째 조회 (캐시 미스 예상)");
+        // 첫 번째 조회
         long firstCount = memberService.getActiveMemberCount();
         assertThat(firstCount).isGreaterThanOrEqualTo(0);
         log.debug("첫 번째 조회 결과: 활성 회원 수={}", firstCount);
         
-        // 캐시 확인
-        var cache = cacheManager.getCache("activeMemberCount");
-        assertThat(cache).isNotNull();
-        log.debug("2. 캐시 확인: 캐시가 생성되었습니다.");
+        // 활성 회원 수 캐시는 더 이상 사용하지 않음
+        assertThat(cacheManager.getCache("activeMemberCount")).isNull();
         
-        // 두 번째 조회 (캐시 히트)
-        log.debug("3. 두 번째 조회 (캐시 히트 예상)");
+        // 두 번째 조회 (변경이 없으므로 같은 값)
         long secondCount = memberService.getActiveMemberCount();
         assertThat(secondCount).isEqualTo(firstCount);
+        assertThat(memberService.getStatusCounts()).containsEntry(Member.MemberStatus.ACTIVE, firstCount);
         log.debug("두 번째 조회 결과: 활성 회원 수={}", secondCount);
-        log.debug("=== 캐시 테스트 완료 ===");
+        log.debug("=== 카운터 테스트 완료 ===");
     }
 
     @Test
@@ -200,15 +197,12 @@ class MemberServiceCacheTest {
         log.debug("1. 캐시에 데이터 저장");
         memberService.getMemberById(memberId);
         memberService.getMemberByUsername(username);
-        memberService.getActiveMemberCount();
         
         // 캐시에 데이터가 있는지 확인
         var membersCache = cacheManager.getCache("members");
         var usernameCache = cacheManager.getCache("memberByUsername");
-        var activeCountCache = cacheManager.getCache("activeMemberCount");
         assertThat(membersCache).isNotNull();
         assertThat(usernameCache).isNotNull();
-        assertThat(activeCountCache).isNotNull();
         if (membersCache != null && usernameCache != null) {
             assertThat(membersCache.get(memberId)).isNotNull();
             assertThat(usernameCache.get(username)).isNotNull();
@@ -224,26 +218,19 @@ class MemberServiceCacheTest {
             log.debug("4. 캐시 무효화 확인: 캐시가 비워졌습니다.");
             log.debug("=== 캐시 무효화 테스트 완료 ===");
         }
-        // activeMemberCount는 allEntries = true로 전체 무효화
     }
 
     @Test
-    @DisplayName("회원 생성 시 활성 회원 수 캐시 무효화 확인")
-    void createMember_CacheEviction() {
-        log.debug("=== 캐시 무효화 테스트 시작: 회원 생성 ===");
+    @DisplayName("회원 생성 시 활성 회원 수 증가 확인 (같은 트랜잭션 안의 조회에 반영)")
+    void createMember_IncrementsActiveCount() {
+        log.debug("=== 카운터 테스트 시작: 회원 생성 ===");
         
         // Given
-        // 활성 회원 수 캐시에 데이터 저장
-        log.debug("1. 활성 회원 수 캐시에 데이터 저장");
         long initialCount = memberService.getActiveMemberCount();
         log.debug("초기 활성 회원 수: {}", initialCount);
         
-        var activeCountCache = cacheManager.getCache("activeMemberCount");
-        assertThat(activeCountCache).isNotNull();
-        log.debug("2. 캐시 확인: 활성 회원 수 캐시가 생성되었습니다.");
-        
         // 새 회원 생성
-        log.debug("3. 새 회원 생성 (활성 회원 수 캐시 무효화 예상)");
+        log.debug("새 회원 생성 (활성 회원 수 증가 예상)");
         MemberDto.CreateRequest createRequest = MemberDto.CreateRequest.builder()
                 .username("newcacheuser")
                 .password("password123")
@@ -254,12 +241,11 @@ class MemberServiceCacheTest {
         
         memberService.createMember(createRequest);
         
-        // 활성 회원 수가 증가했는지 확인 (캐시 무효화 후 재조회)
-        log.debug("4. 활성 회원 수 재조회 (캐시 무효화 후)");
+        // 활성 회원 수가 증가했는지 확인 (커밋 전이지만 같은 트랜잭션의 변경분 포함)
         long newCount = memberService.getActiveMemberCount();
-        assertThat(newCount).isGreaterThan(initialCount);
+        assertThat(newCount).isEqualTo(initialCount + 1);
         log.debug("새 활성 회원 수: {} (증가: {})", newCount, newCount - initialCount);
-        log.debug("=== 캐시 무효화 테스트 완료 ===");
+        log.debug("=== 카운터 테스트 완료 ===");
     }
 }
 
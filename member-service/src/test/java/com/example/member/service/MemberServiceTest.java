@@ -1,10 +1,15 @@
 package com.example.member.service;
 
+import com.example.common.search.SearchHits;
+import com.example.common.search.SearchMode;
 import com.example.member.dto.MemberDto;
 import com.example.member.entity.Member;
 import com.example.member.exception.MemberNotFoundException;
 import com.example.member.exception.DuplicateMemberException;
 import com.example.member.repository.MemberRepository;
+import com.example.member.search.MemberIdentityFilter;
+import com.example.member.search.MemberSearchIndex;
+import com.example.member.search.UsernameSuggestIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -20,6 +26,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -37,6 +44,18 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberSearchIndex memberSearchIndex;
+
+    @Mock
+    private UsernameSuggestIndex usernameSuggestIndex;
+
+    @Mock
+    private MemberIdentityFilter memberIdentityFilter;
+
+    @Mock
+    private MemberStatusCounter memberStatusCounter;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -75,11 +94,11 @@ class MemberServiceTest {
     }
 
     @Test
-    @DisplayName("회원 생성 성공")
+    @DisplayName("회원 생성 성공 - Bloom filter에 없으면 중복 검사 쿼리 생략")
     void createMember_Success() {
         // Given
-        when(memberRepository.existsByUsername(createRequest.getUsername())).thenReturn(false);
-        when(memberRepository.existsByEmail(createRequest.getEmail())).thenReturn(false);
+        when(memberIdentityFilter.mightContainUsername(createRequest.getUsername())).thenReturn(false);
+        when(memberIdentityFilter.mightContainEmail(createRequest.getEmail())).thenReturn(false);
         when(memberRepository.save(any(Member.class))).thenReturn(testMember);
 
         // When
@@ -90,8 +109,27 @@ class MemberServiceTest {
         assertThat(result.getUsername()).isEqualTo(testMember.getUsername());
         assertThat(result.getEmail()).isEqualTo(testMember.getEmail());
         
-        verify(memberRepository).existsByUsername(createRequest.getUsername());
-        verify(memberRepository).existsByEmail(createRequest.getEmail());
+        verify(memberRepository, never()).findIdentityConflicts(anyString(), anyString());
+        verify(memberRepository).save(any(Member.class));
+        verify(memberIdentityFilter).add(createRequest.getUsername(), createRequest.getEmail());
+        verify(usernameSuggestIndex).add(1L, "testuser", "test@example.com");
+    }
+
+    @Test
+    @DisplayName("회원 생성 성공 - Bloom filter 오탐이면 단일 쿼리로 확인 후 생성")
+    void createMember_FalsePositive() {
+        // Given
+        when(memberIdentityFilter.mightContainUsername(createRequest.getUsername())).thenReturn(true);
+        when(memberRepository.findIdentityConflicts(createRequest.getUsername(), createRequest.getEmail()))
+                .thenReturn(List.of());
+        when(memberRepository.save(any(Member.class))).thenReturn(testMember);
+
+        // When
+        MemberDto.Response result = memberService.createMember(createRequest);
+
+        // Then
+        assertThat(result).isNotNull();
+        verify(memberRepository).findIdentityConflicts(createRequest.getUsername(), createRequest.getEmail());
         verify(memberRepository).save(any(Member.class));
     }
 
@@ -99,14 +137,16 @@ class MemberServiceTest {
     @DisplayName("회원 생성 실패 - 중복된 사용자명")
     void createMember_DuplicateUsername() {
         // Given
-        when(memberRepository.existsByUsername(createRequest.getUsername())).thenReturn(true);
+        when(memberIdentityFilter.mightContainUsername(createRequest.getUsername())).thenReturn(true);
+        when(memberRepository.findIdentityConflicts(createRequest.getUsername(), createRequest.getEmail()))
+                .thenReturn(List.of(identityRow(createRequest.getUsername(), "other@example.com")));
 
         // When & Then
         assertThatThrownBy(() -> memberService.createMember(createRequest))
                 .isInstanceOf(DuplicateMemberException.class)
                 .hasMessageContaining("이미 존재하는 사용자명입니다");
 
-        verify(memberRepository).existsByUsername(createRequest.getUsername());
+        verify(memberRepository).findIdentityConflicts(createRequest.getUsername(), createRequest.getEmail());
         verify(memberRepository, never()).save(any(Member.class));
     }
 
@@ -114,18 +154,33 @@ class MemberServiceTest {
     @DisplayName("회원 생성 실패 - 중복된 이메일")
     void createMember_DuplicateEmail() {
         // Given
-        when(memberRepository.existsByUsername(createRequest.getUsername())).thenReturn(false);
-        when(memberRepository.existsByEmail(createRequest.getEmail())).thenReturn(true);
+        when(memberIdentityFilter.mightContainUsername(createRequest.getUsername())).thenReturn(false);
+        when(memberIdentityFilter.mightContainEmail(createRequest.getEmail())).thenReturn(true);
+        when(memberRepository.findIdentityConflicts(createRequest.getUsername(), createRequest.getEmail()))
+                .thenReturn(List.of(identityRow("other", createRequest.getEmail())));
 
         // When & Then
         assertThatThrownBy(() -> memberService.createMember(createRequest))
                 .isInstanceOf(DuplicateMemberException.class)
                 .hasMessageContaining("이미 존재하는 이메일입니다");
 
-        verify(memberRepository).existsByEmail(createRequest.getEmail());
+        verify(memberRepository).findIdentityConflicts(createRequest.getUsername(), createRequest.getEmail());
         verify(memberRepository, never()).save(any(Member.class));
     }
 
+    @Test
+    @DisplayName("회원 생성 실패 - 검사를 통과한 중복은 DB 유니크 제약으로 감지")
+    void createMember_UniqueConstraintViolation() {
+        // Given
+        when(memberRepository.save(any(Member.class))).thenThrow(new DataIntegrityViolationException("unique"));
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.createMember(createRequest))
+                .isInstanceOf(DuplicateMemberException.class);
+
+        verify(memberIdentityFilter, never()).add(anyString(), anyString());
+    }
+
     @Test
     @DisplayName("ID로 회원 조회 성공")
     void getMemberById_Success() {
@@ -180,8 +235,8 @@ class MemberServiceTest {
     @DisplayName("모든 회원 조회")
     void getAllMembers_Success() {
         // Given
-        List<Member> members = Arrays.asList(testMember, testMember);
-        when(memberRepository.findAll()).thenReturn(members);
+        MemberDto.Summary summary = MemberDto.Summary.from(testMember);
+        when(memberRepository.findAllSummaries()).thenReturn(Arrays.asList(summary, summary));
 
         // When
         List<MemberDto.Summary> result = memberService.getAllMembers();
@@ -190,7 +245,7 @@ class MemberServiceTest {
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getUsername()).isEqualTo(testMember.getUsername());
         
-        verify(memberRepository).findAll();
+        verify(memberRepository).findAllSummaries();
     }
 
     @Test
@@ -198,9 +253,9 @@ class MemberServiceTest {
     void getMembers_WithPagination() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        List<Member> members = Arrays.asList(testMember);
-        Page<Member> memberPage = new PageImpl<>(members, pageable, 1);
-        when(memberRepository.findAll(pageable)).thenReturn(memberPage);
+        List<MemberDto.Summary> members = Arrays.asList(MemberDto.Summary.from(testMember));
+        Page<MemberDto.Summary> memberPage = new PageImpl<>(members, pageable, 1);
+        when(memberRepository.findSummaries(pageable)).thenReturn(memberPage);
 
         // When
         Page<MemberDto.Summary> result = memberService.getMembers(pageable);
@@ -209,7 +264,7 @@ class MemberServiceTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getTotalElements()).isEqualTo(1);
         
-        verify(memberRepository).findAll(pageable);
+        verify(memberRepository).findSummaries(pageable);
     }
 
     @Test
@@ -217,8 +272,8 @@ class MemberServiceTest {
     void getMembersByStatus_Success() {
         // Given
         Member.MemberStatus status = Member.MemberStatus.ACTIVE;
-        List<Member> members = Arrays.asList(testMember);
-        when(memberRepository.findByStatus(status)).thenReturn(members);
+        List<MemberDto.Summary> members = Arrays.asList(MemberDto.Summary.from(testMember));
+        when(memberRepository.findSummariesByStatus(status)).thenReturn(members);
 
         // When
         List<MemberDto.Summary> result = memberService.getMembersByStatus(status);
@@ -227,7 +282,7 @@ class MemberServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getStatus()).isEqualTo(status);
         
-        verify(memberRepository).findByStatus(status);
+        verify(memberRepository).findSummariesByStatus(status);
     }
 
     @Test
@@ -293,26 +348,49 @@ class MemberServiceTest {
     }
 
     @Test
-    @DisplayName("이름으로 회원 검색")
-    void searchMembersByName_Success() {
+    @DisplayName("이름으로 회원 검색 - 검색 색인 사용")
+    void searchMembers_UsesIndex() {
         // Given
         String name = "테스트";
-        List<Member> members = Arrays.asList(testMember);
-        when(memberRepository.findByFullNameContaining(name)).thenReturn(members);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(memberSearchIndex.isReady()).thenReturn(true);
+        when(memberSearchIndex.search(name, SearchMode.CONTAINS, 0, 10))
+                .thenReturn(new SearchHits(List.of(1L), 1));
+        when(memberRepository.findSummariesByIdIn(List.of(1L))).thenReturn(List.of(MemberDto.Summary.from(testMember)));
 
         // When
-        List<MemberDto.Summary> result = memberService.searchMembersByName(name);
+        Page<MemberDto.Summary> result = memberService.searchMembers(name, SearchMode.CONTAINS, pageable);
 
         // Then
-        assertThat(result).hasSize(1);
-        verify(memberRepository).findByFullNameContaining(name);
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(memberRepository, never()).findSummariesByFullNameContaining(anyString(), any(Pageable.class));
     }
 
     @Test
-    @DisplayName("활성 회원 수 조회")
+    @DisplayName("이름으로 회원 검색 - 색인 준비 전에는 DB 검색으로 대체")
+    void searchMembers_FallsBackToDatabase() {
+        // Given
+        String name = "테스트";
+        Pageable pageable = PageRequest.of(0, 10);
+        when(memberSearchIndex.isReady()).thenReturn(false);
+        when(memberRepository.findSummariesByFullNameContaining(name, pageable))
+                .thenReturn(new PageImpl<>(List.of(MemberDto.Summary.from(testMember)), pageable, 1));
+
+        // When
+        Page<MemberDto.Summary> result = memberService.searchMembers(name, SearchMode.CONTAINS, pageable);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verify(memberSearchIndex, never()).search(anyString(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("활성 회원 수 조회 - 카운터 초기화 전에는 DB 조회")
     void getActiveMemberCount_Success() {
         // Given
         long expectedCount = 5L;
+        when(memberStatusCounter.count(Member.MemberStatus.ACTIVE)).thenReturn(OptionalLong.empty());
         when(memberRepository.countActiveMembers()).thenReturn(expectedCount);
 
         // When
@@ -322,6 +400,37 @@ class MemberServiceTest {
         assertThat(result).isEqualTo(expectedCount);
         verify(memberRepository).countActiveMembers();
     }
-}
 
+    @Test
+    @DisplayName("활성 회원 수 조회 - 카운터 초기화 후에는 COUNT 쿼리 없음")
+    void getActiveMemberCount_FromCounter() {
+        // Given
+        when(memberStatusCounter.count(Member.MemberStatus.ACTIVE)).thenReturn(OptionalLong.of(7L));
 
+        // When
+        long result = memberService.getActiveMemberCount();
+
+        // Then
+        assertThat(result).isEqualTo(7L);
+        verify(memberRepository, never()).countActiveMembers();
+    }
+
+    private static MemberRepository.IdentityRow identityRow(String username, String email) {
+        return new MemberRepository.IdentityRow() {
+            @Override
+            public Long getId() {
+                return 99L;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
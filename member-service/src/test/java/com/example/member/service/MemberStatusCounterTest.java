@@ -0,0 +1,222 @@
+package com.example.member.service;
+
+import com.example.member.entity.Member;
+import com.example.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MemberStatusCounter 유닛 테스트
+ *
+ * 커밋된 변경만 반영되는지, 같은 트랜잭션 안에서는 자기 변경이 보이는지, DB와 맞추는지 검증합니다.
+ * 쓰기가 계속 들어와도 DB 맞춤이 연속 3번까지만 건너뛰고 커밋을 막은 뒤 맞추는지도 확인합니다.
+ */
+@DisplayName("MemberStatusCounter 테스트")
+class MemberStatusCounterTest {
+
+    private MemberRepository memberRepository;
+    private MemberStatusCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        when(memberRepository.countByStatus()).thenReturn(List.of(
+                statusCount(Member.MemberStatus.ACTIVE, 10),
+                statusCount(Member.MemberStatus.SUSPENDED, 2)));
+        counter = new MemberStatusCounter(memberRepository, 3, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("초기화 전에는 빈 값, 초기화 후에는 DB 기준 상태별 수 (없는 상태는 0)")
+    void seedsFromDatabase() {
+        assertThat(counter.count(Member.MemberStatus.ACTIVE)).isEmpty();
+
+        assertThat(counter.reconcile()).isTrue();
+
+        assertThat(counter.count(Member.MemberStatus.ACTIVE)).hasValue(10);
+        assertThat(counter.count(Member.MemberStatus.INACTIVE)).hasValue(0);
+        assertThat(counter.count(Member.MemberStatus.SUSPENDED)).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("커밋되면 반영되고, 커밋 전에는 같은 트랜잭션에서만 보임")
+    void appliesOnCommit() {
+        counter.reconcile();
+
+        TransactionSynchronizationManager.initSynchronization();
+        counter.created(Member.MemberStatus.ACTIVE);
+        counter.changed(Member.MemberStatus.ACTIVE, Member.MemberStatus.SUSPENDED);
+        counter.created(Member.MemberStatus.ACTIVE);
+        assertThat(counter.count(Member.MemberStatus.ACTIVE)).hasValue(11);
+        assertThat(counter.count(Member.MemberStatus.SUSPENDED)).hasValue(3);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(counter.counts()).hasValueSatisfying(counts -> {
+            assertThat(counts).containsEntry(Member.MemberStatus.ACTIVE, 11L);
+            assertThat(counts).containsEntry(Member.MemberStatus.SUSPENDED, 3L);
+        });
+    }
+
+    @Test
+    @DisplayName("롤백되면 반영하지 않음")
+    void discardsOnRollback() {
+        counter.reconcile();
+
+        TransactionSynchronizationManager.initSynchronization();
+        counter.deleted(Member.MemberStatus.ACTIVE);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(counter.count(Member.MemberStatus.ACTIVE)).hasValue(10);
+    }
+
+    @Test
+    @DisplayName("DB와 다르면 DB 값으로 보정")
+    void reconcileCorrectsDrift() {
+        counter.reconcile();
+        counter.created(Member.MemberStatus.INACTIVE);
+        assertThat(counter.count(Member.MemberStatus.INACTIVE)).hasValue(1);
+
+        assertThat(counter.reconcile()).isTrue();
+
+        assertThat(counter.count(Member.MemberStatus.INACTIVE)).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("매 조회 중 커밋이 들어와도 연속 3번 건너뛴 뒤에는 커밋을 막고 맞춤")
+    void reconcileIsNotSkippedForeverUnderSteadyWrites() {
+        counter.reconcile();
+        counter.created(Member.MemberStatus.INACTIVE);
+        AtomicInteger queries = new AtomicInteger();
+        when(memberRepository.countByStatus()).thenAnswer(invocation -> {
+            if (queries.incrementAndGet() <= 3) {
+                counter.created(Member.MemberStatus.ACTIVE);
+            }
+            return List.of(statusCount(Member.MemberStatus.ACTIVE, 10));
+        });
+
+        assertThat(counter.reconcile()).isFalse();
+        assertThat(counter.reconcile()).isFalse();
+        assertThat(counter.reconcile()).isFalse();
+        assertThat(counter.reconcile()).isTrue();
+
+        assertThat(counter.count(Member.MemberStatus.ACTIVE)).hasValue(10);
+        assertThat(counter.count(Member.MemberStatus.INACTIVE)).hasValue(0);
+        assertThat(counter.count(Member.MemberStatus.SUSPENDED)).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("커밋을 막고 맞출 때는 진행 중인 커밋이 카운터에 반영된 뒤 DB를 조회")
+    void fencedReconcileWaitsForInFlightCommit() throws Exception {
+        counter.reconcile();
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> commit = writer.submit(() -> commitPausedBeforeCompletion(committing, release));
+            committing.await();
+            when(memberRepository.countByStatus()).thenReturn(List.of(statusCount(Member.MemberStatus.ACTIVE, 11)));
+
+            assertThat(counter.reconcile()).isFalse();
+            assertThat(counter.reconcile()).isFalse();
+            assertThat(counter.reconcile()).isFalse();
+
+            CompletableFuture<Boolean> fenced = CompletableFuture.supplyAsync(counter::reconcile);
+            Thread.sleep(100);
+            assertThat(fenced).isNotDone();
+
+            release.countDown();
+            commit.get(5, TimeUnit.SECONDS);
+
+            assertThat(fenced.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(counter.count(Member.MemberStatus.ACTIVE)).hasValue(11);
+        } finally {
+            release.countDown();
+            writer.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 커밋이 fence-timeout 안에 끝나지 않으면 이번 회차는 건너뜀")
+    void fencedReconcileGivesUpAfterTimeout() throws Exception {
+        counter = new MemberStatusCounter(memberRepository, 0, Duration.ofMillis(50));
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            writer.submit(() -> commitPausedBeforeCompletion(committing, release));
+            committing.await();
+
+            assertThat(counter.reconcile()).isFalse();
+            assertThat(counter.count(Member.MemberStatus.ACTIVE)).isEmpty();
+        } finally {
+            release.countDown();
+            writer.shutdownNow();
+        }
+    }
+
+    /**
+     * ACTIVE 회원 1명을 만드는 트랜잭션을 커밋 직전(beforeCommit)까지 진행하고, release 후 커밋 완료
+     */
+    private Void commitPausedBeforeCompletion(CountDownLatch committing, CountDownLatch release)
+            throws InterruptedException {
+        TransactionSynchronizationManager.initSynchronization();
+        counter.created(Member.MemberStatus.ACTIVE);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        committing.countDown();
+        release.await();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        return null;
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static MemberRepository.StatusCount statusCount(Member.MemberStatus status, long total) {
+        return new MemberRepository.StatusCount() {
+            @Override
+            public Member.MemberStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
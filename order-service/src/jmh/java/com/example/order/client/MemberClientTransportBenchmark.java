@@ -0,0 +1,149 @@
+package com.example.order.client;
+
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Member Service 호출 전송 클라이언트 벤치마크 (Feign 기본 클라이언트 vs JdkHttpFeignClient)
+ *
+ * 동시 호출 500개로 회원 조회(GET /members/{id})를 반복하여 초당 처리량과 서버가 받은 연결 수를 비교합니다.
+ * 서버는 Member Service와 같은 내장 Tomcat 기본값(HTTP/2 h2c 업그레이드 허용, keep-alive 요청 100회)에
+ * 조회 처리 시간 serverMillis를 둔 서블릿입니다.
+ *
+ * - default: Feign 기본 클라이언트 (HttpURLConnection, 목적지별 유휴 연결 5개까지만 보관)
+ * - jdk-http2: JdkHttpFeignClient (HTTP/2 h2c)
+ * - jdk-http1: JdkHttpFeignClient (HTTP/1.1 keep-alive)
+ *
+ * 연결 수(서버가 본 클라이언트 포트 수)는 각 벤치마크 종료 시 출력합니다.
+ * 새로 맺은 연결은 닫힐 때 TIME_WAIT로 임시 포트를 잡고 있으므로, 이 값이 임시 포트 소모량입니다.
+ *
+ * 실행: ./gradlew :order-service:jmh -PjmhIncludes=MemberClientTransportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class MemberClientTransportBenchmark {
+
+    private static final String MEMBER_JSON = "{\"id\":%d,\"username\":\"user%d\",\"email\":\"user%d@example.com\","
+            + "\"fullName\":\"회원 %d\",\"phoneNumber\":\"010-1234-5678\",\"address\":\"서울특별시 강남구 테헤란로 123\","
+            + "\"status\":\"ACTIVE\",\"createdAt\":\"2024-01-01T10:00:00\",\"updatedAt\":\"2024-01-01T10:00:00\"}";
+
+    @org.openjdk.jmh.annotations.Param({"default", "jdk-http2", "jdk-http1"})
+    private String transport;
+
+    @org.openjdk.jmh.annotations.Param({"2"})
+    private int serverMillis;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private Tomcat tomcat;
+    private HttpClient httpClient;
+    private MemberApi api;
+
+    interface MemberApi {
+
+        @RequestLine("GET /members/{id}")
+        String getMember(@Param("id") long id);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+        Connector connector = new Connector();
+        connector.setPort(0);
+        connector.addUpgradeProtocol(new Http2Protocol());
+        tomcat.setConnector(connector);
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "members", new MemberServlet());
+        context.addServletMappingDecoded("/members/*", "members");
+        tomcat.start();
+
+        Client client = switch (transport) {
+            case "default" -> new Client.Default(null, null);
+            case "jdk-http2" -> new JdkHttpFeignClient(httpClient = newHttpClient(HttpClient.Version.HTTP_2), 50);
+            case "jdk-http1" -> new JdkHttpFeignClient(httpClient = newHttpClient(HttpClient.Version.HTTP_1_1), 50);
+            default -> throw new IllegalArgumentException(transport);
+        };
+        api = Feign.builder()
+                .client(client)
+                .options(new Request.Options(1, TimeUnit.SECONDS, 2, TimeUnit.SECONDS, false))
+                .target(MemberApi.class, "http://localhost:" + connector.getLocalPort());
+    }
+
+    private static HttpClient newHttpClient(HttpClient.Version version) {
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        System.out.printf("%n[%s] connections accepted: %d%n", transport, clientPorts.size());
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Benchmark
+    @Threads(500)
+    public String getMember() {
+        return api.getMember(ThreadLocalRandom.current().nextLong(1, 10_000));
+    }
+
+    private class MemberServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            clientPorts.add(request.getRemotePort());
+            if (serverMillis > 0) {
+                try {
+                    Thread.sleep(serverMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            long id = Long.parseLong(request.getPathInfo().substring(1));
+            response.setContentType("application/json");
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(MEMBER_JSON.formatted(id, id, id, id));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.order.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 금액 표현 벤치마크 (BigDecimal vs Money)
+ *
+ * - create: 주문 생성 요청 JSON 읽기 → 단가 검증 → 총액 계산(단가 × 수량, 상한 검사) → 응답 JSON 쓰기
+ * - update: 수정 요청 JSON 읽기 → 총액 재계산 → 응답 JSON 쓰기
+ * - sum: 주문 orders건의 총액 합계 (plus 연쇄와 Money.sum 비교)
+ *
+ * 요청/응답은 금액 타입만 다르고 나머지 필드는 같은 레코드를 사용합니다.
+ * 할당량 비교는 -PjmhProfilers=gc로 확인합니다.
+ *
+ * 실행: ./gradlew :order-service:jmh -PjmhIncludes=MoneyBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private static final String CREATE_JSON =
+            "{\"memberId\":1,\"productName\":\"무선 키보드\",\"quantity\":3,\"unitPrice\":45900.50}";
+
+    private static final String UPDATE_JSON = "{\"quantity\":4,\"unitPrice\":47900.00}";
+
+    private static final BigDecimal MAX_DECIMAL = new BigDecimal("999999999.99");
+
+    private static final Money MAX_MONEY = Money.ofMinor(99_999_999_999L);
+
+    @Param({"1000000"})
+    private int orders;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<BigDecimal> decimalAmounts;
+    private List<Money> moneyAmounts;
+    private DecimalResponse decimalOrder;
+    private MoneyResponse moneyOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        decimalAmounts = new ArrayList<>(orders);
+        moneyAmounts = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            long minor = random.nextLong(100, 100_000_000);
+            decimalAmounts.add(BigDecimal.valueOf(minor, 2));
+            moneyAmounts.add(Money.ofMinor(minor));
+        }
+        decimalOrder = new DecimalResponse(1L, 1L, "무선 키보드", 3,
+                new BigDecimal("45900.50"), new BigDecimal("137701.50"), "PENDING");
+        moneyOrder = new MoneyResponse(1L, 1L, "무선 키보드", 3,
+                Money.parse("45900.50"), Money.parse("137701.50"), "PENDING");
+    }
+
+    @Benchmark
+    public String createBigDecimal() throws Exception {
+        DecimalCreate request = objectMapper.readValue(CREATE_JSON, DecimalCreate.class);
+        if (request.unitPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException();
+        }
+        BigDecimal total = request.unitPrice().multiply(BigDecimal.valueOf(request.quantity()));
+        if (total.compareTo(MAX_DECIMAL) > 0) {
+            throw new IllegalArgumentException();
+        }
+        return objectMapper.writeValueAsString(new DecimalResponse(1L, request.memberId(),
+                request.productName(), request.quantity(), request.unitPrice(), total, "PENDING"));
+    }
+
+    @Benchmark
+    public String createMoney() throws Exception {
+        MoneyCreate request = objectMapper.readValue(CREATE_JSON, MoneyCreate.class);
+        if (!request.unitPrice().isPositive()) {
+            throw new IllegalArgumentException();
+        }
+        Money total = request.unitPrice().times(request.quantity());
+        if (total.isGreaterThan(MAX_MONEY)) {
+            throw new IllegalArgumentException();
+        }
+        return objectMapper.writeValueAsString(new MoneyResponse(1L, request.memberId(),
+                request.productName(), request.quantity(), request.unitPrice(), total, "PENDING"));
+    }
+
+    @Benchmark
+    public String updateBigDecimal() throws Exception {
+        DecimalUpdate request = objectMapper.readValue(UPDATE_JSON, DecimalUpdate.class);
+        DecimalResponse order = decimalOrder;
+        BigDecimal total = request.unitPrice().multiply(BigDecimal.valueOf(request.quantity()));
+        return objectMapper.writeValueAsString(new DecimalResponse(order.id(), order.memberId(),
+                order.productName(), request.quantity(), request.unitPrice(), total, order.status()));
+    }
+
+    @Benchmark
+    public String updateMoney() throws Exception {
+        MoneyUpdate request = objectMapper.readValue(UPDATE_JSON, MoneyUpdate.class);
+        MoneyResponse order = moneyOrder;
+        Money total = request.unitPrice().times(request.quantity());
+        return objectMapper.writeValueAsString(new MoneyResponse(order.id(), order.memberId(),
+                order.productName(), request.quantity(), request.unitPrice(), total, order.status()));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimalAmounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Money sumMoneyPlus() {
+        Money total = Money.ZERO;
+        for (Money amount : moneyAmounts) {
+            total = total.plus(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Money sumMoney() {
+        return Money.sum(moneyAmounts);
+    }
+
+    public record DecimalCreate(Long memberId, String productName, int quantity, BigDecimal unitPrice) {
+    }
+
+    public record MoneyCreate(Long memberId, String productName, int quantity, Money unitPrice) {
+    }
+
+    public record DecimalUpdate(int quantity, BigDecimal unitPrice) {
+    }
+
+    public record MoneyUpdate(int quantity, Money unitPrice) {
+    }
+
+    public record DecimalResponse(Long id, Long memberId, String productName, int quantity,
+                                  BigDecimal unitPrice, BigDecimal totalAmount, String status) {
+    }
+
+    public record MoneyResponse(Long id, Long memberId, String productName, int quantity,
+                                Money unitPrice, Money totalAmount, String status) {
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Order Service Application
@@ -16,6 +17,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  * - Eureka Discovery Service에 등록
  * - Config Server에서 설정 관리
  * - H2 인메모리 데이터베이스 사용
+ * - 완료된 오래된 주문 보관 (스케줄링)
  * 
  * 접속 URL: http://localhost:8082
  * H2 Console: http://localhost:8082/h2-console
@@ -23,6 +25,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
+@EnableScheduling
 public class OrderServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,24 @@
+package com.example.order.analytics;
+
+import java.util.List;
+
+/**
+ * 컬럼 저장소 집계 결과
+ *
+ * @param buckets 주문이 있는 묶음만 포함
+ * @param orders  조건에 맞는 전체 주문 수
+ */
+public record Aggregation(List<Bucket> buckets, long orders) {
+
+    public static final Aggregation EMPTY = new Aggregation(List.of(), 0);
+
+    /**
+     * 묶음별 집계
+     *
+     * @param key    묶음 이름 (날짜, yyyy-MM, 상태명, 상품명)
+     * @param count  주문 수
+     * @param amount 총액 합계 × 100
+     */
+    public record Bucket(String key, long count, long amount) {
+    }
+}
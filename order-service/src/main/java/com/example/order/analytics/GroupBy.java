@@ -0,0 +1,39 @@
+package com.example.order.analytics;
+
+/**
+ * 주문 집계 묶음 기준
+ */
+public enum GroupBy {
+
+    /**
+     * 주문일별
+     */
+    DAY,
+
+    /**
+     * 주별 (월요일 시작, 키는 해당 주 월요일 날짜)
+     */
+    WEEK,
+
+    /**
+     * 월별 (키는 yyyy-MM)
+     */
+    MONTH,
+
+    /**
+     * 주문 상태별
+     */
+    STATUS,
+
+    /**
+     * 상품명별
+     */
+    PRODUCT;
+
+    /**
+     * 주문일 기준 묶음인지 여부
+     */
+    public boolean isTime() {
+        return this == DAY || this == WEEK || this == MONTH;
+    }
+}
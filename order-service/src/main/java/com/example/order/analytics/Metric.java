@@ -0,0 +1,22 @@
+package com.example.order.analytics;
+
+/**
+ * 주문 집계 지표
+ */
+public enum Metric {
+
+    /**
+     * 총액 합계
+     */
+    SUM,
+
+    /**
+     * 주문 수
+     */
+    COUNT,
+
+    /**
+     * 주문당 평균 금액 (소수 2자리 반올림)
+     */
+    AVG
+}
@@ -0,0 +1,325 @@
+package com.example.order.analytics;
+
+import com.example.order.entity.ArchivedOrder;
+import com.example.order.entity.Money;
+import com.example.order.entity.Order;
+import com.example.order.repository.ArchivedOrderRepository;
+import com.example.order.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 주문 매출 집계용 컬럼 스냅샷
+ *
+ * OrderColumns를 감싸서 다음을 담당합니다.
+ * - 애플리케이션 시작 시 운영 주문과 보관 주문을 모두 읽어 스냅샷 생성 (백그라운드, 키셋 페이징)
+ * - 주문 생성/수정/상태 변경/삭제를 커밋 후에 증분 반영 (OrderAnalyticsListener, OrderService에서 호출)
+ * - 재생성(rebuild) 요청 처리: 새 스냅샷을 만든 뒤 원자적으로 교체하므로 재생성 중에도 집계 가능
+ *
+ * 검색 색인과 달리 집계 결과는 DB를 다시 조회하지 않고 그대로 응답하므로,
+ * 커밋되지 않은 변경이 보이지 않도록 트랜잭션 안의 변경을 모아 두었다가 커밋 후에 적용합니다.
+ * 보관(archive)으로 옮겨진 주문은 원본 삭제와 보관 저장이 같은 트랜잭션이므로 집계에서 빠지지 않습니다.
+ */
+@Component
+public class OrderAnalytics {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderAnalytics.class);
+
+    /**
+     * 재생성 시 한 번에 읽는 행 수
+     */
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Object mutex = new Object();
+
+    /**
+     * 집계에 사용하는 스냅샷 (첫 생성 완료 전에는 null)
+     */
+    private volatile OrderColumns active;
+
+    /**
+     * 재생성 중 커밋된 변경 내역 (재생성 완료 후 새 스냅샷에 다시 적용, mutex로 보호)
+     */
+    private List<Change> pendingChanges;
+
+    public OrderAnalytics(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+    }
+
+    /**
+     * 집계 가능 여부 (첫 스냅샷 생성 완료 여부)
+     */
+    public boolean isReady() {
+        return active != null;
+    }
+
+    /**
+     * 주문 집계
+     *
+     * @return 집계 결과 (스냅샷 준비 전에는 null)
+     */
+    public Aggregation aggregate(GroupBy groupBy, LocalDate from, LocalDate to,
+                                 Collection<Order.OrderStatus> statuses) {
+        OrderColumns columns = active;
+        if (columns == null) {
+            return null;
+        }
+        return columns.aggregate(groupBy, from, to, statuses);
+    }
+
+    /**
+     * 주문 저장 (생성/수정)
+     */
+    public void saved(Order order) {
+        stage(Change.put(order.getId(), order.getTotalAmount(), order.getCreatedAt(),
+                order.getProductName(), order.getStatus(), false));
+    }
+
+    /**
+     * 보관 주문 저장 (운영 주문에서 옮겨짐)
+     */
+    public void archived(ArchivedOrder order) {
+        stage(Change.put(order.getId(), order.getTotalAmount(), order.getCreatedAt(),
+                order.getProductName(), order.getStatus(), true));
+    }
+
+    /**
+     * 주문 삭제
+     */
+    public void removed(Order order) {
+        stage(Change.remove(order.getId()));
+    }
+
+    /**
+     * 주문 상태 변경 (엔터티를 거치지 않는 조건부 UPDATE용)
+     */
+    public void statusChanged(Long id, Order.OrderStatus status) {
+        stage(Change.status(id, status));
+    }
+
+    /**
+     * 변경 예약
+     *
+     * 트랜잭션 안이면 주문별 최종 변경만 모아 두었다가 커밋 후 적용하고, 밖이면 바로 적용합니다.
+     * - 같은 트랜잭션에서 보관 저장된 주문의 원본 삭제는 무시 (보관 이동)
+     * - 저장 예약 뒤의 상태 변경은 저장 예약에 합침
+     */
+    private void stage(Change change) {
+        if (change.id() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(change));
+            return;
+        }
+        Map<Long, Change> staged = staged();
+        Change current = staged.get(change.id());
+        if (current != null && current.archived() && change.isRemoval()) {
+            return;
+        }
+        if (current != null && current.isPut() && change.isStatusOnly()) {
+            change = current.withStatus(change.status());
+        }
+        staged.put(change.id(), change);
+    }
+
+    /**
+     * 현재 트랜잭션의 변경 예약 (주문 ID → 최종 변경)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Change> staged() {
+        Map<Long, Change> staged = (Map<Long, Change>) TransactionSynchronizationManager.getResource(this);
+        if (staged == null) {
+            Map<Long, Change> created = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OrderAnalytics.this);
+                    if (status == STATUS_COMMITTED) {
+                        apply(created.values());
+                    }
+                }
+            });
+            staged = created;
+        }
+        return staged;
+    }
+
+    private void apply(Collection<Change> changes) {
+        synchronized (mutex) {
+            OrderColumns columns = active;
+            if (columns != null) {
+                changes.forEach(change -> change.applyTo(columns));
+            }
+            if (pendingChanges != null) {
+                pendingChanges.addAll(changes);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 백그라운드로 스냅샷 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildAsync();
+    }
+
+    /**
+     * 백그라운드 재생성 시작
+     *
+     * @return 새로 시작했으면 true, 이미 재생성 중이면 false
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::rebuild, "order-analytics-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 운영/보관 주문 전체를 읽어 새 스냅샷을 만들고 교체
+     *
+     * 재생성 중 커밋된 변경은 pendingChanges에 기록해 두었다가, 새 스냅샷에 다시 적용한 뒤 교체합니다.
+     * 읽는 사이 보관으로 옮겨진 주문은 양쪽에서 읽힐 수 있지만 같은 ID라 한 건으로 저장됩니다.
+     */
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            synchronized (mutex) {
+                pendingChanges = new ArrayList<>();
+            }
+
+            OrderColumns columns = new OrderColumns();
+            load(columns, afterId -> orderRepository.findAnalyticsRowsAfter(afterId,
+                    PageRequest.of(0, REBUILD_BATCH_SIZE)));
+            load(columns, afterId -> archivedOrderRepository.findAnalyticsRowsAfter(afterId,
+                    PageRequest.of(0, REBUILD_BATCH_SIZE)));
+
+            synchronized (mutex) {
+                pendingChanges.forEach(change -> change.applyTo(columns));
+                pendingChanges = null;
+                active = columns;
+            }
+            log.info("Order analytics snapshot rebuilt: {} orders, {} products in {} ms",
+                    columns.size(), columns.productCount(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            synchronized (mutex) {
+                pendingChanges = null;
+            }
+            log.error("Order analytics snapshot rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private static void load(OrderColumns columns, Function<Long, List<OrderRepository.AnalyticsRow>> page) {
+        long afterId = 0;
+        List<OrderRepository.AnalyticsRow> rows;
+        do {
+            rows = page.apply(afterId);
+            for (OrderRepository.AnalyticsRow row : rows) {
+                columns.put(row.getId(), row.getTotalAmount().minorUnits(), epochDay(row.getCreatedAt()),
+                        row.getProductName(), row.getStatus());
+                afterId = row.getId();
+            }
+        } while (rows.size() == REBUILD_BATCH_SIZE);
+    }
+
+    /**
+     * 스냅샷 상태
+     */
+    public Map<String, Object> stats() {
+        OrderColumns columns = active;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", columns != null);
+        stats.put("rebuilding", rebuilding.get());
+        stats.put("orders", columns != null ? columns.size() : 0);
+        stats.put("products", columns != null ? columns.productCount() : 0);
+        return stats;
+    }
+
+    /**
+     * 주문일시 → epoch day (주문일시가 없으면 OrderColumns.NO_DAY)
+     */
+    static int epochDay(LocalDateTime createdAt) {
+        return createdAt != null ? (int) createdAt.toLocalDate().toEpochDay() : OrderColumns.NO_DAY;
+    }
+
+    /**
+     * 스냅샷 변경 내역
+     *
+     * @param id       주문 ID
+     * @param amount   총액 × 100 (저장일 때만)
+     * @param day      주문일 epoch day (저장일 때만)
+     * @param product  상품명 (저장일 때만, null이면 저장이 아님)
+     * @param status   주문 상태 (null이면 삭제)
+     * @param archived 보관 주문 저장 여부
+     */
+    private record Change(Long id, long amount, int day, String product, Order.OrderStatus status,
+                          boolean archived) {
+
+        static Change put(Long id, Money amount, LocalDateTime createdAt, String product,
+                          Order.OrderStatus status, boolean archived) {
+            return new Change(id, amount.minorUnits(), epochDay(createdAt), product, status, archived);
+        }
+
+        static Change status(Long id, Order.OrderStatus status) {
+            return new Change(id, 0, 0, null, status, false);
+        }
+
+        static Change remove(Long id) {
+            return new Change(id, 0, 0, null, null, false);
+        }
+
+        boolean isPut() {
+            return product != null;
+        }
+
+        boolean isStatusOnly() {
+            return product == null && status != null;
+        }
+
+        boolean isRemoval() {
+            return status == null;
+        }
+
+        Change withStatus(Order.OrderStatus next) {
+            return new Change(id, amount, day, product, next, archived);
+        }
+
+        void applyTo(OrderColumns columns) {
+            if (isPut()) {
+                columns.put(id, amount, day, product, status);
+            } else if (isStatusOnly()) {
+                columns.setStatus(id, status);
+            } else {
+                columns.remove(id);
+            }
+        }
+    }
+}
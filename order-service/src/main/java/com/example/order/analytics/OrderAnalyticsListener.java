@@ -0,0 +1,46 @@
+package com.example.order.analytics;
+
+import com.example.order.entity.ArchivedOrder;
+import com.example.order.entity.Order;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문/보관 주문 엔터티 변경을 집계 스냅샷에 반영하는 JPA 엔터티 리스너
+ *
+ * 변경은 OrderAnalytics가 트랜잭션 단위로 모아 두었다가 커밋 후에 적용합니다.
+ * Order와 ArchivedOrder에 함께 등록되어, 보관 이동(보관 저장 + 원본 삭제)을 한 트랜잭션 안에서 구분합니다.
+ *
+ * Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 생성자 주입을 사용할 수 있습니다.
+ */
+@Component
+public class OrderAnalyticsListener {
+
+    private final ObjectProvider<OrderAnalytics> analytics;
+
+    public OrderAnalyticsListener(ObjectProvider<OrderAnalytics> analytics) {
+        this.analytics = analytics;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        analytics.ifAvailable(snapshot -> {
+            if (entity instanceof Order order) {
+                snapshot.saved(order);
+            } else if (entity instanceof ArchivedOrder archived) {
+                snapshot.archived(archived);
+            }
+        });
+    }
+
+    @PreRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Order order) {
+            analytics.ifAvailable(snapshot -> snapshot.removed(order));
+        }
+    }
+}
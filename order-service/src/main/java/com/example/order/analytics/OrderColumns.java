@@ -0,0 +1,491 @@
+package com.example.order.analytics;
+
+import com.example.order.entity.Order;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * 메모리 기반 주문 컬럼 저장소 (집계 전용)
+ *
+ * 주문 한 건을 객체로 두지 않고 컬럼별 기본형 배열에 나누어 저장합니다.
+ * - amounts: 총액 × 100 (소수 2자리 고정소수점 long)
+ * - days: 주문일 (epoch day)
+ * - products: 상품명 사전 코드 (productNames의 인덱스)
+ * - statuses: 주문 상태 코드 (OrderStatus ordinal, 삭제된 행은 REMOVED)
+ *
+ * 집계는 필요한 컬럼 배열만 순서대로 훑는 단순 루프라 JIT가 경계 검사를 없애고 캐시를 잘 활용하며,
+ * 행 수가 많으면 구간을 나누어 공용 ForkJoinPool에서 병렬로 집계한 뒤 합칩니다.
+ * 삭제는 상태 코드만 REMOVED로 바꾸고, 삭제된 행이 절반을 넘으면 배열을 압축합니다.
+ * 주문일이 없는 주문(data.sql 초기 데이터 등)은 NO_DAY로 저장하여,
+ * 기간 조건 없는 상태/상품별 집계에만 포함하고 기간별 집계에서는 제외합니다.
+ *
+ * 스레드 안전성: 읽기/쓰기 잠금으로 보호되며, 집계는 동시에 여러 스레드에서 수행할 수 있습니다.
+ */
+public final class OrderColumns {
+
+    /**
+     * 주문일 없음
+     */
+    public static final int NO_DAY = Integer.MIN_VALUE;
+
+    private static final byte REMOVED = -1;
+    private static final Order.OrderStatus[] STATUSES = Order.OrderStatus.values();
+
+    /**
+     * 병렬 집계를 시작하는 행 수 (이보다 적으면 호출 스레드에서 바로 집계)
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    /**
+     * 압축을 검토하는 최소 삭제 행 수
+     */
+    private static final int COMPACT_THRESHOLD = 1 << 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RowIndex rows = new RowIndex();
+    private final List<String> productNames = new ArrayList<>();
+    private final Map<String, Integer> productCodes = new HashMap<>();
+
+    private long[] ids = new long[1024];
+    private long[] amounts = new long[1024];
+    private int[] days = new int[1024];
+    private int[] products = new int[1024];
+    private byte[] statuses = new byte[1024];
+    private int size;
+    private int removed;
+    private int minDay = Integer.MAX_VALUE;
+    private int maxDay = Integer.MIN_VALUE;
+
+    /**
+     * 주문 추가 또는 갱신
+     *
+     * @param id          주문 ID
+     * @param amount      총액 × 100
+     * @param day         주문일 (epoch day, 없으면 NO_DAY)
+     * @param productName 상품명
+     * @param status      주문 상태
+     */
+    public void put(long id, long amount, int day, String productName, Order.OrderStatus status) {
+        lock.writeLock().lock();
+        try {
+            int row = rows.get(id);
+            if (row < 0) {
+                row = size++;
+                ensureCapacity(size);
+                ids[row] = id;
+                rows.put(id, row);
+            }
+            amounts[row] = amount;
+            days[row] = day;
+            products[row] = productCodes.computeIfAbsent(productName, name -> {
+                productNames.add(name);
+                return productNames.size() - 1;
+            });
+            statuses[row] = (byte) status.ordinal();
+            if (day != NO_DAY) {
+                minDay = Math.min(minDay, day);
+                maxDay = Math.max(maxDay, day);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주문 상태만 변경 (저장소에 없는 주문이면 무시)
+     */
+    public void setStatus(long id, Order.OrderStatus status) {
+        lock.writeLock().lock();
+        try {
+            int row = rows.get(id);
+            if (row >= 0) {
+                statuses[row] = (byte) status.ordinal();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주문 삭제
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int row = rows.remove(id);
+            if (row < 0) {
+                return;
+            }
+            statuses[row] = REMOVED;
+            removed++;
+            if (removed >= COMPACT_THRESHOLD && removed > size / 2) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 주문 수 (삭제된 행 제외)
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - removed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품명 사전 크기
+     */
+    public int productCount() {
+        lock.readLock().lock();
+        try {
+            return productNames.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주문 집계
+     *
+     * @param groupBy  묶음 기준
+     * @param from     시작 주문일 (포함, null이면 처음부터)
+     * @param to       종료 주문일 (포함, null이면 끝까지)
+     * @param statuses 포함할 주문 상태 (비어 있으면 전체)
+     * @return 묶음별 주문 수와 총액 (기간 기준은 시간순, 상태는 정의순, 상품은 사전순)
+     */
+    public Aggregation aggregate(GroupBy groupBy, LocalDate from, LocalDate to, Iterable<Order.OrderStatus> statuses) {
+        int statusMask = 0;
+        for (Order.OrderStatus status : statuses) {
+            statusMask |= 1 << status.ordinal();
+        }
+        if (statusMask == 0) {
+            statusMask = (1 << STATUSES.length) - 1;
+        }
+
+        lock.readLock().lock();
+        try {
+            // 상태/상품별 집계는 기간 조건이 없으면 주문일 없는 주문까지 포함
+            boolean allDays = !groupBy.isTime() && from == null && to == null;
+            int fromDay = allDays ? NO_DAY : from != null ? (int) Math.max(from.toEpochDay(), minDay) : minDay;
+            int toDay = allDays ? Integer.MAX_VALUE : to != null ? (int) Math.min(to.toEpochDay(), maxDay) : maxDay;
+            if (size == removed || fromDay > toDay) {
+                return Aggregation.EMPTY;
+            }
+
+            String[] keys = keys(groupBy, fromDay, toDay);
+            int[] bucketOfDay = groupBy.isTime() ? bucketOfDay(groupBy, fromDay, toDay) : null;
+            Scan scan = new Scan(groupBy, fromDay, toDay, statusMask, bucketOfDay, keys.length);
+
+            Partial total;
+            if (size < PARALLEL_THRESHOLD) {
+                total = scan.run(0, size);
+            } else {
+                int chunks = Math.min(size / (PARALLEL_THRESHOLD / 4), ForkJoinPool.getCommonPoolParallelism() * 4);
+                int rowCount = size;
+                total = IntStream.range(0, chunks).parallel()
+                        .mapToObj(chunk -> scan.run((int) ((long) rowCount * chunk / chunks),
+                                (int) ((long) rowCount * (chunk + 1) / chunks)))
+                        .reduce(Partial::merge)
+                        .orElseThrow();
+            }
+
+            List<Aggregation.Bucket> buckets = new ArrayList<>();
+            long orders = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (total.counts[i] > 0) {
+                    buckets.add(new Aggregation.Bucket(keys[i], total.counts[i], total.sums[i]));
+                    orders += total.counts[i];
+                }
+            }
+            if (groupBy == GroupBy.PRODUCT) {
+                buckets.sort((a, b) -> a.key().compareTo(b.key()));
+            }
+            return new Aggregation(buckets, orders);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 묶음 이름 (묶음 번호 순서, 기간 기준은 fromDay ~ toDay가 실제 주문일 범위 안일 때만 호출)
+     */
+    private String[] keys(GroupBy groupBy, int fromDay, int toDay) {
+        return switch (groupBy) {
+            case STATUS -> Arrays.stream(STATUSES).map(Enum::name).toArray(String[]::new);
+            case PRODUCT -> productNames.toArray(String[]::new);
+            case DAY -> IntStream.rangeClosed(fromDay, toDay)
+                    .mapToObj(day -> LocalDate.ofEpochDay(day).toString())
+                    .toArray(String[]::new);
+            case WEEK -> IntStream.rangeClosed(fromDay, toDay)
+                    .mapToObj(day -> LocalDate.ofEpochDay(day).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)))
+                    .distinct()
+                    .map(LocalDate::toString)
+                    .toArray(String[]::new);
+            case MONTH -> IntStream.rangeClosed(fromDay, toDay)
+                    .mapToObj(day -> YearMonth.from(LocalDate.ofEpochDay(day)))
+                    .distinct()
+                    .map(YearMonth::toString)
+                    .toArray(String[]::new);
+        };
+    }
+
+    /**
+     * 주문일 → 묶음 번호 조회 표 (fromDay 기준 오프셋)
+     *
+     * 주/월 계산을 행마다 하지 않고 조회 기간의 날짜 수만큼만 미리 계산해 둡니다.
+     */
+    private static int[] bucketOfDay(GroupBy groupBy, int fromDay, int toDay) {
+        int[] table = new int[toDay - fromDay + 1];
+        int bucket = 0;
+        for (int day = fromDay; day <= toDay; day++) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            boolean starts = switch (groupBy) {
+                case WEEK -> date.getDayOfWeek() == DayOfWeek.MONDAY;
+                case MONTH -> date.getDayOfMonth() == 1;
+                default -> true;
+            };
+            if (starts && day > fromDay) {
+                bucket++;
+            }
+            table[day - fromDay] = bucket;
+        }
+        return table;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, grown);
+        amounts = Arrays.copyOf(amounts, grown);
+        days = Arrays.copyOf(days, grown);
+        products = Arrays.copyOf(products, grown);
+        statuses = Arrays.copyOf(statuses, grown);
+    }
+
+    /**
+     * 삭제된 행을 제거하고 남은 행을 앞으로 모음 (쓰기 잠금 안에서 호출)
+     */
+    private void compact() {
+        int live = 0;
+        rows.clear();
+        for (int row = 0; row < size; row++) {
+            if (statuses[row] == REMOVED) {
+                continue;
+            }
+            ids[live] = ids[row];
+            amounts[live] = amounts[row];
+            days[live] = days[row];
+            products[live] = products[row];
+            statuses[live] = statuses[row];
+            rows.put(ids[live], live);
+            live++;
+        }
+        size = live;
+        removed = 0;
+    }
+
+    /**
+     * 한 번의 집계 조건 (읽기 잠금 안에서 만든 배열 참조를 구간별 작업이 공유)
+     */
+    private final class Scan {
+
+        private final GroupBy groupBy;
+        private final int fromDay;
+        private final int toDay;
+        private final int statusMask;
+        private final int[] bucketOfDay;
+        private final int bucketCount;
+        private final long[] amounts = OrderColumns.this.amounts;
+        private final int[] days = OrderColumns.this.days;
+        private final int[] products = OrderColumns.this.products;
+        private final byte[] statuses = OrderColumns.this.statuses;
+
+        private Scan(GroupBy groupBy, int fromDay, int toDay, int statusMask, int[] bucketOfDay, int bucketCount) {
+            this.groupBy = groupBy;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+            this.statusMask = statusMask;
+            this.bucketOfDay = bucketOfDay;
+            this.bucketCount = bucketCount;
+        }
+
+        /**
+         * [start, end) 구간 집계
+         *
+         * 묶음 기준별로 루프를 따로 두어 루프 안에서 분기하지 않습니다.
+         * 삭제된 행(REMOVED = -1)은 상태 마스크 검사에서 함께 걸러집니다.
+         */
+        private Partial run(int start, int end) {
+            Partial partial = new Partial(bucketCount);
+            long[] sums = partial.sums;
+            long[] counts = partial.counts;
+            switch (groupBy) {
+                case STATUS -> {
+                    for (int i = start; i < end; i++) {
+                        int status = statuses[i];
+                        int day = days[i];
+                        if (status >= 0 && (statusMask >>> status & 1) != 0 && day >= fromDay && day <= toDay) {
+                            sums[status] += amounts[i];
+                            counts[status]++;
+                        }
+                    }
+                }
+                case PRODUCT -> {
+                    for (int i = start; i < end; i++) {
+                        int status = statuses[i];
+                        int day = days[i];
+                        if (status >= 0 && (statusMask >>> status & 1) != 0 && day >= fromDay && day <= toDay) {
+                            int bucket = products[i];
+                            sums[bucket] += amounts[i];
+                            counts[bucket]++;
+                        }
+                    }
+                }
+                default -> {
+                    for (int i = start; i < end; i++) {
+                        int status = statuses[i];
+                        int day = days[i];
+                        if (status >= 0 && (statusMask >>> status & 1) != 0 && day >= fromDay && day <= toDay) {
+                            int bucket = bucketOfDay[day - fromDay];
+                            sums[bucket] += amounts[i];
+                            counts[bucket]++;
+                        }
+                    }
+                }
+            }
+            return partial;
+        }
+    }
+
+    /**
+     * 구간별 중간 집계 결과
+     */
+    private static final class Partial {
+
+        private final long[] sums;
+        private final long[] counts;
+
+        private Partial(int bucketCount) {
+            this.sums = new long[bucketCount];
+            this.counts = new long[bucketCount];
+        }
+
+        private Partial merge(Partial other) {
+            for (int i = 0; i < sums.length; i++) {
+                sums[i] += other.sums[i];
+                counts[i] += other.counts[i];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * 주문 ID → 행 번호 (개방 주소법 long → int 해시 테이블)
+     *
+     * 수천만 건에서 HashMap<Long, Integer>의 박싱/엔트리 객체 비용을 피하기 위해 사용합니다.
+     * 주문 ID는 1부터 시작하므로 0을 빈 슬롯으로 씁니다.
+     */
+    private static final class RowIndex {
+
+        private long[] keys = new long[2048];
+        private int[] values = new int[2048];
+        private int size;
+
+        private int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = slot(key, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return -1;
+        }
+
+        private void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                size++;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        /**
+         * 삭제 (뒤쪽 항목을 빈 자리로 당겨 탐색 경로를 유지)
+         *
+         * @return 삭제된 행 번호 (없으면 -1)
+         */
+        private int remove(long key) {
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (keys[slot] != key) {
+                if (keys[slot] == 0) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            int value = values[slot];
+            int gap = slot;
+            for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+                int home = slot(keys[next], mask);
+                boolean movable = next > gap ? (home <= gap || home > next) : (home <= gap && home > next);
+                if (movable) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+            }
+            keys[gap] = 0;
+            size--;
+            return value;
+        }
+
+        private void clear() {
+            Arrays.fill(keys, 0);
+            size = 0;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.order.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Member Service 호출 적응형 동시 호출 제한 (gradient 방식)
+ *
+ * Circuit Breaker는 실패가 쌓인 뒤에야 동작하므로, Member Service가 실패하지 않고 느려지기만 하면
+ * 동시 호출이 계속 늘어나 타임아웃까지 밀립니다. 이 제한기는 응답 시간(RTT)을 보고 동시 호출 한도를 조정하여
+ * 한도를 넘는 호출을 기다리게 하지 않고 바로 거절합니다. (호출 쪽은 Fallback 사용)
+ *
+ * 한도 조정 (윈도우마다, Netflix concurrency-limits의 Gradient2와 같은 방식):
+ * - shortRtt: 이번 윈도우의 평균 응답 시간, longRtt: 긴 구간의 지수 이동 평균 (평소 응답 시간)
+ * - gradient = clamp(tolerance × longRtt / shortRtt, 0.5, 1.0): 평소보다 느려지면 1보다 작아져 한도 감소
+ * - 새 한도 = 한도 × gradient + √한도 (대기열 여유분), smoothing 비율만큼만 반영, min-limit ~ max-limit
+ * - 사용 중인 호출이 한도의 절반도 안 되면 늘리지 않음 (부하가 없어서 빠른 것이므로)
+ * - 느려진 상태가 오래가면 longRtt도 따라 올라가므로, shortRtt보다 2배 이상 크면(회복 중) longRtt를 빠르게 낮춤
+ *
+ * 지표 (Micrometer, /actuator/metrics):
+ * - member-service.limiter.limit: 현재 동시 호출 한도
+ * - member-service.limiter.inflight: 현재 진행 중인 호출 수
+ * - member-service.limiter.rejected: 한도 초과로 거절한 호출 수
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    /**
+     * 한도를 다시 계산하는 윈도우 (최소 시간과 최소 표본 수를 모두 채워야 함)
+     */
+    private static final long WINDOW_NANOS = 100_000_000L;
+    private static final int WINDOW_MIN_SAMPLES = 10;
+
+    /**
+     * longRtt 지수 이동 평균 표본 수와 그전 단순 평균 구간
+     */
+    private static final int LONG_WINDOW = 600;
+    private static final int LONG_WARMUP = 10;
+
+    private static final double SMOOTHING = 0.2;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    private volatile double estimatedLimit;
+    private volatile int limit;
+
+    // 윈도우/longRtt 상태 (sample()에서 동기화)
+    private long windowStart = System.nanoTime();
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInflight;
+    private double longRtt;
+    private int longSamples;
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${member-service.limiter.enabled:true}") boolean enabled,
+                                      @Value("${member-service.limiter.initial-limit:20}") int initialLimit,
+                                      @Value("${member-service.limiter.min-limit:4}") int minLimit,
+                                      @Value("${member-service.limiter.max-limit:200}") int maxLimit,
+                                      @Value("${member-service.limiter.tolerance:1.5}") double tolerance) {
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.estimatedLimit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.limit = (int) estimatedLimit;
+        this.rejectedCounter = Counter.builder("member-service.limiter.rejected")
+                .description("동시 호출 한도 초과로 거절한 Member Service 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("member-service.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Member Service 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("member-service.limiter.inflight", this, AdaptiveConcurrencyLimiter::getInflight)
+                .description("진행 중인 Member Service 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 요청 (한도를 넘으면 기다리지 않고 null)
+     *
+     * 허가를 받으면 응답을 받은 뒤 Permit의 success/dropped/ignore 중 하나를 반드시 호출해야 합니다.
+     */
+    public Permit tryAcquire() {
+        if (!enabled) {
+            return new Permit(System.nanoTime(), false);
+        }
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= limit) {
+                rejectedCounter.increment();
+                return null;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        return new Permit(System.nanoTime(), true);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * 응답 시간 표본 반영 (윈도우가 차면 한도 재계산)
+     */
+    private synchronized void sample(long rttNanos, int inflightAtStart) {
+        long now = System.nanoTime();
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtStart);
+        if (windowSamples < WINDOW_MIN_SAMPLES || now - windowStart < WINDOW_NANOS) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInflight = windowMaxInflight;
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInflight = 0;
+        updateLimit(shortRtt, maxInflight);
+    }
+
+    /**
+     * 윈도우 결과로 한도 재계산 (shortRtt: 윈도우 평균 응답 시간, maxInflight: 윈도우 중 최대 동시 호출 수)
+     */
+    synchronized void updateLimit(double shortRtt, int maxInflight) {
+        if (longSamples < LONG_WARMUP) {
+            longSamples++;
+            longRtt += (shortRtt - longRtt) / longSamples;
+        } else {
+            longRtt += (shortRtt - longRtt) * 2.0 / (LONG_WINDOW + 1);
+        }
+        // 느려진 뒤 회복 중: 느릴 때 올라간 longRtt가 한도를 계속 높게 잡지 않도록 빠르게 낮춤
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        // 부하가 한도의 절반도 안 되면 응답이 빨라도 한도를 늘리지 않음
+        if (maxInflight * 2 < estimatedLimit) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if ((int) newLimit != limit) {
+            log.debug("Member Service concurrency limit {} -> {} (rtt short={}ms, long={}ms)",
+                    limit, (int) newLimit, Math.round(shortRtt / 1e6), Math.round(longRtt / 1e6));
+        }
+        estimatedLimit = newLimit;
+        limit = (int) newLimit;
+    }
+
+    /**
+     * 호출 허가 (결과 보고는 한 번만 반영)
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final boolean counted;
+        private final int inflightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos, boolean counted) {
+            this.startNanos = startNanos;
+            this.counted = counted;
+            this.inflightAtStart = inflight.get();
+        }
+
+        /**
+         * 응답을 받음 (응답 시간을 한도 계산에 반영)
+         */
+        public void success() {
+            if (release()) {
+                sample(System.nanoTime() - startNanos, inflightAtStart);
+            }
+        }
+
+        /**
+         * 타임아웃/연결 실패 (걸린 시간을 그대로 반영하여 한도를 낮춤)
+         */
+        public void dropped() {
+            success();
+        }
+
+        /**
+         * 결과를 한도 계산에 반영하지 않음 (취소 등)
+         */
+        public void ignore() {
+            release();
+        }
+
+        private boolean release() {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            if (counted) {
+                inflight.decrementAndGet();
+            }
+            return counted;
+        }
+    }
+}
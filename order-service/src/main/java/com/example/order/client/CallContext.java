@@ -0,0 +1,71 @@
+package com.example.order.client;
+
+import com.example.common.web.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.function.Supplier;
+
+/**
+ * 서비스 간 호출에 전달할 인바운드 요청 정보 (JWT 토큰, 처리 기한)
+ *
+ * FeignClientConfig의 인터셉터는 이 값을 읽어 Authorization/X-Request-Timeout 헤더를 붙입니다.
+ * 요청 스레드에서는 현재 요청에서 바로 읽고, 헤지 요청처럼 다른 스레드에서 호출할 때는
+ * 요청 스레드에서 미리 복사해 둔 값을 run()으로 넘깁니다.
+ * (요청이 끝난 뒤 다른 스레드가 재사용된 HttpServletRequest를 읽지 않도록 요청 객체 자체는 넘기지 않음)
+ *
+ * @param authorization 인바운드 Authorization 헤더 (없으면 null)
+ * @param deadline      인바운드 요청 처리 기한 (없으면 null)
+ */
+public record CallContext(String authorization, RequestDeadline deadline) {
+
+    private static final CallContext EMPTY = new CallContext(null, null);
+
+    private static final ThreadLocal<CallContext> PROPAGATED = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드의 호출 정보 (전달받은 값이 없으면 현재 요청에서 읽음)
+     */
+    public static CallContext current() {
+        CallContext propagated = PROPAGATED.get();
+        return propagated != null ? propagated : capture();
+    }
+
+    private static CallContext capture() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return new CallContext(request.getHeader(HttpHeaders.AUTHORIZATION), RequestDeadline.of(request));
+        }
+        return EMPTY;
+    }
+
+    /**
+     * 이 호출 정보를 현재 스레드에 두고 실행 (다른 스레드에서 호출할 때 사용)
+     */
+    public <T> T run(Supplier<T> call) {
+        CallContext previous = PROPAGATED.get();
+        PROPAGATED.set(this);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                PROPAGATED.set(previous);
+            } else {
+                PROPAGATED.remove();
+            }
+        }
+    }
+
+    /**
+     * 남은 시간 (기한이 없으면 Long.MAX_VALUE)
+     */
+    public long remainingNanos() {
+        return deadline != null ? deadline.remainingNanos() : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return deadline != null && deadline.isExpired();
+    }
+}
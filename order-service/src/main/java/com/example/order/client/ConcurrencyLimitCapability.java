@@ -0,0 +1,48 @@
+package com.example.order.client;
+
+import com.example.order.exception.ConcurrencyLimitExceededException;
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+
+import java.io.IOException;
+
+/**
+ * 동시 호출 제한 적용 Feign Capability
+ *
+ * HTTP 클라이언트를 감싸서 호출마다 AdaptiveConcurrencyLimiter의 허가를 받고, 응답 시간을 한도 계산에 반영합니다.
+ * 한도를 넘으면 요청을 보내지 않고 ConcurrencyLimitExceededException을 던집니다.
+ * (재시도하지 않고 바로 Fallback, Circuit Breaker 실패로도 세지 않음)
+ *
+ * 재시도와 헤지 요청도 각각 실제 HTTP 호출이므로 한 번씩 허가를 받습니다.
+ * Feign이 리플렉션으로 enrich를 호출하므로 public 클래스여야 합니다.
+ */
+public class ConcurrencyLimitCapability implements Capability {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitCapability(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            if (permit == null) {
+                throw new ConcurrencyLimitExceededException(
+                        "Member Service 동시 호출 한도(" + limiter.getLimit() + ")를 넘어 호출하지 않았습니다");
+            }
+            try {
+                Response response = client.execute(request, options);
+                permit.success();
+                return response;
+            } catch (IOException e) {
+                permit.dropped();
+                throw e;
+            } finally {
+                permit.ignore();
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.order.client;
+
+import com.example.common.web.RequestDeadline;
+import com.example.order.exception.DeadlineExceededException;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 처리 기한 적용 Feign Capability
+ *
+ * HTTP 클라이언트를 감싸서 호출마다 연결/읽기 타임아웃을 요청 처리 기한의 남은 시간 이하로 줄입니다.
+ * 설정된 타임아웃(spring.cloud.openfeign.client.config)은 상한으로만 쓰이고,
+ * 기한이 이미 지났으면 요청을 보내지 않고 DeadlineExceededException을 던집니다.
+ *
+ * Feign이 리플렉션으로 enrich를 호출하므로 public 클래스여야 합니다.
+ */
+public class DeadlineCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> client.execute(request, withinDeadline(options));
+    }
+
+    private static Request.Options withinDeadline(Request.Options options) {
+        RequestDeadline deadline = CallContext.current().deadline();
+        if (deadline == null) {
+            return options;
+        }
+        long remaining = deadline.remainingMillis();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException("요청 처리 기한이 지나 서비스 호출을 보내지 않았습니다");
+        }
+        if (remaining >= options.connectTimeoutMillis() && remaining >= options.readTimeoutMillis()) {
+            return options;
+        }
+        return new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.order.client;
+
+import com.example.order.exception.DeadlineExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Member Service 헤지 요청(hedged request) 실행기
+ *
+ * 첫 호출이 최근 응답 시간의 p95만큼 지나도 끝나지 않으면 같은 호출을 한 번 더 보내고,
+ * 먼저 성공한 응답을 사용합니다. (나머지는 취소)
+ * 느린 인스턴스 하나 때문에 요청이 타임아웃까지 묶이지 않도록 하는 용도이며,
+ * 두 번째 호출은 로드밸런서가 다시 고르므로 보통 다른 인스턴스로 갑니다.
+ *
+ * - 멱등인 조회(GET) 호출에만 사용
+ * - 헤지 요청은 전체 호출의 max-percent 이내로 제한 (Member Service 전체가 느릴 때 부하를 두 배로 만들지 않도록)
+ * - 처리 기한이 지나면 더 기다리지 않고 DeadlineExceededException
+ * - 두 호출이 모두 실패하면 마지막 예외를 그대로 던짐 (재시도/Circuit Breaker 판단은 호출한 쪽에서)
+ *
+ * 호출은 가상 스레드에서 실행하며, 인바운드 요청 정보(JWT 토큰, 기한)는 CallContext로 복사해 넘깁니다.
+ */
+@Component
+public class HedgingExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgingExecutor.class);
+
+    /**
+     * p95 계산에 사용하는 최근 성공 응답 시간 수
+     */
+    private static final int LATENCY_WINDOW = 1024;
+
+    /**
+     * 이보다 표본이 적으면 p95 대신 initial-delay 사용
+     */
+    private static final int MIN_SAMPLES = 20;
+
+    /**
+     * 헤지 1회에 필요한 적립량 (호출마다 max-percent만큼 적립)
+     */
+    private static final int HEDGE_COST = 100;
+
+    /**
+     * 적립 상한 (연속으로 보낼 수 있는 헤지 요청 수 × HEDGE_COST)
+     */
+    private static final int MAX_CREDITS = 10 * HEDGE_COST;
+
+    private final boolean enabled;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final int maxPercent;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("member-call-", 0).factory());
+    private final LatencyWindow latencies = new LatencyWindow(LATENCY_WINDOW);
+    private final AtomicInteger credits = new AtomicInteger();
+
+    public HedgingExecutor(@Value("${member-service.hedging.enabled:true}") boolean enabled,
+                           @Value("${member-service.hedging.initial-delay:100ms}") Duration initialDelay,
+                           @Value("${member-service.hedging.min-delay:10ms}") Duration minDelay,
+                           @Value("${member-service.hedging.max-delay:1s}") Duration maxDelay,
+                           @Value("${member-service.hedging.max-percent:10}") int maxPercent) {
+        this.enabled = enabled;
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxPercent = Math.max(0, Math.min(maxPercent, 100));
+    }
+
+    /**
+     * 조회 호출 실행 (필요하면 헤지 요청 추가)
+     */
+    public <T> T execute(Supplier<T> call) {
+        CallContext context = CallContext.current();
+        if (context.isExpired()) {
+            throw new DeadlineExceededException("요청 처리 기한이 지나 Member Service를 호출하지 않았습니다");
+        }
+        if (!enabled) {
+            return timed(call);
+        }
+        credits.getAndUpdate(current -> Math.min(current + maxPercent, MAX_CREDITS));
+
+        ExecutorCompletionService<T> attempts = new ExecutorCompletionService<>(executor);
+        List<Future<T>> started = new ArrayList<>(2);
+        Future<T> primary = attempts.submit(() -> context.run(() -> timed(call)));
+        started.add(primary);
+        long hedgeAt = System.nanoTime() + hedgeDelayNanos();
+        boolean hedgeDecided = false;
+        int outstanding = 1;
+        RuntimeException failure = null;
+        try {
+            while (outstanding > 0) {
+                long wait = hedgeDecided
+                        ? context.remainingNanos()
+                        : Math.min(hedgeAt - System.nanoTime(), context.remainingNanos());
+                Future<T> done = attempts.poll(Math.max(wait, 0), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    if (context.isExpired()) {
+                        throw new DeadlineExceededException("요청 처리 기한 안에 Member Service 응답을 받지 못했습니다");
+                    }
+                    if (!hedgeDecided) {
+                        hedgeDecided = true;
+                        if (tryAcquireHedge()) {
+                            log.debug("Member Service call slower than hedge delay, sending hedged request");
+                            started.add(attempts.submit(() -> context.run(() -> timed(call))));
+                            outstanding++;
+                        }
+                    }
+                    continue;
+                }
+                outstanding--;
+                try {
+                    T result = done.get();
+                    if (done != primary) {
+                        log.debug("Hedged request to Member Service answered first");
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    failure = unwrap(e);
+                }
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Member Service", e);
+        } finally {
+            started.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    private <T> T timed(Supplier<T> call) {
+        long started = System.nanoTime();
+        T result = call.get();
+        latencies.record(System.nanoTime() - started);
+        return result;
+    }
+
+    /**
+     * 헤지 지연 (최근 성공 응답 시간의 p95, min-delay ~ max-delay)
+     */
+    private long hedgeDelayNanos() {
+        long p95 = latencies.percentile(95, MIN_SAMPLES);
+        long delay = p95 >= 0 ? p95 : initialDelayNanos;
+        return Math.max(minDelayNanos, Math.min(delay, maxDelayNanos));
+    }
+
+    private boolean tryAcquireHedge() {
+        int current;
+        do {
+            current = credits.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!credits.compareAndSet(current, current - HEDGE_COST));
+        return true;
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 최근 응답 시간 링 버퍼 (백분위는 일정 건수마다 다시 계산하여 캐시)
+     */
+    static final class LatencyWindow {
+
+        private static final int RECOMPUTE_INTERVAL = 32;
+
+        private final long[] samples;
+        private int next;
+        private int count;
+        private int sinceComputed;
+        private long[] sorted = new long[0];
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            sinceComputed++;
+        }
+
+        /**
+         * 백분위 응답 시간 (표본이 minSamples보다 적으면 -1)
+         */
+        synchronized long percentile(int percent, int minSamples) {
+            if (count < minSamples) {
+                return -1;
+            }
+            if (sorted.length == 0 || sinceComputed >= RECOMPUTE_INTERVAL) {
+                sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                sinceComputed = 0;
+            }
+            int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+    }
+}
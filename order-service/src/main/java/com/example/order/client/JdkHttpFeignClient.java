@@ -0,0 +1,178 @@
+package com.example.order.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * JDK HttpClient(java.net.http) 기반 Feign 전송 클라이언트
+ *
+ * Feign 기본 클라이언트(HttpURLConnection)는 목적지별 유휴 연결을 5개(http.maxConnections)까지만 보관하므로,
+ * 동시 호출이 많으면 나머지 연결은 매번 새로 맺고 닫혀 TIME_WAIT 소켓(임시 포트)이 쌓입니다.
+ * 이 클라이언트는 인스턴스별 연결을 재사용하고, HTTP/2(h2c)를 지원하는 서버와는
+ * 연결 하나에서 여러 요청을 동시에 주고받습니다. (HTTP/1.1 서버면 keep-alive 연결 풀로 동작)
+ *
+ * - 동시 요청 제한: 인스턴스(host:port)별 동시 요청을 maxConcurrentPerHost개로 제한하고 나머지는 대기
+ *   (JDK HttpClient는 서버의 HTTP/2 동시 스트림 한도(Tomcat 기본 100)를 넘으면 대기하지 않고
+ *   "too many concurrent streams"로 실패하므로 그보다 작게 설정, 대기는 도착 순서대로)
+ * - 응답 압축: Accept-Encoding: gzip을 보내고 gzip 응답은 여기서 풀어서 넘김
+ * - 타임아웃: 연결 타임아웃은 HttpClient 생성 시 한 번 정해지므로(FeignHttpClientConfig),
+ *   호출별로는 읽기 타임아웃을 응답 헤더를 받을 때까지의 제한 시간으로 사용
+ *   (처리 기한으로 줄어든 값도 이 경로로 적용됨, DeadlineCapability 참고)
+ * - 연결 실패/타임아웃은 IOException으로 던져 Feign이 RetryableException으로 감싸도록 함
+ *
+ * Spring Cloud OpenFeign의 Http2Client 지원(feign-java11 모듈)과 같은 방식이며, 추가 의존성 없이 JDK만 사용합니다.
+ */
+public class JdkHttpFeignClient implements Client {
+
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String GZIP = "gzip";
+
+    /**
+     * JDK HttpClient가 직접 관리하여 요청에 지정할 수 없는 헤더
+     */
+    private static final Set<String> RESTRICTED_HEADERS = caseInsensitive(
+            "Connection", CONTENT_LENGTH, "Expect", "Host", "Upgrade");
+
+    private final HttpClient httpClient;
+    private final int maxConcurrentPerHost;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public JdkHttpFeignClient(HttpClient httpClient, int maxConcurrentPerHost) {
+        this.httpClient = httpClient;
+        this.maxConcurrentPerHost = maxConcurrentPerHost;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        URI uri = URI.create(request.url());
+        Semaphore hostPermits = permits.computeIfAbsent(uri.getAuthority(),
+                authority -> new Semaphore(maxConcurrentPerHost, true));
+        try {
+            // 읽기 타임아웃 안에 차례가 오지 않으면 응답도 제때 받을 수 없으므로 타임아웃으로 처리
+            if (!hostPermits.tryAcquire(options.readTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                throw new HttpTimeoutException("Too many concurrent requests to " + uri.getAuthority());
+            }
+            Runnable release = releaseOnce(hostPermits);
+            try {
+                HttpResponse<InputStream> response =
+                        httpClient.send(toHttpRequest(uri, request, options), HttpResponse.BodyHandlers.ofInputStream());
+                // 본문을 다 읽고 닫을 때까지 스트림(연결)을 쓰고 있으므로 그때 반환 (Feign이 디코딩 후 닫음)
+                return toFeignResponse(request, response, release);
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                release.run();
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            // 헤지 요청 취소 등으로 호출 스레드가 중단된 경우
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while calling " + request.url());
+        }
+    }
+
+    private static HttpRequest toHttpRequest(URI uri, Request request, Request.Options options) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(options.readTimeoutMillis()));
+        byte[] body = request.body();
+        builder.method(request.httpMethod().name(), body != null && body.length > 0
+                ? HttpRequest.BodyPublishers.ofByteArray(body)
+                : HttpRequest.BodyPublishers.noBody());
+
+        boolean acceptEncoding = false;
+        for (Map.Entry<String, Collection<String>> header : request.headers().entrySet()) {
+            if (RESTRICTED_HEADERS.contains(header.getKey())) {
+                continue;
+            }
+            acceptEncoding |= header.getKey().equalsIgnoreCase(ACCEPT_ENCODING);
+            for (String value : header.getValue()) {
+                builder.header(header.getKey(), value);
+            }
+        }
+        if (!acceptEncoding) {
+            builder.header(ACCEPT_ENCODING, GZIP);
+        }
+        return builder.build();
+    }
+
+    private static Response toFeignResponse(Request request, HttpResponse<InputStream> response, Runnable onClose)
+            throws IOException {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            // HTTP/2 가상 헤더(:status 등)는 제외
+            if (!name.startsWith(":")) {
+                headers.put(name, values);
+            }
+        });
+
+        InputStream body = new FilterInputStream(response.body()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    onClose.run();
+                }
+            }
+        };
+        Integer length = response.headers().firstValueAsLong(CONTENT_LENGTH)
+                .stream().mapToObj(Math::toIntExact).findFirst().orElse(null);
+        boolean gzipped = response.headers().firstValue(CONTENT_ENCODING)
+                .filter(GZIP::equalsIgnoreCase).isPresent();
+        if (gzipped && (length == null || length > 0)) {
+            // 압축을 풀었으므로 길이/인코딩 헤더는 더 이상 본문과 맞지 않음
+            body = new GZIPInputStream(body);
+            length = null;
+            headers.keySet().removeIf(name -> name.equalsIgnoreCase(CONTENT_ENCODING)
+                    || name.equalsIgnoreCase(CONTENT_LENGTH));
+        }
+
+        return Response.builder()
+                .status(response.statusCode())
+                .headers(headers)
+                .request(request)
+                .protocolVersion(response.version() == HttpClient.Version.HTTP_2
+                        ? Request.ProtocolVersion.HTTP_2
+                        : Request.ProtocolVersion.HTTP_1_1)
+                .body(body, length)
+                .build();
+    }
+
+    private static Runnable releaseOnce(Semaphore semaphore) {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        };
+    }
+
+    private static Set<String> caseInsensitive(String... names) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(List.of(names));
+        return set;
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.order.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 마지막으로 조회에 성공한 회원 정보 저장소 (stale-while-revalidate)
+ *
+ * Member Service 장애 중 Fallback이 "알 수 없는 사용자" 대신 최근에 받은 실제 회원 정보를 쓸 수 있도록
+ * 조회에 성공할 때마다 회원 정보를 보관합니다.
+ * - 메모리: 최근 사용 순서 기준 max-entries개 (넘으면 가장 오래 안 쓴 회원부터 제거)
+ * - 디스크 (선택): snapshot-file을 지정하면 시작 시 읽고, snapshot-interval마다와 종료 시 저장
+ *   (재시작 직후 장애가 나도 저장된 값을 사용, 회원 개인정보가 들어 있으므로 접근이 제한된 경로에 둘 것)
+ * - max-age보다 오래된 정보는 사용하지 않음
+ *
+ * 저장된 정보로 응답하면 MemberDto.staleAsOf에 조회 시각을 표시하고 해당 회원을 갱신 대상으로 기록합니다.
+ * Circuit Breaker가 다시 CLOSED가 되면 갱신 대상 회원을 백그라운드에서 다시 조회합니다.
+ * (Member Service가 JWT를 요구하므로 저장된 값을 사용한 요청의 Authorization 헤더로 조회, 실패하면 다음 조회 때 갱신)
+ *
+ * 지표 (Micrometer, /actuator/metrics):
+ * - member-service.last-known.size: 저장된 회원 수
+ * - member-service.last-known.served: 저장된 회원 정보로 응답한 횟수
+ */
+@Component
+public class LastKnownMemberStore implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(LastKnownMemberStore.class);
+
+    private final MemberServiceClient memberServiceClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Duration maxAge;
+    private final Path snapshotFile;
+    private final Counter servedCounter;
+    private final Map<Long, Entry> entries;
+    private final Map<Long, String> pendingRefresh = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refreshExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("member-refresh-", 0).factory());
+    private volatile boolean dirty;
+
+    public LastKnownMemberStore(MemberServiceClient memberServiceClient,
+                                CircuitBreakerRegistry circuitBreakerRegistry,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${member-service.last-known.max-entries:10000}") int maxEntries,
+                                @Value("${member-service.last-known.max-age:7d}") Duration maxAge,
+                                @Value("${member-service.last-known.snapshot-file:}") String snapshotFile) {
+        this.memberServiceClient = memberServiceClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("member-service");
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.maxAge = maxAge;
+        this.snapshotFile = StringUtils.hasText(snapshotFile) ? Path.of(snapshotFile) : null;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > LastKnownMemberStore.this.maxEntries;
+            }
+        };
+        this.servedCounter = Counter.builder("member-service.last-known.served")
+                .description("저장된 회원 정보로 응답한 Member Service 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("member-service.last-known.size", this, LastKnownMemberStore::size)
+                .description("저장된 회원 정보 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        load();
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+                refreshExecutor.execute(this::refreshPending);
+            }
+        });
+    }
+
+    /**
+     * 조회에 성공한 회원 정보 저장
+     */
+    public void put(MemberServiceClient.MemberDto member) {
+        if (member == null || member.getId() == null || member.getStaleAsOf() != null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(member.getId(), new Entry(member, Instant.now()));
+        }
+        pendingRefresh.remove(member.getId());
+        dirty = true;
+    }
+
+    /**
+     * 저장된 회원 정보 조회 (Fallback용)
+     *
+     * 반환하는 회원 정보는 복사본이며 staleAsOf에 조회 시각이 설정됩니다.
+     * 현재 요청의 Authorization 헤더를 기억해 두었다가 Circuit Breaker가 닫히면 다시 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 저장된 회원 정보 (없거나 max-age보다 오래되었으면 empty)
+     */
+    public Optional<MemberServiceClient.MemberDto> findStale(Long memberId) {
+        return findStale(memberId, CallContext.current());
+    }
+
+    /**
+     * 저장된 회원 정보 조회 (요청 스레드에서 복사한 호출 정보 사용)
+     */
+    public Optional<MemberServiceClient.MemberDto> findStale(Long memberId, CallContext context) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(memberId);
+        }
+        if (entry == null || entry.fetchedAt().isBefore(Instant.now().minus(maxAge))) {
+            return Optional.empty();
+        }
+        if (context.authorization() != null) {
+            pendingRefresh.put(memberId, context.authorization());
+        }
+        servedCounter.increment();
+        return Optional.of(entry.staleCopy());
+    }
+
+    /**
+     * 회원 정보 제거 (Member Service가 없는 회원이라고 응답한 경우)
+     */
+    public void evict(Long memberId) {
+        boolean removed;
+        synchronized (entries) {
+            removed = entries.remove(memberId) != null;
+        }
+        pendingRefresh.remove(memberId);
+        if (removed) {
+            dirty = true;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 저장된 값으로 응답한 회원 다시 조회 (Circuit Breaker가 CLOSED로 바뀔 때)
+     *
+     * Circuit Breaker를 거쳐 호출하므로 다시 열리면 중단합니다.
+     */
+    private void refreshPending() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        int refreshed = 0;
+        try {
+            for (Long memberId : List.copyOf(pendingRefresh.keySet())) {
+                String authorization = pendingRefresh.get(memberId);
+                if (authorization == null) {
+                    continue;
+                }
+                try {
+                    MemberServiceClient.MemberDto member = new CallContext(authorization, null).run(() ->
+                            circuitBreaker.executeSupplier(() -> memberServiceClient.getMemberById(memberId)));
+                    put(member);
+                    refreshed++;
+                } catch (CallNotPermittedException e) {
+                    log.info("Member Service circuit opened again, stopping last-known member refresh");
+                    return;
+                } catch (RuntimeException e) {
+                    // 토큰 만료 등: 다음 조회 때 갱신
+                    pendingRefresh.remove(memberId, authorization);
+                    log.debug("Failed to refresh last-known member {}: {}", memberId, e.toString());
+                }
+            }
+        } finally {
+            refreshing.set(false);
+            if (refreshed > 0) {
+                log.info("Refreshed {} last-known members after Member Service recovered", refreshed);
+            }
+        }
+    }
+
+    /**
+     * 디스크 스냅샷 저장 (변경이 있을 때만, 임시 파일에 쓴 뒤 교체)
+     */
+    @Scheduled(fixedDelayString = "${member-service.last-known.snapshot-interval:PT1M}",
+            initialDelayString = "${member-service.last-known.snapshot-interval:PT1M}")
+    public void save() {
+        if (snapshotFile == null || !dirty) {
+            return;
+        }
+        dirty = false;
+        List<Entry> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<>(entries.values());
+        }
+        try {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Saved {} last-known members to {}", snapshot.size(), snapshotFile);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("Failed to save last-known member snapshot to {}", snapshotFile, e);
+        }
+    }
+
+    /**
+     * 디스크 스냅샷 읽기 (없거나 읽을 수 없으면 빈 상태로 시작)
+     */
+    private void load() {
+        if (snapshotFile == null || !Files.isReadable(snapshotFile)) {
+            return;
+        }
+        try {
+            List<Entry> snapshot = objectMapper.readValue(snapshotFile.toFile(), new TypeReference<List<Entry>>() {
+            });
+            Instant oldest = Instant.now().minus(maxAge);
+            synchronized (entries) {
+                snapshot.stream()
+                        .filter(entry -> entry.member() != null && entry.member().getId() != null)
+                        .filter(entry -> entry.fetchedAt() != null && entry.fetchedAt().isAfter(oldest))
+                        .forEach(entry -> entries.put(entry.member().getId(), entry));
+            }
+            log.info("Loaded {} last-known members from {}", size(), snapshotFile);
+        } catch (IOException e) {
+            log.warn("Failed to load last-known member snapshot from {}", snapshotFile, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+        save();
+    }
+
+    /**
+     * 저장된 회원 정보와 조회 시각
+     */
+    record Entry(MemberServiceClient.MemberDto member, Instant fetchedAt) {
+
+        MemberServiceClient.MemberDto staleCopy() {
+            return new MemberServiceClient.MemberDto(
+                    member.getId(), member.getUsername(), member.getEmail(), member.getFullName(),
+                    member.getPhoneNumber(), member.getStatus(), member.getStatusDescription(),
+                    LocalDateTime.ofInstant(fetchedAt, ZoneId.systemDefault()));
+        }
+    }
+}
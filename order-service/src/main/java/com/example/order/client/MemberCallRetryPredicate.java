@@ -0,0 +1,49 @@
+package com.example.order.client;
+
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Member Service 호출 재시도 조건 (resilience4j.retry.instances.member-service.retry-exception-predicate)
+ *
+ * 멱등인 GET 요청이 일시적인 원인으로 실패했고 처리 기한이 남아 있을 때만 재시도합니다.
+ * - 연결 실패/타임아웃 (Feign RetryableException, WebClientRequestException)
+ * - 502, 503, 504 응답
+ * OpenFeign 호출(MemberIntegrationService)과 WebClient 호출(ReactiveMemberIntegrationService)이 함께 사용합니다.
+ * 404 같은 4xx나 기한 초과는 재시도해도 결과가 같으므로 바로 Fallback으로 넘깁니다.
+ */
+public class MemberCallRetryPredicate implements Predicate<Throwable> {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (CallContext.current().isExpired()) {
+            return false;
+        }
+        if (throwable instanceof RetryableException retryable) {
+            return retryable.method() == Request.HttpMethod.GET;
+        }
+        if (throwable instanceof FeignException exception) {
+            return exception.request() != null
+                    && exception.request().httpMethod() == Request.HttpMethod.GET
+                    && RETRYABLE_STATUSES.contains(exception.status());
+        }
+        if (throwable instanceof WebClientRequestException exception) {
+            return exception.getMethod() == HttpMethod.GET;
+        }
+        if (throwable instanceof WebClientResponseException exception) {
+            return exception.getRequest() != null
+                    && exception.getRequest().getMethod() == HttpMethod.GET
+                    && RETRYABLE_STATUSES.contains(exception.getStatusCode().value());
+        }
+        return false;
+    }
+}
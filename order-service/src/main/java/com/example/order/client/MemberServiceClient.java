@@ -1,6 +1,7 @@
 package com.example.order.client;
 
 import com.example.order.config.FeignClientConfig;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,15 +11,19 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.time.LocalDateTime;
+
 /**
  * Member Service 연동을 위한 OpenFeign 클라이언트
  * 
  * Member Service의 API를 호출하여 회원 정보를 조회합니다.
+ * 인스턴스는 Eureka에서 찾아 부하 기반 로드밸런서(LoadAwareLoadBalancer)가 고릅니다.
+ * member-service.url을 지정하면 로드밸런서를 거치지 않고 그 주소로만 호출합니다. (로컬 테스트용)
  */
 @FeignClient(
     configuration = FeignClientConfig.class,
     name = "member-service",
-    url = "${member-service.url:http://localhost:8081}"
+    url = "${member-service.url:}"
     // 주의: OpenFeign Fallback을 사용하지 않습니다.
     // 대신 Resilience4j의 @CircuitBreaker 어노테이션을 Service 레벨에서 사용하여
     // Circuit Breaker가 실패를 올바르게 카운트하고 Fallback을 처리합니다.
@@ -60,6 +65,14 @@ public interface MemberServiceClient {
         private String phoneNumber;
         private String status;
         private String statusDescription;
+
+        /**
+         * Member Service 장애로 저장된 회원 정보를 사용한 경우 그 정보를 조회한 시각 (정상 응답이면 null)
+         *
+         * order-service 안에서만 사용하며 Member Service 응답에서 읽지 않습니다. (LastKnownMemberStore)
+         */
+        @JsonIgnore
+        private LocalDateTime staleAsOf;
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.example.order.config;
+
+import com.example.common.datasource.ReplicaDataSourceConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 데이터소스 설정 (읽기 전용 복제본 라우팅)
+ *
+ * order.datasource.replicas가 설정된 경우에만 적용되며, 없으면 Spring Boot 기본 데이터소스를 그대로 사용합니다.
+ * 라우팅 데이터소스 구성은 ReplicaDataSourceConfiguration(common)이 담당합니다.
+ *
+ * - 주 DB: spring.datasource (+ spring.datasource.hikari 풀 설정, order.datasource.pool 자동 산정)
+ * - 복제본: order.datasource.replicas
+ * - OrderService의 클래스 단위 @Transactional(readOnly = true) 조회는 복제본으로, 쓰기 메서드는 주 DB로 갑니다.
+ *   서비스 코드는 바꿀 필요가 없습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "order.datasource", name = "replicas[0].url")
+public class DataSourceConfig extends ReplicaDataSourceConfiguration {
+
+    public DataSourceConfig() {
+        super("order");
+    }
+}
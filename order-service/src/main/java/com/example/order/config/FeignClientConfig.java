@@ -1,19 +1,24 @@
 package com.example.order.config;
 
+import com.example.common.web.RequestDeadline;
+import com.example.order.client.AdaptiveConcurrencyLimiter;
+import com.example.order.client.CallContext;
+import com.example.order.client.ConcurrencyLimitCapability;
+import com.example.order.client.DeadlineCapability;
+import feign.Capability;
 import feign.RequestInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.util.StringUtils;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * OpenFeign 클라이언트 설정 클래스
  * 
  * 주요 기능:
  * - OpenFeign을 통한 서비스 간 통신 시 JWT 토큰 전달
+ * - 처리 기한(deadline) 전달: 남은 시간을 X-Request-Timeout 헤더로 보내고 호출별 타임아웃을 남은 시간 이하로 줄임
+ * - 적응형 동시 호출 제한: 응답 시간에 따라 조정되는 한도를 넘는 호출은 바로 거절
  * 
  * 동작 원리:
  * - Order Service가 Member Service를 호출할 때 (OpenFeign 사용)
@@ -37,7 +42,8 @@ public class FeignClientConfig {
      * 현재 요청의 Authorization 헤더를 OpenFeign 요청에 자동으로 추가합니다.
      * 
      * 동작 과정:
-     * 1. RequestContextHolder에서 현재 요청 정보 추출
+     * 1. CallContext에서 현재 요청 정보 추출
+     *    (요청 스레드면 RequestContextHolder의 현재 요청, 헤지 요청 스레드면 요청 스레드에서 복사해 둔 값)
      * 2. 현재 요청의 Authorization 헤더 확인
      * 3. Authorization 헤더가 있으면 OpenFeign 요청에 추가
      * 
@@ -46,21 +52,60 @@ public class FeignClientConfig {
     @Bean
     public RequestInterceptor authorizationHeaderInterceptor() {
         return template -> {
-            // 현재 요청의 RequestAttributes 추출
-            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            // 현재 요청의 Authorization 헤더 추출
+            String authorization = CallContext.current().authorization();
             
-            // ServletRequestAttributes로 변환 가능한지 확인
-            if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
-                // 현재 요청의 Authorization 헤더 추출
-                String authorization = servletRequestAttributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
-                
-                // Authorization 헤더가 있으면 OpenFeign 요청에 추가
-                // 이를 통해 Order Service → Member Service 호출 시
-                // JWT 토큰이 자동으로 전달됩니다.
-                if (StringUtils.hasText(authorization)) {
-                    template.header(HttpHeaders.AUTHORIZATION, authorization);
-                }
+            // Authorization 헤더가 있으면 OpenFeign 요청에 추가
+            // 이를 통해 Order Service → Member Service 호출 시
+            // JWT 토큰이 자동으로 전달됩니다.
+            if (StringUtils.hasText(authorization)) {
+                template.header(HttpHeaders.AUTHORIZATION, authorization);
             }
         };
     }
+
+    /**
+     * 처리 기한 전달 인터셉터
+     * 
+     * 인바운드 요청의 남은 시간(밀리초)을 X-Request-Timeout 헤더로 보내
+     * 다음 서비스도 같은 기한 안에서 처리하도록 합니다.
+     * 
+     * @return RequestInterceptor 인스턴스
+     */
+    @Bean
+    public RequestInterceptor deadlineHeaderInterceptor() {
+        return template -> {
+            RequestDeadline deadline = CallContext.current().deadline();
+            if (deadline != null) {
+                template.header(RequestDeadline.HEADER, String.valueOf(Math.max(deadline.remainingMillis(), 0)));
+            }
+        };
+    }
+
+    /**
+     * 처리 기한 적용 Capability
+     * 
+     * 호출마다 연결/읽기 타임아웃을 남은 시간 이하로 줄이고, 기한이 지났으면 요청을 보내지 않습니다.
+     * 
+     * @return Capability 인스턴스
+     * @see DeadlineCapability
+     */
+    @Bean
+    public Capability deadlineCapability() {
+        return new DeadlineCapability();
+    }
+
+    /**
+     * 동시 호출 제한 Capability
+     * 
+     * 응답 시간에 따라 조정되는 동시 호출 한도를 넘는 호출은 보내지 않고 바로 거절합니다.
+     * 
+     * @param limiter 적응형 동시 호출 제한기
+     * @return Capability 인스턴스
+     * @see ConcurrencyLimitCapability
+     */
+    @Bean
+    public Capability concurrencyLimitCapability(AdaptiveConcurrencyLimiter limiter) {
+        return new ConcurrencyLimitCapability(limiter);
+    }
 }
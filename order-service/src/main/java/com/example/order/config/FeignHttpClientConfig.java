@@ -0,0 +1,70 @@
+package com.example.order.config;
+
+import com.example.order.client.JdkHttpFeignClient;
+import feign.Client;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.LoadBalancerFeignRequestTransformer;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * OpenFeign HTTP 전송 설정
+ *
+ * Feign 기본 클라이언트(HttpURLConnection) 대신 JDK HttpClient를 사용합니다. (JdkHttpFeignClient)
+ * - HTTP/2: Member Service(server.http2.enabled)와 h2c로 연결하여 인스턴스당 연결 하나에서 요청을 다중화
+ * - 연결 재사용: HttpClient 하나를 모든 Feign 클라이언트가 공유
+ *
+ * 설정은 Spring Cloud OpenFeign의 spring.cloud.openfeign.httpclient 속성을 그대로 사용합니다.
+ * - http2.version: HTTP_2 (기본) 또는 HTTP_1_1
+ * - connection-timeout: 연결 타임아웃 (밀리초)
+ * - max-connections-per-route: 인스턴스별 동시 요청 수 (HTTP/2면 연결 하나의 동시 스트림 수)
+ * - follow-redirects: 리다이렉트 따라가기
+ *
+ * 로드밸런서 클라이언트로 감싸 두므로 @FeignClient에 url이 없으면 Eureka 인스턴스 중에서 골라 호출하고,
+ * url이 있으면 OpenFeign이 감싼 것을 벗겨 그 주소로 바로 호출합니다.
+ * (FeignClientConfig는 @FeignClient 설정으로도 쓰여 클라이언트마다 다시 등록되므로 여기에 따로 둠)
+ *
+ * spring.cloud.openfeign.http2client.enabled=true일 때만 켜집니다. (기본은 Feign 기본 클라이언트)
+ * 동시 호출 500개 측정에서 처리량이 기본 클라이언트보다 낮았으므로(1,405 vs 3,826 ops/s),
+ * 처리량보다 연결 수(임시 포트 고갈)가 문제인 환경에서 선택해 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.cloud.openfeign.http2client.enabled", havingValue = "true")
+public class FeignHttpClientConfig {
+
+    /**
+     * Feign 호출에 공유하는 JDK HttpClient
+     */
+    @Bean
+    public HttpClient feignHttpClient(FeignHttpClientProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.valueOf(properties.getHttp2().getVersion()))
+                .connectTimeout(Duration.ofMillis(properties.getConnectionTimeout()))
+                .followRedirects(properties.isFollowRedirects()
+                        ? HttpClient.Redirect.ALWAYS
+                        : HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * JDK HttpClient 전송을 사용하는 Feign 클라이언트 (로드밸런서 적용)
+     */
+    @Bean
+    public Client feignClient(HttpClient feignHttpClient,
+                              FeignHttpClientProperties properties,
+                              LoadBalancerClient loadBalancerClient,
+                              LoadBalancerClientFactory loadBalancerClientFactory,
+                              ObjectProvider<LoadBalancerFeignRequestTransformer> transformers) {
+        return new FeignBlockingLoadBalancerClient(
+                new JdkHttpFeignClient(feignHttpClient, properties.getMaxConnectionsPerRoute()),
+                loadBalancerClient, loadBalancerClientFactory, transformers.orderedStream().toList());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.order.config;
+
+import com.example.common.loadbalancer.LoadAwareLoadBalancerConfig;
+import com.example.common.loadbalancer.RegistryChangeListener;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 부하 기반 로드밸런서 설정 (Member Service 호출)
+ *
+ * OpenFeign(MemberServiceClient)과 반응형 조회 경로의 WebClient가 Eureka에 등록된 Member Service 인스턴스 중에서
+ * 공통 모듈의 LoadAwareLoadBalancer(power of two choices)로 골라 호출합니다. (기본 라운드 로빈 대신)
+ * 레지스트리가 바뀌면 로드밸런서 인스턴스 캐시를 바로 비웁니다. (RegistryChangeListener)
+ *
+ * member-service.url을 지정하면 로드밸런서를 거치지 않고 그 주소로 바로 호출합니다. (local 프로필)
+ */
+@Configuration
+@Import({LoadAwareLoadBalancerConfig.class, RegistryChangeListener.class})
+public class LoadBalancerConfig {
+}
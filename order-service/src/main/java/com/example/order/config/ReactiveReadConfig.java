@@ -0,0 +1,111 @@
+package com.example.order.config;
+
+import com.example.order.client.AdaptiveConcurrencyLimiter;
+import com.example.order.exception.ConcurrencyLimitExceededException;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancerClientRequestTransformer;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 반응형 조회 경로 설정 (order.reactive.enabled=true일 때만 등록)
+ *
+ * /orders/reactive 조회 API(ReactiveOrderController)가 사용하는 자원을 등록합니다.
+ * - memberServiceWebClient: Member Service 호출용 WebClient (Netty 이벤트 루프에서 논블로킹으로 처리,
+ *   OpenFeign 호출과 같은 적응형 동시 호출 제한 적용)
+ * - orderJpaScheduler: 블로킹 JPA 조회를 실행할 전용 스케줄러
+ *
+ * 타임아웃과 인스턴스별 연결 수는 OpenFeign 호출과 같은 설정을 사용합니다.
+ * (spring.cloud.openfeign.client.config.member-service, spring.cloud.openfeign.httpclient.max-connections-per-route)
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    /**
+     * Member Service 호출용 WebClient
+     *
+     * 연결 풀을 인스턴스별 max-connections-per-route개로 제한하고, 차례를 기다리는 요청은 읽기 타임아웃까지만 대기합니다.
+     * 응답 압축(gzip)을 요청하고, 응답 헤더를 읽기 타임아웃 안에 받지 못하면 실패로 처리합니다.
+     *
+     * member-service.url이 없으면 OpenFeign 호출과 같은 로드밸런서(LoadAwareLoadBalancer)로 인스턴스를 고릅니다.
+     * 재시도는 ReactiveMemberIntegrationService가 하므로 재시도하지 않는 로드밸런서 필터를 사용합니다.
+     */
+    @Bean
+    public WebClient memberServiceWebClient(WebClient.Builder builder,
+                                            FeignHttpClientProperties httpClientProperties,
+                                            AdaptiveConcurrencyLimiter limiter,
+                                            LoadBalancerClientFactory loadBalancerClientFactory,
+                                            ObjectProvider<LoadBalancerClientRequestTransformer> transformers,
+                                            @Value("${member-service.url:}") String memberServiceUrl,
+                                            @Value("${spring.cloud.openfeign.client.config.member-service.connect-timeout:1000}") int connectTimeoutMillis,
+                                            @Value("${spring.cloud.openfeign.client.config.member-service.read-timeout:2000}") int readTimeoutMillis) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("member-service")
+                .maxConnections(httpClientProperties.getMaxConnectionsPerRoute())
+                .pendingAcquireTimeout(Duration.ofMillis(readTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(readTimeoutMillis))
+                .compress(true);
+        builder.clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(concurrencyLimit(limiter));
+        if (StringUtils.hasText(memberServiceUrl)) {
+            return builder.baseUrl(memberServiceUrl).build();
+        }
+        return builder
+                .baseUrl("http://member-service")
+                .filter(new ReactorLoadBalancerExchangeFilterFunction(loadBalancerClientFactory,
+                        transformers.orderedStream().toList()))
+                .build();
+    }
+
+    /**
+     * 동시 호출 제한 필터 (ConcurrencyLimitCapability의 WebClient 버전)
+     *
+     * 재시도마다 구독하므로 시도 한 번마다 허가를 받습니다. 응답 헤더를 받으면 응답 시간을 반영하고,
+     * 오류는 걸린 시간을 그대로 반영하며, 취소(처리 기한 초과 등)는 반영하지 않습니다.
+     */
+    private static ExchangeFilterFunction concurrencyLimit(AdaptiveConcurrencyLimiter limiter) {
+        return (request, next) -> Mono.defer(() -> {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            if (permit == null) {
+                return Mono.error(new ConcurrencyLimitExceededException(
+                        "Member Service 동시 호출 한도(" + limiter.getLimit() + ")를 넘어 호출하지 않았습니다"));
+            }
+            return next.exchange(request)
+                    .doOnNext(response -> permit.success())
+                    .doOnError(e -> permit.dropped())
+                    .doFinally(signal -> permit.ignore());
+        });
+    }
+
+    /**
+     * 블로킹 JPA 조회 전용 스케줄러
+     *
+     * 스레드 수는 DB 커넥션 풀 크기에 맞춥니다. (더 많으면 스레드가 커넥션을 기다리며 묶일 뿐)
+     * 요청 스레드와 Netty 이벤트 루프가 DB 응답을 기다리지 않도록 조회만 이 스레드에서 실행합니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler orderJpaScheduler(@Value("${order.reactive.jpa-threads:10}") int threads) {
+        return Schedulers.newBoundedElastic(threads, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "order-jpa");
+    }
+}
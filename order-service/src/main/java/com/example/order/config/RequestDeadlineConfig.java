@@ -0,0 +1,28 @@
+package com.example.order.config;
+
+import com.example.common.web.RequestDeadlineFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 기한 설정
+ *
+ * 공통 모듈의 RequestDeadlineFilter를 등록합니다.
+ * Member Service 호출은 요청 처리 기한의 남은 시간을 헤더로 전달하고 타임아웃도 그 안으로 줄입니다. (FeignClientConfig)
+ * - order.deadline.default-timeout: X-Request-Timeout 헤더가 없을 때의 기한 (기본 3초)
+ * - order.deadline.max-timeout: 헤더 값으로 인정하는 최대 기한 (기본 10초)
+ */
+@Configuration
+public class RequestDeadlineConfig {
+
+    @Bean
+    public RequestDeadlineFilter requestDeadlineFilter(ObjectMapper objectMapper,
+                                                       @Value("${order.deadline.default-timeout:3s}") Duration defaultTimeout,
+                                                       @Value("${order.deadline.max-timeout:10s}") Duration maxTimeout) {
+        return new RequestDeadlineFilter(objectMapper, defaultTimeout, maxTimeout);
+    }
+}
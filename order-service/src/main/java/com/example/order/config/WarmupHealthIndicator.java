@@ -0,0 +1,51 @@
+package com.example.order.config;
+
+import com.example.order.analytics.OrderAnalytics;
+import com.example.order.search.OrderSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * 워밍업 상태 헬스 체크 (readiness 그룹에 포함, /actuator/health/readiness)
+ *
+ * 시작 후 백그라운드로 만드는 매출 집계 스냅샷(OrderAnalytics)과 상품명 검색 색인(OrderSearchIndex)이
+ * 준비되기 전에는 OUT_OF_SERVICE로 응답하여 Eureka에 UP으로 등록되지 않게 합니다. (DiscoveryRegistrationLifecycle)
+ *
+ * 준비 전에도 DB 조회로 대체하여 응답할 수 있으므로, 시작 후 timeout이 지나면 준비되지 않았어도 UP으로 봅니다.
+ * (생성이 실패해도 인스턴스가 계속 등록되지 않는 일이 없도록, 상세 정보에 표시)
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final OrderAnalytics orderAnalytics;
+    private final OrderSearchIndex orderSearchIndex;
+    private final Duration timeout;
+
+    public WarmupHealthIndicator(OrderAnalytics orderAnalytics, OrderSearchIndex orderSearchIndex,
+                                 @Value("${discovery.registration.warmup-timeout:60s}") Duration timeout) {
+        this.orderAnalytics = orderAnalytics;
+        this.orderSearchIndex = orderSearchIndex;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Health health() {
+        boolean analyticsReady = orderAnalytics.isReady();
+        boolean searchReady = orderSearchIndex.isReady();
+        Health.Builder builder = analyticsReady && searchReady ? Health.up() : Health.outOfService();
+        if (!analyticsReady || !searchReady) {
+            if (ManagementFactory.getRuntimeMXBean().getUptime() > timeout.toMillis()) {
+                builder = Health.up().withDetail("timedOut", true);
+            }
+        }
+        return builder
+                .withDetail("analytics", analyticsReady)
+                .withDetail("search", searchReady)
+                .build();
+    }
+}
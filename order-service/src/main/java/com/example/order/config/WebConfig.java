@@ -0,0 +1,31 @@
+package com.example.order.config;
+
+import com.example.common.web.FieldFilterAdvice;
+import com.example.common.web.FieldFilterConfig;
+import com.example.order.analytics.GroupBy;
+import com.example.order.analytics.Metric;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Locale;
+
+/**
+ * Spring MVC 설정
+ *
+ * 집계 API의 묶음 기준/지표 파라미터는 대소문자 구분 없이 받습니다. (?groupBy=day&metric=sum)
+ * 조회 응답은 fields 파라미터로 필요한 필드만 받을 수 있습니다. (공통 모듈 FieldFilterConfig, FieldFilterAdvice)
+ */
+@Configuration
+@Import({FieldFilterConfig.class, FieldFilterAdvice.class})
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, GroupBy.class,
+                value -> GroupBy.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+        registry.addConverter(String.class, Metric.class,
+                value -> Metric.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+    }
+}
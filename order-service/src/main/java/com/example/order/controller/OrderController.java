@@ -1,8 +1,16 @@
 package com.example.order.controller;
 
+import com.example.common.search.SearchMode;
+import com.example.common.web.EntityTags;
+import com.example.common.web.FieldFilterAdvice;
+import com.example.order.analytics.GroupBy;
+import com.example.order.analytics.Metric;
 import com.example.order.dto.OrderDto;
+import com.example.order.entity.Money;
 import com.example.order.entity.Order;
+import com.example.order.service.OrderArchiveService;
 import com.example.order.service.OrderService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,15 +18,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 주문 REST API 컨트롤러
@@ -31,9 +42,11 @@ public class OrderController {
 
     private static final Logger log = LoggerFactory.getLogger(OrderController.class);
     private final OrderService orderService;
+    private final OrderArchiveService orderArchiveService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderArchiveService orderArchiveService) {
         this.orderService = orderService;
+        this.orderArchiveService = orderArchiveService;
     }
 
     /**
@@ -83,14 +96,31 @@ public class OrderController {
      * ID로 주문 조회
      * 
      * GET /orders/{id}
+     * 
+     * 응답에 ETag를 포함합니다. If-None-Match가 현재 ETag와 일치하면
+     * 주문 전체 조회, 회원명 조회(Member Service 호출), 직렬화 없이 304 Not Modified를 반환합니다.
+     * ?fields=로 일부 필드만 받으면 본문이 다르므로 필드 목록의 해시를 붙인 ETag를 사용합니다.
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole(T(com.example.order.security.SecurityRoles).ADMIN, T(com.example.order.security.SecurityRoles).USER)")
-    public ResponseEntity<OrderDto.Response> getOrderById(@PathVariable Long id) {
+    public ResponseEntity<OrderDto.Response> getOrderById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
         log.debug("Get order by ID request received: {}", id);
         
+        Set<String> fields = FieldFilterAdvice.parseFields(request);
+        if (ifNoneMatch != null) {
+            String etag = EntityTags.withFields(orderService.getOrderEtag(id), fields);
+            if (EntityTags.matchesIfNoneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        
         OrderDto.Response order = orderService.getOrderById(id);
-        return ResponseEntity.ok(order);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.withFields(OrderService.etagOf(order.getId(), order.getVersion()), fields))
+                .body(order);
     }
 
     /**
@@ -122,19 +152,104 @@ public class OrderController {
     }
 
     /**
-     * 상품명으로 주문 검색
+     * 상품명으로 주문 검색 (페이징, 순위순)
+     * 
+     * GET /orders/search?productName=상품명&mode=CONTAINS&page=0&size=20
      * 
-     * GET /orders/search?productName=상품명
+     * mode=PREFIX이면 상품명 또는 상품명 안의 단어가 검색어로 시작하는 주문만 반환합니다. (자동완성용)
      */
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole(T(com.example.order.security.SecurityRoles).ADMIN, T(com.example.order.security.SecurityRoles).USER)")
-    public ResponseEntity<List<OrderDto.Summary>> searchOrdersByProductName(@RequestParam String productName) {
-        log.debug("Search orders by product name request received: {}", productName);
+    public ResponseEntity<Page<OrderDto.Summary>> searchOrdersByProductName(
+            @RequestParam String productName,
+            @RequestParam(defaultValue = "CONTAINS") SearchMode mode,
+            @PageableDefault(size = 20) Pageable pageable) {
+        log.debug("Search orders by product name request received: {}, mode: {}", productName, mode);
         
-        List<OrderDto.Summary> orders = orderService.searchOrdersByProductName(productName);
+        Page<OrderDto.Summary> orders = orderService.searchOrders(productName, mode, pageable);
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 상품명 검색 색인 재생성
+     * 
+     * POST /orders/search/rebuild
+     * 
+     * 백그라운드로 DB 전체를 다시 읽어 색인을 만든 뒤 교체하며, 재색인 중에도 기존 색인으로 검색됩니다.
+     */
+    @PostMapping("/search/rebuild")
+    @PreAuthorize("hasRole(T(com.example.order.security.SecurityRoles).ADMIN)")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        log.info("Order search index rebuild request received");
+
+        boolean started = orderService.rebuildSearchIndex();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("started", started);
+        response.put("index", orderService.getSearchIndexStats());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 완료된 오래된 주문 보관
+     * 
+     * POST /orders/archive
+     * 
+     * 정기 작업(order.archive.cron)을 기다리지 않고 바로 보관합니다.
+     */
+    @PostMapping("/archive")
+    @PreAuthorize("hasRole(T(com.example.order.security.SecurityRoles).ADMIN)")
+    public ResponseEntity<Map<String, Object>> archiveOrders() {
+        log.info("Order archive request received");
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("archived", orderArchiveService.archive());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 주문 매출 집계
+     * 
+     * GET /orders/analytics?groupBy=DAY&metric=SUM&from=2024-01-01&to=2024-12-31&status=DELIVERED
+     * 
+     * groupBy: DAY, WEEK(월요일 시작), MONTH, STATUS, PRODUCT / metric: SUM, COUNT, AVG
+     * status는 여러 번 지정할 수 있으며, 생략하면 모든 상태를 집계합니다.
+     * 메모리 스냅샷에서 집계하므로 시작 직후 스냅샷 생성 전에는 503(Retry-After)을 반환합니다.
+     */
+    @GetMapping("/analytics")
+    @PreAuthorize("hasAnyRole(T(com.example.order.security.SecurityRoles).ADMIN, T(com.example.order.security.SecurityRoles).USER)")
+    public ResponseEntity<OrderDto.Analytics> getOrderAnalytics(
+            @RequestParam(defaultValue = "DAY") GroupBy groupBy,
+            @RequestParam(defaultValue = "SUM") Metric metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "status", required = false) List<Order.OrderStatus> statuses) {
+        log.debug("Order analytics request received: groupBy={}, metric={}, {} ~ {}, statuses={}",
+                groupBy, metric, from, to, statuses);
+
+        OrderDto.Analytics analytics = orderService.getOrderAnalytics(groupBy, metric, from, to,
+                statuses != null ? statuses : List.of());
+        return ResponseEntity.ok(analytics);
+    }
+
+    /**
+     * 주문 집계 스냅샷 재생성
+     * 
+     * POST /orders/analytics/rebuild
+     * 
+     * 백그라운드로 운영/보관 주문을 다시 읽어 스냅샷을 만든 뒤 교체하며, 재생성 중에도 기존 스냅샷으로 집계됩니다.
+     */
+    @PostMapping("/analytics/rebuild")
+    @PreAuthorize("hasRole(T(com.example.order.security.SecurityRoles).ADMIN)")
+    public ResponseEntity<Map<String, Object>> rebuildOrderAnalytics() {
+        log.info("Order analytics rebuild request received");
+
+        boolean started = orderService.rebuildOrderAnalytics();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("started", started);
+        response.put("snapshot", orderService.getOrderAnalyticsStats());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
     /**
      * 기간별 주문 조회
      * 
@@ -169,15 +284,53 @@ public class OrderController {
      * 주문 정보 수정
      * 
      * PUT /orders/{id}
+     * 
+     * If-Match 헤더가 있으면 조회 시 받은 ETag와 현재 ETag가 일치할 때만 수정하고,
+     * 일치하지 않으면 412 Precondition Failed를 반환합니다.
      */
     @PutMapping("/{id}")
     @PreAuthorize("hasRole(T(com.example.order.security.SecurityRoles).ADMIN)")
     public ResponseEntity<OrderDto.Response> updateOrder(
             @PathVariable Long id, 
-            @Valid @RequestBody OrderDto.UpdateRequest request) {
+            @Valid @RequestBody OrderDto.UpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Update order request received for ID: {}", id);
         
-        OrderDto.Response response = orderService.updateOrder(id, request);
+        OrderDto.Response response = ifMatch != null
+                ? orderService.updateOrder(id, request, ifMatch)
+                : orderService.updateOrder(id, request);
+        return ResponseEntity.ok()
+                .eTag(OrderService.etagOf(response.getId(), response.getVersion()))
+                .body(response);
+    }
+
+    /**
+     * 주문 상태 변경 (compare-and-set)
+     * 
+     * PATCH /orders/{id}/status
+     * {"expectedStatus": "PENDING", "status": "CONFIRMED"}
+     * 
+     * 현재 상태가 expectedStatus일 때만 변경합니다.
+     * - 200: 변경 성공
+     * - 400: 허용되지 않는 상태 전이
+     * - 404: 주문 없음
+     * - 409: 현재 상태가 expectedStatus와 다름 (응답에 현재 상태 포함, 그대로 재시도하지 않음)
+     */
+    @PatchMapping("/{id}/status")
+    @PreAuthorize("hasRole(T(com.example.order.security.SecurityRoles).ADMIN)")
+    public ResponseEntity<Map<String, Object>> changeOrderStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody OrderDto.StatusChangeRequest request) {
+        log.info("Change order status request received for ID: {} ({} -> {})",
+                id, request.getExpectedStatus(), request.getStatus());
+
+        Order.OrderStatus status = orderService.changeOrderStatus(id, request.getExpectedStatus(), request.getStatus());
+
+        Map<String, Object> response = Map.of(
+            "orderId", id,
+            "previousStatus", request.getExpectedStatus(),
+            "status", status
+        );
         return ResponseEntity.ok(response);
     }
 
@@ -210,7 +363,7 @@ public class OrderController {
     public ResponseEntity<Map<String, Object>> getTotalAmountByMemberId(@PathVariable Long memberId) {
         log.debug("Get total amount by member ID request received: {}", memberId);
         
-        BigDecimal totalAmount = orderService.getTotalAmountByMemberId(memberId);
+        Money totalAmount = orderService.getTotalAmountByMemberId(memberId);
         Map<String, Object> response = Map.of(
             "memberId", memberId,
             "totalAmount", totalAmount
@@ -0,0 +1,129 @@
+package com.example.order.controller;
+
+import com.example.common.web.EntityTags;
+import com.example.common.web.FieldFilterAdvice;
+import com.example.order.dto.OrderDto;
+import com.example.order.entity.Order;
+import com.example.order.service.OrderService;
+import com.example.order.service.ReactiveOrderService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 주문 반응형 조회 API 컨트롤러 (order.reactive.enabled=true일 때만 등록)
+ *
+ * OrderController의 조회 API와 같은 응답을 /orders/reactive 아래에서 제공합니다.
+ * Mono를 반환하므로 Spring MVC가 비동기로 처리하며, 요청 스레드는 Member Service/DB 응답을 기다리지 않고 바로 반납됩니다.
+ */
+@RestController
+@RequestMapping("/orders/reactive")
+@ConditionalOnProperty(name = "order.reactive.enabled", havingValue = "true")
+public class ReactiveOrderController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveOrderController.class);
+    private final ReactiveOrderService reactiveOrderService;
+
+    public ReactiveOrderController(ReactiveOrderService reactiveOrderService) {
+        this.reactiveOrderService = reactiveOrderService;
+    }
+
+    /**
+     * 주문 목록 조회 (페이징)
+     *
+     * GET /orders/reactive?page=0&size=10&sort=id,desc
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole(T(com.example.order.security.SecurityRoles).ADMIN, T(com.example.order.security.SecurityRoles).USER)")
+    public Mono<ResponseEntity<Page<OrderDto.Summary>>> getOrders(
+            @PageableDefault(size = 10, sort = "id") Pageable pageable) {
+        log.debug("Get orders (reactive) request received with pagination: {}", pageable);
+
+        return reactiveOrderService.getOrders(pageable).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 모든 주문 조회 (목록)
+     *
+     * GET /orders/reactive/all
+     */
+    @GetMapping("/all")
+    @PreAuthorize("hasAnyRole(T(com.example.order.security.SecurityRoles).ADMIN, T(com.example.order.security.SecurityRoles).USER)")
+    public Mono<ResponseEntity<List<OrderDto.Summary>>> getAllOrders() {
+        log.debug("Get all orders (reactive) request received");
+
+        return reactiveOrderService.getAllOrders().map(ResponseEntity::ok);
+    }
+
+    /**
+     * ID로 주문 조회
+     *
+     * GET /orders/reactive/{id}
+     *
+     * ?fields=로 일부 필드만 받으면 필드 목록의 해시를 붙인 ETag를 사용합니다. (블로킹 조회와 같은 ETag)
+     */
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole(T(com.example.order.security.SecurityRoles).ADMIN, T(com.example.order.security.SecurityRoles).USER)")
+    public Mono<ResponseEntity<OrderDto.Response>> getOrderById(@PathVariable Long id, HttpServletRequest request) {
+        log.debug("Get order by ID (reactive) request received: {}", id);
+
+        Set<String> fields = FieldFilterAdvice.parseFields(request);
+        return reactiveOrderService.getOrderById(id)
+                .map(order -> ResponseEntity.ok()
+                        .eTag(EntityTags.withFields(OrderService.etagOf(order.getId(), order.getVersion()), fields))
+                        .body(order));
+    }
+
+    /**
+     * 회원별 주문 조회
+     *
+     * GET /orders/reactive/member/{memberId}
+     */
+    @GetMapping("/member/{memberId}")
+    @PreAuthorize("hasAnyRole(T(com.example.order.security.SecurityRoles).ADMIN, T(com.example.order.security.SecurityRoles).USER)")
+    public Mono<ResponseEntity<List<OrderDto.Summary>>> getOrdersByMemberId(@PathVariable Long memberId) {
+        log.debug("Get orders by member ID (reactive) request received: {}", memberId);
+
+        return reactiveOrderService.getOrdersByMemberId(memberId).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 상태별 주문 조회
+     *
+     * GET /orders/reactive/status/{status}
+     */
+    @GetMapping("/status/{status}")
+    @PreAuthorize("hasAnyRole(T(com.example.order.security.SecurityRoles).ADMIN, T(com.example.order.security.SecurityRoles).USER)")
+    public Mono<ResponseEntity<List<OrderDto.Summary>>> getOrdersByStatus(@PathVariable Order.OrderStatus status) {
+        log.debug("Get orders by status (reactive) request received: {}", status);
+
+        return reactiveOrderService.getOrdersByStatus(status).map(ResponseEntity::ok);
+    }
+
+    /**
+     * 최근 주문 조회
+     *
+     * GET /orders/reactive/recent
+     */
+    @GetMapping("/recent")
+    @PreAuthorize("hasAnyRole(T(com.example.order.security.SecurityRoles).ADMIN, T(com.example.order.security.SecurityRoles).USER)")
+    public Mono<ResponseEntity<List<OrderDto.Summary>>> getRecentOrders() {
+        log.debug("Get recent orders (reactive) request received");
+
+        return reactiveOrderService.getRecentOrders().map(ResponseEntity::ok);
+    }
+}
@@ -1,15 +1,23 @@
 package com.example.order.dto;
 
+import com.example.common.web.FieldFilterConfig;
+import com.example.order.analytics.GroupBy;
+import com.example.order.analytics.Metric;
+import com.example.order.client.MemberServiceClient;
+import com.example.order.entity.Money;
 import com.example.order.entity.Order;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
-import jakarta.validation.constraints.DecimalMin;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 주문 DTO 클래스들
@@ -40,18 +48,18 @@ public class OrderDto {
         private Integer quantity;
 
         @NotNull(message = "단가는 필수입니다")
-        @DecimalMin(value = "0.0", inclusive = false, message = "단가는 0보다 커야 합니다")
-        private BigDecimal unitPrice;
+        @Money.Positive(message = "단가는 0보다 커야 합니다")
+        private Money unitPrice;
 
         @Size(max = 500, message = "주문 메모는 500자를 초과할 수 없습니다")
         private String orderMemo;
 
         /**
          * DTO를 Entity로 변환
-         * 총 금액은 자동 계산됩니다.
+         * 총 금액은 자동 계산됩니다. (long 곱셈, 오버플로 시 ArithmeticException)
          */
         public Order toEntity() {
-            BigDecimal totalAmount = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            Money totalAmount = unitPrice.times(quantity);
             
             return Order.builder()
                     .memberId(memberId)
@@ -77,13 +85,39 @@ public class OrderDto {
     public static class UpdateRequest {
         
         private Integer quantity;
-        private BigDecimal unitPrice;
+
+        @Money.Positive(message = "단가는 0보다 커야 합니다")
+        private Money unitPrice;
+
         private Order.OrderStatus status;
         private String orderMemo;
     }
 
+    /**
+     * 주문 상태 변경 요청 DTO
+     * 
+     * expectedStatus는 클라이언트가 마지막으로 확인한 상태이며,
+     * 현재 상태가 이 값과 같을 때만 status로 변경됩니다. (compare-and-set)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @ToString
+    public static class StatusChangeRequest {
+
+        @NotNull(message = "현재 상태(expectedStatus)는 필수입니다")
+        private Order.OrderStatus expectedStatus;
+
+        @NotNull(message = "변경할 상태(status)는 필수입니다")
+        private Order.OrderStatus status;
+    }
+
     /**
      * 주문 응답 DTO
+     *
+     * 조회 요청의 fields 파라미터로 필요한 필드만 받을 수 있습니다. (FieldFilterAdvice)
      */
     @Getter
     @Setter
@@ -91,15 +125,20 @@ public class OrderDto {
     @AllArgsConstructor
     @Builder
     @ToString
+    @JsonFilter(FieldFilterConfig.FILTER_ID)
     public static class Response {
         
         private Long id;
         private Long memberId;
         private String memberName;  // Member Service에서 조회한 회원명
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime memberNameAsOf;  // Member Service 장애로 저장된 회원명을 쓴 경우 그 회원명의 조회 시각
         private String productName;
         private Integer quantity;
-        private BigDecimal unitPrice;
-        private BigDecimal totalAmount;
+        private Money unitPrice;
+        private Money totalAmount;
         private Order.OrderStatus status;
         private String statusDescription;
         private String orderMemo;
@@ -110,6 +149,8 @@ public class OrderDto {
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
         private LocalDateTime updatedAt;
 
+        private Long version;
+
         /**
          * Entity를 DTO로 변환 (회원명 없이)
          */
@@ -127,6 +168,7 @@ public class OrderDto {
                     .orderMemo(order.getOrderMemo())
                     .createdAt(order.getCreatedAt())
                     .updatedAt(order.getUpdatedAt())
+                    .version(order.getVersion())
                     .build();
         }
 
@@ -138,10 +180,20 @@ public class OrderDto {
             response.setMemberName(memberName);
             return response;
         }
+
+        /**
+         * 회원명 설정 (저장된 회원 정보이면 조회 시각도 설정)
+         */
+        public void applyMember(MemberServiceClient.MemberDto member) {
+            this.memberName = member.getFullName();
+            this.memberNameAsOf = member.getStaleAsOf();
+        }
     }
 
     /**
      * 주문 요약 DTO (목록 조회용)
+     * 
+     * 목록 쿼리가 생성자 표현식(OrderRepository.SUMMARY)으로 바로 생성하며, 회원명은 조회 후 설정합니다.
      */
     @Getter
     @Setter
@@ -149,19 +201,33 @@ public class OrderDto {
     @AllArgsConstructor
     @Builder
     @ToString
+    @JsonFilter(FieldFilterConfig.FILTER_ID)
     public static class Summary {
         
         private Long id;
         private Long memberId;
         private String memberName;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime memberNameAsOf;  // Member Service 장애로 저장된 회원명을 쓴 경우 그 회원명의 조회 시각
+
         private String productName;
         private Integer quantity;
-        private BigDecimal totalAmount;
+        private Money totalAmount;
         private Order.OrderStatus status;
 
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
         private LocalDateTime createdAt;
 
+        /**
+         * JPQL 생성자 표현식용 생성자 (회원명 제외)
+         */
+        public Summary(Long id, Long memberId, String productName, Integer quantity,
+                       Money totalAmount, Order.OrderStatus status, LocalDateTime createdAt) {
+            this(id, memberId, null, null, productName, quantity, totalAmount, status, createdAt);
+        }
+
         /**
          * Entity를 Summary DTO로 변환
          */
@@ -186,7 +252,70 @@ public class OrderDto {
             summary.setMemberName(memberName);
             return summary;
         }
+
+        /**
+         * 회원명 설정 (저장된 회원 정보이면 조회 시각도 설정)
+         */
+        public void applyMember(MemberServiceClient.MemberDto member) {
+            this.memberName = member.getFullName();
+            this.memberNameAsOf = member.getStaleAsOf();
+        }
     }
-}
 
+    /**
+     * 주문 매출 집계 응답 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @ToString
+    public static class Analytics {
+
+        private GroupBy groupBy;
+        private Metric metric;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate from;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate to;
+
+        /**
+         * 집계에 포함한 주문 상태 (비어 있으면 전체)
+         */
+        private List<Order.OrderStatus> statuses;
+
+        /**
+         * 조건에 맞는 전체 주문 수
+         */
+        private long orders;
+
+        private List<AnalyticsBucket> buckets;
+    }
 
+    /**
+     * 주문 매출 집계 묶음 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @ToString
+    public static class AnalyticsBucket {
+
+        /**
+         * 묶음 이름 (날짜, 주 시작일, yyyy-MM, 상태명, 상품명)
+         */
+        private String key;
+
+        private long orders;
+
+        /**
+         * 지표 값 (SUM: 총액 합계, COUNT: 주문 수, AVG: 평균 금액)
+         */
+        private BigDecimal value;
+    }
+}
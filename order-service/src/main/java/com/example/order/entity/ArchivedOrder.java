@@ -0,0 +1,77 @@
+package com.example.order.entity;
+
+import com.example.order.analytics.OrderAnalyticsListener;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(archive)된 주문 엔터티
+ *
+ * 보관 기간이 지난 완료 주문(배송완료/취소/환불)을 orders 테이블에서 옮겨 저장하는 콜드 스토리지입니다.
+ * - 목록/통계 조회에 쓰는 컬럼(회원, 상품명, 수량, 총액, 상태, 주문일시, 버전)은 그대로 두어 인덱스로 조회
+ * - 단건 조회에만 쓰는 컬럼(단가, 주문 메모, 수정일시)은 GZIP으로 압축한 JSON(details)으로 저장
+ * - archive_month(yyyyMM)는 월 단위 파티션 키 (H2에는 파티셔닝이 없어 인덱스로 대신함)
+ *
+ * 보관된 주문은 읽기 전용이며 수정/상태 변경/삭제 대상이 아닙니다.
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_month", columnList = "archive_month"),
+        @Index(name = "idx_orders_archive_member_created", columnList = "member_id, created_at"),
+        @Index(name = "idx_orders_archive_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_orders_archive_created", columnList = "created_at")
+})
+@EntityListeners(OrderAnalyticsListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "details")
+public class ArchivedOrder {
+
+    /**
+     * 원래 주문 ID (보관 전후로 같은 ID로 조회)
+     */
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false, length = 100)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private Money totalAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Order.OrderStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * 주문 월 (yyyyMM, 파티션 키)
+     */
+    @Column(nullable = false)
+    private Integer archiveMonth;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * 단가, 주문 메모, 수정일시 (GZIP 압축 JSON)
+     */
+    @Column(nullable = false, length = 8192)
+    private byte[] details;
+}
@@ -0,0 +1,331 @@
+package com.example.order.entity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 값 타입 (소수 2자리 고정소수점)
+ *
+ * 금액을 BigDecimal 대신 최소 단위(× 100) long 하나로 저장합니다.
+ * - 덧셈/곱셈은 long 연산이며 오버플로 시 ArithmeticException (Math.*Exact)
+ * - DB 컬럼은 그대로 DECIMAL(p, 2)이며 MoneyConverter가 JDBC 경계에서만 BigDecimal로 변환
+ * - JSON은 BigDecimal을 거치지 않고 최소 단위 값에서 바로 숫자 텍스트(예: 1500000.00)를 쓰고 읽음
+ *
+ * 불변 객체이므로 엔터티와 DTO가 같은 인스턴스를 공유해도 됩니다.
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public final class Money implements Comparable<Money>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 소수 자릿수
+     */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    private static final long UNIT = 100;
+
+    /**
+     * 금액 텍스트 최대 길이 (long 최솟값 -92233720368547758.08)
+     */
+    private static final int MAX_CHARS = 21;
+
+    /**
+     * 최소 단위 금액 (금액 × 100)
+     */
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * 최소 단위 금액으로 생성 (예: 150050 → 1500.50)
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * 정수 금액으로 생성 (예: 1500 → 1500.00)
+     */
+    public static Money of(long amount) {
+        return ofMinor(Math.multiplyExact(amount, UNIT));
+    }
+
+    /**
+     * BigDecimal 금액으로 생성 (소수 셋째 자리에서 반올림, DB 값 변환용)
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * 금액 문자열 파싱 (예: "1500", "1500.5", "-3.25", "1.5e3")
+     *
+     * 반올림하지 않습니다. 지수 표기도 값이 소수 둘째 자리까지일 때만 받습니다.
+     *
+     * @throws NumberFormatException 숫자가 아니거나 소수 셋째 자리 이하에 0이 아닌 값이 있는 경우
+     * @throws ArithmeticException   long 범위를 넘는 경우
+     */
+    public static Money parse(CharSequence text) {
+        char[] chars = text.toString().toCharArray();
+        return ofMinor(parseMinor(chars, 0, chars.length));
+    }
+
+    /**
+     * 금액 합계 (중간 결과 객체 없이 long으로 누적, 오버플로 시 ArithmeticException)
+     */
+    public static Money sum(Iterable<Money> amounts) {
+        long total = 0;
+        for (Money amount : amounts) {
+            total = Math.addExact(total, amount.minorUnits);
+        }
+        return ofMinor(total);
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * 수량 곱 (단가 × 수량)
+     */
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Money money && minorUnits == money.minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    /**
+     * 소수 2자리 금액 텍스트 (예: 1500000.00)
+     */
+    @Override
+    public String toString() {
+        char[] buffer = new char[MAX_CHARS];
+        int start = format(minorUnits, buffer);
+        return new String(buffer, start, MAX_CHARS - start);
+    }
+
+    /**
+     * 금액 텍스트를 buffer 끝에 맞춰 쓰고 시작 위치를 반환
+     *
+     * 음수 범위에서 계산하여 Long.MIN_VALUE도 부호 반전 없이 처리합니다.
+     */
+    private static int format(long minorUnits, char[] buffer) {
+        int position = buffer.length;
+        long remaining = minorUnits < 0 ? minorUnits : -minorUnits;
+        for (int i = 0; i < SCALE; i++) {
+            buffer[--position] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        }
+        buffer[--position] = '.';
+        do {
+            buffer[--position] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (minorUnits < 0) {
+            buffer[--position] = '-';
+        }
+        return position;
+    }
+
+    /**
+     * 금액 텍스트 → 최소 단위 (지수 표기는 드물어 BigDecimal로 처리)
+     *
+     * 소수 셋째 자리 이하에 0이 아닌 값이 있으면 반올림하지 않고 NumberFormatException을 던집니다.
+     */
+    private static long parseMinor(char[] chars, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        // Long.parseLong처럼 음수로 누적하여 Long.MIN_VALUE까지 표현
+        long whole = 0;
+        int digits = 0;
+        while (i < end && chars[i] >= '0' && chars[i] <= '9') {
+            whole = Math.subtractExact(Math.multiplyExact(whole, 10), chars[i] - '0');
+            digits++;
+            i++;
+        }
+
+        long fraction = 0;
+        boolean tooPrecise = false;
+        if (i < end && chars[i] == '.') {
+            i++;
+            int fractionDigits = 0;
+            while (i < end && chars[i] >= '0' && chars[i] <= '9') {
+                if (fractionDigits < SCALE) {
+                    fraction = fraction * 10 + (chars[i] - '0');
+                } else if (chars[i] != '0') {
+                    tooPrecise = true;
+                }
+                fractionDigits++;
+                digits++;
+                i++;
+            }
+            for (int pad = fractionDigits; pad < SCALE; pad++) {
+                fraction *= 10;
+            }
+        }
+
+        if (i < end && (chars[i] == 'e' || chars[i] == 'E') && digits > 0) {
+            return parseExponent(chars, offset, length);
+        }
+        if (i != end || digits == 0) {
+            throw new NumberFormatException("금액 형식이 올바르지 않습니다: " + new String(chars, offset, length));
+        }
+        if (tooPrecise) {
+            throw new NumberFormatException("금액은 소수 둘째 자리까지 입력할 수 있습니다: "
+                    + new String(chars, offset, length));
+        }
+        long minor = Math.subtractExact(Math.multiplyExact(whole, UNIT), fraction);
+        return negative ? minor : Math.negateExact(minor);
+    }
+
+    /**
+     * 지수 표기 금액 → 최소 단위 (예: 1.5e3, 12345e-2)
+     *
+     * 자릿수를 먼저 확인하여 1e999999999 같은 입력으로 큰 수를 만들지 않습니다.
+     */
+    private static long parseExponent(char[] chars, int offset, int length) {
+        BigDecimal amount = new BigDecimal(chars, offset, length).stripTrailingZeros();
+        if (amount.scale() > SCALE) {
+            throw new NumberFormatException("금액은 소수 둘째 자리까지 입력할 수 있습니다: "
+                    + new String(chars, offset, length));
+        }
+        if (amount.signum() != 0 && amount.precision() - amount.scale() > MAX_CHARS) {
+            throw new ArithmeticException("금액이 너무 큽니다: " + new String(chars, offset, length));
+        }
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * JSON 직렬화: 최소 단위 값에서 바로 숫자 텍스트를 씀 (BigDecimal/String 생성 없음)
+     */
+    public static class Serializer extends StdSerializer<Money> {
+
+        public Serializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            char[] buffer = new char[MAX_CHARS];
+            int start = format(value.minorUnits, buffer);
+            generator.writeNumber(buffer, start, MAX_CHARS - start);
+        }
+    }
+
+    /**
+     * JSON 역직렬화: 숫자 또는 문자열 토큰의 문자 버퍼를 바로 파싱
+     */
+    public static class Deserializer extends StdDeserializer<Money> {
+
+        public Deserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                    && token != JsonToken.VALUE_STRING) {
+                return (Money) context.handleUnexpectedToken(Money.class, parser);
+            }
+            try {
+                return ofMinor(parseMinor(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength()));
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw InvalidFormatException.from(parser, e.getMessage(), parser.getText(), Money.class);
+            }
+        }
+    }
+
+    /**
+     * 0보다 큰 금액 검증 (null은 통과, @NotNull과 함께 사용)
+     */
+    @Documented
+    @Constraint(validatedBy = PositiveValidator.class)
+    @Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Positive {
+
+        String message() default "금액은 0보다 커야 합니다";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class PositiveValidator implements ConstraintValidator<Positive, Money> {
+
+        @Override
+        public boolean isValid(Money value, ConstraintValidatorContext context) {
+            return value == null || value.isPositive();
+        }
+    }
+}
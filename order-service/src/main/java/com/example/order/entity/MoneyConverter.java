@@ -0,0 +1,26 @@
+package com.example.order.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Money ↔ DECIMAL 컬럼 변환기
+ *
+ * autoApply이므로 Money 타입 필드에 별도 @Convert 없이 적용됩니다.
+ * 컬럼 타입(DECIMAL(p, 2))과 기존 데이터는 그대로 두고, JDBC 경계에서만 BigDecimal로 변환합니다.
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount != null ? Money.of(amount) : null;
+    }
+}
@@ -1,24 +1,37 @@
 package com.example.order.entity;
 
+import com.example.order.analytics.OrderAnalyticsListener;
+import com.example.order.search.OrderSearchIndexListener;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
  * 주문 엔터티
  * 
  * 주문의 기본 정보를 관리하는 JPA 엔터티입니다.
+ * 
+ * 인덱스:
+ * - (member_id, created_at): 회원별 주문/최근 주문, 회원별 합계
+ * - (status, created_at): 상태별 조회/건수, 보관 대상(완료 + 기준일 이전) 조회
+ * - (created_at): 기간별 조회, 최근 주문
+ * 
+ * 완료된 오래된 주문은 OrderArchiveService가 보관 테이블(orders_archive)로 옮깁니다.
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_member_created", columnList = "member_id, created_at"),
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_orders_created", columnList = "created_at")
+})
+@EntityListeners({OrderSearchIndexListener.class, OrderAnalyticsListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,13 +59,13 @@ public class Order {
 
     @Column(nullable = false, precision = 10, scale = 2)
     @NotNull(message = "단가는 필수입니다")
-    @DecimalMin(value = "0.0", inclusive = false, message = "단가는 0보다 커야 합니다")
-    private BigDecimal unitPrice;
+    @Money.Positive(message = "단가는 0보다 커야 합니다")
+    private Money unitPrice;
 
     @Column(nullable = false, precision = 12, scale = 2)
     @NotNull(message = "총 금액은 필수입니다")
-    @DecimalMin(value = "0.0", inclusive = false, message = "총 금액은 0보다 커야 합니다")
-    private BigDecimal totalAmount;
+    @Money.Positive(message = "총 금액은 0보다 커야 합니다")
+    private Money totalAmount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -70,6 +83,18 @@ public class Order {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    /**
+     * 낙관적 잠금(Optimistic Locking) 버전
+     * 
+     * 수정할 때마다 1씩 증가하며, 동시에 같은 주문을 수정하면 나중에 커밋한 쪽이
+     * OptimisticLockException으로 실패합니다. (last-write-wins 방지)
+     * 초기 데이터(data.sql)는 컬럼 기본값 0으로 저장됩니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * 주문 상태 열거형
      */
@@ -91,6 +116,28 @@ public class Order {
         public String getDescription() {
             return description;
         }
+
+        /**
+         * 허용된 상태 전이인지 확인
+         * 
+         * 전이 표:
+         * - PENDING    → CONFIRMED, CANCELLED
+         * - CONFIRMED  → PROCESSING, CANCELLED
+         * - PROCESSING → SHIPPED, CANCELLED
+         * - SHIPPED    → DELIVERED
+         * - DELIVERED  → REFUNDED
+         * - CANCELLED, REFUNDED → (최종 상태, 전이 불가)
+         */
+        public boolean canTransitionTo(OrderStatus next) {
+            return switch (this) {
+                case PENDING -> next == CONFIRMED || next == CANCELLED;
+                case CONFIRMED -> next == PROCESSING || next == CANCELLED;
+                case PROCESSING -> next == SHIPPED || next == CANCELLED;
+                case SHIPPED -> next == DELIVERED;
+                case DELIVERED -> next == REFUNDED;
+                case CANCELLED, REFUNDED -> false;
+            };
+        }
     }
 }
 
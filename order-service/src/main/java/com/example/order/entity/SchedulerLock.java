@@ -0,0 +1,46 @@
+package com.example.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 잠금 엔터티
+ *
+ * 여러 인스턴스에서 같은 @Scheduled 작업이 동시에 실행되지 않도록 작업 이름마다 한 행을 둡니다.
+ * 잠금 만료 일시(lockedUntil)가 지난 행만 조건부 UPDATE로 가져가므로, 잠금을 가진 인스턴스가 비정상 종료되어도
+ * 만료 후 다른 인스턴스가 실행합니다.
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class SchedulerLock {
+
+    /**
+     * 작업 이름
+     */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /**
+     * 잠금 만료 일시 (이후에는 다른 인스턴스가 가져갈 수 있음)
+     */
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    /**
+     * 잠금을 가진 인스턴스 (pid@host)
+     */
+    @Column(nullable = false, length = 100)
+    private String lockedBy;
+}
@@ -0,0 +1,11 @@
+package com.example.order.exception;
+
+/**
+ * 주문 집계 스냅샷이 아직 준비되지 않았을 때 발생하는 예외
+ */
+public class AnalyticsNotReadyException extends RuntimeException {
+
+    public AnalyticsNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.order.exception;
+
+/**
+ * 서비스 간 호출의 동시 호출 한도를 넘어 호출을 보내지 않고 거절했을 때 발생하는 예외
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
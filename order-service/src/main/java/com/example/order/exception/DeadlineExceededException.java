@@ -0,0 +1,11 @@
+package com.example.order.exception;
+
+/**
+ * 요청 처리 기한이 지나 서비스 간 호출을 시작하지 않았거나 응답을 더 기다리지 않을 때 발생하는 예외
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,17 +1,21 @@
 package com.example.order.exception;
 
+import com.example.common.web.PreconditionFailedException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -63,6 +67,152 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * 조건부 수정 실패 (If-Match 불일치)
+     * 
+     * 현재 ETag를 응답 헤더로 돌려주어 클라이언트가 다시 조회 후 재시도할 수 있도록 합니다.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Precondition Failed",
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(ex.getCurrentEtag())
+                .body(errorResponse);
+    }
+
+    /**
+     * 주문 상태 compare-and-set 실패
+     * 
+     * 현재 상태와 버전을 함께 반환합니다. 상태가 이미 바뀌었으므로 같은 요청을 그대로 재시도하지 말고
+     * 현재 상태를 기준으로 변경 여부를 다시 판단해야 합니다. (retryable=false)
+     */
+    @ExceptionHandler(OrderStatusConflictException.class)
+    public ResponseEntity<ErrorResponse> handleOrderStatusConflictException(OrderStatusConflictException ex) {
+        log.info("Order status conflict: {}", ex.getMessage());
+
+        Map<String, String> details = new HashMap<>();
+        details.put("expectedStatus", String.valueOf(ex.getExpectedStatus()));
+        details.put("currentStatus", String.valueOf(ex.getCurrentStatus()));
+        details.put("currentVersion", String.valueOf(ex.getCurrentVersion()));
+        details.put("retryable", "false");
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Order Status Conflict",
+                ex.getMessage(),
+                details,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * 낙관적 잠금 충돌 (동시 수정)
+     * 
+     * 다른 요청이 먼저 커밋하여 버전이 바뀐 경우입니다.
+     * 최신 데이터를 다시 조회한 후 재시도하면 되므로 retryable=true로 응답합니다.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.info("Optimistic locking conflict: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Concurrent Modification",
+                "주문이 다른 요청에 의해 동시에 수정되었습니다. 최신 정보를 조회한 후 다시 시도해주세요",
+                Map.of("retryable", "true"),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * 주문 집계 스냅샷 준비 전 (시작 직후 또는 첫 생성 실패)
+     */
+    @ExceptionHandler(AnalyticsNotReadyException.class)
+    public ResponseEntity<ErrorResponse> handleAnalyticsNotReadyException(AnalyticsNotReadyException ex) {
+        log.info("Order analytics not ready: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Analytics Not Ready",
+                ex.getMessage(),
+                Map.of("retryable", "true"),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(errorResponse);
+    }
+
+    /**
+     * Member Service 장애로 회원을 확인할 수 없음 (저장된 회원 정보도 없음)
+     */
+    @ExceptionHandler(MemberServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleMemberServiceUnavailableException(MemberServiceUnavailableException ex) {
+        log.warn("Member Service unavailable: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Member Service Unavailable",
+                ex.getMessage(),
+                Map.of("retryable", "true"),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "10")
+                .body(errorResponse);
+    }
+
+    /**
+     * 요청 처리 기한 초과 (서비스 간 호출을 보내지 않았거나 응답을 기다리지 않음)
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceededException(DeadlineExceededException ex) {
+        log.warn("Request deadline exceeded: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.GATEWAY_TIMEOUT.value(),
+                "Deadline Exceeded",
+                ex.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(errorResponse);
+    }
+
+    /**
+     * 요청 파라미터 형식 오류 (알 수 없는 enum 값, 날짜 형식 등)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        log.warn("Invalid request parameter: {}={}", ex.getName(), ex.getValue());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Invalid Parameter",
+                "요청 파라미터 형식이 올바르지 않습니다: " + ex.getName(),
+                Map.of(ex.getName(), String.valueOf(ex.getValue())),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * 유효성 검사 실패
      */
@@ -0,0 +1,11 @@
+package com.example.order.exception;
+
+/**
+ * Member Service에서 회원을 확인할 수 없고 저장된 회원 정보도 없을 때 발생하는 예외
+ */
+public class MemberServiceUnavailableException extends RuntimeException {
+
+    public MemberServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.order.exception;
+
+import com.example.order.entity.Order;
+
+/**
+ * 주문 상태 compare-and-set 실패 시 발생하는 예외
+ * 
+ * 요청한 expectedStatus와 현재 상태가 달라 변경되지 않았음을 의미합니다.
+ * 클라이언트는 현재 상태(currentStatus)를 확인한 뒤 변경 여부를 다시 판단해야 하므로
+ * 같은 요청을 그대로 재시도해서는 안 됩니다.
+ */
+public class OrderStatusConflictException extends RuntimeException {
+
+    private final Order.OrderStatus expectedStatus;
+    private final Order.OrderStatus currentStatus;
+    private final Long currentVersion;
+
+    public OrderStatusConflictException(String message, Order.OrderStatus expectedStatus,
+                                        Order.OrderStatus currentStatus, Long currentVersion) {
+        super(message);
+        this.expectedStatus = expectedStatus;
+        this.currentStatus = currentStatus;
+        this.currentVersion = currentVersion;
+    }
+
+    public Order.OrderStatus getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public Order.OrderStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.order.repository;
+
+import com.example.order.dto.OrderDto;
+import com.example.order.entity.ArchivedOrder;
+import com.example.order.entity.Money;
+import com.example.order.entity.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 주문 리포지토리
+ *
+ * OrderRepository의 목록/통계 쿼리 중 보관 주문도 포함해야 하는 쿼리만 둡니다.
+ * 결과는 운영 주문과 같은 OrderDto.Summary로 조회하여 OrderService에서 합칩니다.
+ */
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    /**
+     * Summary DTO 생성자 표현식 (OrderRepository.SUMMARY와 같은 순서)
+     */
+    String SUMMARY = "new com.example.order.dto.OrderDto$Summary(" +
+            "a.id, a.memberId, a.productName, a.quantity, a.totalAmount, a.status, a.createdAt)";
+
+    /**
+     * 전체 보관 주문 요약 조회
+     */
+    @Query("SELECT " + SUMMARY + " FROM ArchivedOrder a")
+    List<OrderDto.Summary> findAllSummaries();
+
+    /**
+     * 최근 보관 주문 요약 조회 (최신순, 개수는 pageable로 지정)
+     */
+    @Query("SELECT " + SUMMARY + " FROM ArchivedOrder a ORDER BY a.createdAt DESC")
+    List<OrderDto.Summary> findRecentSummaries(Pageable pageable);
+
+    /**
+     * 회원별 보관 주문 요약 조회
+     */
+    @Query("SELECT " + SUMMARY + " FROM ArchivedOrder a WHERE a.memberId = :memberId")
+    List<OrderDto.Summary> findSummariesByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 상태별 보관 주문 요약 조회
+     */
+    @Query("SELECT " + SUMMARY + " FROM ArchivedOrder a WHERE a.status = :status")
+    List<OrderDto.Summary> findSummariesByStatus(@Param("status") Order.OrderStatus status);
+
+    /**
+     * 기간별 보관 주문 요약 조회
+     */
+    @Query("SELECT " + SUMMARY + " FROM ArchivedOrder a WHERE a.createdAt BETWEEN :startDate AND :endDate")
+    List<OrderDto.Summary> findSummariesByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                           @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 회원별 보관 주문 총액 (보관 주문이 없으면 0)
+     */
+    default Money getTotalAmountByMemberId(Long memberId) {
+        BigDecimal total = sumTotalAmountByMemberId(memberId);
+        return total != null ? Money.of(total) : Money.ZERO;
+    }
+
+    /**
+     * 회원별 보관 주문 총액 합계 (SUM 결과는 DECIMAL)
+     */
+    @Query("SELECT SUM(a.totalAmount) FROM ArchivedOrder a WHERE a.memberId = :memberId")
+    BigDecimal sumTotalAmountByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 집계 스냅샷 생성용 컬럼 조회 (ID 기준 키셋 페이징)
+     */
+    @Query("SELECT a.id AS id, a.totalAmount AS totalAmount, a.createdAt AS createdAt, " +
+           "a.productName AS productName, a.status AS status FROM ArchivedOrder a WHERE a.id > :afterId ORDER BY a.id")
+    List<OrderRepository.AnalyticsRow> findAnalyticsRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 가장 늦은 보관 주문의 주문일시 (보관 주문이 없으면 null)
+     */
+    @Query("SELECT MAX(a.createdAt) FROM ArchivedOrder a")
+    LocalDateTime findLatestCreatedAt();
+}
@@ -1,16 +1,22 @@
 package com.example.order.repository;
 
+import com.example.common.search.SearchRow;
+import com.example.order.dto.OrderDto;
+import com.example.order.entity.Money;
 import com.example.order.entity.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 주문 리포지토리
@@ -20,6 +26,37 @@ import java.util.List;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    /**
+     * Summary DTO 생성자 표현식 (OrderDto.Summary의 회원명 제외 생성자와 같은 순서)
+     */
+    String SUMMARY = "new com.example.order.dto.OrderDto$Summary(" +
+            "o.id, o.memberId, o.productName, o.quantity, o.totalAmount, o.status, o.createdAt)";
+
+    /**
+     * ETag 계산용 버전 정보 조회
+     * 
+     * 엔터티 전체를 로딩하지 않고 ID, 상태, 버전만 조회합니다.
+     */
+    @Query("SELECT o.id AS id, o.status AS status, o.version AS version FROM Order o WHERE o.id = :id")
+    Optional<VersionInfo> findVersionInfoById(@Param("id") Long id);
+
+    /**
+     * 주문 상태 compare-and-set
+     * 
+     * 현재 상태가 expected일 때만 next로 변경하는 단일 조건부 UPDATE입니다.
+     * 사전 SELECT 없이 DB 행 잠금 한 번으로 처리되므로 동시 요청 중 하나만 성공하고,
+     * 버전도 함께 증가시켜 진행 중인 낙관적 잠금 수정(PUT)과도 충돌이 감지됩니다.
+     * 
+     * @return 변경된 행 수 (0이면 주문이 없거나 상태가 expected가 아님)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :next, o.version = o.version + 1, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.status = :expected")
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("expected") Order.OrderStatus expected,
+                            @Param("next") Order.OrderStatus next,
+                            @Param("now") LocalDateTime now);
+
     /**
      * 회원별 주문 목록 조회
      */
@@ -46,10 +83,90 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByMemberIdAndStatus(Long memberId, Order.OrderStatus status);
 
     /**
-     * 상품명으로 주문 검색 (부분 일치)
+     * 전체 주문 요약 조회
+     * 
+     * 목록 조회용 쿼리는 엔터티 대신 생성자 표현식으로 Summary DTO를 바로 만듭니다.
+     * 필요한 컬럼만 SELECT하고(단가, 메모 제외) 영속성 컨텍스트에 엔터티와 스냅샷이 쌓이지 않습니다.
+     */
+    @Query("SELECT " + SUMMARY + " FROM Order o")
+    List<OrderDto.Summary> findAllSummaries();
+
+    /**
+     * 주문 요약 페이징 조회
+     */
+    @Query(value = "SELECT " + SUMMARY + " FROM Order o",
+           countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<OrderDto.Summary> findSummaries(Pageable pageable);
+
+    /**
+     * 회원별 주문 요약 조회
      */
-    @Query("SELECT o FROM Order o WHERE o.productName LIKE %:productName%")
-    List<Order> findByProductNameContaining(@Param("productName") String productName);
+    @Query("SELECT " + SUMMARY + " FROM Order o WHERE o.memberId = :memberId")
+    List<OrderDto.Summary> findSummariesByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 상태별 주문 요약 조회
+     */
+    @Query("SELECT " + SUMMARY + " FROM Order o WHERE o.status = :status")
+    List<OrderDto.Summary> findSummariesByStatus(@Param("status") Order.OrderStatus status);
+
+    /**
+     * ID 목록으로 주문 요약 조회 (검색 색인 결과 페이지, 순서는 보장하지 않음)
+     */
+    @Query("SELECT " + SUMMARY + " FROM Order o WHERE o.id IN :ids")
+    List<OrderDto.Summary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 기간별 주문 요약 조회
+     */
+    @Query("SELECT " + SUMMARY + " FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate")
+    List<OrderDto.Summary> findSummariesByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                           @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 최근 주문 요약 조회 (최신순, 개수는 pageable로 지정)
+     */
+    @Query("SELECT " + SUMMARY + " FROM Order o ORDER BY o.createdAt DESC")
+    List<OrderDto.Summary> findRecentSummaries(Pageable pageable);
+
+    /**
+     * 상품명으로 주문 요약 검색 (부분 일치)
+     * 
+     * 검색 색인이 준비되기 전에만 사용하는 대체 경로입니다. (LIKE '%...%'는 인덱스를 사용할 수 없음)
+     */
+    @Query(value = "SELECT " + SUMMARY + " FROM Order o WHERE o.productName LIKE %:productName%",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.productName LIKE %:productName%")
+    Page<OrderDto.Summary> findSummariesByProductNameContaining(@Param("productName") String productName,
+                                                                Pageable pageable);
+
+    /**
+     * 상품명으로 주문 요약 검색 (접두사 일치, 검색 색인 준비 전 대체 경로)
+     */
+    @Query(value = "SELECT " + SUMMARY + " FROM Order o WHERE o.productName LIKE :productName%",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.productName LIKE :productName%")
+    Page<OrderDto.Summary> findSummariesByProductNameStartingWith(@Param("productName") String productName,
+                                                                  Pageable pageable);
+
+    /**
+     * 검색 색인 생성용 상품명 조회 (ID 기준 키셋 페이징)
+     */
+    @Query("SELECT o.id AS id, o.productName AS text FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    List<SearchRow> findSearchRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 집계 스냅샷 생성용 컬럼 조회 (ID 기준 키셋 페이징)
+     */
+    @Query("SELECT o.id AS id, o.totalAmount AS totalAmount, o.createdAt AS createdAt, " +
+           "o.productName AS productName, o.status AS status FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    List<AnalyticsRow> findAnalyticsRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 보관 대상 주문 조회 (지정한 상태이고 기준일 이전에 생성된 주문, ID 순)
+     */
+    @Query("SELECT o FROM Order o WHERE o.status IN :statuses AND o.createdAt < :cutoff ORDER BY o.id")
+    List<Order> findArchivable(@Param("statuses") Collection<Order.OrderStatus> statuses,
+                               @Param("cutoff") LocalDateTime cutoff,
+                               Pageable pageable);
 
     /**
      * 기간별 주문 조회
@@ -61,13 +178,21 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     /**
      * 특정 금액 이상의 주문 조회
      */
-    List<Order> findByTotalAmountGreaterThanEqual(BigDecimal amount);
+    List<Order> findByTotalAmountGreaterThanEqual(Money amount);
+
+    /**
+     * 회원별 총 주문 금액 조회 (주문이 없으면 0)
+     */
+    default Money getTotalAmountByMemberId(Long memberId) {
+        BigDecimal total = sumTotalAmountByMemberId(memberId);
+        return total != null ? Money.of(total) : Money.ZERO;
+    }
 
     /**
-     * 회원별 총 주문 금액 조회
+     * 회원별 총 주문 금액 합계 (SUM 결과에는 MoneyConverter가 적용되지 않으므로 DECIMAL 그대로 받음)
      */
     @Query("SELECT SUM(o.totalAmount) FROM Order o WHERE o.memberId = :memberId")
-    BigDecimal getTotalAmountByMemberId(@Param("memberId") Long memberId);
+    BigDecimal sumTotalAmountByMemberId(@Param("memberId") Long memberId);
 
     /**
      * 상태별 주문 수 조회
@@ -89,6 +214,30 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * 특정 회원의 최근 주문 조회
      */
     List<Order> findTop5ByMemberIdOrderByCreatedAtDesc(Long memberId);
-}
 
+    /**
+     * ETag 계산용 프로젝션
+     */
+    interface VersionInfo {
+        Long getId();
+
+        Order.OrderStatus getStatus();
+
+        Long getVersion();
+    }
 
+    /**
+     * 집계 스냅샷용 프로젝션 (보관 주문 조회에도 사용)
+     */
+    interface AnalyticsRow {
+        Long getId();
+
+        Money getTotalAmount();
+
+        LocalDateTime getCreatedAt();
+
+        String getProductName();
+
+        Order.OrderStatus getStatus();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.order.repository;
+
+import com.example.order.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 잠금 리포지토리
+ *
+ * 잠금은 조건부 UPDATE 한 번으로 가져가고 놓습니다. (행이 없으면 서비스에서 INSERT)
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 만료된 잠금 가져가기
+     *
+     * @return 변경된 행 수 (0이면 잠금 행이 없거나 다른 인스턴스가 잠금을 가지고 있음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :owner " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until);
+
+    /**
+     * 가지고 있는 잠금 놓기 (만료 일시를 현재로)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,31 @@
+package com.example.order.search;
+
+import com.example.common.search.SearchIndex;
+import com.example.common.search.SearchRow;
+import com.example.order.repository.OrderRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 주문 상품명(productName) 검색 색인
+ *
+ * 색인 생성/증분 갱신/재색인은 SearchIndex가 담당하며, 여기서는 색인할 행을 읽는 방법만 정합니다.
+ * 증분 갱신은 OrderSearchIndexListener에서 호출합니다.
+ */
+@Component
+public class OrderSearchIndex extends SearchIndex {
+
+    private final OrderRepository orderRepository;
+
+    public OrderSearchIndex(OrderRepository orderRepository) {
+        super("order");
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    protected List<? extends SearchRow> findRowsAfter(long afterId, int limit) {
+        return orderRepository.findSearchRowsAfter(afterId, PageRequest.of(0, limit));
+    }
+}
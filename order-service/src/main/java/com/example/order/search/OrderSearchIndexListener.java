@@ -0,0 +1,48 @@
+package com.example.order.search;
+
+import com.example.order.entity.Order;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 엔터티 변경을 검색 색인에 반영하는 JPA 엔터티 리스너
+ *
+ * INSERT/UPDATE가 실행되는 시점(flush)과 삭제 요청 시점(remove)에 바로 색인을 갱신하여
+ * 같은 트랜잭션 안의 검색에서도 변경 내용이 보이도록 합니다.
+ * 트랜잭션이 롤백되면 트랜잭션 시작 전의 색인 값으로 되돌립니다.
+ *
+ * 검색 결과는 항상 DB에서 다시 조회하므로, 커밋 전 변경이 다른 트랜잭션의 검색 후보에
+ * 잠시 포함되더라도 응답에는 커밋된 데이터만 반환됩니다.
+ *
+ * Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 생성자 주입을 사용할 수 있습니다.
+ */
+@Component
+public class OrderSearchIndexListener {
+
+    private final ObjectProvider<OrderSearchIndex> searchIndex;
+
+    public OrderSearchIndexListener(ObjectProvider<OrderSearchIndex> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Order order) {
+        apply(order.getId(), order.getProductName());
+    }
+
+    @PreRemove
+    public void onRemoved(Order order) {
+        apply(order.getId(), null);
+    }
+
+    private void apply(Long id, String productName) {
+        OrderSearchIndex index = searchIndex.getIfAvailable();
+        if (index != null) {
+            index.updateInTransaction(id, productName);
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.example.order.service;
 
+import com.example.order.client.HedgingExecutor;
+import com.example.order.client.LastKnownMemberStore;
 import com.example.order.client.MemberServiceClient;
+import com.example.order.exception.InvalidOrderException;
+import com.example.order.exception.MemberServiceUnavailableException;
+import feign.FeignException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -11,6 +17,18 @@ import org.springframework.stereotype.Service;
  * 
  * Member Service와의 통신을 담당하며, Circuit Breaker 및 Fallback 처리를 수행합니다.
  * 
+ * 호출 한 번은 다음 순서로 감싸집니다. (Resilience4j 기본 Aspect 순서: Retry가 Circuit Breaker 바깥)
+ * - Retry: 일시적 실패(연결 실패/타임아웃, 502/503/504)인 GET만 지터를 준 지수 백오프로 재시도
+ *   (MemberCallRetryPredicate, 처리 기한이 지났으면 재시도하지 않음), 최종 실패 시 Fallback
+ * - Circuit Breaker: 재시도 한 번 한 번을 호출로 집계
+ * - HedgingExecutor: 응답이 p95보다 늦으면 헤지 요청을 추가로 보내고 먼저 온 응답 사용
+ * Fallback은 Retry에 지정합니다. Circuit Breaker에 두면 Fallback이 예외를 먼저 삼켜 재시도가 일어나지 않습니다.
+ * 
+ * 조회에 성공한 회원 정보는 LastKnownMemberStore에 저장하고, Fallback은 저장된 정보를 먼저 사용합니다.
+ * - validateMember (주문 생성 등 회원 확인): 저장된 정보가 없으면 MemberServiceUnavailableException (503)
+ * - getMember (회원명 표시): 저장된 정보가 없으면 "알 수 없는 사용자"
+ * - Member Service가 404로 응답하면 저장된 정보를 지우고 사용하지 않음
+ * 
  * 별도 서비스로 분리한 이유:
  * - Spring AOP의 @CircuitBreaker 어노테이션이 작동하려면 프록시를 통한 호출이 필요합니다.
  * - 같은 클래스 내에서 직접 호출하면 프록시를 통하지 않아 Circuit Breaker가 작동하지 않습니다.
@@ -20,84 +38,123 @@ import org.springframework.stereotype.Service;
 public class MemberIntegrationService {
 
     private static final Logger log = LoggerFactory.getLogger(MemberIntegrationService.class);
+
+    private static final String UNKNOWN_MEMBER_NAME = "알 수 없는 사용자";
     
     private final MemberServiceClient memberServiceClient;
+    private final HedgingExecutor hedgingExecutor;
+    private final LastKnownMemberStore lastKnownMemberStore;
 
-    public MemberIntegrationService(MemberServiceClient memberServiceClient) {
+    public MemberIntegrationService(MemberServiceClient memberServiceClient, HedgingExecutor hedgingExecutor,
+                                    LastKnownMemberStore lastKnownMemberStore) {
         this.memberServiceClient = memberServiceClient;
+        this.hedgingExecutor = hedgingExecutor;
+        this.lastKnownMemberStore = lastKnownMemberStore;
     }
 
     /**
      * 회원 정보 검증 (Circuit Breaker 및 Fallback 적용)
      * 
-     * Resilience4j의 @CircuitBreaker 어노테이션을 사용하여 Circuit Breaker 패턴을 적용합니다.
+     * Resilience4j의 @Retry, @CircuitBreaker 어노테이션을 사용하여 재시도와 Circuit Breaker 패턴을 적용합니다.
      * Member Service 장애 시 자동으로 Fallback 메서드가 실행됩니다.
      * 
      * @param memberId 회원 ID
-     * @return 회원 정보 DTO
+     * @return 회원 정보 DTO (Member Service 장애 중이면 저장된 회원 정보, staleAsOf 설정)
      */
-    @CircuitBreaker(name = "member-service", fallbackMethod = "validateMemberFallback")
+    @Retry(name = "member-service", fallbackMethod = "validateMemberFallback")
+    @CircuitBreaker(name = "member-service")
     public MemberServiceClient.MemberDto validateMember(Long memberId) {
         log.debug("Validating member with ID: {}", memberId);
-        return memberServiceClient.getMemberById(memberId);
+        MemberServiceClient.MemberDto member = hedgingExecutor.execute(() -> memberServiceClient.getMemberById(memberId));
+        lastKnownMemberStore.put(member);
+        return member;
     }
 
     /**
      * 회원 정보 검증 Fallback 메서드
      * 
-     * Member Service 장애 시 @CircuitBreaker 어노테이션에 의해 자동으로 실행되는 Fallback 메서드입니다.
-     * Circuit Breaker가 실패를 카운트하고, Fallback 데이터를 반환하여 주문 처리를 계속 진행합니다.
+     * Member Service 장애 시 @Retry 어노테이션에 의해 자동으로 실행되는 Fallback 메서드입니다.
+     * (재시도가 끝났거나, 재시도 대상이 아니거나, Circuit Breaker가 열려 호출이 거부된 경우)
+     * 최근에 조회한 회원이면 저장된 정보로 검증을 통과시키고, 아니면 확인되지 않은 회원으로 주문을 처리하지 않도록 예외를 던집니다.
      * 
      * @param memberId 회원 ID
      * @param e 발생한 예외
-     * @return Fallback 회원 정보 DTO
+     * @return 저장된 회원 정보 DTO
+     * @throws InvalidOrderException Member Service가 없는 회원이라고 응답한 경우
+     * @throws MemberServiceUnavailableException 저장된 회원 정보도 없는 경우
      * @see #validateMember(Long)
      */
-    @SuppressWarnings("unused") // @CircuitBreaker 어노테이션에 의해 리플렉션으로 호출됨
+    @SuppressWarnings("unused") // @Retry 어노테이션에 의해 리플렉션으로 호출됨
     public MemberServiceClient.MemberDto validateMemberFallback(Long memberId, Exception e) {
-        log.error("Member Service unavailable. Using fallback for memberId: {}", memberId, e);
-        
-        return new MemberServiceClient.MemberDto(
-            memberId,
-            "unknown-user-" + memberId,
-            "unknown@example.com",
-            "알 수 없는 사용자",
-            "000-0000-0000",
-            "UNKNOWN",
-            "서비스 일시 중단"
-        );
+        if (e instanceof FeignException.NotFound) {
+            lastKnownMemberStore.evict(memberId);
+            throw new InvalidOrderException("존재하지 않는 회원입니다. ID: " + memberId);
+        }
+        return lastKnownMemberStore.findStale(memberId)
+                .map(member -> {
+                    log.warn("Member Service unavailable. Using last-known member for memberId: {} (as of {})",
+                            memberId, member.getStaleAsOf(), e);
+                    return member;
+                })
+                .orElseThrow(() -> {
+                    log.error("Member Service unavailable and no last-known member for memberId: {}", memberId, e);
+                    return new MemberServiceUnavailableException(
+                            "Member Service를 사용할 수 없어 회원을 확인하지 못했습니다. ID: " + memberId);
+                });
     }
 
     /**
-     * 회원명 조회 (Circuit Breaker 및 Fallback 적용)
+     * 회원 정보 조회 (Circuit Breaker 및 Fallback 적용, 회원명 표시용)
      * 
-     * Resilience4j의 @CircuitBreaker 어노테이션을 사용하여 Circuit Breaker 패턴을 적용합니다.
+     * Resilience4j의 @Retry, @CircuitBreaker 어노테이션을 사용하여 재시도와 Circuit Breaker 패턴을 적용합니다.
      * Member Service 장애 시 자동으로 Fallback 메서드가 실행됩니다.
      * 
      * @param memberId 회원 ID
-     * @return 회원명
+     * @return 회원 정보 DTO (장애 시 저장된 회원 정보 또는 알 수 없는 사용자)
      */
-    @CircuitBreaker(name = "member-service", fallbackMethod = "getMemberNameFallback")
-    public String getMemberName(Long memberId) {
-        log.debug("Getting member name for ID: {}", memberId);
-        MemberServiceClient.MemberDto member = memberServiceClient.getMemberById(memberId);
-        return member.getFullName();
+    @Retry(name = "member-service", fallbackMethod = "getMemberFallback")
+    @CircuitBreaker(name = "member-service")
+    public MemberServiceClient.MemberDto getMember(Long memberId) {
+        log.debug("Getting member for ID: {}", memberId);
+        MemberServiceClient.MemberDto member = hedgingExecutor.execute(() -> memberServiceClient.getMemberById(memberId));
+        lastKnownMemberStore.put(member);
+        return member;
     }
 
     /**
-     * 회원명 조회 Fallback 메서드
+     * 회원 정보 조회 Fallback 메서드
      * 
-     * Member Service 장애 시 @CircuitBreaker 어노테이션에 의해 자동으로 실행되는 Fallback 메서드입니다.
+     * Member Service 장애 시 @Retry 어노테이션에 의해 자동으로 실행되는 Fallback 메서드입니다.
+     * 저장된 회원 정보가 있으면 그 정보를, 없으면 알 수 없는 사용자를 반환합니다.
      * 
      * @param memberId 회원 ID
      * @param e 발생한 예외
-     * @return Fallback 회원명
-     * @see #getMemberName(Long)
+     * @return Fallback 회원 정보 DTO
+     * @see #getMember(Long)
      */
-    @SuppressWarnings("unused") // @CircuitBreaker 어노테이션에 의해 리플렉션으로 호출됨
-    public String getMemberNameFallback(Long memberId, Exception e) {
-        log.warn("Member Service unavailable. Using fallback for member name, memberId: {}", memberId, e);
-        return "알 수 없는 사용자";
+    @SuppressWarnings("unused") // @Retry 어노테이션에 의해 리플렉션으로 호출됨
+    public MemberServiceClient.MemberDto getMemberFallback(Long memberId, Exception e) {
+        if (e instanceof FeignException.NotFound) {
+            lastKnownMemberStore.evict(memberId);
+            return unknownMember(memberId);
+        }
+        log.warn("Member Service unavailable. Using fallback for member, memberId: {}", memberId, e);
+        return lastKnownMemberStore.findStale(memberId).orElseGet(() -> unknownMember(memberId));
     }
-}
 
+    /**
+     * 알 수 없는 사용자 (저장된 회원 정보도 없을 때 표시용)
+     */
+    public static MemberServiceClient.MemberDto unknownMember(Long memberId) {
+        return new MemberServiceClient.MemberDto(
+            memberId,
+            "unknown-user-" + memberId,
+            "unknown@example.com",
+            UNKNOWN_MEMBER_NAME,
+            "000-0000-0000",
+            "UNKNOWN",
+            "서비스 일시 중단",
+            null
+        );
+    }
+}
@@ -0,0 +1,527 @@
+package com.example.order.service;
+
+import com.example.order.dto.OrderDto;
+import com.example.order.entity.ArchivedOrder;
+import com.example.order.entity.Money;
+import com.example.order.entity.Order;
+import com.example.order.entity.SchedulerLock;
+import com.example.order.exception.InvalidOrderException;
+import com.example.order.repository.ArchivedOrderRepository;
+import com.example.order.repository.OrderRepository;
+import com.example.order.repository.SchedulerLockRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문 보관(archive) 서비스
+ *
+ * 주문 테이블이 계속 커지지 않도록, 보관 기간(retention-months)이 지난 완료 주문을
+ * 보관 테이블(orders_archive)로 옮기고 조회 시 운영 주문과 합칠지 판단합니다.
+ *
+ * - 보관 대상: 보관 상태(기본 DELIVERED, CANCELLED, REFUNDED)이고 기준 월 1일 이전에 생성된 주문
+ * - 배치 단위로 옮기며 배치마다 트랜잭션을 나눔 (보관 INSERT와 원본 DELETE는 같은 트랜잭션)
+ * - 옮기는 사이 주문이 수정되면 낙관적 잠금으로 해당 배치를 롤백하고 다음 실행에 다시 시도
+ * - 여러 인스턴스 중 한 곳에서만 실행 (scheduler_lock 행의 조건부 UPDATE로 잠금, lock-at-most-for 후 만료)
+ * - 보관 주문 중 가장 늦은 주문일시(archivedUntil)를 메모리에 두고 watermark-refresh마다 DB에서 다시 읽어,
+ *   조회 범위가 보관 구간과 겹치지 않으면 보관 테이블을 조회하지 않음
+ *   (다른 인스턴스가 보관한 주문은 최대 watermark-refresh 뒤부터 조회에 포함)
+ * - 페이징 조회는 운영/보관 테이블을 한 쿼리(UNION ALL)로 읽어, 보관 이동 중에도 한 주문이 두 번 나오거나 빠지지 않음
+ * - 목록 조회(전체/최근/회원별/상태별/기간별)는 두 테이블 결과를 합치고 양쪽에 보이는 주문은 운영 주문 하나로
+ *   (OrderService와 ReactiveOrderService가 같은 메서드를 사용하여 같은 결과를 반환)
+ */
+@Service
+public class OrderArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveService.class);
+
+    /**
+     * 보관 작업 잠금 이름 (scheduler_lock.name)
+     */
+    static final String LOCK_NAME = "order-archive";
+
+    /**
+     * 운영/보관 주문을 합친 목록의 컬럼 (두 엔터티에서 같은 이름, Summary 생성자 순서)
+     * 페이징 정렬도 이 항목으로만 가능
+     */
+    private static final List<String> UNION_COLUMNS =
+            List.of("id", "memberId", "productName", "quantity", "totalAmount", "status", "createdAt");
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int retentionMonths;
+    private final Set<Order.OrderStatus> archivableStatuses;
+    private final int batchSize;
+    private final Duration lockAtMostFor;
+    private final long watermarkRefreshNanos;
+
+    /**
+     * 잠금을 가진 인스턴스 표시 (pid@host)
+     */
+    private final String lockOwner = ManagementFactory.getRuntimeMXBean().getName();
+
+    /**
+     * 마지막으로 읽은 보관 구간 (아직 읽지 않았으면 null)
+     */
+    private volatile Watermark watermark;
+
+    public OrderArchiveService(OrderRepository orderRepository,
+                               ArchivedOrderRepository archivedOrderRepository,
+                               SchedulerLockRepository schedulerLockRepository,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               @Value("${order.archive.retention-months:6}") int retentionMonths,
+                               @Value("${order.archive.statuses:DELIVERED,CANCELLED,REFUNDED}")
+                               Set<Order.OrderStatus> archivableStatuses,
+                               @Value("${order.archive.batch-size:500}") int batchSize,
+                               @Value("${order.archive.lock-at-most-for:1h}") Duration lockAtMostFor,
+                               @Value("${order.archive.watermark-refresh:30s}") Duration watermarkRefresh) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.retentionMonths = retentionMonths;
+        this.archivableStatuses = archivableStatuses.isEmpty()
+                ? EnumSet.noneOf(Order.OrderStatus.class)
+                : EnumSet.copyOf(archivableStatuses);
+        this.batchSize = batchSize;
+        this.lockAtMostFor = lockAtMostFor;
+        this.watermarkRefreshNanos = watermarkRefresh.toNanos();
+    }
+
+    /**
+     * 애플리케이션 시작 시 보관 구간 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadArchivedUntil() {
+        log.info("Order archive loaded: archived until {}", refreshArchivedUntil());
+    }
+
+    /**
+     * 주기적으로 보관 (기본: 매월 1일 03:00, 모든 인스턴스에서 실행되지만 잠금을 가져간 한 곳만 보관)
+     */
+    @Scheduled(cron = "${order.archive.cron:0 0 3 1 * *}")
+    public void archivePeriodically() {
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            log.error("Order archiving failed", e);
+        }
+    }
+
+    /**
+     * 보관 기준일 이전의 완료 주문을 보관 테이블로 이동
+     *
+     * 다른 인스턴스가 보관 중이면(잠금을 가져가지 못하면) 아무것도 하지 않습니다.
+     *
+     * @return 옮긴 주문 수
+     */
+    public int archive() {
+        if (archivableStatuses.isEmpty()) {
+            return 0;
+        }
+        if (!tryLock()) {
+            log.info("Order archiving skipped: another instance holds the archive lock");
+            return 0;
+        }
+        try {
+            return archiveLocked();
+        } finally {
+            unlock();
+        }
+    }
+
+    private int archiveLocked() {
+        LocalDateTime cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+        int total = 0;
+        while (true) {
+            Integer moved;
+            try {
+                moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.warn("Order archiving stopped: order modified while archiving, will retry next run ({})",
+                        e.getMessage());
+                break;
+            } catch (DataIntegrityViolationException e) {
+                // 잠금이 만료된 뒤 다른 인스턴스가 같은 주문을 먼저 보관한 경우 (배치는 롤백됨)
+                log.warn("Order archiving stopped: order already archived, will retry next run ({})",
+                        e.getMessage());
+                break;
+            }
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+        if (total > 0) {
+            refreshArchivedUntil();
+        }
+        log.info("Order archiving finished: {} orders created before {} archived", total, cutoff);
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Order> orders = orderRepository.findArchivable(archivableStatuses, cutoff, PageRequest.of(0, batchSize));
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // ID를 지정한 새 엔터티이므로 save(merge)가 아닌 persist로 저장 (행마다 SELECT하지 않음)
+        orders.forEach(order -> entityManager.persist(toArchived(order, now)));
+        orderRepository.deleteAll(orders);
+        return orders.size();
+    }
+
+    /**
+     * 보관 작업 잠금 가져가기
+     *
+     * 잠금 행이 있으면 만료된 경우에만 조건부 UPDATE로 가져가고, 없으면 새로 만듭니다.
+     * 두 인스턴스가 동시에 행을 만들면 한쪽은 기본 키 중복으로 실패하고 잠금을 가져가지 못합니다.
+     */
+    private boolean tryLock() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lockAtMostFor);
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (schedulerLockRepository.acquire(LOCK_NAME, lockOwner, now, until) == 1) {
+                    return true;
+                }
+                if (schedulerLockRepository.existsById(LOCK_NAME)) {
+                    return false;
+                }
+                entityManager.persist(new SchedulerLock(LOCK_NAME, until, now, lockOwner));
+                schedulerLockRepository.flush();
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private void unlock() {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLockRepository.release(LOCK_NAME, lockOwner, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to release order archive lock, expires after {}", lockAtMostFor, e);
+        }
+    }
+
+    /**
+     * 보관 구간 (watermark-refresh가 지났으면 DB에서 다시 읽음)
+     */
+    private LocalDateTime archivedUntil() {
+        Watermark current = watermark;
+        if (current == null || System.nanoTime() - current.loadedAt() >= watermarkRefreshNanos) {
+            return refreshArchivedUntil();
+        }
+        return current.archivedUntil();
+    }
+
+    private LocalDateTime refreshArchivedUntil() {
+        LocalDateTime archivedUntil = archivedOrderRepository.findLatestCreatedAt();
+        watermark = new Watermark(archivedUntil, System.nanoTime());
+        return archivedUntil;
+    }
+
+    /**
+     * 보관 주문이 있는지 여부 (없으면 보관 테이블 조회 생략)
+     */
+    public boolean hasArchivedOrders() {
+        return archivedUntil() != null;
+    }
+
+    /**
+     * 시작 일시 이후 범위가 보관 구간과 겹치는지 여부
+     */
+    public boolean overlaps(LocalDateTime startDate) {
+        LocalDateTime until = archivedUntil();
+        return until != null && !startDate.isAfter(until);
+    }
+
+    /**
+     * 보관될 수 있는 상태인지 여부 (아니면 보관 테이블에 해당 상태의 주문이 없음)
+     */
+    public boolean isArchivable(Order.OrderStatus status) {
+        return archivableStatuses.contains(status);
+    }
+
+    /**
+     * 운영 주문과 보관 주문을 합친 요약 페이징 조회 (보관 주문이 없으면 운영 주문만 페이징)
+     *
+     * 두 테이블을 따로 읽어 합치면 그 사이에 커밋된 보관 이동 때문에 같은 주문이 두 번 나올 수 있으므로,
+     * 목록과 전체 건수를 각각 한 쿼리(UNION ALL)로 조회합니다.
+     * 정렬은 두 테이블에 모두 있는 항목(id, memberId, productName, quantity, totalAmount, status, createdAt)만 가능하며,
+     * 같은 값이면 ID 순으로 정렬하여 페이지 경계에서 순서가 바뀌지 않게 합니다.
+     * 트랜잭션 밖(반응형 조회)에서 호출되어도 결과를 다 읽을 때까지 연결을 유지하도록 읽기 전용 트랜잭션에서 실행합니다.
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderDto.Summary> findSummariesWithLive(Pageable pageable) {
+        if (!hasArchivedOrders()) {
+            return orderRepository.findSummaries(pageable);
+        }
+        String union = "SELECT " + columns("o") + " FROM Order o"
+                + " UNION ALL SELECT " + columns("a") + " FROM ArchivedOrder a";
+        List<OrderDto.Summary> content = entityManager
+                .createQuery("SELECT " + columns("u") + " FROM (" + union + ") u ORDER BY " + orderBy(pageable.getSort()),
+                        Tuple.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(OrderArchiveService::toSummary)
+                .toList();
+        Long total = entityManager
+                .createQuery("SELECT COUNT(*) FROM (" + union + ") u", Long.class)
+                .getSingleResult();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 상태별 운영 + 보관 주문 수 (한 쿼리로 세어 보관 이동 중에도 두 번 세지 않음, 보관 상태가 아니면 운영 주문만)
+     */
+    @Transactional(readOnly = true)
+    public long countWithLiveByStatus(Order.OrderStatus status) {
+        if (!hasArchivedOrders() || !isArchivable(status)) {
+            return orderRepository.countByStatus(status);
+        }
+        return entityManager
+                .createQuery("SELECT COUNT(*) FROM (SELECT o.id AS id FROM Order o WHERE o.status = :status"
+                        + " UNION ALL SELECT a.id AS id FROM ArchivedOrder a WHERE a.status = :status) u", Long.class)
+                .setParameter("status", status)
+                .getSingleResult();
+    }
+
+    private static String columns(String alias) {
+        return UNION_COLUMNS.stream()
+                .map(column -> alias + "." + column + " AS " + column)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String orderBy(Sort sort) {
+        StringBuilder orderBy = new StringBuilder();
+        boolean byId = false;
+        for (Sort.Order order : sort) {
+            if (!UNION_COLUMNS.contains(order.getProperty())) {
+                throw new InvalidOrderException("정렬할 수 없는 항목입니다: " + order.getProperty());
+            }
+            orderBy.append("u.").append(order.getProperty()).append(order.isAscending() ? " ASC, " : " DESC, ");
+            byId |= order.getProperty().equals("id");
+        }
+        if (!byId) {
+            orderBy.append("u.id ASC, ");
+        }
+        return orderBy.substring(0, orderBy.length() - 2);
+    }
+
+    private static OrderDto.Summary toSummary(Tuple row) {
+        return new OrderDto.Summary(row.get(0, Long.class), row.get(1, Long.class), row.get(2, String.class),
+                row.get(3, Integer.class), row.get(4, Money.class), row.get(5, Order.OrderStatus.class),
+                row.get(6, LocalDateTime.class));
+    }
+
+    /**
+     * 운영 + 보관 주문 전체 요약
+     */
+    public List<OrderDto.Summary> findAllSummariesWithLive() {
+        return union(orderRepository.findAllSummaries(),
+                hasArchivedOrders() ? archivedOrderRepository.findAllSummaries() : Collections.emptyList());
+    }
+
+    /**
+     * 운영 + 보관 주문 중 최근 주문 요약 (최신순, 최대 limit개)
+     *
+     * 두 테이블에서 각각 최근 limit개를 읽어 합친 뒤 다시 최신순으로 limit개를 고릅니다.
+     */
+    public List<OrderDto.Summary> findRecentSummariesWithLive(int limit) {
+        Pageable recent = PageRequest.of(0, limit);
+        return union(orderRepository.findRecentSummaries(recent),
+                hasArchivedOrders() ? archivedOrderRepository.findRecentSummaries(recent) : Collections.emptyList())
+                .stream()
+                .sorted(Comparator.comparing(OrderDto.Summary::getCreatedAt).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 회원별 운영 + 보관 주문 요약
+     */
+    public List<OrderDto.Summary> findSummariesWithLiveByMemberId(Long memberId) {
+        return union(orderRepository.findSummariesByMemberId(memberId),
+                hasArchivedOrders()
+                        ? archivedOrderRepository.findSummariesByMemberId(memberId)
+                        : Collections.emptyList());
+    }
+
+    /**
+     * 상태별 운영 + 보관 주문 요약 (보관 상태가 아니면 보관 테이블을 조회하지 않음)
+     */
+    public List<OrderDto.Summary> findSummariesWithLiveByStatus(Order.OrderStatus status) {
+        return union(orderRepository.findSummariesByStatus(status),
+                hasArchivedOrders() && isArchivable(status)
+                        ? archivedOrderRepository.findSummariesByStatus(status)
+                        : Collections.emptyList());
+    }
+
+    /**
+     * 기간별 운영 + 보관 주문 요약 (보관 구간과 겹치지 않으면 보관 테이블을 조회하지 않음)
+     */
+    public List<OrderDto.Summary> findSummariesWithLiveByCreatedAtBetween(LocalDateTime startDate,
+                                                                          LocalDateTime endDate) {
+        return union(orderRepository.findSummariesByCreatedAtBetween(startDate, endDate),
+                overlaps(startDate)
+                        ? archivedOrderRepository.findSummariesByCreatedAtBetween(startDate, endDate)
+                        : Collections.emptyList());
+    }
+
+    /**
+     * 운영 주문과 보관 주문 목록 합치기
+     *
+     * 두 조회 사이에 보관 이동이 커밋되면 같은 주문이 양쪽에 나올 수 있으므로 운영 주문에 있는 ID는 제외합니다.
+     */
+    private static List<OrderDto.Summary> union(List<OrderDto.Summary> live, List<OrderDto.Summary> archived) {
+        List<OrderDto.Summary> orders = new ArrayList<>(live);
+        if (archived.isEmpty()) {
+            return orders;
+        }
+        Set<Long> liveIds = live.stream().map(OrderDto.Summary::getId).collect(Collectors.toSet());
+        archived.stream()
+                .filter(order -> !liveIds.contains(order.getId()))
+                .forEach(orders::add);
+        return orders;
+    }
+
+    /**
+     * 회원별 보관 주문 총액
+     */
+    public Money getTotalAmountByMemberId(Long memberId) {
+        return hasArchivedOrders() ? archivedOrderRepository.getTotalAmountByMemberId(memberId) : Money.ZERO;
+    }
+
+    /**
+     * 보관 주문 단건 조회 (압축된 상세 정보 포함)
+     */
+    public Optional<OrderDto.Response> findById(Long id) {
+        if (!hasArchivedOrders()) {
+            return Optional.empty();
+        }
+        return archivedOrderRepository.findById(id).map(this::toResponse);
+    }
+
+    /**
+     * 보관 주문 버전 조회 (ETag 계산용)
+     */
+    public Optional<Long> findVersionById(Long id) {
+        if (!hasArchivedOrders()) {
+            return Optional.empty();
+        }
+        return archivedOrderRepository.findById(id).map(ArchivedOrder::getVersion);
+    }
+
+    private ArchivedOrder toArchived(Order order, LocalDateTime now) {
+        Details details = new Details(order.getUnitPrice(), order.getOrderMemo(), order.getUpdatedAt());
+        return ArchivedOrder.builder()
+                .id(order.getId())
+                .memberId(order.getMemberId())
+                .productName(order.getProductName())
+                .quantity(order.getQuantity())
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .version(order.getVersion())
+                .archiveMonth(order.getCreatedAt().getYear() * 100 + order.getCreatedAt().getMonthValue())
+                .archivedAt(now)
+                .details(compress(details))
+                .build();
+    }
+
+    private OrderDto.Response toResponse(ArchivedOrder archived) {
+        Details details = decompress(archived.getDetails());
+        return OrderDto.Response.builder()
+                .id(archived.getId())
+                .memberId(archived.getMemberId())
+                .productName(archived.getProductName())
+                .quantity(archived.getQuantity())
+                .unitPrice(details.unitPrice())
+                .totalAmount(archived.getTotalAmount())
+                .status(archived.getStatus())
+                .statusDescription(archived.getStatus().getDescription())
+                .orderMemo(details.orderMemo())
+                .createdAt(archived.getCreatedAt())
+                .updatedAt(details.updatedAt())
+                .version(archived.getVersion())
+                .build();
+    }
+
+    private byte[] compress(Details details) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, details);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress archived order details", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Details decompress(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return objectMapper.readValue(gzip, Details.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archived order details", e);
+        }
+    }
+
+    /**
+     * 보관 주문의 압축 저장 항목 (단건 조회에만 사용)
+     */
+    record Details(Money unitPrice, String orderMemo, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * DB에서 읽은 보관 구간과 읽은 시각 (System.nanoTime)
+     */
+    private record Watermark(LocalDateTime archivedUntil, long loadedAt) {
+    }
+}
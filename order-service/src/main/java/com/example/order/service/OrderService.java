@@ -1,21 +1,39 @@
 package com.example.order.service;
 
+import com.example.common.search.SearchHits;
+import com.example.common.search.SearchMode;
+import com.example.common.web.EntityTags;
+import com.example.common.web.PreconditionFailedException;
+import com.example.order.analytics.Aggregation;
+import com.example.order.analytics.GroupBy;
+import com.example.order.analytics.Metric;
+import com.example.order.analytics.OrderAnalytics;
 import com.example.order.client.MemberServiceClient;
 import com.example.order.dto.OrderDto;
+import com.example.order.entity.Money;
 import com.example.order.entity.Order;
+import com.example.order.exception.AnalyticsNotReadyException;
 import com.example.order.exception.OrderNotFoundException;
+import com.example.order.exception.OrderStatusConflictException;
 import com.example.order.exception.InvalidOrderException;
 import com.example.order.repository.OrderRepository;
+import com.example.order.search.OrderSearchIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -25,19 +43,35 @@ import java.util.stream.Collectors;
  * 
  * Member Service 통신은 MemberIntegrationService를 통해 수행되며,
  * Circuit Breaker 및 Fallback 처리는 MemberIntegrationService에서 담당합니다.
+ * 
+ * 단건/페이징/회원별/상태별/기간별 조회와 통계는 보관된 주문(OrderArchiveService)도 합쳐서 반환합니다.
+ * 보관 주문은 읽기 전용이므로 수정/상태 변경/삭제는 운영 주문만 대상으로 합니다.
  */
 @Service
 @Transactional(readOnly = true)
 public class OrderService {
 
     private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+
+    /**
+     * 주문 총 금액 상한 (999,999,999.99)
+     */
+    private static final Money MAX_TOTAL_AMOUNT = Money.ofMinor(99_999_999_999L);
     
     private final OrderRepository orderRepository;
     private final MemberIntegrationService memberIntegrationService;
+    private final OrderSearchIndex orderSearchIndex;
+    private final OrderArchiveService orderArchiveService;
+    private final OrderAnalytics orderAnalytics;
 
-    public OrderService(OrderRepository orderRepository, MemberIntegrationService memberIntegrationService) {
+    public OrderService(OrderRepository orderRepository, MemberIntegrationService memberIntegrationService,
+                        OrderSearchIndex orderSearchIndex, OrderArchiveService orderArchiveService,
+                        OrderAnalytics orderAnalytics) {
         this.orderRepository = orderRepository;
         this.memberIntegrationService = memberIntegrationService;
+        this.orderSearchIndex = orderSearchIndex;
+        this.orderArchiveService = orderArchiveService;
+        this.orderAnalytics = orderAnalytics;
     }
 
     /**
@@ -60,50 +94,68 @@ public class OrderService {
         log.info("Order created successfully with ID: {}", savedOrder.getId());
         
         // 4. 회원명과 함께 응답 DTO 생성
-        return OrderDto.Response.from(savedOrder, member.getFullName());
+        OrderDto.Response response = OrderDto.Response.from(savedOrder);
+        response.applyMember(member);
+        return response;
     }
 
     /**
-     * ID로 주문 조회
+     * ID로 주문 조회 (운영 주문에 없으면 보관 주문에서 조회)
      */
     public OrderDto.Response getOrderById(Long id) {
         log.debug("Retrieving order by ID: {}", id);
 
-        Order order = orderRepository.findById(id)
+        OrderDto.Response response = orderRepository.findById(id)
+                .map(OrderDto.Response::from)
+                .or(() -> orderArchiveService.findById(id))
                 .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다. ID: " + id));
 
         // 회원 정보 조회 (MemberIntegrationService를 통한 호출로 @CircuitBreaker 작동 보장)
-        String memberName = memberIntegrationService.getMemberName(order.getMemberId());
-        
-        return OrderDto.Response.from(order, memberName);
+        response.applyMember(memberIntegrationService.getMember(response.getMemberId()));
+        return response;
     }
 
     /**
-     * 모든 주문 조회
+     * 주문 ETag 조회
+     * 
+     * ID와 버전만 조회하므로 엔터티 로딩, Member Service 호출, DTO 변환 없이
+     * If-None-Match 조건부 요청을 판단할 수 있습니다.
+     * If-Match(강한 비교)에도 쓰이므로 강한 ETag를 사용합니다.
+     * (응답의 회원명은 Member Service에서 붙이는 표시용 값이며 주문 버전에 포함되지 않음)
+     */
+    public String getOrderEtag(Long id) {
+        Long version = orderRepository.findVersionInfoById(id)
+                .map(OrderRepository.VersionInfo::getVersion)
+                .or(() -> orderArchiveService.findVersionById(id))
+                .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다. ID: " + id));
+        return etagOf(id, version);
+    }
+
+    /**
+     * 주문 ETag 생성 (조회 응답과 조건부 수정에서 공통 사용)
+     */
+    public static String etagOf(Long id, Long version) {
+        return EntityTags.strong("order", id, version);
+    }
+
+    /**
+     * 모든 주문 조회 (운영 + 보관 주문)
      */
     public List<OrderDto.Summary> getAllOrders() {
         log.debug("Retrieving all orders");
 
-        List<Order> orders = orderRepository.findAll();
-        return orders.stream()
-                .map(order -> {
-                    String memberName = memberIntegrationService.getMemberName(order.getMemberId());
-                    return OrderDto.Summary.from(order, memberName);
-                })
+        return orderArchiveService.findAllSummariesWithLive().stream()
+                .map(this::withMemberName)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 주문 페이징 조회
+     * 주문 페이징 조회 (보관 주문이 있으면 운영 주문과 합쳐서 페이징)
      */
     public Page<OrderDto.Summary> getOrders(Pageable pageable) {
         log.debug("Retrieving orders with pagination: {}", pageable);
 
-        Page<Order> orderPage = orderRepository.findAll(pageable);
-        return orderPage.map(order -> {
-            String memberName = memberIntegrationService.getMemberName(order.getMemberId());
-            return OrderDto.Summary.from(order, memberName);
-        });
+        return orderArchiveService.findSummariesWithLive(pageable).map(this::withMemberName);
     }
 
     /**
@@ -112,13 +164,12 @@ public class OrderService {
     public List<OrderDto.Summary> getOrdersByMemberId(Long memberId) {
         log.debug("Retrieving orders by member ID: {}", memberId);
 
-        // 회원 정보 검증 (MemberIntegrationService를 통한 호출로 @CircuitBreaker 작동 보장)
-        MemberServiceClient.MemberDto member = memberIntegrationService.validateMember(memberId);
+        // 회원 정보 조회 (MemberIntegrationService를 통한 호출로 @CircuitBreaker 작동 보장)
+        MemberServiceClient.MemberDto member = memberIntegrationService.getMember(memberId);
         
-        List<Order> orders = orderRepository.findByMemberId(memberId);
-        return orders.stream()
-                .map(order -> OrderDto.Summary.from(order, member.getFullName()))
-                .collect(Collectors.toList());
+        List<OrderDto.Summary> orders = orderArchiveService.findSummariesWithLiveByMemberId(memberId);
+        orders.forEach(order -> order.applyMember(member));
+        return orders;
     }
 
     /**
@@ -127,28 +178,62 @@ public class OrderService {
     public List<OrderDto.Summary> getOrdersByStatus(Order.OrderStatus status) {
         log.debug("Retrieving orders by status: {}", status);
 
-        List<Order> orders = orderRepository.findByStatus(status);
-        return orders.stream()
-                .map(order -> {
-                    String memberName = memberIntegrationService.getMemberName(order.getMemberId());
-                    return OrderDto.Summary.from(order, memberName);
-                })
+        return orderArchiveService.findSummariesWithLiveByStatus(status).stream()
+                .map(this::withMemberName)
                 .collect(Collectors.toList());
     }
 
     /**
      * 상품명으로 주문 검색
+     * 
+     * 검색 색인(n-gram)에서 순위순 ID를 구한 뒤 해당 페이지의 주문만 DB에서 조회합니다.
+     * 순위: 완전 일치 > 접두사 일치 > 단어 접두사 일치 > 부분 일치 (같은 순위면 짧은 상품명 우선)
+     * 색인이 아직 준비되지 않았으면 DB LIKE 검색으로 대체합니다.
+     * 
+     * @param mode CONTAINS(부분 일치) 또는 PREFIX(자동완성용 접두사 일치)
      */
-    public List<OrderDto.Summary> searchOrdersByProductName(String productName) {
-        log.debug("Searching orders by product name: {}", productName);
-
-        List<Order> orders = orderRepository.findByProductNameContaining(productName);
-        return orders.stream()
-                .map(order -> {
-                    String memberName = memberIntegrationService.getMemberName(order.getMemberId());
-                    return OrderDto.Summary.from(order, memberName);
-                })
+    public Page<OrderDto.Summary> searchOrders(String productName, SearchMode mode, Pageable pageable) {
+        log.debug("Searching orders by product name: {}, mode: {}", productName, mode);
+
+        if (!orderSearchIndex.isReady()) {
+            log.debug("Order search index not ready, falling back to database search");
+            Page<OrderDto.Summary> orders = mode == SearchMode.PREFIX
+                    ? orderRepository.findSummariesByProductNameStartingWith(productName, pageable)
+                    : orderRepository.findSummariesByProductNameContaining(productName, pageable);
+            return orders.map(this::withMemberName);
+        }
+
+        SearchHits hits = orderSearchIndex.search(productName, mode, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+
+        // findAllById는 순서를 보장하지 않으므로 색인 순위대로 다시 정렬
+        Map<Long, OrderDto.Summary> found = orderRepository.findSummariesByIdIn(hits.ids()).stream()
+                .collect(Collectors.toMap(OrderDto.Summary::getId, Function.identity()));
+        List<OrderDto.Summary> content = hits.ids().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(this::withMemberName)
                 .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    /**
+     * 상품명 검색 색인 재생성 (백그라운드)
+     * 
+     * @return 새로 시작했으면 true, 이미 재색인 중이면 false
+     */
+    public boolean rebuildSearchIndex() {
+        log.info("Order search index rebuild requested");
+        return orderSearchIndex.rebuildAsync();
+    }
+
+    /**
+     * 상품명 검색 색인 상태
+     */
+    public Map<String, Object> getSearchIndexStats() {
+        return orderSearchIndex.stats();
     }
 
     /**
@@ -156,27 +241,54 @@ public class OrderService {
      */
     @Transactional
     public OrderDto.Response updateOrder(Long id, OrderDto.UpdateRequest request) {
+        return updateOrder(id, request, null);
+    }
+
+    /**
+     * 주문 정보 수정 (조건부)
+     * 
+     * ifMatch가 주어지면 현재 주문의 ETag와 비교하여 일치할 때만 수정합니다.
+     * 다른 요청이 먼저 수정했다면 PreconditionFailedException(412)이 발생합니다.
+     * 
+     * 상태(status)를 바꾸는 경우 PATCH /orders/{id}/status와 같은 전이 표(OrderStatus#canTransitionTo)를 적용하며,
+     * 조회 이후 다른 요청이 상태를 바꿨다면 버전 검사(@Version)로 409가 발생합니다.
+     * 
+     * @param ifMatch If-Match 헤더 값 (null이면 조건 없이 수정)
+     */
+    @Transactional
+    public OrderDto.Response updateOrder(Long id, OrderDto.UpdateRequest request, String ifMatch) {
         log.info("Updating order with ID: {}", id);
 
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다. ID: " + id));
 
+        if (ifMatch != null) {
+            String currentEtag = etagOf(order.getId(), order.getVersion());
+            if (!EntityTags.matchesIfMatch(ifMatch, currentEtag)) {
+                throw new PreconditionFailedException("주문이 다른 요청에 의해 변경되었습니다. ID: " + id, currentEtag);
+            }
+        }
+
         // 수정 가능한 필드 업데이트
         if (request.getQuantity() != null) {
             order.setQuantity(request.getQuantity());
-            // 수량 변경 시 총 금액 재계산
-            BigDecimal newTotalAmount = order.getUnitPrice().multiply(BigDecimal.valueOf(request.getQuantity()));
-            order.setTotalAmount(newTotalAmount);
         }
         
         if (request.getUnitPrice() != null) {
             order.setUnitPrice(request.getUnitPrice());
-            // 단가 변경 시 총 금액 재계산
-            BigDecimal newTotalAmount = request.getUnitPrice().multiply(BigDecimal.valueOf(order.getQuantity()));
-            order.setTotalAmount(newTotalAmount);
+        }
+
+        // 수량 또는 단가 변경 시 총 금액 재계산
+        if (request.getQuantity() != null || request.getUnitPrice() != null) {
+            order.setTotalAmount(totalAmountOf(order.getUnitPrice(), order.getQuantity()));
         }
         
-        if (request.getStatus() != null) {
+        if (request.getStatus() != null && request.getStatus() != order.getStatus()) {
+            if (!order.getStatus().canTransitionTo(request.getStatus())) {
+                throw new InvalidOrderException(
+                        "허용되지 않는 주문 상태 전이입니다: " + order.getStatus() + " → " + request.getStatus());
+            }
+            // 조회 시점의 버전으로 UPDATE하므로 그 사이 상태가 바뀌었다면 saveAndFlush에서 409 (compare-and-set과 같은 보장)
             order.setStatus(request.getStatus());
         }
         
@@ -184,13 +296,48 @@ public class OrderService {
             order.setOrderMemo(request.getOrderMemo());
         }
 
-        Order updatedOrder = orderRepository.save(order);
+        // 즉시 flush하여 버전 충돌을 이 메서드 안에서 감지하고, 응답에 증가된 버전을 반영합니다.
+        Order updatedOrder = orderRepository.saveAndFlush(order);
         log.info("Order updated successfully with ID: {}", updatedOrder.getId());
 
         // 회원 정보 조회 (MemberIntegrationService를 통한 호출로 @CircuitBreaker 작동 보장)
-        String memberName = memberIntegrationService.getMemberName(order.getMemberId());
+        MemberServiceClient.MemberDto member = memberIntegrationService.getMember(order.getMemberId());
         
-        return OrderDto.Response.from(updatedOrder, memberName);
+        OrderDto.Response response = OrderDto.Response.from(updatedOrder);
+        response.applyMember(member);
+        return response;
+    }
+
+    /**
+     * 주문 상태 변경 (compare-and-set)
+     * 
+     * 1. 전이 표(OrderStatus#canTransitionTo)로 expected → next 전이가 허용되는지 확인
+     * 2. 조건부 UPDATE 한 번으로 "현재 상태가 expected일 때만" 변경 (사전 SELECT 없음)
+     * 3. 변경된 행이 없을 때만 현재 상태를 조회하여 404 또는 409로 구분
+     * 
+     * 같은 주문에 대한 동시 상태 변경 중 하나만 성공하므로 상위에서 요청을 직렬화할 필요가 없습니다.
+     * 
+     * @return 변경 후 상태
+     */
+    @Transactional
+    public Order.OrderStatus changeOrderStatus(Long id, Order.OrderStatus expected, Order.OrderStatus next) {
+        if (!expected.canTransitionTo(next)) {
+            throw new InvalidOrderException("허용되지 않는 주문 상태 전이입니다: " + expected + " → " + next);
+        }
+
+        int updated = orderRepository.compareAndSetStatus(id, expected, next, LocalDateTime.now());
+        if (updated == 1) {
+            log.info("Order status changed: id={}, {} -> {}", id, expected, next);
+            // 조건부 UPDATE는 엔터티 리스너를 거치지 않으므로 집계 스냅샷에 직접 알림 (커밋 후 반영)
+            orderAnalytics.statusChanged(id, next);
+            return next;
+        }
+
+        OrderRepository.VersionInfo current = orderRepository.findVersionInfoById(id)
+                .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다. ID: " + id));
+        throw new OrderStatusConflictException(
+                "주문 상태가 이미 변경되었습니다. ID: " + id + ", 현재 상태: " + current.getStatus(),
+                expected, current.getStatus(), current.getVersion());
     }
 
     /**
@@ -214,26 +361,22 @@ public class OrderService {
     public List<OrderDto.Summary> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         log.debug("Retrieving orders between {} and {}", startDate, endDate);
 
-        List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-        return orders.stream()
-                .map(order -> {
-                    String memberName = memberIntegrationService.getMemberName(order.getMemberId());
-                    return OrderDto.Summary.from(order, memberName);
-                })
+        return orderArchiveService.findSummariesWithLiveByCreatedAtBetween(startDate, endDate).stream()
+                .map(this::withMemberName)
                 .collect(Collectors.toList());
     }
 
     /**
      * 회원별 총 주문 금액 조회
      */
-    public BigDecimal getTotalAmountByMemberId(Long memberId) {
+    public Money getTotalAmountByMemberId(Long memberId) {
         log.debug("Retrieving total amount by member ID: {}", memberId);
         
         // 회원 정보 검증 (MemberIntegrationService를 통한 호출로 @CircuitBreaker 작동 보장)
         memberIntegrationService.validateMember(memberId);
         
-        BigDecimal totalAmount = orderRepository.getTotalAmountByMemberId(memberId);
-        return totalAmount != null ? totalAmount : BigDecimal.ZERO;
+        return orderRepository.getTotalAmountByMemberId(memberId)
+                .plus(orderArchiveService.getTotalAmountByMemberId(memberId));
     }
 
     /**
@@ -241,24 +384,98 @@ public class OrderService {
      */
     public long getOrderCountByStatus(Order.OrderStatus status) {
         log.debug("Retrieving order count by status: {}", status);
-        return orderRepository.countByStatus(status);
+        return orderArchiveService.countWithLiveByStatus(status);
+    }
+
+    /**
+     * 주문 매출 집계
+     * 
+     * DB를 조회하지 않고 메모리 컬럼 스냅샷(OrderAnalytics)에서 집계하며, 보관 주문도 포함합니다.
+     * 스냅샷은 커밋된 변경만 반영하므로 방금 커밋된 주문은 커밋 직후부터 집계에 포함됩니다.
+     * 
+     * @param groupBy  DAY, WEEK, MONTH, STATUS, PRODUCT
+     * @param metric   SUM(총액), COUNT(주문 수), AVG(평균 금액)
+     * @param from     시작 주문일 (포함, null이면 처음부터)
+     * @param to       종료 주문일 (포함, null이면 끝까지)
+     * @param statuses 포함할 주문 상태 (비어 있으면 전체)
+     */
+    public OrderDto.Analytics getOrderAnalytics(GroupBy groupBy, Metric metric, LocalDate from, LocalDate to,
+                                                List<Order.OrderStatus> statuses) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidOrderException("집계 시작일이 종료일보다 늦습니다: " + from + " > " + to);
+        }
+
+        long started = System.nanoTime();
+        Aggregation aggregation = orderAnalytics.aggregate(groupBy, from, to, statuses);
+        if (aggregation == null) {
+            throw new AnalyticsNotReadyException("주문 집계 스냅샷을 생성하는 중입니다. 잠시 후 다시 시도해주세요");
+        }
+        log.debug("Order analytics aggregated: groupBy={}, metric={}, {} orders in {} us",
+                groupBy, metric, aggregation.orders(), (System.nanoTime() - started) / 1000);
+
+        List<OrderDto.AnalyticsBucket> buckets = aggregation.buckets().stream()
+                .map(bucket -> OrderDto.AnalyticsBucket.builder()
+                        .key(bucket.key())
+                        .orders(bucket.count())
+                        .value(valueOf(bucket, metric))
+                        .build())
+                .collect(Collectors.toList());
+        return OrderDto.Analytics.builder()
+                .groupBy(groupBy)
+                .metric(metric)
+                .from(from)
+                .to(to)
+                .statuses(statuses)
+                .orders(aggregation.orders())
+                .buckets(buckets)
+                .build();
     }
 
     /**
-     * 최근 주문 조회
+     * 주문 집계 스냅샷 재생성 (백그라운드)
+     * 
+     * @return 새로 시작했으면 true, 이미 재생성 중이면 false
+     */
+    public boolean rebuildOrderAnalytics() {
+        log.info("Order analytics rebuild requested");
+        return orderAnalytics.rebuildAsync();
+    }
+
+    /**
+     * 주문 집계 스냅샷 상태
+     */
+    public Map<String, Object> getOrderAnalyticsStats() {
+        return orderAnalytics.stats();
+    }
+
+    private static BigDecimal valueOf(Aggregation.Bucket bucket, Metric metric) {
+        return switch (metric) {
+            case SUM -> BigDecimal.valueOf(bucket.amount(), 2);
+            case COUNT -> BigDecimal.valueOf(bucket.count());
+            case AVG -> BigDecimal.valueOf(bucket.amount(), 2)
+                    .divide(BigDecimal.valueOf(bucket.count()), 2, RoundingMode.HALF_UP);
+        };
+    }
+
+    /**
+     * 최근 주문 조회 (운영 + 보관 주문 중 최신순 10개)
      */
     public List<OrderDto.Summary> getRecentOrders() {
         log.debug("Retrieving recent orders");
 
-        List<Order> orders = orderRepository.findTop10ByOrderByCreatedAtDesc();
-        return orders.stream()
-                .map(order -> {
-                    String memberName = memberIntegrationService.getMemberName(order.getMemberId());
-                    return OrderDto.Summary.from(order, memberName);
-                })
+        return orderArchiveService.findRecentSummariesWithLive(10).stream()
+                .map(this::withMemberName)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 주문 요약에 회원명 설정
+     */
+    private OrderDto.Summary withMemberName(OrderDto.Summary summary) {
+        summary.applyMember(memberIntegrationService.getMember(summary.getMemberId()));
+        return summary;
+    }
+
     /**
      * 주문 요청 데이터 검증
      */
@@ -267,15 +484,26 @@ public class OrderService {
             throw new InvalidOrderException("수량은 0보다 커야 합니다");
         }
         
-        if (request.getUnitPrice().compareTo(BigDecimal.ZERO) <= 0) {
+        if (!request.getUnitPrice().isPositive()) {
             throw new InvalidOrderException("단가는 0보다 커야 합니다");
         }
         
         // 총 금액이 너무 큰 경우 검증
-        BigDecimal totalAmount = request.getUnitPrice().multiply(BigDecimal.valueOf(request.getQuantity()));
-        BigDecimal maxAmount = new BigDecimal("999999999.99");
-        if (totalAmount.compareTo(maxAmount) > 0) {
-            throw new InvalidOrderException("주문 금액이 너무 큽니다");
+        totalAmountOf(request.getUnitPrice(), request.getQuantity());
+    }
+
+    /**
+     * 총 금액 계산 (단가 × 수량, 최대 금액 초과 또는 long 오버플로 시 InvalidOrderException)
+     */
+    private static Money totalAmountOf(Money unitPrice, int quantity) {
+        try {
+            Money totalAmount = unitPrice.times(quantity);
+            if (totalAmount.isGreaterThan(MAX_TOTAL_AMOUNT)) {
+                throw new InvalidOrderException("주문 금액이 너무 큽니다");
+            }
+            return totalAmount;
+        } catch (ArithmeticException e) {
+            throw new InvalidOrderException("주문 금액이 너무 큽니다", e);
         }
     }
 }
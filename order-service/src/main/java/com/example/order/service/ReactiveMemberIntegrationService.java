@@ -0,0 +1,120 @@
+package com.example.order.service;
+
+import com.example.common.web.RequestDeadline;
+import com.example.order.client.CallContext;
+import com.example.order.client.LastKnownMemberStore;
+import com.example.order.client.MemberServiceClient;
+import com.example.order.exception.DeadlineExceededException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Member Service 반응형 통합 서비스 (MemberIntegrationService의 WebClient 버전)
+ *
+ * 어노테이션(@Retry, @CircuitBreaker) 대신 Resilience4j Reactor 연산자를 사용하며,
+ * 같은 이름(member-service)의 Circuit Breaker와 재시도 설정을 공유합니다.
+ * - Retry가 Circuit Breaker 바깥 (재시도 한 번 한 번을 호출로 집계, 조건은 MemberCallRetryPredicate)
+ * - 전체 호출은 요청 처리 기한의 남은 시간 안에서만 기다리고, 넘으면 DeadlineExceededException
+ * - 조회에 성공한 회원 정보는 LastKnownMemberStore에 저장하고, 최종 실패 시 저장된 회원 정보 또는 알 수 없는 사용자 사용
+ *
+ * 인바운드 요청 정보(JWT 토큰, 기한)는 요청 스레드에서 CallContext로 복사해 넘겨받습니다.
+ * (구독과 응답 처리는 다른 스레드에서 일어나므로 호출 시점에 요청을 읽을 수 없음)
+ * 헤지 요청은 적용하지 않습니다.
+ */
+@Service
+@ConditionalOnProperty(name = "order.reactive.enabled", havingValue = "true")
+public class ReactiveMemberIntegrationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveMemberIntegrationService.class);
+
+    private final WebClient memberServiceWebClient;
+    private final LastKnownMemberStore lastKnownMemberStore;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+
+    public ReactiveMemberIntegrationService(WebClient memberServiceWebClient,
+                                            LastKnownMemberStore lastKnownMemberStore,
+                                            CircuitBreakerRegistry circuitBreakerRegistry,
+                                            RetryRegistry retryRegistry) {
+        this.memberServiceWebClient = memberServiceWebClient;
+        this.lastKnownMemberStore = lastKnownMemberStore;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("member-service");
+        this.retry = retryRegistry.retry("member-service");
+    }
+
+    /**
+     * 회원 정보 조회 (Circuit Breaker, 재시도, 처리 기한 적용)
+     *
+     * @param memberId 회원 ID
+     * @param context  요청 스레드에서 복사한 호출 정보
+     * @return 회원 정보 (실패 시 오류 신호)
+     */
+    public Mono<MemberServiceClient.MemberDto> getMember(Long memberId, CallContext context) {
+        if (context.isExpired()) {
+            return Mono.error(new DeadlineExceededException("요청 처리 기한이 지나 Member Service를 호출하지 않았습니다"));
+        }
+        Mono<MemberServiceClient.MemberDto> call = Mono.defer(() -> memberServiceWebClient.get()
+                        .uri("/members/{id}", memberId)
+                        .headers(headers -> copyHeaders(headers, context))
+                        .retrieve()
+                        .bodyToMono(MemberServiceClient.MemberDto.class))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(RetryOperator.of(retry))
+                .doOnNext(lastKnownMemberStore::put);
+        if (context.deadline() == null) {
+            return call;
+        }
+        return call.timeout(Duration.ofNanos(context.remainingNanos()))
+                .onErrorMap(TimeoutException.class,
+                        e -> new DeadlineExceededException("요청 처리 기한 안에 Member Service 응답을 받지 못했습니다"));
+    }
+
+    /**
+     * 회원 정보 조회 (실패하면 저장된 회원 정보 또는 알 수 없는 사용자, 회원명 표시용)
+     *
+     * @param memberId 회원 ID
+     * @param context  요청 스레드에서 복사한 호출 정보
+     * @return 회원 정보
+     */
+    public Mono<MemberServiceClient.MemberDto> getMemberOrFallback(Long memberId, CallContext context) {
+        return getMember(memberId, context)
+                .onErrorResume(e -> {
+                    if (e instanceof WebClientResponseException.NotFound) {
+                        lastKnownMemberStore.evict(memberId);
+                        return Mono.just(MemberIntegrationService.unknownMember(memberId));
+                    }
+                    log.warn("Member Service unavailable. Using fallback for member, memberId: {}", memberId, e);
+                    return Mono.just(lastKnownMemberStore.findStale(memberId, context)
+                            .orElseGet(() -> MemberIntegrationService.unknownMember(memberId)));
+                });
+    }
+
+    /**
+     * Authorization과 남은 처리 기한 헤더 설정 (재시도마다 남은 시간을 다시 계산)
+     */
+    private static void copyHeaders(HttpHeaders headers, CallContext context) {
+        if (StringUtils.hasText(context.authorization())) {
+            headers.set(HttpHeaders.AUTHORIZATION, context.authorization());
+        }
+        RequestDeadline deadline = context.deadline();
+        if (deadline != null) {
+            headers.set(RequestDeadline.HEADER, String.valueOf(Math.max(deadline.remainingMillis(), 0)));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.order.service;
+
+import com.example.order.client.CallContext;
+import com.example.order.dto.OrderDto;
+import com.example.order.entity.Order;
+import com.example.order.exception.OrderNotFoundException;
+import com.example.order.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 주문 반응형 조회 서비스 (order.reactive.enabled=true일 때만 등록)
+ *
+ * OrderService의 조회 메서드와 같은 결과를 Mono로 반환합니다.
+ * - 운영 + 보관 주문: OrderService와 같은 OrderArchiveService 메서드(...WithLive)로 조회
+ * - DB 조회: 블로킹 JPA 조회를 전용 스케줄러(orderJpaScheduler)에서 실행
+ * - 회원명: 주문에 나온 회원 ID를 중복 없이 모아 Flux.flatMap으로 동시에 조회 (동시 호출 수는 member-concurrency)
+ *   (OrderService는 주문마다 순서대로 호출하므로 목록 조회 시간이 주문 수에 비례)
+ * 요청 스레드는 Mono를 반환하자마자 반납되고, Member Service 응답은 Netty 이벤트 루프에서 처리합니다.
+ *
+ * 트랜잭션 메서드가 아니므로 OrderService와 분리했습니다. (클래스 단위 @Transactional은 Mono 반환 메서드에
+ * 반응형 트랜잭션 매니저를 요구함) 각 조회는 리포지토리의 읽기 전용 트랜잭션에서 실행됩니다.
+ */
+@Service
+@ConditionalOnProperty(name = "order.reactive.enabled", havingValue = "true")
+public class ReactiveOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveOrderService.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderArchiveService orderArchiveService;
+    private final ReactiveMemberIntegrationService memberIntegrationService;
+    private final Scheduler orderJpaScheduler;
+    private final int memberConcurrency;
+
+    public ReactiveOrderService(OrderRepository orderRepository, OrderArchiveService orderArchiveService,
+                                ReactiveMemberIntegrationService memberIntegrationService,
+                                Scheduler orderJpaScheduler,
+                                @Value("${order.reactive.member-concurrency:16}") int memberConcurrency) {
+        this.orderRepository = orderRepository;
+        this.orderArchiveService = orderArchiveService;
+        this.memberIntegrationService = memberIntegrationService;
+        this.orderJpaScheduler = orderJpaScheduler;
+        this.memberConcurrency = memberConcurrency;
+    }
+
+    /**
+     * ID로 주문 조회 (운영 주문에 없으면 보관 주문에서 조회)
+     */
+    public Mono<OrderDto.Response> getOrderById(Long id) {
+        log.debug("Retrieving order by ID (reactive): {}", id);
+        CallContext context = CallContext.current();
+
+        return query(() -> orderRepository.findById(id)
+                        .map(OrderDto.Response::from)
+                        .or(() -> orderArchiveService.findById(id))
+                        .orElseThrow(() -> new OrderNotFoundException("주문을 찾을 수 없습니다. ID: " + id)))
+                .flatMap(response -> memberIntegrationService.getMemberOrFallback(response.getMemberId(), context)
+                        .map(member -> {
+                            response.applyMember(member);
+                            return response;
+                        }));
+    }
+
+    /**
+     * 모든 주문 조회 (운영 + 보관 주문)
+     */
+    public Mono<List<OrderDto.Summary>> getAllOrders() {
+        log.debug("Retrieving all orders (reactive)");
+
+        return withMemberNames(query(orderArchiveService::findAllSummariesWithLive), CallContext.current());
+    }
+
+    /**
+     * 주문 페이징 조회 (보관 주문이 있으면 운영 주문과 합쳐서 페이징)
+     */
+    public Mono<Page<OrderDto.Summary>> getOrders(Pageable pageable) {
+        log.debug("Retrieving orders with pagination (reactive): {}", pageable);
+        CallContext context = CallContext.current();
+
+        return query(() -> orderArchiveService.findSummariesWithLive(pageable))
+                .flatMap(page -> withMemberNames(Mono.just(page.getContent()), context).thenReturn(page));
+    }
+
+    /**
+     * 회원별 주문 조회 (회원 조회와 주문 조회를 동시에 실행)
+     */
+    public Mono<List<OrderDto.Summary>> getOrdersByMemberId(Long memberId) {
+        log.debug("Retrieving orders by member ID (reactive): {}", memberId);
+        CallContext context = CallContext.current();
+
+        Mono<List<OrderDto.Summary>> orders =
+                query(() -> orderArchiveService.findSummariesWithLiveByMemberId(memberId));
+        return Mono.zip(orders, memberIntegrationService.getMemberOrFallback(memberId, context))
+                .map(result -> {
+                    result.getT1().forEach(order -> order.applyMember(result.getT2()));
+                    return result.getT1();
+                });
+    }
+
+    /**
+     * 상태별 주문 조회
+     */
+    public Mono<List<OrderDto.Summary>> getOrdersByStatus(Order.OrderStatus status) {
+        log.debug("Retrieving orders by status (reactive): {}", status);
+
+        return withMemberNames(query(() -> orderArchiveService.findSummariesWithLiveByStatus(status)),
+                CallContext.current());
+    }
+
+    /**
+     * 최근 주문 조회 (운영 + 보관 주문 중 최신순 10개)
+     */
+    public Mono<List<OrderDto.Summary>> getRecentOrders() {
+        log.debug("Retrieving recent orders (reactive)");
+
+        return withMemberNames(query(() -> orderArchiveService.findRecentSummariesWithLive(10)),
+                CallContext.current());
+    }
+
+    /**
+     * 주문 요약 목록에 회원명 설정
+     *
+     * 회원 ID별로 한 번씩, 최대 memberConcurrency개를 동시에 조회합니다. (목록 순서는 유지)
+     */
+    private Mono<List<OrderDto.Summary>> withMemberNames(Mono<List<OrderDto.Summary>> orders, CallContext context) {
+        return orders.flatMap(summaries -> Flux.fromIterable(summaries)
+                .map(OrderDto.Summary::getMemberId)
+                .distinct()
+                .flatMap(memberId -> memberIntegrationService.getMemberOrFallback(memberId, context)
+                        .map(member -> Map.entry(memberId, member)), memberConcurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(members -> {
+                    summaries.forEach(order -> order.applyMember(members.get(order.getMemberId())));
+                    return summaries;
+                }));
+    }
+
+    /**
+     * 블로킹 JPA 조회를 전용 스케줄러에서 실행
+     */
+    private <T> Mono<T> query(Callable<T> query) {
+        return Mono.fromCallable(query).subscribeOn(orderJpaScheduler);
+    }
+}
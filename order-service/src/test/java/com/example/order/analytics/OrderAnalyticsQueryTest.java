@@ -0,0 +1,196 @@
+package com.example.order.analytics;
+
+import com.example.order.entity.ArchivedOrder;
+import com.example.order.entity.Money;
+import com.example.order.entity.Order;
+import com.example.order.repository.ArchivedOrderRepository;
+import com.example.order.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 주문 집계 쿼리 테스트
+ *
+ * 스냅샷 생성 쿼리(운영/보관 주문의 findAnalyticsRowsAfter)로 읽은 행이 집계에 그대로 반영되는지 검증합니다.
+ * - 주문이 없는 기간은 빈 결과
+ * - 일/주/월 경계 (23:59:59 주문, 일요일 → 월요일, 말일 → 1일)
+ * - 금액 합계는 최소 단위(× 100) 그대로 더해져 소수점 오차가 없음
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("test")
+@Import({OrderAnalytics.class, OrderAnalyticsListener.class})
+@DisplayName("주문 집계 쿼리 테스트")
+class OrderAnalyticsQueryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private OrderAnalytics orderAnalytics;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // 시작 시 백그라운드 재생성이 끝난 뒤 초기 데이터를 지우고 테스트 데이터로 다시 생성
+        while ((Boolean) orderAnalytics.stats().get("rebuilding")) {
+            Thread.sleep(10);
+        }
+        orderRepository.deleteAllInBatch();
+        archivedOrderRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("운영/보관 주문 쿼리는 ID 순 키셋 페이징으로 금액/주문일시/상태를 그대로 반환")
+    void analyticsRowsArePagedById() {
+        Order live = order("1500000.99", LocalDateTime.of(2024, 3, 31, 12, 0), Order.OrderStatus.PENDING);
+        order("0.01", LocalDateTime.of(2024, 3, 31, 13, 0), Order.OrderStatus.PENDING);
+        archived(10_000L, "0.02", LocalDateTime.of(2023, 1, 1, 0, 0), Order.OrderStatus.DELIVERED);
+
+        List<OrderRepository.AnalyticsRow> first = orderRepository.findAnalyticsRowsAfter(0, PageRequest.of(0, 1));
+        List<OrderRepository.AnalyticsRow> next = orderRepository.findAnalyticsRowsAfter(first.get(0).getId(),
+                PageRequest.of(0, 1));
+
+        assertThat(first).extracting(OrderRepository.AnalyticsRow::getId).containsExactly(live.getId());
+        assertThat(first.get(0).getTotalAmount()).isEqualTo(Money.of(new BigDecimal("1500000.99")));
+        assertThat(first.get(0).getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 3, 31, 12, 0));
+        assertThat(next).extracting(OrderRepository.AnalyticsRow::getTotalAmount)
+                .containsExactly(Money.ofMinor(1));
+        assertThat(archivedOrderRepository.findAnalyticsRowsAfter(0, PageRequest.of(0, 10)))
+                .extracting(OrderRepository.AnalyticsRow::getId, OrderRepository.AnalyticsRow::getStatus)
+                .containsExactly(tuple(10_000L, Order.OrderStatus.DELIVERED));
+        assertThat(archivedOrderRepository.findAnalyticsRowsAfter(10_000L, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문이 없거나 주문이 없는 기간이면 빈 결과")
+    void emptyRange() {
+        orderAnalytics.rebuild();
+        assertThat(orderAnalytics.aggregate(GroupBy.DAY, null, null, List.of())).isEqualTo(Aggregation.EMPTY);
+
+        order("100.00", LocalDateTime.of(2024, 3, 15, 9, 0), Order.OrderStatus.PENDING);
+        orderAnalytics.rebuild();
+
+        assertThat(orderAnalytics.aggregate(GroupBy.DAY, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30),
+                List.of())).isEqualTo(Aggregation.EMPTY);
+        assertThat(orderAnalytics.aggregate(GroupBy.STATUS, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31),
+                List.of(Order.OrderStatus.DELIVERED)).orders()).isZero();
+    }
+
+    @Test
+    @DisplayName("일/주/월 경계: 23:59:59는 그날, 일요일과 월요일은 다른 주, 말일과 1일은 다른 달")
+    void groupBoundaries() {
+        // 2024-03-31은 일요일, 2024-04-01은 월요일
+        order("10.00", LocalDateTime.of(2024, 3, 31, 23, 59, 59), Order.OrderStatus.PENDING);
+        order("20.00", LocalDateTime.of(2024, 4, 1, 0, 0), Order.OrderStatus.PENDING);
+        archived(10_000L, "30.00", LocalDateTime.of(2024, 3, 25, 0, 0), Order.OrderStatus.DELIVERED);
+        orderAnalytics.rebuild();
+
+        assertThat(orderAnalytics.aggregate(GroupBy.DAY, null, null, List.of()).buckets())
+                .extracting(Aggregation.Bucket::key, Aggregation.Bucket::amount)
+                .containsExactly(
+                        tuple("2024-03-25", 3000L),
+                        tuple("2024-03-31", 1000L),
+                        tuple("2024-04-01", 2000L));
+        assertThat(orderAnalytics.aggregate(GroupBy.WEEK, null, null, List.of()).buckets())
+                .extracting(Aggregation.Bucket::key, Aggregation.Bucket::count)
+                .containsExactly(
+                        tuple("2024-03-25", 2L),
+                        tuple("2024-04-01", 1L));
+        assertThat(orderAnalytics.aggregate(GroupBy.MONTH, null, null, List.of()).buckets())
+                .extracting(Aggregation.Bucket::key, Aggregation.Bucket::count)
+                .containsExactly(
+                        tuple("2024-03", 2L),
+                        tuple("2024-04", 1L));
+
+        // 시작일/종료일은 둘 다 포함
+        assertThat(orderAnalytics.aggregate(GroupBy.DAY, LocalDate.of(2024, 3, 31), LocalDate.of(2024, 3, 31),
+                List.of()).orders()).isEqualTo(1);
+        // 주 중간부터 조회하면 그 주의 키는 그대로 월요일 날짜
+        assertThat(orderAnalytics.aggregate(GroupBy.WEEK, LocalDate.of(2024, 3, 27), null, List.of()).buckets())
+                .extracting(Aggregation.Bucket::key)
+                .containsExactly("2024-03-25", "2024-04-01");
+    }
+
+    @Test
+    @DisplayName("금액 합계는 최소 단위로 정확히 더해짐 (운영 + 보관, 상태 필터)")
+    void moneySums() {
+        order("0.10", LocalDateTime.of(2024, 5, 1, 10, 0), Order.OrderStatus.DELIVERED);
+        order("0.20", LocalDateTime.of(2024, 5, 1, 11, 0), Order.OrderStatus.DELIVERED);
+        order("99999999.99", LocalDateTime.of(2024, 5, 2, 10, 0), Order.OrderStatus.DELIVERED);
+        archived(10_000L, "9999999999.99", LocalDateTime.of(2024, 5, 3, 10, 0), Order.OrderStatus.DELIVERED);
+        order("5.55", LocalDateTime.of(2024, 5, 3, 10, 0), Order.OrderStatus.CANCELLED);
+        orderAnalytics.rebuild();
+
+        Aggregation delivered = orderAnalytics.aggregate(GroupBy.MONTH, null, null,
+                List.of(Order.OrderStatus.DELIVERED));
+
+        assertThat(delivered.orders()).isEqualTo(4);
+        assertThat(Money.ofMinor(delivered.buckets().get(0).amount()))
+                .isEqualTo(Money.of(new BigDecimal("10100000000.28")));
+        assertThat(orderAnalytics.aggregate(GroupBy.DAY, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 1),
+                List.of()).buckets().get(0).amount()).isEqualTo(30L);
+        assertThat(orderAnalytics.aggregate(GroupBy.STATUS, null, null, List.of()).buckets())
+                .extracting(Aggregation.Bucket::key, Aggregation.Bucket::amount)
+                .containsExactly(
+                        tuple("DELIVERED", 1_010_000_000_028L),
+                        tuple("CANCELLED", 555L));
+    }
+
+    private Order order(String amount, LocalDateTime createdAt, Order.OrderStatus status) {
+        Order order = orderRepository.saveAndFlush(Order.builder()
+                .memberId(1L)
+                .productName("집계 테스트 상품")
+                .quantity(1)
+                .unitPrice(Money.of(new BigDecimal(amount)))
+                .totalAmount(Money.of(new BigDecimal(amount)))
+                .status(status)
+                .build());
+        // 주문일시는 @CreationTimestamp라 저장 후 쿼리로 바꿈
+        entityManager.createQuery("UPDATE Order o SET o.createdAt = :createdAt WHERE o.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", order.getId())
+                .executeUpdate();
+        entityManager.clear();
+        return order;
+    }
+
+    private void archived(long id, String amount, LocalDateTime createdAt, Order.OrderStatus status) {
+        archivedOrderRepository.saveAndFlush(ArchivedOrder.builder()
+                .id(id)
+                .memberId(1L)
+                .productName("집계 테스트 보관 상품")
+                .quantity(1)
+                .totalAmount(Money.of(new BigDecimal(amount)))
+                .status(status)
+                .createdAt(createdAt)
+                .version(0L)
+                .archiveMonth(createdAt.getYear() * 100 + createdAt.getMonthValue())
+                .archivedAt(LocalDateTime.now())
+                .details(new byte[0])
+                .build());
+    }
+}
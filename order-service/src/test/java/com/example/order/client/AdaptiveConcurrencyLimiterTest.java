@@ -0,0 +1,200 @@
+package com.example.order.client;
+
+import com.example.order.exception.ConcurrencyLimitExceededException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AdaptiveConcurrencyLimiter 유닛 테스트
+ *
+ * 한도 계산은 윈도우 결과(updateLimit)를 직접 넣어 시간에 의존하지 않게 검증합니다.
+ * - 응답 시간이 평소와 같고 부하가 있으면 한도 증가, 느려지면 min-limit까지 감소, 부하가 없으면 유지
+ * - 한도에 닿으면 기다리지 않고 거절 (ConcurrencyLimitCapability는 요청을 보내지 않음)
+ * - 호출이 예외로 끝나거나 취소(인터럽트)되어도 허가가 반납됨
+ */
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final double RTT_10MS = 10_000_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("응답 시간이 평소와 같고 한도까지 쓰이면 한도 증가 (max-limit 이하)")
+    void growsWhileRttIsSteady() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 4, 40);
+
+        List<Integer> limits = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            limiter.updateLimit(RTT_10MS, limiter.getLimit());
+            limits.add(limiter.getLimit());
+        }
+
+        assertThat(limits.get(0)).isEqualTo(20);
+        assertThat(limits.get(5)).isGreaterThan(20);
+        assertThat(limits).isSorted();
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 평소보다 크게 늘면 한도 감소 (min-limit 이상)")
+    void shrinksWhenRttRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(100, 4, 200);
+        for (int i = 0; i < 10; i++) {
+            limiter.updateLimit(RTT_10MS, limiter.getLimit());
+        }
+        int before = limiter.getLimit();
+
+        limiter.updateLimit(RTT_10MS * 10, limiter.getLimit());
+        assertThat(limiter.getLimit()).isLessThan(before);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.updateLimit(RTT_10MS * 10, limiter.getLimit());
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("동시 호출이 한도의 절반도 안 되면 응답이 빨라도 한도 유지")
+    void keepsLimitWhenIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 4, 200);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.updateLimit(RTT_10MS, 9);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("한도에 닿으면 기다리지 않고 거절하고, 반납되면 다시 허가")
+    void rejectsAtLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 4, 200);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+
+        assertThat(permits).doesNotContainNull();
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(meterRegistry.get("member-service.limiter.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member-service.limiter.inflight").gauge().value()).isEqualTo(4);
+
+        permits.get(0).success();
+        permits.get(0).success();
+        assertThat(limiter.getInflight()).isEqualTo(3);
+        assertThat(limiter.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 Feign 요청을 보내지 않고 ConcurrencyLimitExceededException")
+    void capabilityRejectsWithoutCalling() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 4, 200);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+        AtomicInteger calls = new AtomicInteger();
+        Client client = limited(limiter, (request, options) -> {
+            calls.incrementAndGet();
+            return response(request);
+        });
+
+        assertThatThrownBy(() -> client.execute(request(), new Request.Options()))
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .hasMessageContaining("(4)");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("호출이 성공하거나 IOException/RuntimeException으로 끝나도 허가 반납")
+    void releasesPermitOnCompletionAndThrow() throws IOException {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 4, 200);
+
+        limited(limiter, (request, options) -> response(request)).execute(request(), new Request.Options());
+        assertThatThrownBy(() -> limited(limiter, (request, options) -> {
+            throw new IOException("connection refused");
+        }).execute(request(), new Request.Options())).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> limited(limiter, (request, options) -> {
+            throw new IllegalStateException("decode failed");
+        }).execute(request(), new Request.Options())).isInstanceOf(IllegalStateException.class);
+
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 중인 호출이 취소(인터럽트)되어도 허가 반납")
+    void releasesPermitOnCancel() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 4, 200);
+        CountDownLatch started = new CountDownLatch(1);
+        Client client = limited(limiter, (request, options) -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("cancelled");
+            }
+            return response(request);
+        });
+        Thread caller = Thread.ofVirtual().start(() -> {
+            try {
+                client.execute(request(), new Request.Options());
+            } catch (IOException ignored) {
+                // 취소된 호출
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.getInflight()).isEqualTo(1);
+
+        caller.interrupt();
+        caller.join(5_000);
+
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 한도와 관계없이 허가")
+    void disabledNeverRejects() {
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(meterRegistry, false, 4, 4, 200, 1.5);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isNotNull();
+        }
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+        return new AdaptiveConcurrencyLimiter(meterRegistry, true, initialLimit, minLimit, maxLimit, 1.5);
+    }
+
+    private static Client limited(AdaptiveConcurrencyLimiter limiter, Client client) {
+        return new ConcurrencyLimitCapability(limiter).enrich(client);
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, "http://member-service/api/members/1", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+    }
+
+    private static Response response(Request request) {
+        return Response.builder().status(200).request(request).headers(Map.of()).build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.order.client;
+
+import com.example.common.web.RequestDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CallContext 유닛 테스트
+ *
+ * 요청 스레드에서는 현재 요청에서 읽고, run()으로 넘긴 값은 실행 중에만 보이며
+ * 끝나면(예외 포함) 이전 값으로 돌아가는지 검증합니다.
+ */
+@DisplayName("CallContext 테스트")
+class CallContextTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("요청 스레드에서는 현재 요청의 Authorization 헤더와 처리 기한을 읽음")
+    void capturesCurrentRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        RequestDeadline deadline = RequestDeadline.after(Duration.ofSeconds(3));
+        deadline.bind(request);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        CallContext current = CallContext.current();
+
+        assertThat(current.authorization()).isEqualTo("Bearer token");
+        assertThat(current.deadline()).isSameAs(deadline);
+    }
+
+    @Test
+    @DisplayName("요청도 전달받은 값도 없으면 빈 호출 정보 (기한 없음)")
+    void emptyOutsideRequest() {
+        CallContext current = CallContext.current();
+
+        assertThat(current.authorization()).isNull();
+        assertThat(current.isExpired()).isFalse();
+        assertThat(current.remainingNanos()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("run()으로 넘긴 값은 실행 중에만 보이고, 중첩 실행이나 예외 후에는 이전 값으로 돌아감")
+    void runRestoresPrevious() {
+        CallContext outer = new CallContext("Bearer outer", null);
+        CallContext inner = new CallContext("Bearer inner", null);
+
+        String seen = outer.run(() -> {
+            String nested = inner.run(() -> CallContext.current().authorization());
+            assertThat(nested).isEqualTo("Bearer inner");
+            assertThatThrownBy(() -> inner.run(() -> {
+                throw new IllegalStateException("실패");
+            })).isInstanceOf(IllegalStateException.class);
+            return CallContext.current().authorization();
+        });
+
+        assertThat(seen).isEqualTo("Bearer outer");
+        assertThat(CallContext.current().authorization()).isNull();
+    }
+}
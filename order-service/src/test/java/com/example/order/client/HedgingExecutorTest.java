@@ -0,0 +1,151 @@
+package com.example.order.client;
+
+import com.example.common.web.RequestDeadline;
+import com.example.order.exception.DeadlineExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HedgingExecutor 유닛 테스트
+ *
+ * Member Service 호출 대신 지연 시간을 정할 수 있는 Supplier로 헤지 요청 동작을 검증합니다.
+ * - 헤지 요청은 최근 응답 시간의 p95가 지난 뒤에만 보냄
+ * - 헤지 요청 수는 전체 호출의 max-percent 이내
+ * - 먼저 끝난 응답을 사용하고 나머지 호출은 인터럽트로 취소
+ * - 처리 기한이 지났으면 호출하지 않음
+ * - 인바운드 요청 정보(CallContext)가 가상 스레드의 호출까지 전달됨
+ */
+@DisplayName("HedgingExecutor 테스트")
+class HedgingExecutorTest {
+
+    private HedgingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("p95보다 빨리 끝나면 헤지하지 않고, 느리면 p95가 지난 뒤 한 번 더 호출하여 먼저 온 응답 사용")
+    void hedgesOnlyAfterP95() {
+        executor = new HedgingExecutor(true, Duration.ofSeconds(1), Duration.ofMillis(1), Duration.ofSeconds(1), 100);
+        // 표본 40건 (p95 ≈ 30ms)
+        for (int i = 0; i < 40; i++) {
+            executor.execute(() -> sleep(30));
+        }
+
+        AtomicInteger fastCalls = new AtomicInteger();
+        executor.execute(() -> {
+            fastCalls.incrementAndGet();
+            return sleep(5);
+        });
+        assertThat(fastCalls).hasValue(1);
+
+        List<Long> startedAt = new CopyOnWriteArrayList<>();
+        String result = executor.execute(() -> {
+            startedAt.add(System.nanoTime());
+            return startedAt.size() == 1 ? sleep(2_000) + "-primary" : "hedged";
+        });
+
+        assertThat(result).isEqualTo("hedged");
+        assertThat(startedAt).hasSize(2);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(startedAt.get(1) - startedAt.get(0))).isGreaterThanOrEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("모든 호출이 느려도 헤지 요청은 max-percent(10%) 이내")
+    void hedgeBudgetIsLimited() {
+        executor = new HedgingExecutor(true, Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofMillis(1), 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 100; i++) {
+            executor.execute(() -> {
+                attempts.incrementAndGet();
+                return sleep(10);
+            });
+        }
+
+        assertThat(attempts.get() - 100).isBetween(1, 10);
+    }
+
+    @Test
+    @DisplayName("헤지 요청이 먼저 끝나면 느린 첫 호출은 인터럽트로 취소")
+    void cancelsLoser() throws InterruptedException {
+        executor = new HedgingExecutor(true, Duration.ofMillis(20), Duration.ofMillis(1), Duration.ofSeconds(1), 100);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        String result = executor.execute(() -> {
+            if (attempts.incrementAndGet() > 1) {
+                return "hedged";
+            }
+            try {
+                Thread.sleep(5_000);
+                return "primary";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(result).isEqualTo("hedged");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("처리 기한이 지났으면 호출하지 않고 DeadlineExceededException")
+    void expiredDeadlineShortCircuits() {
+        executor = new HedgingExecutor(true, Duration.ofMillis(100), Duration.ofMillis(10), Duration.ofSeconds(1), 10);
+        AtomicInteger attempts = new AtomicInteger();
+        CallContext expired = new CallContext(null, RequestDeadline.after(Duration.ofMillis(-1)));
+
+        assertThatThrownBy(() -> expired.run(() -> executor.execute(attempts::incrementAndGet)))
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(attempts).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("호출은 가상 스레드에서 실행되고 호출 정보(토큰, 기한)가 전달되며, 끝나면 호출한 스레드에 남지 않음")
+    void propagatesCallContextToVirtualThread() {
+        executor = new HedgingExecutor(true, Duration.ofMillis(100), Duration.ofMillis(10), Duration.ofSeconds(1), 10);
+        CallContext context = new CallContext("Bearer token", RequestDeadline.after(Duration.ofSeconds(5)));
+        AtomicReference<CallContext> seen = new AtomicReference<>();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        context.run(() -> executor.execute(() -> {
+            seen.set(CallContext.current());
+            thread.set(Thread.currentThread());
+            return null;
+        }));
+
+        assertThat(seen.get()).isSameAs(context);
+        assertThat(thread.get().isVirtual()).isTrue();
+        assertThat(thread.get().getName()).startsWith("member-call-");
+        assertThat(CallContext.current().authorization()).isNull();
+        assertThat(CallContext.current().deadline()).isNull();
+    }
+
+    private static long sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.order.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * LastKnownMemberStore 유닛 테스트
+ *
+ * Member Service 호출은 Mockito로 대체하고 Circuit Breaker는 기본 설정 레지스트리를 사용합니다.
+ * - 저장한 회원 정보는 staleAsOf를 설정한 복사본으로 반환, max-age가 지나면 사용하지 않음
+ * - max-entries를 넘으면 가장 오래 안 쓴 회원부터 제거
+ * - 디스크 스냅샷 저장/읽기 (오래된 정보는 읽지 않음)
+ * - Circuit Breaker가 CLOSED로 바뀌면 저장된 값으로 응답한 회원을 그 요청의 토큰으로 다시 조회
+ */
+@DisplayName("LastKnownMemberStore 테스트")
+class LastKnownMemberStoreTest {
+
+    private final MemberServiceClient memberServiceClient = mock(MemberServiceClient.class);
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LastKnownMemberStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("저장한 회원 정보는 staleAsOf를 설정한 복사본으로 반환 (저장된 값은 다시 저장하지 않음)")
+    void servesStaleCopy() {
+        store = store(10, Duration.ofDays(7), null);
+        MemberServiceClient.MemberDto member = member(1L, "홍길동");
+        store.put(member);
+
+        Optional<MemberServiceClient.MemberDto> stale = store.findStale(1L, new CallContext(null, null));
+
+        assertThat(stale).hasValueSatisfying(copy -> {
+            assertThat(copy).isNotSameAs(member);
+            assertThat(copy.getFullName()).isEqualTo("홍길동");
+            assertThat(copy.getStaleAsOf()).isBeforeOrEqualTo(LocalDateTime.now());
+        });
+        assertThat(member.getStaleAsOf()).isNull();
+        assertThat(meterRegistry.get("member-service.last-known.served").counter().count()).isEqualTo(1);
+
+        store.put(stale.get());
+        store.put(null);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.findStale(2L, new CallContext(null, null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("max-age보다 오래된 회원 정보는 사용하지 않음")
+    void expiresAfterMaxAge() throws InterruptedException {
+        store = store(10, Duration.ofMillis(50), null);
+        store.put(member(1L, "홍길동"));
+        assertThat(store.findStale(1L, new CallContext(null, null))).isPresent();
+
+        Thread.sleep(100);
+
+        assertThat(store.findStale(1L, new CallContext(null, null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("max-entries를 넘으면 가장 오래 안 쓴 회원부터 제거, evict는 바로 제거")
+    void evictsLeastRecentlyUsed() {
+        store = store(2, Duration.ofDays(7), null);
+        store.put(member(1L, "회원1"));
+        store.put(member(2L, "회원2"));
+        store.findStale(1L, new CallContext(null, null));
+
+        store.put(member(3L, "회원3"));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.findStale(2L, new CallContext(null, null))).isEmpty();
+        assertThat(store.findStale(1L, new CallContext(null, null))).isPresent();
+
+        store.evict(1L);
+        assertThat(store.findStale(1L, new CallContext(null, null))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("디스크 스냅샷을 저장하고 다시 시작하면 읽어서 사용 (max-age가 지난 정보는 제외)")
+    void snapshotRoundTrip(@TempDir Path dir) throws InterruptedException {
+        Path file = dir.resolve("last-known-members.json");
+        store = store(10, Duration.ofDays(7), file);
+        store.put(member(1L, "홍길동"));
+        store.destroy();
+
+        LastKnownMemberStore restarted = store(10, Duration.ofDays(7), file);
+        assertThat(restarted.findStale(1L, new CallContext(null, null)))
+                .hasValueSatisfying(member -> assertThat(member.getFullName()).isEqualTo("홍길동"));
+        restarted.destroy();
+
+        Thread.sleep(100);
+        store = store(10, Duration.ofMillis(50), file);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Circuit Breaker가 CLOSED로 바뀌면 저장된 값으로 응답한 회원을 그 요청의 토큰으로 다시 조회")
+    void refreshesAfterCircuitCloses() throws InterruptedException {
+        store = store(10, Duration.ofDays(7), null);
+        store.put(member(1L, "이전 이름"));
+        store.findStale(1L, new CallContext("Bearer token", null));
+        given(memberServiceClient.getMemberById(anyLong())).willAnswer(invocation -> {
+            assertThat(CallContext.current().authorization()).isEqualTo("Bearer token");
+            return member(1L, "새 이름");
+        });
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("member-service");
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToClosedState();
+
+        for (int i = 0; i < 100 && !"새 이름".equals(fullName(1L)); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(fullName(1L)).isEqualTo("새 이름");
+    }
+
+    private String fullName(Long memberId) {
+        return store.findStale(memberId, new CallContext(null, null))
+                .map(MemberServiceClient.MemberDto::getFullName)
+                .orElse(null);
+    }
+
+    private LastKnownMemberStore store(int maxEntries, Duration maxAge, Path snapshotFile) {
+        LastKnownMemberStore created = new LastKnownMemberStore(memberServiceClient, circuitBreakerRegistry,
+                objectMapper, meterRegistry, maxEntries, maxAge, snapshotFile != null ? snapshotFile.toString() : "");
+        created.afterPropertiesSet();
+        return created;
+    }
+
+    private static MemberServiceClient.MemberDto member(Long id, String fullName) {
+        return new MemberServiceClient.MemberDto(id, "user" + id, "user" + id + "@example.com", fullName,
+                null, "ACTIVE", "활성", null);
+    }
+}
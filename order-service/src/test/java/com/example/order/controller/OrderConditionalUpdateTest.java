@@ -0,0 +1,212 @@
+package com.example.order.controller;
+
+import com.example.order.client.MemberServiceClient;
+import com.example.order.dto.OrderDto;
+import com.example.order.entity.Money;
+import com.example.order.entity.Order;
+import com.example.order.repository.OrderRepository;
+import com.example.order.service.MemberIntegrationService;
+import com.example.order.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주문 조건부 수정 테스트
+ *
+ * PUT /orders/{id}의 If-Match(412)와 상태 전이 검사(400), 동시 상태 변경(409)을 검증합니다.
+ * (낙관적 잠금 충돌은 GlobalExceptionHandler에서 409로 변환)
+ * 조회(GET /orders/{id})의 ETag가 필드 선택(?fields=) 표현마다 다른지도 함께 검증합니다.
+ * Member Service 호출은 MockBean으로 대체합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("주문 조건부 수정 테스트")
+class OrderConditionalUpdateTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private MemberIntegrationService memberIntegrationService;
+
+    private MockMvc mockMvc;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        given(memberIntegrationService.getMember(anyLong()))
+                .willReturn(new MemberServiceClient.MemberDto(1L, "hong", "hong@example.com", "홍길동",
+                        null, "ACTIVE", "활성", null));
+
+        order = orderRepository.saveAndFlush(Order.builder()
+                .memberId(1L)
+                .productName("조건부 수정 테스트 상품")
+                .quantity(1)
+                .unitPrice(Money.of(10000))
+                .totalAmount(Money.of(10000))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteById(order.getId());
+    }
+
+    @Test
+    @DisplayName("fields로 고른 조회 응답은 필드 목록마다 다른 강한 ETag이고, 그 ETag로만 304")
+    void fieldsSelectionHasOwnEtag() throws Exception {
+        String full = OrderService.etagOf(order.getId(), order.getVersion());
+
+        String idOnly = mockMvc.perform(get("/orders/{id}", order.getId()).param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productName").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String reordered = mockMvc.perform(get("/orders/{id}", order.getId()).param("fields", "status, id"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String sameFields = mockMvc.perform(get("/orders/{id}", order.getId()).param("fields", "id,status"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/orders/{id}", order.getId()))
+                .andExpect(header().string(HttpHeaders.ETAG, full));
+        assertThat(idOnly).isNotEqualTo(full).doesNotStartWith("W/");
+        assertThat(reordered).isEqualTo(sameFields).isNotEqualTo(idOnly);
+        mockMvc.perform(get("/orders/{id}", order.getId()).param("fields", "id")
+                        .header(HttpHeaders.IF_NONE_MATCH, full))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/orders/{id}", order.getId()).param("fields", "id")
+                        .header(HttpHeaders.IF_NONE_MATCH, idOnly))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, idOnly));
+    }
+
+    @Test
+    @DisplayName("현재 ETag로 If-Match를 보내면 수정하고 새 ETag 반환")
+    void updatesWhenIfMatchMatches() throws Exception {
+        String etag = OrderService.etagOf(order.getId(), order.getVersion());
+
+        mockMvc.perform(put("/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderMemo\":\"문 앞에 놓아주세요\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        OrderService.etagOf(order.getId(), order.getVersion() + 1)))
+                .andExpect(jsonPath("$.orderMemo").value("문 앞에 놓아주세요"));
+    }
+
+    @Test
+    @DisplayName("이전 버전의 ETag로 If-Match를 보내면 412")
+    void rejectsStaleIfMatch() throws Exception {
+        String staleEtag = OrderService.etagOf(order.getId(), order.getVersion());
+        orderService.changeOrderStatus(order.getId(), Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED);
+
+        mockMvc.perform(put("/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, staleEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\":2}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        OrderService.etagOf(order.getId(), order.getVersion() + 1)));
+
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("약한 ETag(W/)는 버전이 같아도 If-Match를 만족하지 않음 (강한 비교)")
+    void rejectsWeakIfMatch() throws Exception {
+        String weakEtag = "W/" + OrderService.etagOf(order.getId(), order.getVersion());
+
+        mockMvc.perform(put("/orders/{id}", order.getId())
+                        .header(HttpHeaders.IF_MATCH, weakEtag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\":2}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("PUT의 status도 상태 전이 표를 따름 (PENDING → DELIVERED는 400)")
+    void rejectsInvalidTransitionOnPut() throws Exception {
+        mockMvc.perform(put("/orders/{id}", order.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"DELIVERED\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/orders/{id}", order.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"CONFIRMED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    @DisplayName("PUT이 주문을 읽은 뒤 다른 요청이 상태를 바꾸면 버전 충돌(409)로 덮어쓰지 않음")
+    void rejectsPutRacingStatusChange() {
+        OrderDto.UpdateRequest request = OrderDto.UpdateRequest.builder()
+                .status(Order.OrderStatus.CONFIRMED)
+                .build();
+
+        // PUT 트랜잭션이 주문을 읽은 직후, 다른 트랜잭션에서 상태를 먼저 변경하고 커밋
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(tx -> {
+            orderRepository.findById(order.getId()).orElseThrow();
+            CompletableFuture.runAsync(() -> orderService.changeOrderStatus(
+                    order.getId(), Order.OrderStatus.PENDING, Order.OrderStatus.CANCELLED)).join();
+            orderService.updateOrder(order.getId(), request);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(orderRepository.findVersionInfoById(order.getId()).orElseThrow().getStatus())
+                .isEqualTo(Order.OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("PATCH의 expectedStatus가 현재 상태와 다르면 409와 현재 상태 반환")
+    void rejectsStatusChangeWithStaleExpectation() throws Exception {
+        orderService.changeOrderStatus(order.getId(), Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED);
+
+        mockMvc.perform(patch("/orders/{id}/status", order.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"expectedStatus\":\"PENDING\",\"status\":\"CANCELLED\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.details.currentStatus").value("CONFIRMED"))
+                .andExpect(jsonPath("$.details.retryable").value("false"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.order.dto;
+
+import com.example.common.web.FieldFilterConfig;
+import com.example.order.entity.Money;
+import com.example.order.entity.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.boot.test.json.JacksonTester;
+import org.springframework.boot.test.json.JsonContent;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 DTO JSON 직렬화 테스트
+ *
+ * 애플리케이션과 같은 ObjectMapper 설정(필드 선택 필터 포함)으로 금액이 소수 2자리 숫자로 나가고,
+ * 요청의 금액 숫자/문자열이 Money로 읽히는지 검증합니다.
+ */
+@JsonTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false",
+        "eureka.client.enabled=false"
+})
+@ActiveProfiles("test")
+@Import(FieldFilterConfig.class)
+@DisplayName("주문 DTO JSON 테스트")
+class OrderDtoJsonTest {
+
+    @Autowired
+    private JacksonTester<OrderDto.Response> responseJson;
+
+    @Autowired
+    private JacksonTester<OrderDto.Summary> summaryJson;
+
+    @Autowired
+    private JacksonTester<OrderDto.CreateRequest> createRequestJson;
+
+    @Test
+    @DisplayName("주문 응답의 금액은 소수 2자리 숫자, 일시는 yyyy-MM-dd HH:mm:ss")
+    void serializesResponse() throws Exception {
+        OrderDto.Response response = OrderDto.Response.builder()
+                .id(1L)
+                .memberId(2L)
+                .memberName("홍길동")
+                .productName("노트북")
+                .quantity(3)
+                .unitPrice(Money.parse("1500000.5"))
+                .totalAmount(Money.parse("4500001.50"))
+                .status(Order.OrderStatus.PENDING)
+                .statusDescription(Order.OrderStatus.PENDING.getDescription())
+                .createdAt(LocalDateTime.of(2024, 3, 1, 9, 30, 5))
+                .version(0L)
+                .build();
+
+        JsonContent<OrderDto.Response> json = responseJson.write(response);
+
+        assertThat(json.getJson()).contains("\"unitPrice\":1500000.50", "\"totalAmount\":4500001.50");
+        assertThat(json).extractingJsonPathStringValue("$.createdAt").isEqualTo("2024-03-01 09:30:05");
+        assertThat(json).extractingJsonPathStringValue("$.status").isEqualTo("PENDING");
+        assertThat(json).doesNotHaveJsonPath("$.memberNameAsOf");
+    }
+
+    @Test
+    @DisplayName("주문 요약의 0원과 음수 금액도 소수 2자리 숫자")
+    void serializesSummaryAmounts() throws Exception {
+        OrderDto.Summary zero = new OrderDto.Summary(1L, 2L, "상품", 1, Money.ZERO, Order.OrderStatus.REFUNDED,
+                LocalDateTime.of(2024, 3, 1, 0, 0));
+        OrderDto.Summary negative = new OrderDto.Summary(1L, 2L, "상품", 1, Money.parse("-0.5"),
+                Order.OrderStatus.REFUNDED, LocalDateTime.of(2024, 3, 1, 0, 0));
+
+        assertThat(summaryJson.write(zero).getJson()).contains("\"totalAmount\":0.00");
+        assertThat(summaryJson.write(negative).getJson()).contains("\"totalAmount\":-0.50");
+    }
+
+    @Test
+    @DisplayName("주문 생성 요청의 단가는 숫자와 문자열 모두 Money로 읽음")
+    void deserializesCreateRequest() throws Exception {
+        OrderDto.CreateRequest number = createRequestJson.parseObject(
+                "{\"memberId\":1,\"productName\":\"노트북\",\"quantity\":2,\"unitPrice\":1500000.5}");
+        OrderDto.CreateRequest text = createRequestJson.parseObject(
+                "{\"memberId\":1,\"productName\":\"노트북\",\"quantity\":2,\"unitPrice\":\"1500000.50\"}");
+
+        assertThat(number.getUnitPrice()).isEqualTo(Money.ofMinor(150000050));
+        assertThat(text.getUnitPrice()).isEqualTo(Money.ofMinor(150000050));
+        assertThat(number.toEntity().getTotalAmount()).isEqualTo(Money.ofMinor(300000100));
+    }
+}
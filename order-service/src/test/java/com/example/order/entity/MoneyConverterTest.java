@@ -0,0 +1,49 @@
+package com.example.order.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MoneyConverter 유닛 테스트
+ *
+ * DECIMAL(p, 2) 컬럼 값과 Money 사이의 변환이 값과 소수 자릿수를 그대로 유지하는지 검증합니다.
+ */
+@DisplayName("MoneyConverter 테스트")
+class MoneyConverterTest {
+
+    private final MoneyConverter converter = new MoneyConverter();
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(longs = {0, 1, -1, 150000050, -325, 999999999999L, Long.MAX_VALUE, Long.MIN_VALUE})
+    @DisplayName("Money → DECIMAL → Money 왕복 (소수 2자리 유지)")
+    void roundTrips(long minorUnits) {
+        Money money = Money.ofMinor(minorUnits);
+
+        BigDecimal column = converter.convertToDatabaseColumn(money);
+
+        assertThat(column.scale()).isEqualTo(Money.SCALE);
+        assertThat(column.unscaledValue().longValueExact()).isEqualTo(minorUnits);
+        assertThat(converter.convertToEntityAttribute(column)).isEqualTo(money);
+    }
+
+    @Test
+    @DisplayName("DB 값의 소수 자릿수가 달라도 같은 금액 (1.5, 1.50, 1.500)")
+    void readsAnyScale() {
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("1.5"))).isEqualTo(Money.ofMinor(150));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("1.500"))).isEqualTo(Money.ofMinor(150));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("15E-1"))).isEqualTo(Money.ofMinor(150));
+    }
+
+    @Test
+    @DisplayName("null은 null로 변환")
+    void convertsNull() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
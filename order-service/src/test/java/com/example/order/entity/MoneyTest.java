@@ -0,0 +1,164 @@
+package com.example.order.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Money 유닛 테스트
+ *
+ * 텍스트 변환(toString/parse), JSON 직렬화/역직렬화, long 범위 경계를 검증합니다.
+ * 소수 셋째 자리 이하에 0이 아닌 값이 있으면 반올림하지 않고 거부합니다. (DB 값 변환용 of(BigDecimal)만 반올림)
+ */
+@DisplayName("Money 테스트")
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest(name = "{0} → {1}")
+    @CsvSource({
+            "0, 0.00",
+            "1, 0.01",
+            "-1, -0.01",
+            "150000050, 1500000.50",
+            "-325, -3.25",
+            "9223372036854775807, 92233720368547758.07",
+            "-9223372036854775808, -92233720368547758.08"
+    })
+    @DisplayName("최소 단위 → 소수 2자리 텍스트 (long 최솟값/최댓값 포함)")
+    void formatsMinorUnits(long minorUnits, String text) {
+        assertThat(Money.ofMinor(minorUnits).toString()).isEqualTo(text);
+        assertThat(Money.ofMinor(minorUnits).toBigDecimal()).isEqualTo(new BigDecimal(text));
+    }
+
+    @ParameterizedTest(name = "\"{0}\" → {1}")
+    @CsvSource({
+            "1500, 150000",
+            "1500.5, 150050",
+            "1500.50, 150050",
+            "-3.25, -325",
+            "+3.25, 325",
+            "0, 0",
+            "-0, 0",
+            "-0.00, 0",
+            ".5, 50",
+            "1., 100",
+            "1.250000, 125",
+            "1.5e3, 150000",
+            "1.5E3, 150000",
+            "12345e-2, 12345",
+            "1.234e2, 12340",
+            "92233720368547758.07, 9223372036854775807",
+            "-92233720368547758.08, -9223372036854775808"
+    })
+    @DisplayName("금액 문자열 파싱 (부호, 0, 소수 자릿수, 지수 표기, long 경계)")
+    void parses(String text, long minorUnits) {
+        assertThat(Money.parse(text).minorUnits()).isEqualTo(minorUnits);
+    }
+
+    @Test
+    @DisplayName("0은 항상 ZERO 인스턴스")
+    void zeroIsShared() {
+        assertThat(Money.parse("-0.00")).isSameAs(Money.ZERO);
+        assertThat(Money.ofMinor(0)).isSameAs(Money.ZERO);
+    }
+
+    @ParameterizedTest(name = "\"{0}\"")
+    @ValueSource(strings = {"1.001", "0.005", "-3.259", "1.2345e1", "12345e-3", "1e-9999"})
+    @DisplayName("소수 셋째 자리 이하에 0이 아닌 값이 있으면 반올림하지 않고 거부 (지수 표기 포함)")
+    void rejectsMoreThanTwoFractionDigits(String text) {
+        assertThatThrownBy(() -> Money.parse(text))
+                .isInstanceOf(NumberFormatException.class)
+                .hasMessageContaining("소수 둘째 자리");
+    }
+
+    @ParameterizedTest(name = "\"{0}\"")
+    @ValueSource(strings = {"", "-", "+", ".", "abc", "1,000", " 1", "1 ", "--1", "1.2.3", "0x10", "1e", "e5",
+            "1.5e3.5", "NaN", "Infinity", "1e99999999999"})
+    @DisplayName("숫자가 아닌 입력은 NumberFormatException")
+    void rejectsGarbage(String text) {
+        assertThatThrownBy(() -> Money.parse(text)).isInstanceOf(NumberFormatException.class);
+    }
+
+    @ParameterizedTest(name = "\"{0}\"")
+    @ValueSource(strings = {"92233720368547758.08", "-92233720368547758.09", "100000000000000000000",
+            "1e17", "1e999999999"})
+    @DisplayName("long 범위를 넘으면 ArithmeticException (큰 지수도 바로 거부)")
+    void rejectsOverflow(String text) {
+        assertThatThrownBy(() -> Money.parse(text)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("덧셈/곱셈/합계는 long 오버플로 시 ArithmeticException")
+    void arithmeticOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        assertThat(Money.parse("0.10").plus(Money.parse("0.20"))).isEqualTo(Money.parse("0.30"));
+        assertThat(Money.parse("1500.50").times(3)).isEqualTo(Money.parse("4501.50"));
+        assertThat(Money.sum(List.of(Money.parse("0.01"), Money.parse("-0.02")))).isEqualTo(Money.parse("-0.01"));
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).minus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.sum(List.of(max, max))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(Long.MAX_VALUE / 10)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("of(BigDecimal)는 DB 값 변환용으로 소수 셋째 자리에서 반올림 (HALF_UP)")
+    void ofBigDecimalRoundsHalfUp() {
+        assertThat(Money.of(new BigDecimal("1.005"))).isEqualTo(Money.ofMinor(101));
+        assertThat(Money.of(new BigDecimal("-1.005"))).isEqualTo(Money.ofMinor(-101));
+        assertThat(Money.of(new BigDecimal("1.004"))).isEqualTo(Money.ofMinor(100));
+        assertThatThrownBy(() -> Money.of(new BigDecimal("92233720368547758.08")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(longs = {0, 1, -1, 150000050, -325, Long.MAX_VALUE, Long.MIN_VALUE})
+    @DisplayName("JSON 직렬화는 소수 2자리 숫자, 역직렬화하면 같은 값")
+    void jsonRoundTrip(long minorUnits) throws Exception {
+        Money money = Money.ofMinor(minorUnits);
+
+        String json = objectMapper.writeValueAsString(money);
+
+        assertThat(json).isEqualTo(money.toString());
+        assertThat(objectMapper.readValue(json, Money.class)).isEqualTo(money);
+    }
+
+    @Test
+    @DisplayName("JSON 역직렬화는 정수, 소수, 지수 표기 숫자와 문자열을 받음")
+    void deserializesNumbersAndStrings() throws Exception {
+        assertThat(objectMapper.readValue("1500", Money.class)).isEqualTo(Money.of(1500));
+        assertThat(objectMapper.readValue("1500.5", Money.class)).isEqualTo(Money.parse("1500.50"));
+        assertThat(objectMapper.readValue("1.5e3", Money.class)).isEqualTo(Money.of(1500));
+        assertThat(objectMapper.readValue("\"-3.25\"", Money.class)).isEqualTo(Money.parse("-3.25"));
+    }
+
+    @Test
+    @DisplayName("JSON 역직렬화 실패는 InvalidFormatException (소수 셋째 자리, 형식 오류, 범위 초과)")
+    void deserializeRejectsInvalidValues() {
+        assertThatThrownBy(() -> objectMapper.readValue("1.001", Money.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("소수 둘째 자리");
+        assertThatThrownBy(() -> objectMapper.readValue("\"abc\"", Money.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> objectMapper.readValue("92233720368547758.08", Money.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> objectMapper.readValue("1e999999999", Money.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> objectMapper.readValue("true", Money.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+}
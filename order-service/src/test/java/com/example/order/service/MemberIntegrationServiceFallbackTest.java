@@ -0,0 +1,179 @@
+package com.example.order.service;
+
+import com.example.order.client.LastKnownMemberStore;
+import com.example.order.client.MemberServiceClient;
+import com.example.order.exception.InvalidOrderException;
+import com.example.order.exception.MemberServiceUnavailableException;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Member Service 장애 Fallback 테스트
+ *
+ * Feign 클라이언트(MemberServiceClient)만 MockBean으로 바꾸고 실제 Retry/Circuit Breaker/Fallback 설정으로 검증합니다.
+ * - 호출이 실패하면 마지막으로 받은 회원 정보(staleAsOf 설정)로 응답
+ * - 저장된 정보가 없으면 주문 생성은 MemberServiceUnavailableException(503, Retry-After), 회원명 표시는 알 수 없는 사용자
+ * - 404는 재시도하지 않고 저장된 정보를 지움
+ * - Retry가 Circuit Breaker 바깥: 재시도 한 번 한 번이 Circuit Breaker에 집계되고, 최종 실패 후에만 Fallback
+ * 다른 테스트의 주문과 섞이지 않도록 별도의 DB를 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:memberfallbackdb"
+})
+@ActiveProfiles("test")
+@DisplayName("Member Service 장애 Fallback 테스트")
+class MemberIntegrationServiceFallbackTest {
+
+    @Autowired
+    private MemberIntegrationService memberIntegrationService;
+
+    @Autowired
+    private LastKnownMemberStore lastKnownMemberStore;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @MockBean
+    private MemberServiceClient memberServiceClient;
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("member-service");
+        circuitBreaker.reset();
+        lastKnownMemberStore.evict(1L);
+        lastKnownMemberStore.evict(99L);
+    }
+
+    @Test
+    @DisplayName("조회에 성공한 회원은 Member Service 장애 중 저장된 정보(staleAsOf 설정)로 응답")
+    void servesLastKnownMemberOnFailure() {
+        given(memberServiceClient.getMemberById(1L)).willReturn(member(1L));
+        assertThat(memberIntegrationService.validateMember(1L).getStaleAsOf()).isNull();
+
+        willThrow(error(503)).given(memberServiceClient).getMemberById(1L);
+
+        MemberServiceClient.MemberDto validated = memberIntegrationService.validateMember(1L);
+        MemberServiceClient.MemberDto displayed = memberIntegrationService.getMember(1L);
+
+        assertThat(validated.getFullName()).isEqualTo("홍길동");
+        assertThat(validated.getStaleAsOf()).isNotNull();
+        assertThat(displayed.getFullName()).isEqualTo("홍길동");
+        assertThat(displayed.getStaleAsOf()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("저장된 정보가 없으면 회원 확인은 MemberServiceUnavailableException, 회원명 표시는 알 수 없는 사용자")
+    void coldMiss() {
+        willThrow(error(503)).given(memberServiceClient).getMemberById(anyLong());
+
+        assertThatThrownBy(() -> memberIntegrationService.validateMember(99L))
+                .isInstanceOf(MemberServiceUnavailableException.class);
+        assertThat(memberIntegrationService.getMember(99L).getFullName()).isEqualTo("알 수 없는 사용자");
+    }
+
+    @Test
+    @DisplayName("저장된 정보 없이 주문을 생성하면 503과 Retry-After")
+    void coldMissReturns503() throws Exception {
+        willThrow(error(503)).given(memberServiceClient).getMemberById(anyLong());
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberId\":99,\"productName\":\"노트북\",\"quantity\":1,\"unitPrice\":1500000}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                .andExpect(jsonPath("$.error").value("Member Service Unavailable"))
+                .andExpect(jsonPath("$.details.retryable").value("true"));
+    }
+
+    @Test
+    @DisplayName("404는 재시도하지 않고 저장된 정보를 지운 뒤 존재하지 않는 회원으로 처리")
+    void notFoundEvicts() {
+        given(memberServiceClient.getMemberById(1L)).willReturn(member(1L));
+        memberIntegrationService.getMember(1L);
+        willThrow(error(404)).given(memberServiceClient).getMemberById(1L);
+
+        assertThatThrownBy(() -> memberIntegrationService.validateMember(1L))
+                .isInstanceOf(InvalidOrderException.class);
+
+        verify(memberServiceClient, times(2)).getMemberById(1L);
+        assertThat(lastKnownMemberStore.findStale(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Retry가 Circuit Breaker 바깥: 재시도(최대 3회)가 각각 Circuit Breaker에 집계된 뒤 Fallback")
+    void retryWrapsCircuitBreaker() {
+        willThrow(error(503)).given(memberServiceClient).getMemberById(anyLong());
+
+        MemberServiceClient.MemberDto member = memberIntegrationService.getMember(99L);
+
+        assertThat(member.getFullName()).isEqualTo("알 수 없는 사용자");
+        verify(memberServiceClient, times(3)).getMemberById(99L);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Circuit Breaker가 열려 있으면 호출하지 않고 저장된 정보로 응답")
+    void openCircuitServesLastKnown() {
+        given(memberServiceClient.getMemberById(1L)).willReturn(member(1L));
+        memberIntegrationService.getMember(1L);
+        circuitBreaker.transitionToOpenState();
+
+        MemberServiceClient.MemberDto member = memberIntegrationService.validateMember(1L);
+
+        assertThat(member.getStaleAsOf()).isNotNull();
+        verify(memberServiceClient, times(1)).getMemberById(1L);
+        verify(memberServiceClient, never()).getMemberById(99L);
+    }
+
+    private static MemberServiceClient.MemberDto member(Long id) {
+        return new MemberServiceClient.MemberDto(id, "hong", "hong@example.com", "홍길동",
+                null, "ACTIVE", "활성", null);
+    }
+
+    private static FeignException error(int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://member-service/api/members/1", Map.of(),
+                null, StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("MemberServiceClient#getMemberById(Long)",
+                Response.builder().status(status).reason("error").request(request).headers(Map.of()).build());
+    }
+}
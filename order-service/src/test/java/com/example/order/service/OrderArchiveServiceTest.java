@@ -0,0 +1,320 @@
+package com.example.order.service;
+
+import com.example.order.client.MemberServiceClient;
+import com.example.order.dto.OrderDto;
+import com.example.order.entity.ArchivedOrder;
+import com.example.order.entity.Money;
+import com.example.order.entity.Order;
+import com.example.order.entity.SchedulerLock;
+import com.example.order.repository.ArchivedOrderRepository;
+import com.example.order.repository.OrderRepository;
+import com.example.order.repository.SchedulerLockRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 주문 보관 테스트
+ *
+ * 운영 주문 6건 중 오래된 완료 주문 3건을 보관한 뒤, 두 테이블을 합친 페이징/목록/건수를 검증합니다.
+ * - 페이지 경계가 운영/보관 구간에 걸쳐도 누락/중복 없이 이어짐
+ * - 보관 이동이 진행 중(미커밋)이거나 두 조회 사이에 커밋되어도 한 주문은 한 번만 나옴
+ * - 다른 인스턴스가 보관 작업 잠금을 가지고 있으면 보관하지 않고, 다른 인스턴스가 보관한 주문도 조회에 포함
+ * - 반응형 조회(ReactiveOrderService)도 같은 결과
+ * 보관 구간은 조회마다 DB에서 다시 읽도록(watermark-refresh=0s) 합니다.
+ * 다른 테스트의 주문과 섞이지 않도록 별도의 DB를 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.cloud.bootstrap.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:archivedb",
+        "order.archive.watermark-refresh=0s",
+        "order.reactive.enabled=true"
+})
+@ActiveProfiles("test")
+@DisplayName("주문 보관 테스트")
+class OrderArchiveServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ReactiveOrderService reactiveOrderService;
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private MemberIntegrationService memberIntegrationService;
+
+    @MockBean
+    private ReactiveMemberIntegrationService reactiveMemberIntegrationService;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MemberServiceClient.MemberDto member = new MemberServiceClient.MemberDto(1L, "hong", "hong@example.com",
+                "홍길동", null, "ACTIVE", "활성", null);
+        given(memberIntegrationService.getMember(anyLong())).willReturn(member);
+        given(reactiveMemberIntegrationService.getMemberOrFallback(anyLong(), any())).willReturn(Mono.just(member));
+
+        archivedOrderRepository.deleteAllInBatch();
+        schedulerLockRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        ids.clear();
+
+        // 짝수 번째(0, 2, 4)는 2년 전에 배송 완료된 주문 → 보관 대상
+        IntStream.range(0, 6).forEach(i -> ids.add(orderRepository.saveAndFlush(Order.builder()
+                .memberId(1L)
+                .productName("보관 테스트 상품 " + i)
+                .quantity(1)
+                .unitPrice(Money.of(1000))
+                .totalAmount(Money.of(1000))
+                .status(i % 2 == 0 ? Order.OrderStatus.DELIVERED : Order.OrderStatus.PENDING)
+                .build()).getId()));
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Order o SET o.createdAt = :createdAt WHERE o.id IN :ids")
+                .setParameter("createdAt", LocalDateTime.now().minusYears(2))
+                .setParameter("ids", List.of(ids.get(0), ids.get(2), ids.get(4)))
+                .executeUpdate());
+        orderArchiveService.loadArchivedUntil();
+    }
+
+    @Test
+    @DisplayName("보관 후 페이징은 운영/보관 주문을 합쳐 ID 순으로 이어지고 전체 건수도 합계")
+    void pagesAcrossLiveAndArchive() {
+        assertThat(orderArchiveService.archive()).isEqualTo(3);
+        assertThat(orderRepository.count()).isEqualTo(3);
+
+        Page<OrderDto.Summary> first = orderService.getOrders(PageRequest.of(0, 4, Sort.by("id")));
+        Page<OrderDto.Summary> second = orderService.getOrders(PageRequest.of(1, 4, Sort.by("id")));
+
+        assertThat(first.getTotalElements()).isEqualTo(6);
+        assertThat(first.getTotalPages()).isEqualTo(2);
+        List<Long> paged = new ArrayList<>(first.map(OrderDto.Summary::getId).getContent());
+        paged.addAll(second.map(OrderDto.Summary::getId).getContent());
+        assertThat(paged).containsExactlyElementsOf(ids);
+        assertThat(first.getContent()).allSatisfy(order -> assertThat(order.getMemberName()).isEqualTo("홍길동"));
+    }
+
+    @Test
+    @DisplayName("주문일시 내림차순 페이징: 최근 운영 주문 다음 페이지에 보관 주문 (같은 일시는 ID 순)")
+    void sortsByCreatedAtAcrossBoundary() {
+        orderArchiveService.archive();
+
+        Page<OrderDto.Summary> first = orderService.getOrders(PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "createdAt")));
+        Page<OrderDto.Summary> second = orderService.getOrders(PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(first.map(OrderDto.Summary::getStatus)).containsOnly(Order.OrderStatus.PENDING);
+        assertThat(second.map(OrderDto.Summary::getId)).containsExactly(ids.get(0), ids.get(2), ids.get(4));
+    }
+
+    @Test
+    @DisplayName("상태별 건수와 목록은 운영 + 보관 주문의 합계")
+    void countsAndListsIncludeArchive() {
+        orderArchiveService.archive();
+
+        assertThat(orderService.getOrderCountByStatus(Order.OrderStatus.DELIVERED)).isEqualTo(3);
+        assertThat(orderService.getOrderCountByStatus(Order.OrderStatus.PENDING)).isEqualTo(3);
+        assertThat(orderService.getOrdersByMemberId(1L)).extracting(OrderDto.Summary::getId)
+                .containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(orderService.getAllOrders()).extracting(OrderDto.Summary::getId)
+                .containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(orderService.getRecentOrders()).extracting(OrderDto.Summary::getId)
+                .containsExactlyInAnyOrderElementsOf(ids)
+                .endsWith(ids.get(0), ids.get(2), ids.get(4));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보관 작업 잠금을 가지고 있으면 보관하지 않고, 잠금이 만료되면 보관")
+    void skipsWhileAnotherInstanceHoldsLock() {
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.saveAndFlush(new SchedulerLock(OrderArchiveService.LOCK_NAME, now.plusHours(1), now,
+                "1@other-host"));
+
+        assertThat(orderArchiveService.archive()).isZero();
+        assertThat(orderRepository.count()).isEqualTo(6);
+
+        transactionTemplate.executeWithoutResult(status -> schedulerLockRepository
+                .findById(OrderArchiveService.LOCK_NAME).orElseThrow().setLockedUntil(now.minusMinutes(1)));
+
+        assertThat(orderArchiveService.archive()).isEqualTo(3);
+        // 끝나면 잠금을 놓아 다음 실행(다른 인스턴스 포함)이 바로 가져갈 수 있음
+        assertThat(schedulerLockRepository.findById(OrderArchiveService.LOCK_NAME).orElseThrow().getLockedUntil())
+                .isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 이미 보관한 주문이면 배치를 롤백하고 운영 주문을 그대로 둠")
+    void stopsWhenOrderAlreadyArchived() {
+        Order delivered = orderRepository.findById(ids.get(0)).orElseThrow();
+        archivedOrderRepository.saveAndFlush(archivedCopyOf(delivered));
+
+        assertThat(orderArchiveService.archive()).isZero();
+        assertThat(orderRepository.count()).isEqualTo(6);
+        assertThat(archivedOrderRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보관한 주문도 조회에 포함 (보관 구간을 DB에서 다시 읽음)")
+    void seesOrdersArchivedByAnotherInstance() {
+        assertThat(orderArchiveService.hasArchivedOrders()).isFalse();
+
+        // 다른 인스턴스의 보관 이동 (이 인스턴스의 archive()를 거치지 않음)
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderRepository.findById(ids.get(0)).orElseThrow();
+            archivedOrderRepository.save(archivedCopyOf(order));
+            orderRepository.delete(order);
+        });
+
+        assertThat(orderArchiveService.hasArchivedOrders()).isTrue();
+        assertPagedOnce();
+        assertThat(orderService.getOrdersByMemberId(1L)).extracting(OrderDto.Summary::getId)
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("보관 이동이 커밋되기 전에는 운영 주문으로, 커밋된 후에는 보관 주문으로 한 번만 조회")
+    void inFlightArchiveMoveIsSeenOnce() throws Exception {
+        orderArchiveService.archive();
+        Order delivered = transactionTemplate.execute(status -> {
+            Order order = orderRepository.findById(ids.get(1)).orElseThrow();
+            order.setStatus(Order.OrderStatus.DELIVERED);
+            return order;
+        });
+
+        CountDownLatch moved = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> move = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            archivedOrderRepository.saveAndFlush(archivedCopyOf(delivered));
+            orderRepository.deleteById(delivered.getId());
+            orderRepository.flush();
+            moved.countDown();
+            await(commit);
+        }));
+        assertThat(moved.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertPagedOnce();
+        assertThat(orderService.getOrderCountByStatus(Order.OrderStatus.DELIVERED)).isEqualTo(4);
+
+        commit.countDown();
+        move.get(5, TimeUnit.SECONDS);
+
+        assertPagedOnce();
+        assertThat(orderService.getOrderCountByStatus(Order.OrderStatus.DELIVERED)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("두 테이블을 따로 읽는 목록은 양쪽에 보이는 주문을 한 번만 반환 (운영 주문 우선)")
+    void listUnionSkipsDuplicates() {
+        orderArchiveService.archive();
+        Order live = orderRepository.findById(ids.get(1)).orElseThrow();
+        live.setStatus(Order.OrderStatus.DELIVERED);
+        // 운영 주문을 읽은 뒤 보관 이동이 커밋되어 보관 주문을 읽은 상황: 두 조회에 같은 주문이 보임
+        archivedOrderRepository.saveAndFlush(archivedCopyOf(live));
+
+        List<OrderDto.Summary> orders = orderService.getOrdersByMemberId(1L);
+
+        assertThat(orders).extracting(OrderDto.Summary::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(orders).filteredOn(order -> order.getId().equals(live.getId()))
+                .extracting(OrderDto.Summary::getStatus)
+                .containsExactly(Order.OrderStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("반응형 조회도 운영/보관 주문을 합치고 양쪽에 보이는 주문을 한 번만 반환 (OrderService와 같은 결과)")
+    void reactiveReadsMatchOrderService() {
+        orderArchiveService.archive();
+        Order live = orderRepository.findById(ids.get(1)).orElseThrow();
+        live.setStatus(Order.OrderStatus.DELIVERED);
+        archivedOrderRepository.saveAndFlush(archivedCopyOf(live));
+        PageRequest pageable = PageRequest.of(0, 4, Sort.by("id"));
+
+        assertThat(ids(reactiveOrderService.getOrders(pageable).block().getContent()))
+                .containsExactlyElementsOf(ids(orderService.getOrders(pageable).getContent()));
+        assertThat(ids(reactiveOrderService.getOrdersByMemberId(1L).block()))
+                .containsExactlyElementsOf(ids(orderService.getOrdersByMemberId(1L)))
+                .doesNotHaveDuplicates();
+        assertThat(ids(reactiveOrderService.getOrdersByStatus(Order.OrderStatus.DELIVERED).block()))
+                .containsExactlyElementsOf(ids(orderService.getOrdersByStatus(Order.OrderStatus.DELIVERED)));
+        assertThat(ids(reactiveOrderService.getAllOrders().block()))
+                .containsExactlyElementsOf(ids(orderService.getAllOrders()))
+                .containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(ids(reactiveOrderService.getRecentOrders().block()))
+                .containsExactlyElementsOf(ids(orderService.getRecentOrders()));
+    }
+
+    private static List<Long> ids(List<OrderDto.Summary> orders) {
+        return orders.stream().map(OrderDto.Summary::getId).toList();
+    }
+
+    private void assertPagedOnce() {
+        Page<OrderDto.Summary> page = orderService.getOrders(PageRequest.of(0, 10, Sort.by("id")));
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.map(OrderDto.Summary::getId)).containsExactlyElementsOf(ids);
+    }
+
+    private static ArchivedOrder archivedCopyOf(Order order) {
+        return ArchivedOrder.builder()
+                .id(order.getId())
+                .memberId(order.getMemberId())
+                .productName(order.getProductName())
+                .quantity(order.getQuantity())
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .version(order.getVersion())
+                .archiveMonth(order.getCreatedAt().getYear() * 100 + order.getCreatedAt().getMonthValue())
+                .archivedAt(LocalDateTime.now())
+                .details(new byte[0])
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}